@@ -0,0 +1,24 @@
+#!/usr/bin/env bash
+# 기동 시작부터 첫 검색 요청 성공까지의 시간(ms)을 잽니다. 인자는 그대로 java에 전달됩니다.
+#   scripts/time-to-first-request.sh -jar build/libs/project-0.0.1-SNAPSHOT.jar
+#   cd build/cds && ../../scripts/time-to-first-request.sh -XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true \
+#       -jar app.jar --spring.profiles.active=prod
+# 환경 변수: URL(기본 검색 API), LOG(애플리케이션 로그 파일)
+set -euo pipefail
+
+URL=${URL:-http://localhost:8080/api/search/books?q=java}
+LOG=${LOG:-/tmp/time-to-first-request.log}
+
+start=$(date +%s%N)
+java "$@" > "$LOG" 2>&1 &
+pid=$!
+trap 'kill $pid 2>/dev/null; wait $pid 2>/dev/null || true' EXIT
+
+until curl -sf -o /dev/null "$URL"; do
+  if ! kill -0 $pid 2>/dev/null; then
+    echo "애플리케이션이 응답 전에 종료됨 (로그: $LOG)" >&2
+    exit 1
+  fi
+  sleep 0.02
+done
+echo "time-to-first-request: $(( ($(date +%s%N) - start) / 1000000 )) ms"
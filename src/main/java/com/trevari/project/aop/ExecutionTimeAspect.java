@@ -1,46 +1,91 @@
 package com.trevari.project.aop;
 
 import com.trevari.project.api.dto.SearchDTOs;
+import com.trevari.project.search.SearchStrategy;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link MeasureTime} 메서드의 실행 시간을 {@code search.request} 타이머(태그: endpoint, strategy, cached)로 기록합니다.
+ *
+ * <p>시간은 요청의 {@link RequestTiming}(보통 {@link ServerTimingFilter}가 시작)에서 재고, 컨트롤러 반환 시점을 표시합니다.
+ * 응답 메타데이터의 {@code executionTime}은 같은 {@link RequestTiming}을 직렬화 때 읽으므로 응답 객체를 다시 만들지 않습니다.
+ * 필터를 거치지 않은 호출(테스트, 내부 호출)은 여기서 컨텍스트를 시작/해제합니다.
+ *
+ * <p>타이머는 메서드별로 전략 × 캐시 적중 여부 조합을 한 번에 등록해 두고 배열로 찾으므로
+ * 요청마다 태그/빌더 객체를 만들지 않습니다 (어노테이션 인자 바인딩도 호출마다 할당이 생겨 쓰지 않음). 예외로 끝난 요청은 {@code http.server.requests}에만 남습니다.
+ */
 @Aspect
 @Component
 public class ExecutionTimeAspect {
 
+    private static final SearchStrategy[] STRATEGIES = SearchStrategy.values();
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Method, Timer[]> timers = new ConcurrentHashMap<>();
+
+    public ExecutionTimeAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
     @Around("@annotation(MeasureTime)")
     public Object around(ProceedingJoinPoint pjp) throws Throwable {
-        long start = System.nanoTime();
-        Object ret = pjp.proceed();
-        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        RequestTiming timing = RequestTiming.current();
+        boolean owner = timing == null;
+        if (owner) {
+            timing = RequestTiming.begin();
+        }
+        try {
+            Object ret = pjp.proceed();
+            timing.handlerDone();
 
-        // ResponseEntity<SearchDTOs.Response> 인 경우
-        if (ret instanceof ResponseEntity<?> re) {
-            Object body = re.getBody();
+            Object body = ret instanceof ResponseEntity<?> re ? re.getBody() : ret;
             if (body instanceof SearchDTOs.Response r) {
-                var newMeta = new SearchDTOs.Metadata(
-                        elapsedMs,
-                        r.searchMetadata().strategy() // 기존 strategy 유지
-                );
-                var newBody = new SearchDTOs.Response(
-                        r.searchQuery(), r.pageInfo(), r.books(), newMeta
-                );
-                return ResponseEntity.status(re.getStatusCode())
-                        .headers(re.getHeaders())
-                        .body(newBody);
+                record(pjp, r.searchMetadata(), timing.elapsedNanos());
+            }
+            return ret;
+        } finally {
+            if (owner) {
+                RequestTiming.end();
             }
         }
+    }
 
-        // SearchDTOs.Response 직접 반환하는 경우
-        if (ret instanceof SearchDTOs.Response r) {
-            var newMeta = new SearchDTOs.Metadata(elapsedMs, r.searchMetadata().strategy());
-            return new SearchDTOs.Response(r.searchQuery(), r.pageInfo(), r.books(), newMeta);
+    private void record(ProceedingJoinPoint pjp, SearchDTOs.Metadata metadata, long elapsedNanos) {
+        Method method = ((MethodSignature) pjp.getSignature()).getMethod();
+        Timer[] byStrategy = timers.get(method);
+        if (byStrategy == null) {
+            byStrategy = timers.computeIfAbsent(method, this::register);
         }
+        byStrategy[metadata.strategy().ordinal() * 2 + (metadata.cached() ? 1 : 0)].record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
 
-        // 대상이 아니면 그대로 반환
-        return ret;
+    /** [strategy.ordinal() * 2 + (cached ? 1 : 0)] */
+    private Timer[] register(Method method) {
+        MeasureTime measureTime = method.getAnnotation(MeasureTime.class);
+        String endpoint = measureTime == null || measureTime.value().isEmpty() ? method.getName() : measureTime.value();
+        Timer[] byStrategy = new Timer[STRATEGIES.length * 2];
+        for (SearchStrategy strategy : STRATEGIES) {
+            for (int cached = 0; cached < 2; cached++) {
+                byStrategy[strategy.ordinal() * 2 + cached] = Timer.builder("search.request")
+                        .description("검색 요청 처리 시간 (컨트롤러 메서드 기준)")
+                        .tag("endpoint", endpoint)
+                        .tag("strategy", strategy.name())
+                        .tag("cached", String.valueOf(cached == 1))
+                        .register(meterRegistry);
+            }
+        }
+        return byStrategy;
     }
 }
@@ -7,4 +7,8 @@ import java.lang.annotation.Target;
 
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
-public @interface MeasureTime {}
+public @interface MeasureTime {
+
+    /** 지표의 endpoint 태그 (비우면 메서드 이름) */
+    String value() default "";
+}
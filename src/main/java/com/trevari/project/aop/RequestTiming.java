@@ -0,0 +1,124 @@
+package com.trevari.project.aop;
+
+import com.trevari.project.search.SearchMetrics.Phase;
+import com.trevari.project.search.SearchStrategy;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 요청 하나의 구간별 소요 시간 (요청 스레드에 묶인 타이밍 컨텍스트).
+ *
+ * <p>{@link ServerTimingFilter}(또는 필터가 없으면 {@link ExecutionTimeAspect})가 시작하고,
+ * 구간 기록은 {@code SearchMetrics.record}가 지표와 함께 현재 컨텍스트에 더합니다.
+ * 응답 메타데이터는 이 객체를 참조만 하고 실행 시간은 직렬화할 때 읽으므로, 응답을 다시 만들 필요가 없습니다.
+ *
+ * <ul>
+ *   <li>전체 시간({@code executionTime}): 시작 ~ 컨트롤러 반환 ({@link #handlerDone()})</li>
+ *   <li>직렬화 시간: 컨트롤러 반환 ~ 응답 본문 작성 완료 (필터에서만 측정, {@code Server-Timing}에만 포함)</li>
+ * </ul>
+ */
+public final class RequestTiming {
+
+    private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+    private static final Phase[] PHASES = Phase.values();
+
+    private final long startNanos;
+    private final long[] phaseNanos = new long[PHASES.length];
+    private long handlerNanos = -1;
+    private SearchStrategy strategy;
+    private boolean exposePhases;
+
+    private RequestTiming(long startNanos) {
+        this.startNanos = startNanos;
+    }
+
+    /** 현재 스레드의 타이밍 컨텍스트 (요청 밖이면 null) */
+    public static RequestTiming current() {
+        return CURRENT.get();
+    }
+
+    /** 새 컨텍스트를 시작해 현재 스레드에 묶음 */
+    static RequestTiming begin() {
+        RequestTiming timing = new RequestTiming(System.nanoTime());
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    /** 현재 스레드에서 컨텍스트 해제 (객체는 응답 직렬화 때까지 메타데이터에서 참조) */
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /** 구간 시간 누적 (같은 구간이 여러 번 실행되면 합산) */
+    public void add(Phase phase, SearchStrategy strategy, long nanos) {
+        phaseNanos[phase.ordinal()] += nanos;
+        this.strategy = strategy;
+    }
+
+    /** 컨트롤러 반환 시점 기록 (이후 {@link #elapsedNanos()}는 고정) */
+    void handlerDone() {
+        handlerNanos = System.nanoTime() - startNanos;
+    }
+
+    /** 시작 ~ 컨트롤러 반환 (아직 반환 전이면 지금까지) */
+    public long elapsedNanos() {
+        return handlerNanos >= 0 ? handlerNanos : System.nanoTime() - startNanos;
+    }
+
+    /** 컨트롤러 반환 이후 지금까지 (반환 전이면 0) */
+    long sinceHandlerDone() {
+        return handlerNanos < 0 ? 0 : System.nanoTime() - startNanos - handlerNanos;
+    }
+
+    /** 마지막으로 기록된 구간의 검색 전략 (검색 요청이 아니면 null) */
+    SearchStrategy strategy() {
+        return strategy;
+    }
+
+    void exposePhases(boolean exposePhases) {
+        this.exposePhases = exposePhases;
+    }
+
+    /** 응답 메타데이터에 구간 표를 넣을지 (요청 파라미터 {@code timing=true}) */
+    public boolean exposePhases() {
+        return exposePhases;
+    }
+
+    /** 기록된 구간(µs, 기록 순서가 아닌 파이프라인 순서) + {@code total} */
+    public Map<String, Long> phasesMicros() {
+        Map<String, Long> phases = new LinkedHashMap<>();
+        for (Phase phase : PHASES) {
+            if (phaseNanos[phase.ordinal()] > 0) {
+                phases.put(phase.tag(), phaseNanos[phase.ordinal()] / 1_000);
+            }
+        }
+        phases.put("total", elapsedNanos() / 1_000);
+        return phases;
+    }
+
+    /**
+     * {@code Server-Timing} 헤더 값: 기록된 구간과 전체({@code total}, 시작 ~ 지금)를 ms(소수점 3자리 = µs)로.
+     * 예: {@code parse;dur=0.012, query;dur=1.204, count;dur=0.533, map;dur=0.006, total;dur=1.910}
+     */
+    String serverTiming() {
+        StringBuilder sb = new StringBuilder(160);
+        for (Phase phase : PHASES) {
+            if (phaseNanos[phase.ordinal()] > 0) {
+                appendMetric(sb, phase.tag(), phaseNanos[phase.ordinal()]);
+            }
+        }
+        appendMetric(sb, "total", System.nanoTime() - startNanos);
+        return sb.toString();
+    }
+
+    private static void appendMetric(StringBuilder sb, String name, long nanos) {
+        if (!sb.isEmpty()) {
+            sb.append(", ");
+        }
+        long micros = nanos / 1_000;
+        long fraction = micros % 1_000;
+        sb.append(name).append(";dur=").append(micros / 1_000).append('.')
+                .append(fraction < 100 ? (fraction < 10 ? "00" : "0") : "").append(fraction);
+    }
+}
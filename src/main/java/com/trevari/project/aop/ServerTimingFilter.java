@@ -0,0 +1,54 @@
+package com.trevari.project.aop;
+
+import com.trevari.project.search.SearchMetrics;
+import com.trevari.project.search.SearchStrategy;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+
+/**
+ * 검색 요청의 구간별 소요 시간을 {@code Server-Timing} 응답 헤더로 내보냅니다.
+ *
+ * <p>요청 시작 시 {@link RequestTiming}을 열고, 본문은 버퍼에 쓰게 한 뒤 직렬화 시간({@code serialize})까지 잰 다음
+ * 헤더를 붙여 본문을 내보냅니다 (헤더는 본문보다 먼저 나가야 하므로 버퍼링이 필요).
+ * 요청 파라미터 {@code timing=true}이면 응답 메타데이터에도 구간 표({@code searchMetadata.phases}, µs)를 넣습니다.
+ * 직렬화 구간은 본문이 만들어진 뒤에야 끝나므로 헤더와 {@code search.phase} 지표에만 남습니다.
+ */
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Server-Timing";
+    public static final String TIMING_PARAM = "timing";
+
+    private final SearchMetrics searchMetrics;
+
+    public ServerTimingFilter(SearchMetrics searchMetrics) {
+        this.searchMetrics = searchMetrics;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestTiming timing = RequestTiming.begin();
+        timing.exposePhases(Boolean.parseBoolean(request.getParameter(TIMING_PARAM)));
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            chain.doFilter(request, wrapper);
+        } finally {
+            SearchStrategy strategy = timing.strategy();
+            long serializeNanos = timing.sinceHandlerDone();
+            if (strategy != null && serializeNanos > 0) {
+                searchMetrics.recordNanos(SearchMetrics.Phase.SERIALIZE, strategy, serializeNanos);
+            }
+            RequestTiming.end();
+            if (!wrapper.isCommitted()) {
+                wrapper.setHeader(HEADER, timing.serverTiming());
+            }
+            wrapper.copyBodyToResponse();
+        }
+    }
+}
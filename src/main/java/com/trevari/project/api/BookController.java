@@ -1,22 +1,31 @@
 package com.trevari.project.api;
 
 import com.trevari.project.aop.MeasureTime;
+import com.trevari.project.api.dto.BookBatchDTOs;
 import com.trevari.project.api.dto.BookDetailDTO;
 import com.trevari.project.api.dto.SearchDTOs;
 import com.trevari.project.api.dto.SearchKeyword;
+import com.trevari.project.search.SearchMetrics;
+import com.trevari.project.search.SearchPage;
 import com.trevari.project.search.SearchQuery;
 import com.trevari.project.search.SearchQueryParser;
 import com.trevari.project.service.BookService;
 import com.trevari.project.service.SearchAggregateService;
 import com.trevari.project.service.SearchService;
+import com.trevari.project.service.TopKeywordsSnapshot;
+import com.trevari.project.service.TrendingKeywordsService;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.AllArgsConstructor;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
@@ -30,9 +39,11 @@ import java.util.List;
  * <p>주요 엔드포인트:
  * <ul>
  *   <li>GET  /api/books/{id}            : ID로 단건 도서 조회</li>
+ *   <li>GET/POST /api/books:batch       : 여러 ID 일괄 조회 (요청 순서 유지, 없는 ID 표시)</li>
  *   <li>GET  /api/books                 : 단순 키워드(SIMPLE)로 페이징 검색</li>
- *   <li>GET  /api/search/books          : 고급 검색(OR/NOT 등 연산자 허용)</li>
+ *   <li>GET  /api/search/books          : 고급 검색(불리언 질의: OR/AND/제외, 괄호, 큰따옴표)</li>
  *   <li>GET  /api/analytics/search/top10: 인기 검색어 TOP10 조회</li>
+ *   <li>GET  /api/analytics/search/top  : 구간별 트렌드 검색어 조회 (window, k)</li>
  * </ul>
  */
 @RestController
@@ -45,6 +56,9 @@ public class BookController {
     private final SearchService searchService;
     private final BookService bookService;
     private final SearchAggregateService searchAggregateService;
+    private final TopKeywordsSnapshot topKeywordsSnapshot;
+    private final TrendingKeywordsService trendingKeywordsService;
+    private final SearchMetrics searchMetrics;
 
     /**
      * 단건 도서 조회
@@ -58,66 +72,130 @@ public class BookController {
         return ResponseEntity.ok(bookService.getBookDetailDTO(id));
     }
 
+    /**
+     * 여러 도서 일괄 조회 (쿼리 파라미터)
+     *
+     * @param ids 쉼표로 구분한 도서 식별자 목록 (최대 500개)
+     * @return 요청 순서대로의 조회 결과 (없는 도서는 found=false)
+     */
+    @GetMapping("/books:batch")
+    @Operation(summary = "책 일괄 조회", description = "여러 ID로 책 상세 정보를 한 번에 조회합니다. 결과는 요청 순서를 따르며 없는 ID는 found=false로 표시합니다.")
+    public ResponseEntity<BookBatchDTOs.Response> getBooks(
+        @Parameter(description = "쉼표로 구분한 ISBN 목록") @RequestParam("ids") List<String> ids
+    ) {
+        return ResponseEntity.ok(bookService.getBookDetailDTOs(ids));
+    }
+
+    /**
+     * 여러 도서 일괄 조회 (요청 본문, 긴 목록용)
+     *
+     * @param request 조회할 도서 식별자 목록 (최대 500개)
+     * @return 요청 순서대로의 조회 결과 (없는 도서는 found=false)
+     */
+    @PostMapping("/books:batch")
+    @Operation(summary = "책 일괄 조회 (POST)", description = "URL 길이 제한을 피하기 위해 ID 목록을 본문으로 받습니다.")
+    public ResponseEntity<BookBatchDTOs.Response> getBooks(@RequestBody BookBatchDTOs.Request request) {
+        return ResponseEntity.ok(bookService.getBookDetailDTOs(request.ids()));
+    }
+
     /**
      * 단순 키워드로 도서를 조회합니다. (SIMPLE 검색 모드 고정)
      *
      * @param keyword 검색 키워드 (리터럴)
      * @param page 1 기반 페이지 번호
      * @param size 페이지 크기 (최대 100)
+     * @param cursor 직전 응답의 {@code nextCursor} (지정 시 page 대신 키셋 페이징)
+     * @param total 전체 건수 계산 방식 (exact | estimate | none)
      * @return 페이징된 검색 결과
      */
-    @MeasureTime
+    @MeasureTime("/api/books")
     @GetMapping("/books") // 리터럴 검색 전용 (SIMPLE 고정)
     @Operation(summary = "리터럴 키워드로 책 목록 조회", description = "단순 키워드로 책을 검색합니다. 페이징 지원")
     public ResponseEntity<SearchDTOs.Response> browse(
         @Parameter(description = "검색 키워드 (단순 텍스트)") @RequestParam("keyword") String keyword,
         @Parameter(description = "페이지 번호 (1 기반)") @RequestParam(defaultValue = "1") @Min(1) int page,
-        @Parameter(description = "페이지 사이즈") @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size
+        @Parameter(description = "페이지 사이즈") @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
+        @Parameter(description = "다음 페이지 커서 (직전 응답의 nextCursor)") @RequestParam(required = false) String cursor,
+        @Parameter(description = "전체 건수 계산 방식: exact(기본) | estimate(근사치) | none(생략)") @RequestParam(defaultValue = "exact") String total
     ) {
+        long start = System.nanoTime();
         SearchQuery parsed = SearchQueryParser.simple(keyword); // SIMPLE 확정
-        Pageable pageable = PageRequest.of(page - 1, size);
+        searchMetrics.record(SearchMetrics.Phase.PARSE, parsed.strategy(), start);
         return ResponseEntity.ok(
-                searchService.getSearchDTO(parsed, pageable)
+                searchService.getSearchDTO(parsed, SearchPage.of(page, size, cursor, total))
         );
     }
 
     /**
-     * 고급 검색: OR/NOT 등의 연산자를 포함한 쿼리를 파싱하여 검색을 수행합니다.
+     * 고급 검색: 불리언 질의를 파싱하고 실행 계획으로 컴파일하여 검색을 수행합니다.
      *
-     * @param q 검색 쿼리 문자열
+     * @param q 검색 쿼리 문자열 ({@code |} OR, {@code &} AND, {@code -} 제외, 괄호, 큰따옴표)
      * @param page 1 기반 페이지 번호
      * @param size 페이지 크기 (최대 100)
+     * @param cursor 직전 응답의 {@code nextCursor} (지정 시 page 대신 키셋 페이징)
+     * @param total 전체 건수 계산 방식 (exact | estimate | none)
+     * @param explain true면 응답 메타데이터에 실행 계획을 포함
      * @return 페이징된 검색 결과
      */
-    @MeasureTime
+    @MeasureTime("/api/search/books")
     @GetMapping("/search/books") // 연산자 허용 (없으면 SIMPLE)
-    @Operation(summary = "고급 검색", description = "OR/NOT 등의 연산자를 포함한 고급 검색을 수행합니다.")
+    @Operation(summary = "고급 검색", description = "OR(|)/AND(&)/제외(-), 괄호, 큰따옴표를 사용한 불리언 검색을 수행합니다.")
     public ResponseEntity<SearchDTOs.Response> search(
-        @Parameter(description = "검색 쿼리 (OR/NOT 등 사용 가능)") @RequestParam("q") String q,
+        @Parameter(description = "검색 쿼리 (예: spring&boot-legacy|kotlin, (java|kotlin)-\"spring-boot\")") @RequestParam("q") String q,
         @Parameter(description = "페이지 번호 (1 기반)") @RequestParam(defaultValue = "1") @Min(1) int page,
-        @Parameter(description = "페이지 사이즈") @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size
+        @Parameter(description = "페이지 사이즈") @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
+        @Parameter(description = "다음 페이지 커서 (직전 응답의 nextCursor)") @RequestParam(required = false) String cursor,
+        @Parameter(description = "전체 건수 계산 방식: exact(기본) | estimate(근사치) | none(생략)") @RequestParam(defaultValue = "exact") String total,
+        @Parameter(description = "실행 계획(EXPLAIN)을 searchMetadata.explain에 포함") @RequestParam(defaultValue = "false") boolean explain
     ) {
-        SearchQuery parsed = SearchQueryParser.parse(q); // OR/NOT/SIMPLE 판정
+        long start = System.nanoTime();
+        SearchQuery parsed = SearchQueryParser.parse(q); // 구문 트리 → 실행 계획
+        searchMetrics.record(SearchMetrics.Phase.PARSE, parsed.strategy(), start);
+        SearchPage searchPage = SearchPage.of(page, size, cursor, total); // 잘못된 커서/total은 집계 전에 400
         // 검색어 집계 (인기 검색어 TOP10)
+        start = System.nanoTime();
         searchAggregateService.aggregateTop10(parsed.query());
-        Pageable pageable = PageRequest.of(page - 1, size);
-        return ResponseEntity.ok(
-            searchService.getSearchDTO(parsed, pageable)
-        );
+        searchMetrics.record(SearchMetrics.Phase.AGGREGATE, parsed.strategy(), start);
+        SearchDTOs.Response response = searchService.getSearchDTO(parsed, searchPage);
+        return ResponseEntity.ok(explain ? response.withExplain(parsed.plan().explain()) : response);
     }
 
     /**
      * 인기 검색어 TOP10을 반환합니다.
      *
      * <p>이 엔드포인트는 검색 집계 서비스에서 집계된 결과를 반환하며, UI나 리포트에서
-     * 상위 검색어를 표시할 때 사용됩니다.
+     * 상위 검색어를 표시할 때 사용됩니다. 주기적으로 갱신되는 스냅샷의 직렬화된 본문을 그대로 반환하며,
+     * {@code If-None-Match}가 현재 ETag와 같으면 본문 없이 304를 반환합니다.
      *
-     * @return 상위 10개 검색어 리스트
+     * @return 상위 10개 검색어 리스트 (JSON)
      */
-    @GetMapping("/analytics/search/top10")
+    @GetMapping(value = "/analytics/search/top10", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "상위 10 검색어 조회", description = "가장 많이 검색된 상위 10개 키워드를 반환합니다.")
-    public ResponseEntity<List<SearchKeyword>> getTop10Keywords() {
-        List<SearchKeyword> topKeywords = searchAggregateService.getTop10Keywords();
-        return ResponseEntity.ok(topKeywords);
+    @ApiResponse(responseCode = "200", content = @Content(
+        mediaType = MediaType.APPLICATION_JSON_VALUE,
+        array = @ArraySchema(schema = @Schema(implementation = SearchKeyword.class))))
+    public ResponseEntity<byte[]> getTop10Keywords() {
+        TopKeywordsSnapshot.Snapshot snapshot = topKeywordsSnapshot.current();
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.maxAge(topKeywordsSnapshot.maxAge()).cachePublic())
+            .eTag(snapshot.etag())
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(snapshot.json());
+    }
+
+    /**
+     * 최근 구간의 트렌드 검색어를 반환합니다.
+     *
+     * @param window 조회 구간 (1m ~ 30d, 예: 15m, 1h, 24h, 7d)
+     * @param k 반환할 검색어 수 (1 ~ 100)
+     * @return 구간 내 검색 횟수 상위 검색어 리스트
+     */
+    @GetMapping("/analytics/search/top")
+    @Operation(summary = "구간별 트렌드 검색어 조회", description = "최근 구간(분/시/일 버킷 단위) 동안 많이 검색된 키워드를 반환합니다.")
+    public ResponseEntity<List<SearchKeyword>> getTrendingKeywords(
+        @Parameter(description = "조회 구간 (예: 15m, 1h, 24h, 7d)") @RequestParam(defaultValue = "1h") String window,
+        @Parameter(description = "반환할 검색어 수") @RequestParam(defaultValue = "10") int k
+    ) {
+        return ResponseEntity.ok(trendingKeywordsService.top(window, k));
     }
 }
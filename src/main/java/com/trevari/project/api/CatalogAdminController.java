@@ -0,0 +1,52 @@
+package com.trevari.project.api;
+
+import com.trevari.project.api.dto.CatalogImportDTOs;
+import com.trevari.project.catalog.CatalogImportService;
+import com.trevari.project.exception.NotFoundException;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 카탈로그 관리 API.
+ *
+ * <ul>
+ *   <li>POST /api/admin/catalog/import : 서버의 CSV/JSONL 파일 일괄 가져오기 시작 (202, 진행 중이면 409)</li>
+ *   <li>GET  /api/admin/catalog/import : 진행 중이거나 마지막 가져오기 작업 상태</li>
+ * </ul>
+ * 인증이 없는 쓰기 API이므로 {@code catalog.import.admin-enabled=true}일 때만 등록합니다 (기본은 CLI 가져오기만).
+ * 켤 때는 네트워크 수준에서 접근을 제한하세요. AOT 이미지는 빌드 시점 값으로 확정됩니다.
+ */
+@RestController
+@ConditionalOnProperty(name = "catalog.import.admin-enabled", havingValue = "true")
+@Tag(name = "Catalog Admin API", description = "도서 카탈로그 관리 API")
+@AllArgsConstructor
+@RequestMapping("/api/admin/catalog")
+public class CatalogAdminController {
+
+    private final CatalogImportService catalogImportService;
+
+    @PostMapping("/import")
+    @Operation(summary = "도서 일괄 가져오기",
+            description = "catalog.import.base-dir 안의 CSV/JSONL 파일을 백그라운드로 가져옵니다. 재개 지점이 있으면 이어서 가져옵니다.")
+    public ResponseEntity<CatalogImportDTOs.Status> startImport(@RequestBody CatalogImportDTOs.Request request) {
+        boolean resume = request.resume() == null || request.resume();
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(catalogImportService.start(request.file(), request.format(), resume));
+    }
+
+    @GetMapping("/import")
+    @Operation(summary = "도서 일괄 가져오기 상태", description = "진행 중이거나 마지막으로 실행한 가져오기 작업의 진행 상황을 반환합니다.")
+    public ResponseEntity<CatalogImportDTOs.Status> importStatus() {
+        return ResponseEntity.ok(catalogImportService.status()
+                .orElseThrow(() -> new NotFoundException("No catalog import has been started")));
+    }
+}
@@ -0,0 +1,37 @@
+package com.trevari.project.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * <p>도서 일괄 조회(multi-get) DTO 묶음:
+ * <ul>
+ *   <li>Request: POST 요청 본문 (ISBN 목록)</li>
+ *   <li>Response: 요청 순서대로 정렬된 결과 목록과 건수</li>
+ *   <li>Item: 단건 결과 (없는 ISBN은 found=false, book=null)</li>
+ * </ul>
+ */
+@Schema(description = "도서 일괄 조회 DTO 묶음")
+public final class BookBatchDTOs {
+    private BookBatchDTOs() {} // 네임스페이스 용, 인스턴스화 방지
+
+    @Schema(description = "일괄 조회 요청")
+    public record Request(
+            @Schema(description = "조회할 ISBN 목록 (최대 500개)") List<String> ids
+    ) {}
+
+    @Schema(description = "일괄 조회 응답")
+    public record Response(
+            @Schema(description = "요청 순서대로의 조회 결과") List<Item> items,
+            @Schema(description = "찾은 도서 수") int found,
+            @Schema(description = "찾지 못한 ISBN 수") int notFound
+    ) {}
+
+    @Schema(description = "단건 조회 결과")
+    public record Item(
+            @Schema(description = "요청한 ISBN") String id,
+            @Schema(description = "도서 존재 여부") boolean found,
+            @Schema(description = "도서 정보 (없으면 null)") BookDetailDTO book
+    ) {}
+}
@@ -0,0 +1,42 @@
+package com.trevari.project.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+
+/**
+ * <p>도서 일괄 가져오기 DTO 묶음:
+ * <ul>
+ *   <li>Request: 가져오기 시작 요청 (기준 디렉터리 안의 파일)</li>
+ *   <li>Status: 진행 중이거나 마지막으로 끝난 가져오기 작업의 상태</li>
+ * </ul>
+ */
+@Schema(description = "도서 일괄 가져오기 DTO 묶음")
+public final class CatalogImportDTOs {
+    private CatalogImportDTOs() {} // 네임스페이스 용, 인스턴스화 방지
+
+    public enum State { RUNNING, COMPLETED, FAILED }
+
+    @Schema(description = "가져오기 요청")
+    public record Request(
+            @Schema(description = "catalog.import.base-dir 기준 파일 경로 (.csv, .jsonl, .gz 압축 가능)") String file,
+            @Schema(description = "파일 형식 csv | jsonl (없으면 확장자로 판정)") String format,
+            @Schema(description = "재개 지점부터 이어서 가져오기 (기본 true)") Boolean resume
+    ) {}
+
+    @Schema(description = "가져오기 작업 상태")
+    public record Status(
+            @Schema(description = "가져오는 파일") String file,
+            @Schema(description = "파일 형식") String format,
+            @Schema(description = "작업 상태") State state,
+            @Schema(description = "재개 지점까지 건너뛴 레코드 수") long skipped,
+            @Schema(description = "이번 실행에서 읽은 레코드 수") long read,
+            @Schema(description = "반영한 행 수") long imported,
+            @Schema(description = "형식/검증 오류로 제외한 레코드 수") long rejected,
+            @Schema(description = "연속으로 반영이 끝난 마지막 레코드 번호 (재개 지점)") long checkpoint,
+            @Schema(description = "시작 시각") Instant startedAt,
+            @Schema(description = "경과 시간(ms)") long elapsedMillis,
+            @Schema(description = "초당 반영 행 수") double rowsPerSecond,
+            @Schema(description = "실패 사유 (실패 시)") String error
+    ) {}
+}
@@ -1,10 +1,15 @@
 package com.trevari.project.api.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.trevari.project.aop.RequestTiming;
 import com.trevari.project.search.SearchStrategy;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 /**
  * <p>도서 검색 응답 DTO 묶음:
@@ -26,14 +31,24 @@ public final class SearchDTOs {
             @Schema(description = "페이징 정보") PageInfo pageInfo,
             @Schema(description = "도서 목록") List<Book> books,
             @Schema(description = "검색 실행 메타데이터") Metadata searchMetadata
-    ) {}
+    ) {
+        /** 메타데이터에 실행 계획(EXPLAIN)을 넣은 사본 ({@code explain=true} 요청에만 사용) */
+        public Response withExplain(List<String> explain) {
+            Metadata m = searchMetadata;
+            return new Response(searchQuery, pageInfo, books,
+                    new Metadata(m.executionTime, m.strategy, m.cached, m.timing, explain));
+        }
+    }
 
     @Schema(description = "페이징 관련 정보")
     public record PageInfo(
             @Schema(description = "현재 페이지 번호") int currentPage,
             @Schema(description = "페이지 크기") int pageSize,
-            @Schema(description = "전체 페이지 수") int totalPages,
-            @Schema(description = "전체 요소 수") long totalElements
+            @Schema(description = "전체 페이지 수 (total=none이면 null)") Integer totalPages,
+            @Schema(description = "전체 요소 수 (total=none이면 null)") Long totalElements,
+            @Schema(description = "totalElements가 정확한 값인지 여부 (근사치/미계산이면 false)") boolean totalExact,
+            @Schema(description = "다음 페이지 존재 여부") boolean hasNext,
+            @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)") String nextCursor
     ) {}
 
     @Schema(description = "검색 결과 도서 정보")
@@ -47,9 +62,39 @@ public final class SearchDTOs {
             @Schema(description = "출간일 (YYYY-MM-DD)") LocalDate published
     ) {}
 
+    /**
+     * 실행 시간은 {@code timing}이 있으면 직렬화 시점에 그 요청의 값(시작 ~ 컨트롤러 반환)을 읽습니다.
+     * 그래서 측정 후 응답을 다시 만들 필요가 없습니다.
+     */
     @Schema(description = "검색 메타데이터")
     public record Metadata(
             @Schema(description = "검색 실행 시간(ms)") long executionTime,
-            @Schema(description = "사용한 검색 전략") SearchStrategy strategy
-    ) {}
+            @Schema(description = "사용한 검색 전략") SearchStrategy strategy,
+            @Schema(description = "캐시에서 응답했는지 여부") boolean cached,
+            @JsonIgnore RequestTiming timing,
+            @JsonInclude(JsonInclude.Include.NON_NULL)
+            @Schema(description = "실행 계획: 계획 형태/한 줄 표현/추정치와 노드별 트리 (explain=true일 때만)") List<String> explain
+    ) {
+        public Metadata(long executionTime, SearchStrategy strategy, boolean cached) {
+            this(executionTime, strategy, cached, null, null);
+        }
+
+        @Override
+        public long executionTime() {
+            return timing == null ? executionTime : timing.elapsedNanos() / 1_000_000;
+        }
+
+        @JsonProperty
+        @Schema(description = "검색 실행 시간(µs)")
+        public long executionTimeMicros() {
+            return timing == null ? executionTime * 1_000 : timing.elapsedNanos() / 1_000;
+        }
+
+        @JsonProperty
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        @Schema(description = "구간별 실행 시간(µs): parse/aggregate/cache/query/count/map/total (timing=true일 때만)")
+        public Map<String, Long> phases() {
+            return timing != null && timing.exposePhases() ? timing.phasesMicros() : null;
+        }
+    }
 }
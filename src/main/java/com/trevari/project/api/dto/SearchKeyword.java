@@ -6,5 +6,6 @@ import io.swagger.v3.oas.annotations.media.Schema;
 @Schema(description = "상위 검색어와 카운트")
 public final record SearchKeyword(
 	@Schema(description = "검색 키워드") String keyword,
-	@Schema(description = "검색 횟수") long count
+	@Schema(description = "검색 횟수 (상한 추정치)") long count,
+	@Schema(description = "검색 횟수의 최대 과대 추정량 (실제 횟수 ≥ count - maxError)") long maxError
 ) {}
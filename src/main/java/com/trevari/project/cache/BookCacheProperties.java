@@ -0,0 +1,24 @@
+package com.trevari.project.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 도서 상세 조회 캐시 설정 ({@code book.cache.*}).
+ *
+ * @param maxSize     최대 항목 수 (존재/부재 항목 합계)
+ * @param ttl         존재하는 도서 항목 TTL
+ * @param negativeTtl 없는 ISBN 항목 TTL (짧게 유지해 새로 등록된 도서가 곧 보이도록)
+ * @param bloomFpp    ISBN Bloom 필터 목표 오탐률
+ * @param bloomRefreshInterval 공유 epoch가 필터 구축 이후 올라갔는지 확인해 필터를 다시 구축하는 주기
+ */
+@ConfigurationProperties(prefix = "book.cache")
+public record BookCacheProperties(
+        @DefaultValue("50000") long maxSize,
+        @DefaultValue("10m") Duration ttl,
+        @DefaultValue("30s") Duration negativeTtl,
+        @DefaultValue("0.01") double bloomFpp,
+        @DefaultValue("1m") Duration bloomRefreshInterval
+) {}
@@ -0,0 +1,207 @@
+package com.trevari.project.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.trevari.project.api.dto.BookDetailDTO;
+import com.trevari.project.domain.CatalogChangedEvent;
+import com.trevari.project.repository.BookRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 도서 상세 조회 near-cache.
+ *
+ * <ul>
+ *   <li>존재하는 도서: {@link BookDetailDTO}를 {@code book.cache.ttl} 동안 보관</li>
+ *   <li>없는 ISBN: 빈 항목(negative)을 {@code book.cache.negative-ttl} 동안 보관</li>
+ *   <li>ISBN Bloom 필터: 기동 시 전체 ISBN으로 구축, "확실히 없음"이면 캐시/DB 조회 없이 바로 부재 처리</li>
+ *   <li>무효화: {@link CatalogChangedEvent} 커밋 후 해당 ISBN 항목 제거, 새 ISBN은 필터에 추가
+ *       (필터 구축 중 들어온 ISBN은 모아 두었다가 새 필터를 공개하기 전에 추가)</li>
+ *   <li>다른 노드의 쓰기: 필터 구축 이후 공유 epoch({@link CatalogVersion#epoch()})가 올라갔으면 필터의 "없음"을 믿지 않고
+ *       부재 캐시/DB로 확인하며, {@code book.cache.bloom-refresh-interval}마다 확인해 필터를 다시 구축</li>
+ * </ul>
+ * 존재/부재 항목이 함께 {@code book.cache.max-size} 안에서 W-TinyLFU로 교체되므로
+ * 무작위 ISBN 요청이 몰려도 메모리는 제한됩니다.
+ */
+@Slf4j
+@Component
+public class BookDetailCache {
+
+    static final String CACHE_NAME = "book.detail";
+
+    private static final int LOAD_CHUNK_SIZE = 10_000;
+    private static final long MIN_BLOOM_CAPACITY = 1_024;
+
+    private final BookRepository bookRepository;
+    private final CatalogVersion catalogVersion;
+    private final BookCacheProperties properties;
+    private final Cache<String, Optional<BookDetailDTO>> cache;
+    private final Counter bloomRejects;
+    private volatile KnownIsbns knownIsbns; // 구축 전에는 null (필터 없이 캐시/DB 조회)
+    private long bloomInsertions;
+    private final Object filterLock = new Object(); // knownIsbns/bloomInsertions/pending 갱신 보호
+    private Set<String> pending; // 필터 구축 중 변경된 ISBN (구축 중이 아니면 null)
+
+    /** 공개된 필터와 구축을 시작할 때 관측한 공유 epoch (그 뒤 다른 노드의 쓰기는 필터에 없을 수 있음) */
+    private record KnownIsbns(BloomFilter filter, long epoch) {}
+
+    public BookDetailCache(BookRepository bookRepository, CatalogVersion catalogVersion,
+                           BookCacheProperties properties, MeterRegistry meterRegistry) {
+        this.bookRepository = bookRepository;
+        this.catalogVersion = catalogVersion;
+        this.properties = properties;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maxSize())
+                .expireAfter(Expiry.<String, Optional<BookDetailDTO>>writing((isbn, value) ->
+                        value.isPresent() ? properties.ttl() : properties.negativeTtl()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        this.bloomRejects = Counter.builder("book.detail.bloom.rejects")
+                .description("Bloom 필터로 DB 조회 없이 부재 처리한 요청 수")
+                .register(meterRegistry);
+    }
+
+    /** 캐시 조회, 없으면 {@code loader}로 조회해 존재/부재 모두 저장 */
+    public Optional<BookDetailDTO> get(String isbn, Function<String, Optional<BookDetailDTO>> loader) {
+        if (rejects(knownIsbns, isbn)) {
+            return Optional.empty();
+        }
+        return cache.get(isbn, loader);
+    }
+
+    /**
+     * 여러 ISBN 일괄 조회. Bloom 필터로 확실히 없는 ISBN은 제외하고,
+     * 캐시에 없는 나머지만 {@code bulkLoader}로 한 번에 조회합니다 (결과에 없는 ISBN은 부재로 캐시).
+     */
+    public Map<String, Optional<BookDetailDTO>> getAll(
+            Collection<String> isbns, Function<Set<String>, Map<String, BookDetailDTO>> bulkLoader) {
+        KnownIsbns known = knownIsbns;
+        Map<String, Optional<BookDetailDTO>> result = new HashMap<>();
+        List<String> candidates = new ArrayList<>(isbns.size());
+        for (String isbn : isbns) {
+            if (rejects(known, isbn)) {
+                result.put(isbn, Optional.empty());
+            } else {
+                candidates.add(isbn);
+            }
+        }
+        result.putAll(cache.getAll(candidates, missing -> {
+            Map<String, BookDetailDTO> loaded = bulkLoader.apply(Set.copyOf(missing));
+            Map<String, Optional<BookDetailDTO>> entries = new HashMap<>();
+            missing.forEach(isbn -> entries.put(isbn, Optional.ofNullable(loaded.get(isbn))));
+            return entries;
+        }));
+        return result;
+    }
+
+    /** 필터가 "확실히 없음"으로 판정하고, 필터 구축 이후 다른 노드의 쓰기도 없었으면 부재 */
+    private boolean rejects(KnownIsbns known, String isbn) {
+        if (known == null || known.filter().mightContain(isbn) || catalogVersion.epoch() > known.epoch()) {
+            return false;
+        }
+        bloomRejects.increment();
+        return true;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuildFilter();
+    }
+
+    /** 필터 구축 이후 공유 epoch가 올라갔으면(다른 노드/CLI 가져오기의 쓰기) 다시 구축 */
+    @Scheduled(fixedDelayString = "${book.cache.bloom-refresh-interval:1m}")
+    public void refreshFilter() {
+        KnownIsbns known = knownIsbns;
+        if (known != null && catalogVersion.epoch() > known.epoch()) {
+            rebuildFilter();
+        }
+    }
+
+    /**
+     * 전체 ISBN을 키셋 청크로 읽어 Bloom 필터를 새로 구축 (예상 원소 수는 현재 건수의 2배).
+     * 구축은 지역 필터에 하고, 그동안 커밋된 변경 ISBN을 더한 뒤에 공개합니다.
+     * 공유 epoch는 스캔 전에 읽으므로, 그 epoch까지의 다른 노드 쓰기는 스캔 결과에 포함됩니다.
+     */
+    public synchronized void rebuildFilter() {
+        long epoch = catalogVersion.epoch();
+        synchronized (filterLock) {
+            pending = new HashSet<>();
+        }
+        try {
+            long count = bookRepository.count();
+            BloomFilter filter = new BloomFilter(Math.max(MIN_BLOOM_CAPACITY, count * 2), properties.bloomFpp());
+            long inserted = 0;
+            String last = "";
+            List<String> chunk;
+            do {
+                chunk = bookRepository.findIsbnsAfter(last, Limit.of(LOAD_CHUNK_SIZE));
+                chunk.forEach(filter::put);
+                inserted += chunk.size();
+                if (!chunk.isEmpty()) last = chunk.get(chunk.size() - 1);
+            } while (chunk.size() == LOAD_CHUNK_SIZE);
+            synchronized (filterLock) {
+                pending.forEach(filter::put);
+                inserted += pending.size();
+                bloomInsertions = inserted;
+                knownIsbns = new KnownIsbns(filter, epoch);
+            }
+            log.info("도서 ISBN Bloom 필터 구축: isbns={}, capacity={}", inserted, filter.expectedInsertions());
+        } finally {
+            synchronized (filterLock) {
+                pending = null;
+            }
+        }
+    }
+
+    /** 변경된 ISBN 항목 제거 (진행 중인 로딩이 끝난 뒤 제거되므로 이전 값이 남지 않음) */
+    @Order(CatalogChangedEvent.APPLY_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        cache.invalidateAll(event.isbns());
+        boolean overCapacity;
+        synchronized (filterLock) {
+            if (pending != null) {
+                // 구축 중인 필터가 이미 지나간 키셋 구간일 수 있으므로 공개 전에 추가
+                pending.addAll(event.isbns());
+            }
+            KnownIsbns known = knownIsbns;
+            if (known == null) {
+                return; // 첫 구축 전: 필터 없이 조회하므로 구축 중 버퍼만으로 충분
+            }
+            BloomFilter filter = known.filter();
+            // 삭제된 ISBN도 넣어 두지만 필터는 "있을 수도 있음"만 판단하므로 안전
+            event.isbns().forEach(filter::put);
+            bloomInsertions += event.isbns().size();
+            overCapacity = pending == null && bloomInsertions > filter.expectedInsertions();
+        }
+        if (overCapacity) {
+            rebuildFilter(); // 용량 초과 시 오탐률 유지를 위해 재구축
+        }
+    }
+
+    /** 전체 비우기 (운영/테스트용) */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+}
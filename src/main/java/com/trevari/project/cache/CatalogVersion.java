@@ -0,0 +1,47 @@
+package com.trevari.project.cache;
+
+import com.trevari.project.domain.CatalogChangedEvent;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 카탈로그(도서 데이터) 버전 스탬프.
+ *
+ * <p>이 노드에서 도서 쓰기가 커밋될 때마다 로컬 카운터가 1 증가하고,
+ * Redis 공유 캐시를 쓰는 경우 다른 노드의 쓰기는 공유 epoch 값으로 전달됩니다.
+ * {@link #current()}는 두 값의 합이므로 어느 쪽이 바뀌어도 증가합니다.
+ *
+ * <p>캐시 항목은 채울 당시의 버전을 키에 포함하므로 버전이 바뀌면 이전 항목은 더 이상 조회되지 않고,
+ * 크기 제한/TTL에 따라 밀려납니다. 조회 전에 버전을 읽으므로, 쓰기와 겹친 조회 결과는
+ * 쓰기 직후 버전 증가로 무효화됩니다. 버전은 색인 등 반영 구독자가 끝난 뒤에 올라가므로
+ * ({@link CatalogChangedEvent#PUBLISH_ORDER}) 새 버전으로 채운 항목에 반영 전 결과가 담기지 않습니다.
+ */
+@Component
+public class CatalogVersion {
+
+    private final AtomicLong local = new AtomicLong();
+    private final AtomicLong epoch = new AtomicLong();
+
+    public long current() {
+        return local.get() + epoch.get();
+    }
+
+    /** 마지막으로 관측한 공유 epoch */
+    public long epoch() {
+        return epoch.get();
+    }
+
+    /** 공유 epoch 관측값 반영 (감소는 무시) */
+    public void advanceEpoch(long observed) {
+        epoch.accumulateAndGet(observed, Math::max);
+    }
+
+    @Order(CatalogChangedEvent.PUBLISH_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        local.incrementAndGet();
+    }
+}
@@ -0,0 +1,231 @@
+package com.trevari.project.cache;
+
+import com.trevari.project.api.dto.SearchDTOs;
+import com.trevari.project.config.CircuitBreaker;
+import com.trevari.project.domain.CatalogChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Redis 공유 검색 결과 캐시 (로컬 캐시 뒤의 2차 계층, {@code search.cache.redis.enabled=true}).
+ *
+ * <ul>
+ *   <li>값: {@link SearchResponseCodec}로 직렬화한 응답, TTL {@code search.cache.redis.ttl}</li>
+ *   <li>무효화: 키에 공유 epoch({@value #EPOCH_KEY})를 포함. 도서 쓰기를 커밋한 노드가 INCR하고,
+ *       다른 노드는 {@code epoch-poll-interval} 주기로 읽어 로컬 캐시 버전({@link CatalogVersion})에 반영</li>
+ *   <li>단일 채우기: 미스 시 {@code SET NX PX}로 짧은 락을 잡은 노드만 DB를 조회하고,
+ *       나머지 노드는 최대 {@code max-wait} 동안 값이 채워지기를 기다림 (인기 질의의 동시 미스가 MySQL로 몰리지 않도록)</li>
+ * </ul>
+ * Redis 오류 시에는 경고 후 캐시 없이 직접 조회합니다(fail-open). 조회/락/대기 호출은 서킷 브레이커를 거치며,
+ * 열린 동안에는 Redis 타임아웃을 기다리지 않고 바로 로컬 조회로 넘어갑니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "search.cache.redis.enabled", havingValue = "true")
+public class RedisSearchCache {
+
+    static final String EPOCH_KEY = "search:cache:epoch";
+    static final String PAGE_KEY_PREFIX = "search:cache:page:";
+    static final String LOCK_KEY_PREFIX = "search:cache:lock:";
+
+    private static final long WAIT_STEP_MS = 20;
+    private static final RedisScript<Long> RELEASE_LOCK = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final RedisTemplate<String, byte[]> redisTemplate;
+    private final CatalogVersion catalogVersion;
+    private final SearchCacheProperties.Redis properties;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter waitHits;
+    private final Counter errors;
+    private final CircuitBreaker breaker;
+
+    @Autowired
+    public RedisSearchCache(@Qualifier("binaryRedisTemplate") RedisTemplate<String, byte[]> redisTemplate,
+                            CatalogVersion catalogVersion,
+                            SearchCacheProperties properties,
+                            MeterRegistry meterRegistry) {
+        this(redisTemplate, catalogVersion, properties, meterRegistry, breaker(properties.redis().breaker(), meterRegistry));
+    }
+
+    RedisSearchCache(RedisTemplate<String, byte[]> redisTemplate, CatalogVersion catalogVersion,
+                     SearchCacheProperties properties, MeterRegistry meterRegistry, CircuitBreaker breaker) {
+        this.redisTemplate = redisTemplate;
+        this.catalogVersion = catalogVersion;
+        this.properties = properties.redis();
+        this.breaker = breaker;
+        this.hits = counter(meterRegistry, "hit");
+        this.misses = counter(meterRegistry, "miss");
+        this.waitHits = counter(meterRegistry, "wait_hit");
+        this.errors = counter(meterRegistry, "error");
+    }
+
+    private static CircuitBreaker breaker(SearchCacheProperties.Breaker config, MeterRegistry meterRegistry) {
+        return new CircuitBreaker("search.cache.redis", config.failureThreshold(), config.openDuration(),
+                config.slowCallThreshold(), meterRegistry);
+    }
+
+    private static Counter counter(MeterRegistry registry, String result) {
+        return Counter.builder("search.cache.redis")
+                .description("Redis 공유 검색 캐시 조회 결과")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    /** 공유 캐시 조회, 없으면 락을 잡은 한 노드만 {@code loader}로 채움 (서킷이 열려 있으면 바로 {@code loader}) */
+    public SearchDTOs.Response get(SearchCacheKey key, Supplier<SearchDTOs.Response> loader) {
+        if (!breaker.tryAcquire()) {
+            return loader.get();
+        }
+        String id = keyId(catalogVersion.epoch(), key);
+        String pageKey = PAGE_KEY_PREFIX + id;
+
+        SearchDTOs.Response cached = read(pageKey);
+        if (cached != null) {
+            hits.increment();
+            return SearchResultCache.markCached(cached);
+        }
+        misses.increment();
+
+        String lockKey = LOCK_KEY_PREFIX + id;
+        byte[] token = UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8);
+        Boolean locked = tryLock(lockKey, token);
+        if (locked == null) {
+            return loader.get(); // Redis 오류
+        }
+        if (locked) {
+            try {
+                SearchDTOs.Response response = loader.get();
+                write(pageKey, response);
+                return response;
+            } finally {
+                release(lockKey, token);
+            }
+        }
+
+        // 다른 노드가 채우는 중: 값이 채워지거나 락이 풀릴 때까지 최대 max-wait 동안 대기
+        long deadline = System.nanoTime() + maxWait().toNanos();
+        while (System.nanoTime() < deadline && breaker.state() != CircuitBreaker.State.OPEN) {
+            try {
+                Thread.sleep(WAIT_STEP_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            cached = read(pageKey);
+            if (cached != null) {
+                waitHits.increment();
+                return SearchResultCache.markCached(cached);
+            }
+            if (!lockHeld(lockKey)) {
+                break; // 채우던 노드가 실패
+            }
+        }
+        return loader.get();
+    }
+
+    /** 도서 쓰기 커밋 후 공유 epoch 증가 → 모든 노드의 이전 항목 무효화 (다른 노드에서 전달된 변경은 그 노드가 이미 증가) */
+    @Order(CatalogChangedEvent.PUBLISH_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (event.remote()) {
+            return;
+        }
+        try {
+            Long epoch = redisTemplate.opsForValue().increment(EPOCH_KEY);
+            if (epoch != null) {
+                catalogVersion.advanceEpoch(epoch);
+            }
+        } catch (RuntimeException e) {
+            errors.increment();
+            log.warn("검색 캐시 epoch 증가 실패 (다른 노드는 TTL 만료까지 이전 결과를 볼 수 있음)", e);
+        }
+    }
+
+    /** 다른 노드의 쓰기 반영 */
+    @Scheduled(fixedDelayString = "${search.cache.redis.epoch-poll-interval:1s}")
+    public void pollEpoch() {
+        try {
+            byte[] value = redisTemplate.opsForValue().get(EPOCH_KEY);
+            if (value != null) {
+                catalogVersion.advanceEpoch(Long.parseLong(new String(value, StandardCharsets.US_ASCII)));
+            }
+        } catch (RuntimeException e) {
+            log.debug("검색 캐시 epoch 조회 실패", e);
+        }
+    }
+
+    /** 락 TTL보다 길게 기다리지 않음 */
+    private Duration maxWait() {
+        return properties.maxWait().compareTo(properties.lockTtl()) < 0 ? properties.maxWait() : properties.lockTtl();
+    }
+
+    /** 질의 문자열에 ':'가 있을 수 있으므로 마지막에 배치 */
+    static String keyId(long epoch, SearchCacheKey key) {
+        return epoch + ":" + key.strategy() + ":" + key.page() + ":" + key.size() + ":" + key.total()
+                + ":" + (key.cursor() == null ? "" : key.cursor()) + ":" + key.query();
+    }
+
+    private SearchDTOs.Response read(String pageKey) {
+        return call("조회", () -> SearchResponseCodec.decode(redisTemplate.opsForValue().get(pageKey)));
+    }
+
+    private void write(String pageKey, SearchDTOs.Response response) {
+        call("저장", () -> {
+            redisTemplate.opsForValue().set(pageKey, SearchResponseCodec.encode(response), properties.ttl());
+            return Boolean.TRUE;
+        });
+    }
+
+    /** @return 락 획득 여부, Redis 오류면 null */
+    private Boolean tryLock(String lockKey, byte[] token) {
+        return call("락 획득", () -> Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(lockKey, token, properties.lockTtl())));
+    }
+
+    private boolean lockHeld(String lockKey) {
+        return Boolean.TRUE.equals(call("락 확인", () -> redisTemplate.hasKey(lockKey)));
+    }
+
+    /** Redis 호출 (결과는 서킷 브레이커에 기록), 실패 시 경고 후 null */
+    private <T> T call(String action, Supplier<T> command) {
+        long start = System.nanoTime();
+        try {
+            T result = command.get();
+            breaker.onSuccess(System.nanoTime() - start);
+            return result;
+        } catch (RuntimeException e) {
+            breaker.onFailure();
+            errors.increment();
+            log.warn("검색 캐시 {} 실패: {}", action, e.getMessage());
+            return null;
+        }
+    }
+
+    /** 내가 잡은 락만 해제 (만료 후 다른 노드가 잡은 락은 유지) */
+    private void release(String lockKey, byte[] token) {
+        try {
+            redisTemplate.execute(RELEASE_LOCK, List.of(lockKey), (Object) token);
+        } catch (RuntimeException e) {
+            log.debug("검색 캐시 락 해제 실패 (TTL로 만료됨): {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.trevari.project.cache;
+
+import com.trevari.project.search.SearchPage;
+import com.trevari.project.search.SearchQuery;
+import com.trevari.project.search.SearchStrategy;
+import com.trevari.project.search.TotalMode;
+
+/**
+ * 검색 결과 캐시 키: 카탈로그 버전 + 정규화된 질의 + 페이지 요청.
+ * 응답에 영향을 주는 값(커서, 건수 계산 방식)도 모두 포함합니다.
+ */
+public record SearchCacheKey(
+        long version,
+        String query,
+        SearchStrategy strategy,
+        int page,
+        int size,
+        String cursor,
+        TotalMode total
+) {
+
+    public static SearchCacheKey of(long version, SearchQuery query, SearchPage page) {
+        return new SearchCacheKey(version, query.query(), query.strategy(), page.page(), page.size(),
+                page.isKeyset() ? page.after().encode() : null, page.total());
+    }
+}
@@ -0,0 +1,50 @@
+package com.trevari.project.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 검색 결과 캐시 설정 ({@code search.cache.*}).
+ *
+ * @param local 애플리케이션 내 로컬 캐시 (max-size 0이면 사용 안 함)
+ * @param redis 노드 간 공유 Redis 캐시 (로컬 캐시 뒤의 2차 계층)
+ */
+@ConfigurationProperties(prefix = "search.cache")
+public record SearchCacheProperties(@DefaultValue Local local, @DefaultValue Redis redis) {
+
+    /**
+     * @param maxSize 최대 항목 수 (W-TinyLFU 교체)
+     * @param ttl     항목별 유효 시간 (쓰기 기준)
+     */
+    public record Local(@DefaultValue("10000") long maxSize, @DefaultValue("30s") Duration ttl) {}
+
+    /**
+     * @param enabled           사용 여부
+     * @param ttl               페이지 항목 TTL
+     * @param lockTtl           채우기 락 TTL (채우던 노드가 죽어도 이 시간 뒤에는 다른 노드가 채울 수 있음)
+     * @param maxWait           락을 못 잡은 노드가 값을 기다리는 최대 시간 (요청 지연 예산보다 충분히 짧게, lockTtl 이하)
+     * @param epochPollInterval 다른 노드의 쓰기(epoch 변경)를 확인하는 주기
+     * @param breaker           공유 캐시 Redis 호출 서킷 브레이커 (열린 동안 Redis 없이 바로 조회)
+     */
+    public record Redis(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("5m") Duration ttl,
+            @DefaultValue("3s") Duration lockTtl,
+            @DefaultValue("200ms") Duration maxWait,
+            @DefaultValue("1s") Duration epochPollInterval,
+            @DefaultValue Breaker breaker
+    ) {}
+
+    /**
+     * @param failureThreshold  서킷을 여는 연속 실패 수 (느린 호출 포함)
+     * @param openDuration      서킷이 열린 뒤 시험 호출까지 대기 시간
+     * @param slowCallThreshold 이보다 오래 걸린 호출은 실패로 취급
+     */
+    public record Breaker(
+            @DefaultValue("5") int failureThreshold,
+            @DefaultValue("10s") Duration openDuration,
+            @DefaultValue("100ms") Duration slowCallThreshold
+    ) {}
+}
@@ -0,0 +1,158 @@
+package com.trevari.project.cache;
+
+import com.trevari.project.api.dto.SearchDTOs;
+import com.trevari.project.search.SearchStrategy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link SearchDTOs.Response} 바이너리 직렬화 (Redis 공유 캐시 값).
+ *
+ * <p>JSON/JDK 직렬화 대신 필드 순서가 고정된 형식을 씁니다.
+ * 문자열은 "길이+1" 가변 길이 정수 뒤에 UTF-8 바이트(0이면 null), 날짜는 zigzag 인코딩한 epoch day로 기록합니다.
+ * 식별자가 ISBN과 같으면(일반적인 경우) 한 번만 기록합니다.
+ * 첫 바이트는 형식 버전이며, 버전이 다르면 읽지 않고 캐시 미스로 처리합니다.
+ */
+public final class SearchResponseCodec {
+
+    static final byte FORMAT_VERSION = 1;
+
+    private static final SearchStrategy[] STRATEGIES = SearchStrategy.values();
+
+    private SearchResponseCodec() {}
+
+    public static byte[] encode(SearchDTOs.Response r) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256 + r.books().size() * 160);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            writeString(out, r.searchQuery());
+
+            SearchDTOs.PageInfo p = r.pageInfo();
+            writeVarLong(out, p.currentPage());
+            writeVarLong(out, p.pageSize());
+            writeVarLong(out, p.totalPages() == null ? 0 : p.totalPages() + 1L);
+            writeVarLong(out, p.totalElements() == null ? 0 : p.totalElements() + 1);
+            out.writeByte((p.totalExact() ? 1 : 0) | (p.hasNext() ? 2 : 0));
+            writeString(out, p.nextCursor());
+
+            writeVarLong(out, r.books().size());
+            for (SearchDTOs.Book b : r.books()) {
+                boolean sameId = b.id() != null && b.id().equals(b.isbn());
+                out.writeBoolean(sameId);
+                if (!sameId) writeString(out, b.id());
+                writeString(out, b.isbn());
+                writeString(out, b.title());
+                writeString(out, b.subtitle());
+                writeString(out, b.image());
+                writeString(out, b.author());
+                writeVarLong(out, b.published() == null ? 0 : zigzag(b.published().toEpochDay()) + 1);
+            }
+
+            SearchDTOs.Metadata m = r.searchMetadata();
+            out.writeByte(m.strategy() == null ? -1 : m.strategy().ordinal());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /** 해석할 수 없는 값(형식 버전 불일치 등)이면 null */
+    public static SearchDTOs.Response decode(byte[] data) {
+        if (data == null || data.length == 0 || data[0] != FORMAT_VERSION) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data, 1, data.length - 1))) {
+            String searchQuery = readString(in);
+
+            int currentPage = (int) readVarLong(in);
+            int pageSize = (int) readVarLong(in);
+            long totalPages = readVarLong(in);
+            long totalElements = readVarLong(in);
+            int flags = in.readByte();
+            String nextCursor = readString(in);
+            var pageInfo = new SearchDTOs.PageInfo(currentPage, pageSize,
+                    totalPages == 0 ? null : (int) (totalPages - 1),
+                    totalElements == 0 ? null : totalElements - 1,
+                    (flags & 1) != 0, (flags & 2) != 0, nextCursor);
+
+            int count = (int) readVarLong(in);
+            List<SearchDTOs.Book> books = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                boolean sameId = in.readBoolean();
+                String id = sameId ? null : readString(in);
+                String isbn = readString(in);
+                String title = readString(in);
+                String subtitle = readString(in);
+                String image = readString(in);
+                String author = readString(in);
+                long day = readVarLong(in);
+                books.add(new SearchDTOs.Book(sameId ? isbn : id, title, subtitle, image, author, isbn,
+                        day == 0 ? null : LocalDate.ofEpochDay(unzigzag(day - 1))));
+            }
+
+            int strategy = in.readByte();
+            var metadata = new SearchDTOs.Metadata(0L, strategy < 0 ? null : STRATEGIES[strategy], false);
+            return new SearchDTOs.Response(searchQuery, pageInfo, List.copyOf(books), metadata);
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String s) throws IOException {
+        if (s == null) {
+            writeVarLong(out, 0);
+            return;
+        }
+        byte[] utf8 = s.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, utf8.length + 1L);
+        out.write(utf8);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        long len = readVarLong(in);
+        if (len == 0) {
+            return null;
+        }
+        byte[] utf8 = new byte[(int) (len - 1)];
+        in.readFully(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    /** 부호 없는 LEB128 가변 길이 정수 */
+    private static void writeVarLong(DataOutputStream out, long v) throws IOException {
+        while ((v & ~0x7FL) != 0) {
+            out.writeByte((int) ((v & 0x7F) | 0x80));
+            v >>>= 7;
+        }
+        out.writeByte((int) v);
+    }
+
+    private static long zigzag(long v) {
+        return (v << 1) ^ (v >> 63);
+    }
+
+    private static long unzigzag(long v) {
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long v = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            v |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return v;
+            }
+        }
+        throw new IOException("varint too long");
+    }
+}
@@ -0,0 +1,80 @@
+package com.trevari.project.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.trevari.project.aop.RequestTiming;
+import com.trevari.project.api.dto.SearchDTOs;
+import com.trevari.project.search.SearchPage;
+import com.trevari.project.search.SearchQuery;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * 검색 결과 로컬 캐시 (Caffeine).
+ *
+ * <ul>
+ *   <li>크기 제한: {@code search.cache.local.max-size}, W-TinyLFU 교체 (자주 쓰이는 질의 우선 보존)</li>
+ *   <li>항목별 TTL: {@code search.cache.local.ttl}</li>
+ *   <li>무효화: 키에 {@link CatalogVersion}을 포함해 도서 쓰기 이후에는 이전 항목이 조회되지 않음</li>
+ *   <li>지표: {@code cache.gets{result=hit|miss}}, {@code cache.evictions} 등 ({@code cache=search.result})</li>
+ * </ul>
+ * 같은 키의 동시 미스는 한 번만 계산합니다(Caffeine 키 단위 원자적 로딩).
+ * {@link RedisSearchCache}가 활성화되어 있으면 미스를 DB 대신 Redis 공유 캐시로 먼저 보냅니다.
+ */
+@Component
+public class SearchResultCache {
+
+    static final String CACHE_NAME = "search.result";
+
+    private final CatalogVersion catalogVersion;
+    private final Cache<SearchCacheKey, SearchDTOs.Response> cache;
+    @Nullable
+    private final RedisSearchCache sharedCache;
+
+    public SearchResultCache(CatalogVersion catalogVersion, SearchCacheProperties properties, MeterRegistry meterRegistry) {
+        this(catalogVersion, properties, meterRegistry, null);
+    }
+
+    @Autowired
+    public SearchResultCache(CatalogVersion catalogVersion, SearchCacheProperties properties, MeterRegistry meterRegistry,
+                             @Nullable RedisSearchCache sharedCache) {
+        this.catalogVersion = catalogVersion;
+        this.sharedCache = sharedCache;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.local().maxSize())
+                .expireAfterWrite(properties.local().ttl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시된 응답을 반환하고, 없으면 {@code loader}로 계산해 저장합니다.
+     * 캐시에서 꺼낸 응답은 {@code searchMetadata.cached=true}로 표시하고 실행 시간은 현재 요청의 것으로 바꿉니다.
+     */
+    public SearchDTOs.Response get(SearchQuery query, SearchPage page, Supplier<SearchDTOs.Response> loader) {
+        SearchCacheKey key = SearchCacheKey.of(catalogVersion.current(), query, page);
+        boolean[] loaded = {false};
+        SearchDTOs.Response response = cache.get(key, k -> {
+            loaded[0] = true;
+            return sharedCache == null ? loader.get() : sharedCache.get(k, loader);
+        });
+        return loaded[0] ? response : markCached(response);
+    }
+
+    /** 전체 비우기 (운영/테스트용) */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    static SearchDTOs.Response markCached(SearchDTOs.Response r) {
+        var meta = r.searchMetadata();
+        return new SearchDTOs.Response(r.searchQuery(), r.pageInfo(), r.books(),
+                new SearchDTOs.Metadata(0L, meta.strategy(), true, RequestTiming.current(), null));
+    }
+}
@@ -0,0 +1,69 @@
+package com.trevari.project.catalog;
+
+import com.trevari.project.domain.SearchText;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.util.List;
+
+/**
+ * 도서 일괄 upsert (JDBC 배치).
+ *
+ * <p>MySQL은 {@code INSERT ... ON DUPLICATE KEY UPDATE}를 배치로 보내며, JDBC URL의
+ * {@code rewriteBatchedStatements=true}로 드라이버가 배치를 여러 행 INSERT 하나로 바꿔 보냅니다.
+ * H2(테스트/로컬)는 같은 의미의 {@code MERGE INTO ... KEY (isbn)}을 사용합니다.
+ * JPA를 거치지 않으므로 엔티티 리스너가 발행하는 변경 이벤트는 호출하는 쪽에서 직접 발행해야 하고,
+ * 엔티티의 {@code @PrePersist}가 채우는 검색 키 컬럼({@link SearchText})도 여기서 계산해 함께 씁니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookUpsertWriter {
+
+    static final String MYSQL_UPSERT_SQL = """
+            INSERT INTO books (isbn, title, subtitle, author, publisher, published_date, image,
+                search_text, title_key, author_key, publisher_key)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE title = VALUES(title), subtitle = VALUES(subtitle), author = VALUES(author),
+                publisher = VALUES(publisher), published_date = VALUES(published_date), image = VALUES(image),
+                search_text = VALUES(search_text), title_key = VALUES(title_key), author_key = VALUES(author_key),
+                publisher_key = VALUES(publisher_key)
+            """;
+
+    static final String H2_UPSERT_SQL = """
+            MERGE INTO books (isbn, title, subtitle, author, publisher, published_date, image,
+                search_text, title_key, author_key, publisher_key) KEY (isbn)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile String upsertSql;
+
+    public void upsert(List<CatalogRecord> records) {
+        jdbcTemplate.batchUpdate(upsertSql(), records, records.size(), (ps, r) -> {
+            ps.setString(1, r.isbn());
+            ps.setString(2, r.title());
+            ps.setString(3, r.subtitle());
+            ps.setString(4, r.author());
+            ps.setString(5, r.publisher());
+            ps.setDate(6, r.publishedDate() == null ? null : Date.valueOf(r.publishedDate()));
+            ps.setString(7, r.image());
+            ps.setString(8, SearchText.document(r.isbn(), r.title(), r.subtitle(), r.author(), r.publisher()));
+            ps.setString(9, SearchText.key(r.title()));
+            ps.setString(10, SearchText.key(r.author()));
+            ps.setString(11, SearchText.key(r.publisher()));
+        });
+    }
+
+    private String upsertSql() {
+        String sql = upsertSql;
+        if (sql == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) c -> c.getMetaData().getDatabaseProductName());
+            sql = "H2".equalsIgnoreCase(product) ? H2_UPSERT_SQL : MYSQL_UPSERT_SQL;
+            upsertSql = sql;
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,97 @@
+package com.trevari.project.catalog;
+
+import com.trevari.project.domain.CatalogChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 노드 간 카탈로그 변경 전달 ({@code catalog.changes.redis.enabled=true}).
+ *
+ * <ul>
+ *   <li>보내기: 이 노드에서 커밋된 {@link CatalogChangedEvent}(엔티티 저장, CLI/관리자 가져오기의 청크)를
+ *       Redis 채널 {@value #CHANNEL}로 발행. 메시지는 {@code 노드ID\nISBN,ISBN,...}</li>
+ *   <li>받기: 다른 노드의 메시지를 {@code remote} 이벤트로 다시 발행 → 인메모리 색인, 도서 상세 캐시, 로컬 검색 캐시가
+ *       같은 ISBN만 반영 (자기 메시지는 무시, remote 이벤트는 다시 보내지 않음)</li>
+ * </ul>
+ * Pub/Sub은 전달을 보장하지 않으므로 구독이 끊겨 있던 노드는 그동안의 변경을 놓칩니다.
+ * 도서 상세 캐시는 공유 epoch로 회복하지만 인메모리 색인은 재기동(재구축) 전까지 반영되지 않습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "catalog.changes.redis.enabled", havingValue = "true")
+public class CatalogChangeRelay implements MessageListener {
+
+    public static final String CHANNEL = "catalog:changed";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Counter sent;
+    private final Counter received;
+    private final Counter errors;
+
+    public CatalogChangeRelay(RedisTemplate<String, String> redisTemplate,
+                              ApplicationEventPublisher eventPublisher,
+                              MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.eventPublisher = eventPublisher;
+        this.sent = counter(meterRegistry, "sent");
+        this.received = counter(meterRegistry, "received");
+        this.errors = counter(meterRegistry, "error");
+    }
+
+    /** 이 노드의 변경을 커밋 후 다른 노드로 전달 */
+    @Order(CatalogChangedEvent.PUBLISH_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (event.remote() || event.isbns().isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(CHANNEL, nodeId + '\n' + String.join(",", event.isbns()));
+            sent.increment();
+        } catch (RuntimeException e) {
+            errors.increment();
+            log.warn("카탈로그 변경 전달 실패 (다른 노드의 색인에는 반영되지 않음): isbns={}", event.isbns().size(), e);
+        }
+    }
+
+    /** 다른 노드의 변경을 이 노드의 구독자에게 전달 */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf('\n');
+        if (separator < 0) {
+            errors.increment();
+            log.warn("카탈로그 변경 메시지 형식 오류: {}", body);
+            return;
+        }
+        if (body.substring(0, separator).equals(nodeId)) {
+            return; // 이 노드가 보낸 변경은 이미 반영됨
+        }
+        List<String> isbns = Arrays.asList(body.substring(separator + 1).split(","));
+        received.increment();
+        eventPublisher.publishEvent(new CatalogChangedEvent(isbns, true));
+    }
+
+    private static Counter counter(MeterRegistry registry, String result) {
+        return Counter.builder("catalog.changes.relay")
+                .description("노드 간 카탈로그 변경 메시지 수")
+                .tag("result", result)
+                .register(registry);
+    }
+}
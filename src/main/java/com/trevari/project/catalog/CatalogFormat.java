@@ -0,0 +1,53 @@
+package com.trevari.project.catalog;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trevari.project.exception.BadRequestException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 가져오기 파일 형식. 파일 이름이 {@code .gz}로 끝나면 gzip 압축을 풀면서 읽습니다.
+ */
+public enum CatalogFormat {
+    CSV,
+    JSONL;
+
+    /** 형식 이름(csv/jsonl) 또는 null이면 확장자(.csv, .jsonl, .ndjson, 각 .gz 포함)로 판정 */
+    public static CatalogFormat of(String name, Path file) {
+        if (name != null && !name.isBlank()) {
+            return switch (name.trim().toLowerCase(Locale.ROOT)) {
+                case "csv" -> CSV;
+                case "jsonl", "ndjson" -> JSONL;
+                default -> throw new BadRequestException("Unknown import format: " + name + " (csv | jsonl)");
+            };
+        }
+        String fileName = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (fileName.endsWith(".gz")) {
+            fileName = fileName.substring(0, fileName.length() - 3);
+        }
+        if (fileName.endsWith(".csv")) return CSV;
+        if (fileName.endsWith(".jsonl") || fileName.endsWith(".ndjson")) return JSONL;
+        throw new BadRequestException("Cannot infer import format from file name: " + file.getFileName());
+    }
+
+    public CatalogReader open(Path file, ObjectMapper objectMapper) throws IOException {
+        InputStream in = Files.newInputStream(file);
+        try {
+            if (file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".gz")) {
+                in = new GZIPInputStream(in, 64 * 1024);
+            }
+            var reader = new InputStreamReader(in, StandardCharsets.UTF_8);
+            return this == CSV ? new CsvCatalogReader(reader) : new JsonLinesCatalogReader(reader, objectMapper);
+        } catch (IOException | RuntimeException e) {
+            in.close();
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.trevari.project.catalog;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+
+/**
+ * 도서 일괄 가져오기 설정 ({@code catalog.import.*}).
+ *
+ * @param baseDir        관리자 API로 가져올 수 있는 파일의 기준 디렉터리 (밖의 경로는 거부)
+ * @param checkpointDir  재개 지점 파일 디렉터리
+ * @param batchSize      청크(트랜잭션 + JDBC 배치 1회)당 행 수
+ * @param parallelism    동시에 쓰는 청크 수 (1이면 파일 순서대로 반영)
+ * @param file           기동 시 가져올 파일 (CLI 실행, 없으면 실행하지 않음)
+ * @param format         {@code file}의 형식 (csv | jsonl, 없으면 확장자로 판정)
+ * @param resume         재개 지점이 있으면 이어서 가져오기
+ * @param exitOnComplete CLI 실행 후 애플리케이션 종료 (성공 0, 실패 1)
+ */
+@ConfigurationProperties(prefix = "catalog.import")
+public record CatalogImportProperties(
+        @DefaultValue("import") Path baseDir,
+        @DefaultValue("import/.checkpoints") Path checkpointDir,
+        @DefaultValue("1000") int batchSize,
+        @DefaultValue("4") int parallelism,
+        String file,
+        String format,
+        @DefaultValue("true") boolean resume,
+        @DefaultValue("true") boolean exitOnComplete
+) {}
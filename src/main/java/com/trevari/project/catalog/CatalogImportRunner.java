@@ -0,0 +1,54 @@
+package com.trevari.project.catalog;
+
+import com.trevari.project.api.dto.CatalogImportDTOs;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+/**
+ * CLI 가져오기: {@code catalog.import.file}이 지정되면 기동 직후 가져오기를 실행합니다.
+ *
+ * <pre>
+ * java -jar app.jar --spring.main.web-application-type=none --catalog.import.file=/data/books.csv.gz
+ * </pre>
+ * {@code catalog.import.exit-on-complete=true}(기본)이면 끝난 뒤 종료합니다 (성공 0, 실패 1).
+ *
+ * <p>청크마다 발행하는 {@code CatalogChangedEvent}는 이 프로세스 안에서만 전달되므로, 서비스 중인 노드에는
+ * {@link CatalogChangeRelay}(Redis 채널)로 전달됩니다. 전달이 꺼져 있으면 그 노드들의 인메모리 색인은
+ * 재기동 전까지 가져온 도서를 모릅니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "catalog.import.file")
+@Order(0) // seed 프로필의 종료 러너보다 먼저
+@RequiredArgsConstructor
+public class CatalogImportRunner implements ApplicationRunner {
+
+    private final CatalogImportService importService;
+    private final CatalogImportProperties properties;
+    private final ConfigurableApplicationContext context;
+    private final ObjectProvider<CatalogChangeRelay> changeRelay;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (changeRelay.getIfAvailable() == null) {
+            log.warn("catalog.changes.redis.enabled=false: 서비스 중인 노드의 인메모리 색인(search.engine=index|ngram)에는 "
+                    + "가져온 도서가 재기동 전까지 반영되지 않습니다");
+        }
+        CatalogImportDTOs.Status status = importService.run(Path.of(properties.file()), properties.format(), properties.resume());
+        log.info("도서 가져오기 결과: {}", status);
+        if (properties.exitOnComplete()) {
+            int code = status.state() == CatalogImportDTOs.State.COMPLETED ? 0 : 1;
+            System.exit(SpringApplication.exit(context, () -> code));
+        }
+    }
+}
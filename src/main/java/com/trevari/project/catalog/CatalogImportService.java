@@ -0,0 +1,331 @@
+package com.trevari.project.catalog;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trevari.project.api.dto.CatalogImportDTOs;
+import com.trevari.project.domain.CatalogChangedEvent;
+import com.trevari.project.exception.BadRequestException;
+import com.trevari.project.exception.ConflictException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * CSV / JSON Lines 파일을 스트리밍으로 읽어 도서를 일괄 upsert 합니다.
+ *
+ * <ul>
+ *   <li>읽기: 한 레코드씩 파싱 (파일 크기와 무관한 메모리), 오류 레코드는 건너뛰고 건수만 집계</li>
+ *   <li>쓰기: {@code batch-size}행 청크마다 트랜잭션 하나 + JDBC 배치 1회, 최대 {@code parallelism}개 청크를 동시에 씀
+ *       (대기 청크 수도 제한해 읽기가 쓰기를 앞서 메모리가 늘지 않음)</li>
+ *   <li>재개: 앞에서부터 연속으로 반영된 마지막 레코드 번호를 {@link ImportCheckpoint}에 기록, 다음 실행은 그 뒤부터</li>
+ *   <li>색인/캐시: 청크 커밋 후 해당 ISBN으로 {@link CatalogChangedEvent}를 발행해 검색 색인·캐시를 부분 갱신 (전체 재구축 없음)</li>
+ * </ul>
+ * 병렬로 쓰면 같은 ISBN이 서로 다른 청크에 있을 때 반영 순서는 보장하지 않습니다 (파일 순서가 필요하면 {@code parallelism=1}).
+ * 지표: {@code catalog.import.rows{result=imported|rejected}}, {@code catalog.import.batch}(청크 반영 시간)
+ */
+@Slf4j
+@Service
+public class CatalogImportService {
+
+    private static final int LOGGED_REJECTIONS = 10;
+    private static final long PROGRESS_LOG_INTERVAL = 100_000;
+
+    private final BookUpsertWriter writer;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final CatalogImportProperties properties;
+
+    private final Counter importedRows;
+    private final Counter rejectedRows;
+    private final Timer batchTimer;
+
+    private final ExecutorService jobs = Executors.newSingleThreadExecutor(r -> new Thread(r, "catalog-import-job"));
+    private final AtomicReference<Job> current = new AtomicReference<>();
+
+    public CatalogImportService(BookUpsertWriter writer,
+                                PlatformTransactionManager transactionManager,
+                                ApplicationEventPublisher eventPublisher,
+                                ObjectMapper objectMapper,
+                                CatalogImportProperties properties,
+                                MeterRegistry meterRegistry) {
+        this.writer = writer;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.importedRows = Counter.builder("catalog.import.rows").tag("result", "imported")
+                .description("Rows upserted by bulk catalog import").register(meterRegistry);
+        this.rejectedRows = Counter.builder("catalog.import.rows").tag("result", "rejected")
+                .description("Records skipped by bulk catalog import due to format/validation errors").register(meterRegistry);
+        this.batchTimer = Timer.builder("catalog.import.batch")
+                .description("Time to upsert one chunk and publish its change event").register(meterRegistry);
+    }
+
+    /**
+     * 관리자 API: {@code base-dir} 안의 파일을 백그라운드로 가져오기 시작합니다.
+     *
+     * @throws BadRequestException 기준 디렉터리 밖의 경로, 없는 파일, 알 수 없는 형식
+     * @throws ConflictException   이미 가져오는 중
+     */
+    public CatalogImportDTOs.Status start(String file, String format, boolean resume) {
+        if (file == null || file.isBlank()) {
+            throw new BadRequestException("file is required");
+        }
+        Path base = properties.baseDir().toAbsolutePath().normalize();
+        Path path = base.resolve(file).normalize();
+        if (!path.startsWith(base)) {
+            throw new BadRequestException("file must be inside " + base);
+        }
+        Job job = begin(path, format, resume);
+        jobs.execute(() -> execute(job));
+        return job.status();
+    }
+
+    /** CLI: 현재 스레드에서 가져오기를 끝까지 실행하고 결과 상태를 반환합니다. */
+    public CatalogImportDTOs.Status run(Path file, String format, boolean resume) {
+        Job job = begin(file, format, resume);
+        execute(job);
+        return job.status();
+    }
+
+    /** 진행 중이거나 마지막으로 실행한 작업의 상태 */
+    public Optional<CatalogImportDTOs.Status> status() {
+        return Optional.ofNullable(current.get()).map(Job::status);
+    }
+
+    private Job begin(Path file, String format, boolean resume) {
+        if (!Files.isRegularFile(file)) {
+            throw new BadRequestException("Import file not found: " + file);
+        }
+        Job job = new Job(file, CatalogFormat.of(format, file), resume);
+        Job previous = current.get();
+        if ((previous != null && previous.state == CatalogImportDTOs.State.RUNNING) || !current.compareAndSet(previous, job)) {
+            throw new ConflictException("Catalog import already running");
+        }
+        return job;
+    }
+
+    private void execute(Job job) {
+        int parallelism = Math.max(1, properties.parallelism());
+        AtomicInteger threadIndex = new AtomicInteger();
+        ExecutorService writers = Executors.newFixedThreadPool(parallelism,
+                r -> new Thread(r, "catalog-import-" + threadIndex.incrementAndGet()));
+        Semaphore inFlight = new Semaphore(parallelism * 2);
+        try {
+            ImportCheckpoint checkpoint = ImportCheckpoint.load(properties.checkpointDir(), job.file, job.resume);
+            Watermark watermark = new Watermark(checkpoint);
+            job.skipped = checkpoint.records();
+            job.checkpoint.set(checkpoint.records());
+            log.info("도서 가져오기 시작: file={}, format={}, resumeFrom={}", job.file, job.format, job.skipped);
+
+            try (CatalogReader reader = job.format.open(job.file, objectMapper)) {
+                List<CatalogRecord> chunk = new ArrayList<>(properties.batchSize());
+                long chunkEnd = checkpoint.records();
+                CatalogReader.Entry entry;
+                while (job.failure.get() == null && (entry = reader.next()) != null) {
+                    if (entry.number() <= job.skipped) {
+                        continue; // 이전 실행에서 반영 완료
+                    }
+                    long read = job.read.incrementAndGet();
+                    if (entry.error() != null) {
+                        rejectedRows.increment();
+                        if (job.rejected.incrementAndGet() <= LOGGED_REJECTIONS) {
+                            log.warn("가져오기 제외: record={}, reason={}", entry.number(), entry.error());
+                        }
+                    } else {
+                        chunk.add(entry.record());
+                    }
+                    chunkEnd = entry.number();
+                    if (chunk.size() == properties.batchSize()) {
+                        submit(writers, inFlight, watermark, job, chunk, chunkEnd);
+                        chunk = new ArrayList<>(properties.batchSize());
+                    }
+                    if (read % PROGRESS_LOG_INTERVAL == 0) {
+                        log.info("도서 가져오기 진행: read={}, imported={}, {} rows/s",
+                                read, job.imported.get(), Math.round(job.rowsPerSecond()));
+                    }
+                }
+                if (job.failure.get() == null && chunkEnd > watermark.submittedEnd) {
+                    submit(writers, inFlight, watermark, job, chunk, chunkEnd); // 마지막 청크 (오류 레코드만 남아도 재개 지점은 전진)
+                }
+            }
+
+            writers.shutdown();
+            writers.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+            if (job.failure.get() != null) {
+                watermark.flush();
+                throw job.failure.get();
+            }
+            checkpoint.delete();
+            job.finish(CatalogImportDTOs.State.COMPLETED, null);
+            log.info("도서 가져오기 완료: file={}, read={}, imported={}, rejected={}, {}ms, {} rows/s",
+                    job.file, job.read.get(), job.imported.get(), job.rejected.get(),
+                    job.elapsedMillis(), Math.round(job.rowsPerSecond()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.finish(CatalogImportDTOs.State.FAILED, "interrupted");
+        } catch (Exception e) {
+            job.finish(CatalogImportDTOs.State.FAILED, e.getMessage());
+            log.error("도서 가져오기 실패: file={}, checkpoint={} (다시 실행하면 이어서 가져옴)", job.file, job.checkpoint.get(), e);
+        } finally {
+            writers.shutdownNow();
+        }
+    }
+
+    private void submit(ExecutorService writers, Semaphore inFlight, Watermark watermark, Job job,
+                        List<CatalogRecord> chunk, long chunkEnd) throws InterruptedException {
+        inFlight.acquire();
+        long sequence = watermark.nextSequence(chunkEnd);
+        try {
+            writers.execute(() -> {
+                try {
+                    if (job.failure.get() == null) {
+                        write(chunk, job);
+                        watermark.complete(sequence, chunkEnd, job);
+                    }
+                } catch (Exception e) {
+                    job.failure.compareAndSet(null, e);
+                } finally {
+                    inFlight.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.release();
+            throw e;
+        }
+    }
+
+    /** 청크 하나를 트랜잭션으로 반영하고, 커밋 후 변경 이벤트 발행 (JDBC 쓰기는 엔티티 리스너를 거치지 않음) */
+    private void write(List<CatalogRecord> chunk, Job job) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        batchTimer.record(() -> {
+            chunk.sort(Comparator.comparing(CatalogRecord::isbn)); // 동시 청크 간 잠금 순서를 맞춰 교착 가능성 감소 (정렬은 안정적이라 청크 안의 중복은 마지막 행이 반영)
+            transactionTemplate.executeWithoutResult(status -> writer.upsert(chunk));
+            eventPublisher.publishEvent(new CatalogChangedEvent(chunk.stream().map(CatalogRecord::isbn).distinct().toList()));
+        });
+        importedRows.increment(chunk.size());
+        job.imported.addAndGet(chunk.size());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        jobs.shutdownNow();
+    }
+
+    /** 청크 완료 순서와 무관하게 앞에서부터 연속으로 완료된 지점만 재개 지점으로 기록 */
+    private static final class Watermark {
+        private final ImportCheckpoint checkpoint;
+        private final Map<Long, Long> completed = new HashMap<>();
+        private long nextToSubmit;
+        private long nextToAdvance;
+        private long mark;
+        private long submittedEnd;
+        private long savedMark;
+
+        Watermark(ImportCheckpoint checkpoint) {
+            this.checkpoint = checkpoint;
+            this.mark = checkpoint.records();
+            this.submittedEnd = checkpoint.records();
+            this.savedMark = mark;
+        }
+
+        /** 읽기 스레드 전용 */
+        long nextSequence(long chunkEnd) {
+            submittedEnd = chunkEnd;
+            return nextToSubmit++;
+        }
+
+        synchronized void complete(long sequence, long chunkEnd, Job job) throws IOException {
+            completed.put(sequence, chunkEnd);
+            Long end;
+            while ((end = completed.remove(nextToAdvance)) != null) {
+                mark = end;
+                nextToAdvance++;
+            }
+            job.checkpoint.set(mark);
+            if (mark != savedMark) {
+                checkpoint.save(mark);
+                savedMark = mark;
+            }
+        }
+
+        synchronized void flush() throws IOException {
+            if (mark != savedMark) {
+                checkpoint.save(mark);
+                savedMark = mark;
+            }
+        }
+    }
+
+    private static final class Job {
+        final Path file;
+        final CatalogFormat format;
+        final boolean resume;
+        final Instant startedAt = Instant.now();
+        final long startNanos = System.nanoTime();
+        final AtomicLong read = new AtomicLong();
+        final AtomicLong imported = new AtomicLong();
+        final AtomicLong rejected = new AtomicLong();
+        final AtomicLong checkpoint = new AtomicLong();
+        final AtomicReference<Exception> failure = new AtomicReference<>();
+        volatile long skipped;
+        volatile CatalogImportDTOs.State state = CatalogImportDTOs.State.RUNNING;
+        volatile String error;
+        volatile long finishedNanos;
+
+        Job(Path file, CatalogFormat format, boolean resume) {
+            this.file = file;
+            this.format = format;
+            this.resume = resume;
+        }
+
+        void finish(CatalogImportDTOs.State state, String error) {
+            this.finishedNanos = System.nanoTime();
+            this.error = error;
+            this.state = state;
+        }
+
+        long elapsedMillis() {
+            long end = finishedNanos == 0 ? System.nanoTime() : finishedNanos;
+            return (end - startNanos) / 1_000_000;
+        }
+
+        double rowsPerSecond() {
+            long millis = elapsedMillis();
+            return millis == 0 ? 0 : imported.get() * 1000.0 / millis;
+        }
+
+        CatalogImportDTOs.Status status() {
+            return new CatalogImportDTOs.Status(file.getFileName().toString(), format.name().toLowerCase(Locale.ROOT), state,
+                    skipped, read.get(), imported.get(), rejected.get(), checkpoint.get(),
+                    startedAt, elapsedMillis(), rowsPerSecond(), error);
+        }
+    }
+}
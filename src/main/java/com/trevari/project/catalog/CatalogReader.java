@@ -0,0 +1,33 @@
+package com.trevari.project.catalog;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.function.Function;
+
+/**
+ * 가져오기 파일을 한 레코드씩 읽는 스트리밍 리더 (메모리에는 현재 레코드만 유지).
+ */
+public interface CatalogReader extends Closeable {
+
+    /**
+     * 다음 레코드. 파일 끝이면 {@code null}.
+     * 형식/검증 오류가 있는 레코드도 번호를 소비하며 {@link Entry#error()}로 반환합니다.
+     */
+    Entry next() throws IOException;
+
+    /**
+     * @param number 데이터 레코드 번호 (헤더 제외, 1부터) — 재개 지점 기준
+     * @param record 검증된 레코드 (오류면 null)
+     * @param error  오류 사유 (정상이면 null)
+     */
+    record Entry(long number, CatalogRecord record, String error) {
+
+        static Entry parse(long number, Function<String, String> field) {
+            try {
+                return new Entry(number, CatalogRecord.parse(field), null);
+            } catch (IllegalArgumentException e) {
+                return new Entry(number, null, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.trevari.project.catalog;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * 가져오기 파일의 도서 한 건 (검증·정규화 완료).
+ *
+ * <p>컬럼 길이 제한은 {@code books} 테이블과 같습니다. ISBN은 공백/하이픈을 제거하고 대문자로 정규화합니다.
+ */
+public record CatalogRecord(String isbn, String title, String subtitle, String author, String publisher,
+                            LocalDate publishedDate, String image) {
+
+    /**
+     * 필드 이름 → 원본 문자열 조회 함수로 레코드를 만듭니다.
+     * 출간일은 {@code published_date} 또는 {@code publishedDate} 중 있는 값을 사용합니다.
+     *
+     * @throws IllegalArgumentException 필수 값 누락, 길이 초과, 날짜 형식 오류
+     */
+    public static CatalogRecord parse(Function<String, String> field) {
+        String isbn = trimToNull(field.apply("isbn"));
+        if (isbn != null) {
+            isbn = isbn.replace("-", "").replace(" ", "").toUpperCase(Locale.ROOT);
+        }
+        String published = trimToNull(field.apply("published_date"));
+        if (published == null) {
+            published = trimToNull(field.apply("publishedDate"));
+        }
+        LocalDate publishedDate;
+        try {
+            publishedDate = published == null ? null : LocalDate.parse(published);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("invalid published_date: " + published);
+        }
+        return new CatalogRecord(
+                required("isbn", isbn, 20),
+                required("title", trimToNull(field.apply("title")), 255),
+                optional("subtitle", trimToNull(field.apply("subtitle")), 255),
+                required("author", trimToNull(field.apply("author")), 255),
+                optional("publisher", trimToNull(field.apply("publisher")), 255),
+                publishedDate,
+                optional("image", trimToNull(field.apply("image")), 512));
+    }
+
+    private static String required(String name, String value, int maxLength) {
+        if (value == null) {
+            throw new IllegalArgumentException(name + " is required");
+        }
+        return optional(name, value, maxLength);
+    }
+
+    private static String optional(String name, String value, int maxLength) {
+        if (value != null && value.length() > maxLength) {
+            throw new IllegalArgumentException(name + " longer than " + maxLength);
+        }
+        return value;
+    }
+
+    private static String trimToNull(String value) {
+        if (value == null) return null;
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+}
@@ -0,0 +1,36 @@
+package com.trevari.project.catalog;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * seed 프로필: 스키마 생성과 {@code data.sql} 적재는 컨텍스트 기동 중에 끝나므로, 기동이 끝나면 바로 종료합니다.
+ *
+ * <pre>
+ * java -jar app.jar --spring.profiles.active=prod,seed
+ * </pre>
+ * 운영 기동(prod)은 이 작업을 건너뛰고 스키마 검증만 합니다.
+ */
+@Slf4j
+@Component
+@Profile("seed")
+@Order(Ordered.LOWEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class CatalogSeedRunner implements ApplicationRunner {
+
+    private final ConfigurableApplicationContext context;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("스키마/초기 데이터 적재 완료, 종료합니다");
+        System.exit(SpringApplication.exit(context, () -> 0));
+    }
+}
@@ -0,0 +1,147 @@
+package com.trevari.project.catalog;
+
+import com.trevari.project.exception.BadRequestException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * RFC 4180 CSV 리더 (첫 행은 헤더).
+ *
+ * <p>헤더 이름으로 컬럼을 찾으므로 순서는 자유이며 모르는 컬럼은 무시합니다 ({@code isbn}, {@code title}, {@code author} 필수).
+ * 따옴표로 감싼 값 안의 쉼표/줄바꿈/두 번 쓴 따옴표({@code ""})를 지원하고, 빈 줄은 건너뜁니다.
+ */
+public class CsvCatalogReader implements CatalogReader {
+
+    private static final int EOF = -1;
+
+    private final Reader in;
+    private final char[] buffer = new char[64 * 1024]; // 문자 단위 읽기를 위한 자체 버퍼 (BufferedReader 호출당 락 회피)
+    private int position;
+    private int limit;
+    private final Map<String, Integer> columns = new HashMap<>();
+    private long number;
+
+    public CsvCatalogReader(Reader reader) throws IOException {
+        this.in = reader;
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new BadRequestException("CSV is empty (header required)");
+        }
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT);
+            columns.putIfAbsent(name, i);
+        }
+        columns.computeIfAbsent("publisheddate", k -> columns.get("published_date"));
+        for (String required : List.of("isbn", "title", "author")) {
+            if (!columns.containsKey(required)) {
+                throw new BadRequestException("CSV header missing column: " + required);
+            }
+        }
+    }
+
+    @Override
+    public Entry next() throws IOException {
+        List<String> fields;
+        do {
+            try {
+                fields = readRecord();
+            } catch (MalformedRecordException e) {
+                return new Entry(++number, null, e.getMessage());
+            }
+            if (fields == null) {
+                return null;
+            }
+        } while (fields.size() == 1 && fields.get(0).isEmpty()); // 빈 줄
+
+        List<String> values = fields;
+        return Entry.parse(++number, name -> {
+            Integer index = columns.get(name.toLowerCase(Locale.ROOT));
+            return index == null || index >= values.size() ? null : values.get(index);
+        });
+    }
+
+    /** 레코드 하나(여러 줄일 수 있음)의 필드 목록, 파일 끝이면 null */
+    private List<String> readRecord() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean started = false;
+        while (true) {
+            int c = read();
+            if (c == EOF) {
+                if (quoted) {
+                    throw new MalformedRecordException("unterminated quoted field");
+                }
+                if (!started) {
+                    return null;
+                }
+                fields.add(field.toString());
+                return fields;
+            }
+            started = true;
+            if (quoted) {
+                if (c == '"') {
+                    if (peek() == '"') {
+                        read();
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r' && peek() == '\n') {
+                    read();
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+        }
+    }
+
+    private int read() throws IOException {
+        return fill() ? buffer[position++] : EOF;
+    }
+
+    private int peek() throws IOException {
+        return fill() ? buffer[position] : EOF;
+    }
+
+    private boolean fill() throws IOException {
+        if (position < limit) {
+            return true;
+        }
+        int n;
+        do {
+            n = in.read(buffer, 0, buffer.length);
+        } while (n == 0);
+        position = 0;
+        limit = Math.max(n, 0);
+        return n > 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private static final class MalformedRecordException extends IOException {
+        MalformedRecordException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.trevari.project.catalog;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+
+/**
+ * 가져오기 재개 지점: 앞에서부터 연속으로 반영이 끝난 마지막 레코드 번호.
+ *
+ * <p>원본 파일의 크기/수정 시각을 함께 저장해 파일이 바뀌었으면 처음부터 다시 가져옵니다.
+ * 저장은 임시 파일에 쓴 뒤 이름을 바꿔 원자적으로 교체합니다.
+ * 재개 지점 이후의 청크가 일부 반영되어 있어도 upsert이므로 다시 반영해도 결과는 같습니다.
+ */
+@Slf4j
+final class ImportCheckpoint {
+
+    private final Path path;
+    private final long fileSize;
+    private final long lastModified;
+    private long records;
+
+    private ImportCheckpoint(Path path, long fileSize, long lastModified, long records) {
+        this.path = path;
+        this.fileSize = fileSize;
+        this.lastModified = lastModified;
+        this.records = records;
+    }
+
+    /** 원본 파일의 재개 지점 (없거나 파일이 바뀌었거나 {@code resume=false}면 0부터) */
+    static ImportCheckpoint load(Path dir, Path source, boolean resume) throws IOException {
+        Path absolute = source.toAbsolutePath().normalize();
+        Path path = dir.resolve(absolute.getFileName() + "-" + Integer.toHexString(absolute.toString().hashCode()) + ".checkpoint");
+        long size = Files.size(absolute);
+        long modified = Files.getLastModifiedTime(absolute).toMillis();
+        if (!resume || !Files.exists(path)) {
+            return new ImportCheckpoint(path, size, modified, 0);
+        }
+        Properties saved = new Properties();
+        try (Reader in = Files.newBufferedReader(path)) {
+            saved.load(in);
+        }
+        if (Long.parseLong(saved.getProperty("fileSize", "-1")) != size
+                || Long.parseLong(saved.getProperty("lastModified", "-1")) != modified) {
+            log.info("가져오기 파일이 바뀌어 처음부터 다시 가져옵니다: {}", absolute);
+            return new ImportCheckpoint(path, size, modified, 0);
+        }
+        return new ImportCheckpoint(path, size, modified, Long.parseLong(saved.getProperty("records", "0")));
+    }
+
+    long records() {
+        return records;
+    }
+
+    void save(long records) throws IOException {
+        this.records = records;
+        Properties props = new Properties();
+        props.setProperty("records", Long.toString(records));
+        props.setProperty("fileSize", Long.toString(fileSize));
+        props.setProperty("lastModified", Long.toString(lastModified));
+        Files.createDirectories(path.getParent());
+        Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (Writer out = Files.newBufferedWriter(tmp)) {
+            props.store(out, null);
+        }
+        Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    void delete() throws IOException {
+        Files.deleteIfExists(path);
+    }
+}
@@ -0,0 +1,57 @@
+package com.trevari.project.catalog;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * JSON Lines 리더: 한 줄에 도서 객체 하나 ({@code {"isbn": "...", "title": "...", ...}}).
+ *
+ * <p>줄 단위로 읽고 파싱하므로 파일 크기와 무관하게 한 줄만 메모리에 둡니다. 빈 줄은 건너뜁니다.
+ */
+public class JsonLinesCatalogReader implements CatalogReader {
+
+    private final BufferedReader in;
+    private final ObjectMapper objectMapper;
+    private long number;
+
+    public JsonLinesCatalogReader(Reader reader, ObjectMapper objectMapper) {
+        this.in = reader instanceof BufferedReader b ? b : new BufferedReader(reader, 64 * 1024);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Entry next() throws IOException {
+        String line;
+        do {
+            line = in.readLine();
+            if (line == null) {
+                return null;
+            }
+        } while (line.isBlank());
+
+        long current = ++number;
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(line);
+        } catch (JsonProcessingException e) {
+            return new Entry(current, null, "invalid JSON: " + e.getOriginalMessage());
+        }
+        if (!node.isObject()) {
+            return new Entry(current, null, "JSON object expected");
+        }
+        return Entry.parse(current, name -> {
+            JsonNode value = node.get(name);
+            return value == null || value.isNull() ? null : value.asText();
+        });
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
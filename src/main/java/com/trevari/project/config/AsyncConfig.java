@@ -1,23 +1,56 @@
 package com.trevari.project.config;
 
+import com.trevari.project.service.SearchAggregateProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.system.JavaVersion;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
 
+@Slf4j
 @Configuration
 @EnableAsync
+@EnableConfigurationProperties(SearchAggregateProperties.class)
 public class AsyncConfig {
 
+    private static final String THREAD_NAME_PREFIX = "search-aggregate-";
+
+    // 인기 검색어 버퍼 조기 반영(batch-size 도달 시)에 사용. 포화 시 작업을 버리므로 검색 요청은 실패하지 않음
     @Bean(name = "searchAggregateExecutor")
-    public Executor searchAggregateExecutor() {
+    public SheddingExecutor searchAggregateExecutor(SearchAggregateProperties properties, MeterRegistry meterRegistry) {
+        SearchAggregateProperties.Executor config = properties.executor();
+        int maxInFlight = config.threads() + config.queueCapacity();
+        return new SheddingExecutor("search.aggregate.executor", delegate(config, maxInFlight), maxInFlight, meterRegistry);
+    }
+
+    // 집계/트렌드 Redis 호출 공용 서킷 브레이커 (Redis 장애 시 타임아웃 대기 없이 로컬 버퍼로 동작)
+    @Bean(name = "analyticsCircuitBreaker")
+    public CircuitBreaker analyticsCircuitBreaker(SearchAggregateProperties properties, MeterRegistry meterRegistry) {
+        SearchAggregateProperties.Breaker config = properties.breaker();
+        return new CircuitBreaker("analytics.redis", config.failureThreshold(), config.openDuration(),
+                config.slowCallThreshold(), meterRegistry);
+    }
+
+    private static Executor delegate(SearchAggregateProperties.Executor config, int maxInFlight) {
+        if (config.virtualThreads()) {
+            if (JavaVersion.getJavaVersion().isEqualOrNewerThan(JavaVersion.TWENTY_ONE)) {
+                SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(THREAD_NAME_PREFIX);
+                executor.setVirtualThreads(true); // 동시 작업 수는 SheddingExecutor가 제한
+                return executor;
+            }
+            log.info("가상 스레드를 지원하지 않는 JVM({})이므로 스레드 풀로 집계 작업을 실행합니다.", JavaVersion.getJavaVersion());
+        }
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(2);
-        executor.setMaxPoolSize(4);
-        executor.setQueueCapacity(100);
-        executor.setThreadNamePrefix("search-aggregate-");
+        executor.setCorePoolSize(config.threads());
+        executor.setMaxPoolSize(config.threads());
+        executor.setQueueCapacity(maxInFlight); // 한도는 SheddingExecutor가 먼저 적용하므로 풀은 거절하지 않음
+        executor.setThreadNamePrefix(THREAD_NAME_PREFIX);
         executor.initialize();
         return executor;
     }
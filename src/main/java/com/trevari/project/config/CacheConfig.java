@@ -0,0 +1,11 @@
+package com.trevari.project.config;
+
+import com.trevari.project.cache.BookCacheProperties;
+import com.trevari.project.cache.SearchCacheProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties({SearchCacheProperties.class, BookCacheProperties.class})
+public class CacheConfig {
+}
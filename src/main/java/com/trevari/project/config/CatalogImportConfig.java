@@ -0,0 +1,10 @@
+package com.trevari.project.config;
+
+import com.trevari.project.catalog.CatalogImportProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(CatalogImportProperties.class)
+public class CatalogImportConfig {
+}
@@ -0,0 +1,130 @@
+package com.trevari.project.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * 외부 저장소(Redis 등) 호출용 간단한 서킷 브레이커.
+ *
+ * <ul>
+ *   <li>CLOSED: 모든 호출 허용. 연속 {@code failureThreshold}번 실패(느린 호출 포함)하면 OPEN</li>
+ *   <li>OPEN: {@code openDuration} 동안 호출하지 않고 즉시 거절 (타임아웃 대기/로그 폭주 방지)</li>
+ *   <li>HALF_OPEN: 대기 시간이 지나면 한 번의 시험 호출만 허용, 성공하면 CLOSED, 실패하면 다시 OPEN</li>
+ * </ul>
+ * 호출 측은 {@link #tryAcquire()}로 허용 여부를 확인하고, 결과를 {@link #onSuccess}/{@link #onFailure}로 알립니다.
+ * 지표: {@code circuit.state{name}}(0=closed, 1=open, 2=half_open), {@code circuit.calls{name,result}}.
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openNanos;
+    private final long slowCallNanos;
+    private final LongSupplier nanoClock;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long openedAt;
+
+    private final Counter successes;
+    private final Counter failures;
+    private final Counter rejected;
+
+    public CircuitBreaker(String name, int failureThreshold, Duration openDuration, Duration slowCallThreshold,
+                          MeterRegistry meterRegistry) {
+        this(name, failureThreshold, openDuration, slowCallThreshold, meterRegistry, System::nanoTime);
+    }
+
+    CircuitBreaker(String name, int failureThreshold, Duration openDuration, Duration slowCallThreshold,
+                   MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.slowCallNanos = slowCallThreshold.toNanos();
+        this.nanoClock = nanoClock;
+        this.successes = calls(meterRegistry, "success");
+        this.failures = calls(meterRegistry, "failure");
+        this.rejected = calls(meterRegistry, "rejected");
+        Gauge.builder("circuit.state", state, s -> s.get().ordinal())
+                .description("서킷 상태 (0=closed, 1=open, 2=half_open)")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    private Counter calls(MeterRegistry registry, String result) {
+        return Counter.builder("circuit.calls")
+                .description("서킷 브레이커를 거친 호출 결과")
+                .tag("name", name)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    public State state() {
+        return state.get();
+    }
+
+    /** 호출 허용 여부. OPEN 대기 시간이 지났으면 이 호출을 시험 호출로 허용 (동시에 하나만) */
+    public boolean tryAcquire() {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return true;
+        }
+        if (current == State.OPEN
+                && nanoClock.getAsLong() - openedAt >= openNanos
+                && state.compareAndSet(State.OPEN, State.HALF_OPEN)) {
+            log.info("서킷 시험 호출: {}", name);
+            return true;
+        }
+        rejected.increment();
+        return false;
+    }
+
+    /**
+     * 호출 성공 알림 ({@code elapsedNanos}가 느린 호출 기준을 넘으면 실패로 취급).
+     * 서킷은 시험 호출(HALF_OPEN)의 성공으로만 닫히고, 열리기 전에 시작한 호출의 늦은 성공은 OPEN을 바꾸지 않음
+     */
+    public void onSuccess(long elapsedNanos) {
+        if (elapsedNanos > slowCallNanos) {
+            onFailure();
+            return;
+        }
+        successes.increment();
+        State current = state.get();
+        if (current == State.OPEN) {
+            return;
+        }
+        consecutiveFailures.set(0);
+        if (current == State.HALF_OPEN && state.compareAndSet(State.HALF_OPEN, State.CLOSED)) {
+            log.info("서킷 닫힘 (정상 복구): {}", name);
+        }
+    }
+
+    public void onFailure() {
+        failures.increment();
+        State current = state.get();
+        if (current == State.HALF_OPEN || consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            open(current);
+        }
+    }
+
+    private void open(State from) {
+        if (from == State.OPEN) {
+            return;
+        }
+        openedAt = nanoClock.getAsLong(); // 상태 전환 전에 기록 (다른 스레드가 바로 시험 호출하지 않도록)
+        if (state.compareAndSet(from, State.OPEN)) {
+            consecutiveFailures.set(0);
+            log.warn("서킷 열림: {} ({}ms 동안 호출 중단)", name, openNanos / 1_000_000);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.trevari.project.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Measurement;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingClass;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Prometheus 수집 엔드포인트 ({@code GET /actuator/prometheus}, 텍스트 형식 0.0.4).
+ *
+ * <p>{@code micrometer-registry-prometheus} 없이 기본 {@link MeterRegistry}의 지표를 그대로 변환합니다.
+ * <ul>
+ *   <li>Counter → {@code <name>_total} (counter), Gauge → {@code <name>} (gauge)</li>
+ *   <li>Timer → {@code <name>_seconds} (summary: {@code quantile} 라벨의 백분위 + {@code _count}/{@code _sum})
+ *       와 {@code <name>_seconds_max} (gauge)</li>
+ *   <li>DistributionSummary → 단위 접미사 없이 Timer와 같은 형태</li>
+ * </ul>
+ * 백분위는 {@code management.metrics.distribution.percentiles.*}로 지정한 값이며, 인스턴스별 최근 구간(기본 2분) 기준이라
+ * 인스턴스 간 합산은 {@code _count}/{@code _sum}으로만 합니다.
+ * Prometheus 레지스트리가 클래스패스에 있으면 Spring Boot의 엔드포인트(집계 가능한 {@code _bucket} 히스토그램)를 사용합니다.
+ */
+@Component
+@WebEndpoint(id = "prometheus")
+@ConditionalOnMissingClass("io.micrometer.prometheusmetrics.PrometheusMeterRegistry")
+@RequiredArgsConstructor
+public class PrometheusTextEndpoint {
+
+    public static final String CONTENT_TYPE = "text/plain;version=0.0.4;charset=utf-8";
+
+    private final MeterRegistry meterRegistry;
+
+    @ReadOperation(produces = CONTENT_TYPE)
+    public String scrape() {
+        Map<String, Family> families = new TreeMap<>();
+        for (Meter meter : meterRegistry.getMeters()) {
+            String name = sanitize(meter.getId().getName());
+            Iterable<Tag> tags = meter.getId().getTagsAsIterable();
+            if (meter instanceof Counter counter) {
+                family(families, name + "_total", "counter").sample("", tags, null, counter.count());
+            } else if (meter instanceof FunctionCounter counter) {
+                family(families, name + "_total", "counter").sample("", tags, null, counter.count());
+            } else if (meter instanceof TimeGauge gauge) {
+                family(families, name + "_seconds", "gauge").sample("", tags, null, gauge.value(TimeUnit.SECONDS));
+            } else if (meter instanceof Gauge gauge) {
+                family(families, name, "gauge").sample("", tags, null, gauge.value());
+            } else if (meter instanceof Timer timer) {
+                distribution(families, name + "_seconds", tags, timer.takeSnapshot(), true);
+            } else if (meter instanceof DistributionSummary summary) {
+                distribution(families, name, tags, summary.takeSnapshot(), false);
+            } else if (meter instanceof FunctionTimer timer) {
+                Family family = family(families, name + "_seconds", "summary");
+                family.sample("_count", tags, null, timer.count());
+                family.sample("_sum", tags, null, timer.totalTime(TimeUnit.SECONDS));
+            } else {
+                for (Measurement measurement : meter.measure()) {
+                    String statistic = measurement.getStatistic().getTagValueRepresentation().toLowerCase(Locale.ROOT);
+                    family(families, name + "_" + statistic, "gauge").sample("", tags, null, measurement.getValue());
+                }
+            }
+        }
+
+        StringBuilder out = new StringBuilder(families.size() * 256);
+        families.forEach((name, family) ->
+                out.append("# TYPE ").append(name).append(' ').append(family.type).append('\n').append(family.samples));
+        return out.toString();
+    }
+
+    private static void distribution(Map<String, Family> families, String name, Iterable<Tag> tags,
+                                     HistogramSnapshot snapshot, boolean seconds) {
+        Family summary = family(families, name, "summary");
+        for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+            double value = seconds ? percentile.value(TimeUnit.SECONDS) : percentile.value();
+            summary.sample("", tags, Double.toString(percentile.percentile()), value);
+        }
+        summary.sample("_count", tags, null, snapshot.count());
+        summary.sample("_sum", tags, null, seconds ? snapshot.total(TimeUnit.SECONDS) : snapshot.total());
+        family(families, name + "_max", "gauge").sample("", tags, null, seconds ? snapshot.max(TimeUnit.SECONDS) : snapshot.max());
+    }
+
+    private static Family family(Map<String, Family> families, String name, String type) {
+        return families.computeIfAbsent(name, k -> new Family(k, type));
+    }
+
+    /** Prometheus 이름 규칙: [a-zA-Z_:][a-zA-Z0-9_:]* */
+    static String sanitize(String name) {
+        StringBuilder sb = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            boolean valid = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_' || (i > 0 && c >= '0' && c <= '9');
+            sb.append(valid ? c : '_');
+        }
+        return sb.toString();
+    }
+
+    /** 같은 이름의 샘플 묶음 (TYPE 줄은 한 번만) */
+    private static final class Family {
+        private final String name;
+        private final String type;
+        private final StringBuilder samples = new StringBuilder();
+
+        Family(String name, String type) {
+            this.name = name;
+            this.type = type;
+        }
+
+        void sample(String suffix, Iterable<Tag> tags, String quantile, double value) {
+            samples.append(name).append(suffix);
+            char separator = '{';
+            for (Tag tag : tags) {
+                samples.append(separator).append(sanitize(tag.getKey())).append("=\"");
+                escape(tag.getValue());
+                samples.append('"');
+                separator = ',';
+            }
+            if (quantile != null) {
+                samples.append(separator).append("quantile=\"").append(quantile).append('"');
+                separator = ',';
+            }
+            if (separator == ',') {
+                samples.append('}');
+            }
+            samples.append(' ').append(format(value)).append('\n');
+        }
+
+        private void escape(String value) {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '\\' -> samples.append("\\\\");
+                    case '"' -> samples.append("\\\"");
+                    case '\n' -> samples.append("\\n");
+                    default -> samples.append(c);
+                }
+            }
+        }
+
+        private static String format(double value) {
+            if (Double.isNaN(value)) return "NaN";
+            if (Double.isInfinite(value)) return value > 0 ? "+Inf" : "-Inf";
+            return Double.toString(value);
+        }
+    }
+}
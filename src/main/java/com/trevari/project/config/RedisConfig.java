@@ -1,9 +1,14 @@
 package com.trevari.project.config;
 
+import com.trevari.project.catalog.CatalogChangeRelay;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
@@ -22,4 +27,25 @@ public class RedisConfig {
 
         return template;
     }
+
+    // 검색 결과 공유 캐시용: 값은 직접 직렬화한 바이트 배열
+    @Bean
+    public RedisTemplate<String, byte[]> binaryRedisTemplate(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        return template;
+    }
+
+    // 노드 간 카탈로그 변경 수신
+    @Bean
+    @ConditionalOnProperty(name = "catalog.changes.redis.enabled", havingValue = "true")
+    public RedisMessageListenerContainer catalogChangeListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                        CatalogChangeRelay relay) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(relay, new ChannelTopic(CatalogChangeRelay.CHANNEL));
+        return container;
+    }
 }
@@ -0,0 +1,54 @@
+package com.trevari.project.config;
+
+import com.trevari.project.schema.SchemaMigrationProperties;
+import com.trevari.project.schema.SchemaMigrator;
+import com.trevari.project.schema.SearchKeyBackfill;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.support.ResourcePatternResolver;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 기동 시 스키마 마이그레이션 ({@code db/migration}) — Hibernate({@code ddl-auto: validate})보다 먼저 실행합니다.
+ *
+ * <p>활성화 여부는 실행 시점에 읽으므로 AOT 이미지에서도 {@code --schema.migration.enabled=false}로 끌 수 있습니다.
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(SchemaMigrationProperties.class)
+public class SchemaMigrationConfig {
+
+    static final String MIGRATOR_BEAN = "schemaMigrator";
+
+    @Bean(MIGRATOR_BEAN)
+    SchemaMigrator schemaMigrator(DataSource dataSource, ResourcePatternResolver resolver) throws IOException {
+        List<SchemaMigrator.Migration> migrations = new ArrayList<>(SchemaMigrator.scripts(resolver));
+        migrations.add(SearchKeyBackfill.MIGRATION); // NFKC 정규화는 SQL로 할 수 없어 Java로
+        return new SchemaMigrator(dataSource, migrations);
+    }
+
+    @Bean
+    InitializingBean schemaMigration(SchemaMigrator schemaMigrator, SchemaMigrationProperties properties) {
+        return () -> {
+            if (properties.enabled()) {
+                schemaMigrator.migrate();
+            } else {
+                log.info("스키마 마이그레이션 생략 (schema.migration.enabled=false)");
+            }
+        };
+    }
+
+    /** JPA EntityManagerFactory가 마이그레이션 이후에 만들어지도록 (BeanFactoryPostProcessor라 static) */
+    @Bean
+    static EntityManagerFactoryDependsOnPostProcessor schemaMigrationBeforeJpa() {
+        return new EntityManagerFactoryDependsOnPostProcessor("schemaMigration");
+    }
+}
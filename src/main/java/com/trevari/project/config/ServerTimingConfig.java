@@ -0,0 +1,21 @@
+package com.trevari.project.config;
+
+import com.trevari.project.aop.ServerTimingFilter;
+import com.trevari.project.search.SearchMetrics;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * {@code Server-Timing} 헤더는 검색 API에만 붙입니다 (본문 버퍼링 비용이 있어 다른 경로는 제외).
+ */
+@Configuration
+public class ServerTimingConfig {
+
+    @Bean
+    public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter(SearchMetrics searchMetrics) {
+        FilterRegistrationBean<ServerTimingFilter> registration = new FilterRegistrationBean<>(new ServerTimingFilter(searchMetrics));
+        registration.addUrlPatterns("/api/books", "/api/search/books");
+        return registration;
+    }
+}
@@ -0,0 +1,111 @@
+package com.trevari.project.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 포화 시 작업을 버리는(load shedding) 부가 작업용 실행기.
+ *
+ * <p>동시에 대기+실행 중인 작업 수를 {@code maxInFlight}로 제한하고, 한도를 넘는 작업은
+ * 호출 스레드를 막거나 예외를 던지지 않고 즉시 버린 뒤 지표로 남깁니다.
+ * 집계처럼 실패해도 되는 작업이 Redis 지연 등으로 밀려도 검색 요청은 영향을 받지 않습니다.
+ *
+ * <ul>
+ *   <li>{@code {name}.queued}: 실행을 기다리는 작업 수</li>
+ *   <li>{@code {name}.active}: 실행 중인 작업 수</li>
+ *   <li>{@code {name}.rejected}: 버린 작업 수</li>
+ *   <li>{@code {name}.task}: 제출부터 완료까지의 지연 시간 (대기 + 실행)</li>
+ * </ul>
+ */
+@Slf4j
+public class SheddingExecutor implements Executor, DisposableBean {
+
+    private final Executor delegate;
+    private final Semaphore permits;
+    private final int maxInFlight;
+    private final AtomicInteger active = new AtomicInteger();
+    private final Counter rejected;
+    private final Timer latency;
+
+    /**
+     * @param name        지표 이름 접두사
+     * @param delegate    실제 실행기 (대기열이 {@code maxInFlight} 이상이어서 스스로 거절하지 않아야 함)
+     * @param maxInFlight 대기 + 실행 중 작업 수 한도
+     */
+    public SheddingExecutor(String name, Executor delegate, int maxInFlight, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.permits = new Semaphore(maxInFlight);
+        this.maxInFlight = maxInFlight;
+        this.rejected = Counter.builder(name + ".rejected")
+                .description("포화로 버린 작업 수")
+                .register(meterRegistry);
+        this.latency = Timer.builder(name + ".task")
+                .description("작업 제출부터 완료까지 걸린 시간 (대기 + 실행)")
+                .register(meterRegistry);
+        Gauge.builder(name + ".queued", this, SheddingExecutor::queued)
+                .description("실행을 기다리는 작업 수")
+                .register(meterRegistry);
+        Gauge.builder(name + ".active", active, AtomicInteger::get)
+                .description("실행 중인 작업 수")
+                .register(meterRegistry);
+    }
+
+    /** 한도 안이면 실행을 맡기고 {@code true}, 포화 상태면 작업을 버리고 {@code false} */
+    public boolean tryExecute(Runnable task) {
+        if (!permits.tryAcquire()) {
+            rejected.increment();
+            return false;
+        }
+        long submitted = System.nanoTime();
+        try {
+            delegate.execute(() -> run(task, submitted));
+            return true;
+        } catch (RejectedExecutionException e) { // 종료 중인 실행기
+            permits.release();
+            rejected.increment();
+            return false;
+        }
+    }
+
+    /** {@link #tryExecute}와 같으며 버려진 작업은 지표로만 남김 */
+    @Override
+    public void execute(Runnable task) {
+        tryExecute(task);
+    }
+
+    private void run(Runnable task, long submitted) {
+        active.incrementAndGet();
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            log.warn("부가 작업 실패", e);
+        } finally {
+            active.decrementAndGet();
+            permits.release();
+            latency.record(System.nanoTime() - submitted, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    int queued() {
+        return Math.max(0, maxInFlight - permits.availablePermits() - active.get());
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (delegate instanceof DisposableBean disposable) {
+            disposable.destroy();
+        } else if (delegate instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
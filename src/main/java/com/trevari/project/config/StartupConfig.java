@@ -0,0 +1,24 @@
+package com.trevari.project.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 기동 시간 설정.
+ *
+ * <p>{@code spring.main.lazy-initialization=true}(prod 프로필)여도 애플리케이션 빈은 즉시 생성합니다.
+ * {@code @Scheduled} 작업은 빈이 만들어져야 등록되고, 검색 색인/ISBN 필터는 기동 중에 구축돼야 첫 요청이 느려지지 않습니다.
+ * 지연 생성되는 것은 springdoc(OpenAPI 문서), 요청되지 않은 actuator 엔드포인트 등 애플리케이션 빈이 의존하지 않는 프레임워크 빈입니다.
+ */
+@Configuration
+public class StartupConfig {
+
+    private static final String APPLICATION_PACKAGE = "com.trevari.project.";
+
+    /** BeanFactoryPostProcessor 단계에서 조회되므로 static */
+    @Bean
+    static LazyInitializationExcludeFilter applicationBeansExcludeFilter() {
+        return (beanName, definition, type) -> type != null && type.getName().startsWith(APPLICATION_PACKAGE);
+    }
+}
@@ -10,7 +10,8 @@ import java.time.LocalDate;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EqualsAndHashCode(of = "isbn")
 @Entity
-@Table(name = "books")
+@EntityListeners(BookEntityListener.class)
+@Table(name = "books") // 스키마/인덱스는 db/migration (SchemaMigrator)
 public class Book {
 
     @Id
@@ -37,6 +38,22 @@ public class Book {
     @Column(length = 512)
     private String image;
 
+    // ---- 검색용 정규화 값 (SearchText): 저장/수정 시 갱신, 검색 조건은 원본 대신 이 컬럼을 사용 ----
+
+    // isbn, title, subtitle, author, publisher를 정규화해 구분 문자로 연결 (한정자 없는 검색어)
+    @Column(name = "search_text", length = SearchText.DOCUMENT_LENGTH, nullable = false)
+    private String searchText;
+
+    // 필드 한정 검색어 (title:, author:, publisher:) — title/author는 앞부분 일치용 인덱스
+    @Column(name = "title_key", length = SearchText.KEY_LENGTH, nullable = false)
+    private String titleKey;
+
+    @Column(name = "author_key", length = SearchText.KEY_LENGTH, nullable = false)
+    private String authorKey;
+
+    @Column(name = "publisher_key", length = SearchText.KEY_LENGTH, nullable = false)
+    private String publisherKey;
+
     @Builder
     public Book(@NonNull String isbn,
                 @NonNull String title,
@@ -53,4 +70,13 @@ public class Book {
         this.publishedDate = publishedDate;
         this.image = image;
     }
+
+    @PrePersist
+    @PreUpdate
+    void normalizeSearchKeys() {
+        this.searchText = SearchText.document(isbn, title, subtitle, author, publisher);
+        this.titleKey = SearchText.key(title);
+        this.authorKey = SearchText.key(author);
+        this.publisherKey = SearchText.key(publisher);
+    }
 }
@@ -0,0 +1,28 @@
+package com.trevari.project.domain;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * JPA로 저장/삭제되는 Book을 감지해 {@link CatalogChangedEvent}를 발행합니다.
+ * (Spring Boot가 Hibernate BeanContainer를 연결하므로 스프링 빈으로 주입됩니다)
+ */
+@Component
+@RequiredArgsConstructor
+public class BookEntityListener {
+
+    private final ApplicationEventPublisher publisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void onChange(Book book) {
+        publisher.publishEvent(new CatalogChangedEvent(List.of(book.getIsbn())));
+    }
+}
@@ -0,0 +1,35 @@
+package com.trevari.project.domain;
+
+import org.springframework.core.Ordered;
+
+import java.util.List;
+
+/**
+ * 도서 카탈로그 변경 이벤트.
+ *
+ * <p>추가·수정·삭제된 도서의 ISBN 목록만 담습니다. 구독자(검색 색인 등)는 필요하면
+ * 해당 ISBN을 다시 조회해 최신 상태를 반영하고, 조회되지 않으면 삭제로 간주합니다.
+ *
+ * <p>구독자는 두 단계로 실행됩니다. 변경을 반영하는 구독자({@link #APPLY_ORDER})가 모두 끝난 뒤에
+ * 카탈로그 버전을 올리는 구독자({@link #PUBLISH_ORDER})가 실행되므로, 새 버전을 본 조회는
+ * 항상 반영이 끝난 색인을 읽습니다.
+ *
+ * <p>{@code remote}는 다른 노드에서 커밋되어 Redis 채널로 전달된 변경입니다. 공유 상태(epoch, 채널)는
+ * 커밋한 노드가 이미 갱신했으므로 그런 구독자는 다시 갱신하지 않습니다.
+ */
+public record CatalogChangedEvent(List<String> isbns, boolean remote) {
+
+    /** 색인/상세 캐시 등 변경 반영 구독자의 순서 */
+    public static final int APPLY_ORDER = 0;
+    /** 카탈로그 버전/공유 epoch 증가 구독자의 순서 (반영 이후) */
+    public static final int PUBLISH_ORDER = Ordered.LOWEST_PRECEDENCE;
+
+    public CatalogChangedEvent {
+        isbns = List.copyOf(isbns);
+    }
+
+    /** 이 노드에서 커밋된 변경 */
+    public CatalogChangedEvent(List<String> isbns) {
+        this(isbns, false);
+    }
+}
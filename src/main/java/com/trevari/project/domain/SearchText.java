@@ -0,0 +1,105 @@
+package com.trevari.project.domain;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * 검색용 문자열 정규화 (도서 저장 값과 검색어에 같은 규칙을 적용).
+ *
+ * <ol>
+ *   <li>Unicode NFKC: 전각/반각, 호환 문자 통일 ({@code Ｊａｖａ} → {@code Java}, {@code ﬁ} → {@code fi})</li>
+ *   <li>소문자 ({@link Locale#ROOT})</li>
+ *   <li>공백/제어 문자 연속 → 공백 하나, 앞뒤 공백 제거</li>
+ * </ol>
+ * 정규화된 문자열에는 공백 외의 공백/제어 문자가 없으므로, 필드를 {@link #FIELD_SEPARATOR}로 이어 붙여도
+ * 검색어의 리터럴 글자가 필드 경계를 넘어 일치하는 일이 없습니다.
+ */
+public final class SearchText {
+
+    /** {@link #document}에서 필드 사이에 넣는 구분 문자 (정규화된 값에는 등장하지 않음) */
+    public static final char FIELD_SEPARATOR = '\u001F';
+
+    /** {@code books.search_text} 컬럼 길이 (NFKC로 늘어난 값은 잘라서 저장) */
+    public static final int DOCUMENT_LENGTH = 2048;
+
+    /** {@code books.*_key} 컬럼 길이 */
+    public static final int KEY_LENGTH = 512;
+
+    private SearchText() {}
+
+    /** 정규화 (null은 빈 문자열) */
+    public static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String s = isAscii(value) ? value : Normalizer.normalize(value, Normalizer.Form.NFKC);
+        s = s.toLowerCase(Locale.ROOT); // 바뀔 글자가 없으면 같은 인스턴스
+        if (isCollapsed(s)) {
+            return s;
+        }
+        StringBuilder sb = new StringBuilder(s.length());
+        boolean space = false;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (isBlank(c)) {
+                space = true;
+                continue;
+            }
+            if (space && !sb.isEmpty()) {
+                sb.append(' ');
+            }
+            space = false;
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 검색 대상 5개 필드를 정규화해 {@link #FIELD_SEPARATOR}로 연결 ({@code books.search_text}, 인메모리 색인 문서).
+     * 컬럼 길이({@value #DOCUMENT_LENGTH})로 자르므로 SQL/인메모리 엔진이 같은 문자열을 검사합니다.
+     */
+    public static String document(String isbn, String title, String subtitle, String author, String publisher) {
+        String[] values = {isbn, title, subtitle, author, publisher};
+        StringBuilder sb = new StringBuilder(128);
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) sb.append(FIELD_SEPARATOR);
+            sb.append(normalize(values[i]));
+        }
+        return truncate(sb.toString(), DOCUMENT_LENGTH);
+    }
+
+    /** 필드 하나의 검색 키 ({@code books.title_key} 등: 정규화 후 컬럼 길이로 자름) */
+    public static String key(String value) {
+        return truncate(normalize(value), KEY_LENGTH);
+    }
+
+    /** 컬럼 길이로 자름 (서로게이트 쌍은 나누지 않음) */
+    static String truncate(String value, int length) {
+        if (value.length() <= length) {
+            return value;
+        }
+        int end = Character.isHighSurrogate(value.charAt(length - 1)) ? length - 1 : length;
+        return value.substring(0, end);
+    }
+
+    /** 공백 문자는 ' '뿐이고, 앞뒤/연속 공백이 없음 */
+    private static boolean isCollapsed(String s) {
+        int n = s.length();
+        for (int i = 0; i < n; i++) {
+            char c = s.charAt(i);
+            if (isBlank(c) && (c != ' ' || i == 0 || i == n - 1 || s.charAt(i - 1) == ' ')) return false;
+        }
+        return true;
+    }
+
+    private static boolean isBlank(char c) {
+        return c <= ' ' || Character.isWhitespace(c) || Character.isSpaceChar(c) || Character.isISOControl(c);
+    }
+
+    private static boolean isAscii(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) >= 0x80) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,7 @@
+package com.trevari.project.repository;
+
+/**
+ * 인메모리 색인 적재용 프로젝션: ISBN과 정규화 문서({@code books.search_text})만 읽습니다.
+ * 엔티티를 만들지 않으므로 대량 적재 중에도 영속성 컨텍스트에 쌓이지 않습니다.
+ */
+public record BookIndexRow(String isbn, String searchText) {}
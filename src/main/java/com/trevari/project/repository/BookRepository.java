@@ -1,9 +1,26 @@
 package com.trevari.project.repository;
 
 import com.trevari.project.domain.Book;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 
-public interface BookRepository extends JpaRepository<Book, String>, JpaSpecificationExecutor<Book> {
+import java.util.Collection;
+import java.util.List;
 
+public interface BookRepository extends JpaRepository<Book, String>, JpaSpecificationExecutor<Book>, BookSearchRepository {
+
+    // ISBN 순 키셋 청크 조회 (인메모리 색인 적재용, 프로젝션)
+    @Query("select new com.trevari.project.repository.BookIndexRow(b.isbn, b.searchText) from Book b"
+            + " where b.isbn > :isbn order by b.isbn")
+    List<BookIndexRow> findIndexRowsAfter(String isbn, Limit limit);
+
+    // 변경된 도서만 다시 색인 (인메모리 색인 갱신용, 프로젝션)
+    @Query("select new com.trevari.project.repository.BookIndexRow(b.isbn, b.searchText) from Book b where b.isbn in :isbns")
+    List<BookIndexRow> findIndexRowsByIsbns(Collection<String> isbns);
+
+    // ISBN만 키셋 청크 조회 (Bloom 필터 구축용)
+    @Query("select b.isbn from Book b where b.isbn > :isbn order by b.isbn")
+    List<String> findIsbnsAfter(String isbn, Limit limit);
 }
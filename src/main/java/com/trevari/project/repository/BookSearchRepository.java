@@ -0,0 +1,24 @@
+package com.trevari.project.repository;
+
+import com.trevari.project.api.dto.SearchDTOs;
+import com.trevari.project.domain.Book;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 검색 결과 조회 전용 프로젝션 경로 (BookRepository 커스텀 프래그먼트).
+ *
+ * <p>{@link SearchDTOs.Book}에 필요한 7개 값만 SELECT해 바로 레코드로 생성합니다.
+ * 엔티티를 만들지 않으므로 영속성 컨텍스트에 등록되지 않고, 쓰지 않는 {@code publisher} 컬럼도 읽지 않습니다.
+ */
+public interface BookSearchRepository {
+
+    /** 조건에 맞는 도서를 정렬 후 {@code offset}부터 최대 {@code limit}건 조회 */
+    List<SearchDTOs.Book> findSearchRows(Specification<Book> spec, Sort sort, long offset, int limit);
+
+    /** ISBN 목록으로 조회 (순서 보장 없음) */
+    List<SearchDTOs.Book> findSearchRowsByIsbns(Collection<String> isbns);
+}
@@ -0,0 +1,58 @@
+package com.trevari.project.repository;
+
+import com.trevari.project.api.dto.SearchDTOs;
+import com.trevari.project.domain.Book;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * {@link BookSearchRepository} 구현: Criteria {@code construct}로 생성자 표현식 SELECT.
+ */
+@Transactional(readOnly = true)
+class BookSearchRepositoryImpl implements BookSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<SearchDTOs.Book> findSearchRows(Specification<Book> spec, Sort sort, long offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<SearchDTOs.Book> query = cb.createQuery(SearchDTOs.Book.class);
+        Root<Book> root = query.from(Book.class);
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(cb.construct(SearchDTOs.Book.class,
+                root.get("isbn"), root.get("title"), root.get("subtitle"), root.get("image"),
+                root.get("author"), root.get("isbn"), root.get("publishedDate")));
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+
+        return entityManager.createQuery(query)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<SearchDTOs.Book> findSearchRowsByIsbns(Collection<String> isbns) {
+        if (isbns.isEmpty()) {
+            return List.of();
+        }
+        return findSearchRows((root, query, cb) -> root.get("isbn").in(isbns), Sort.unsorted(), 0, isbns.size());
+    }
+}
@@ -0,0 +1,14 @@
+package com.trevari.project.schema;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 스키마 마이그레이션 설정 ({@code schema.migration.*}).
+ *
+ * @param enabled 기동 시 {@link SchemaMigrator} 실행 (테스트처럼 Hibernate가 스키마를 만드는 경우, 또는 DB 없는 CDS 학습 실행에서 끔)
+ */
+@ConfigurationProperties(prefix = "schema.migration")
+public record SchemaMigrationProperties(
+        @DefaultValue("true") boolean enabled
+) {}
@@ -0,0 +1,206 @@
+package com.trevari.project.schema;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.EncodedResource;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+/**
+ * 버전 순 스키마 마이그레이션 (Flyway와 같은 방식의 최소 구현).
+ *
+ * <ul>
+ *   <li>SQL: {@code db/migration/V<버전>__<설명>.sql} — 문장은 {@code ;}로 구분.
+ *       {@code db/migration/mysql/}의 스크립트는 MySQL에서만 적용하고, 다른 DB에서는 없는 버전으로 취급 (이력에도 남기지 않음)</li>
+ *   <li>Java: SQL로 할 수 없는 변환 (예: NFKC 정규화 값 채우기)</li>
+ *   <li>적용 이력: {@value #HISTORY_TABLE}(버전, 설명, 체크섬, 적용 시각). 적용된 스크립트가 바뀌면(체크섬 불일치) 기동 실패</li>
+ *   <li>기준선: 이력이 없는데 {@code books}가 이미 있으면(ddl-auto로 만든 기존 DB) V1을 적용된 것으로 기록하고 V2부터 적용</li>
+ *   <li>동시 기동: MySQL은 {@code GET_LOCK}으로 한 노드만 적용하고, 나머지는 끝난 뒤 이력만 확인</li>
+ * </ul>
+ * 모든 작업은 커넥션 하나에서 실행합니다 (MySQL 잠금은 커넥션 단위). MySQL DDL은 트랜잭션으로 되돌릴 수 없으므로
+ * 실패한 버전은 이력에 남지 않습니다 — 일부만 적용된 변경을 정리하고 다시 기동하면 그 버전부터 재시도합니다.
+ */
+@Slf4j
+public class SchemaMigrator {
+
+    static final String HISTORY_TABLE = "schema_history";
+    static final String LOCATION = "classpath:db/migration/V*__*.sql";
+    static final String MYSQL_LOCATION = "classpath:db/migration/mysql/V*__*.sql";
+    static final String MYSQL = "MySQL";
+
+    private static final Pattern SCRIPT_NAME = Pattern.compile("V(\\d+)__(.+)\\.sql");
+    private static final String LOCK_NAME = "books_schema_migration";
+    private static final int LOCK_TIMEOUT_SECONDS = 300;
+
+    /** 마이그레이션 한 단계 (같은 커넥션의 {@link JdbcTemplate}으로 실행) */
+    @FunctionalInterface
+    public interface Step {
+        void apply(JdbcTemplate jdbc) throws Exception;
+    }
+
+    /**
+     * @param version     적용 순서 (1부터, 중복 불가)
+     * @param description 이력에 남길 설명
+     * @param checksum    SQL은 스크립트 CRC32, Java는 코드에서 지정 (로직을 바꾸면 새 버전으로 추가)
+     * @param database    이 DB({@link DatabaseMetaData#getDatabaseProductName()})에서만 적용, null이면 모든 DB
+     */
+    public record Migration(int version, String description, int checksum, String database, Step step) {
+
+        /** 모든 DB에 적용하는 마이그레이션 */
+        public Migration(int version, String description, int checksum, Step step) {
+            this(version, description, checksum, null, step);
+        }
+
+        boolean appliesTo(String product) {
+            return database == null || database.equalsIgnoreCase(product);
+        }
+    }
+
+    private final DataSource dataSource;
+    private final List<Migration> migrations;
+
+    public SchemaMigrator(DataSource dataSource, List<Migration> migrations) {
+        List<Migration> sorted = new ArrayList<>(migrations);
+        sorted.sort(Comparator.comparingInt(Migration::version));
+        for (int i = 1; i < sorted.size(); i++) {
+            if (sorted.get(i).version() == sorted.get(i - 1).version()) {
+                throw new IllegalStateException("Duplicate schema migration version: V" + sorted.get(i).version());
+            }
+        }
+        this.dataSource = dataSource;
+        this.migrations = List.copyOf(sorted);
+    }
+
+    /** {@link #LOCATION}(모든 DB)과 {@link #MYSQL_LOCATION}(MySQL 전용)의 SQL 스크립트들 */
+    public static List<Migration> scripts(ResourcePatternResolver resolver) throws IOException {
+        List<Migration> scripts = new ArrayList<>();
+        scripts(resolver, LOCATION, null, scripts);
+        scripts(resolver, MYSQL_LOCATION, MYSQL, scripts);
+        return scripts;
+    }
+
+    private static void scripts(ResourcePatternResolver resolver, String location, String database, List<Migration> scripts)
+            throws IOException {
+        for (Resource resource : resolver.getResources(location)) {
+            Matcher name = SCRIPT_NAME.matcher(resource.getFilename() == null ? "" : resource.getFilename());
+            if (!name.matches()) {
+                throw new IllegalStateException("Invalid schema migration file name: " + resource.getFilename());
+            }
+            scripts.add(new Migration(Integer.parseInt(name.group(1)), name.group(2).replace('_', ' '), checksum(resource),
+                    database, jdbc -> jdbc.execute((ConnectionCallback<Void>) c -> {
+                        ScriptUtils.executeSqlScript(c, new EncodedResource(resource, StandardCharsets.UTF_8));
+                        return null;
+                    })));
+        }
+    }
+
+    /** 미적용 버전을 순서대로 적용하고 적용한 개수를 반환 */
+    public int migrate() {
+        return new JdbcTemplate(dataSource).execute((ConnectionCallback<Integer>) connection -> {
+            String product = connection.getMetaData().getDatabaseProductName();
+            boolean mySql = MYSQL.equalsIgnoreCase(product);
+            JdbcTemplate jdbc = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+            if (mySql) {
+                Integer locked = jdbc.queryForObject("SELECT GET_LOCK(?, ?)", Integer.class, LOCK_NAME, LOCK_TIMEOUT_SECONDS);
+                if (locked == null || locked != 1) {
+                    throw new IllegalStateException("Could not acquire schema migration lock within " + LOCK_TIMEOUT_SECONDS + "s");
+                }
+            }
+            try {
+                return migrate(connection, jdbc, product);
+            } finally {
+                if (mySql) {
+                    jdbc.queryForObject("SELECT RELEASE_LOCK(?)", Integer.class, LOCK_NAME);
+                }
+            }
+        });
+    }
+
+    private int migrate(Connection connection, JdbcTemplate jdbc, String product) throws SQLException {
+        boolean fresh = !tableExists(connection, HISTORY_TABLE);
+        if (fresh) {
+            jdbc.execute("CREATE TABLE " + HISTORY_TABLE + " (version INT NOT NULL PRIMARY KEY, description VARCHAR(200) NOT NULL,"
+                    + " checksum INT NOT NULL, installed_at TIMESTAMP NOT NULL)");
+        }
+        Map<Integer, Integer> applied = new HashMap<>();
+        jdbc.query("SELECT version, checksum FROM " + HISTORY_TABLE, rs -> {
+            applied.put(rs.getInt(1), rs.getInt(2));
+        });
+        if (fresh && !migrations.isEmpty() && tableExists(connection, "books")) {
+            Migration baseline = migrations.get(0);
+            record(jdbc, baseline);
+            applied.put(baseline.version(), baseline.checksum());
+            log.info("기존 스키마를 기준선으로 기록: V{} {}", baseline.version(), baseline.description());
+        }
+
+        int count = 0;
+        for (Migration migration : migrations) {
+            if (!migration.appliesTo(product)) {
+                continue;
+            }
+            Integer checksum = applied.get(migration.version());
+            if (checksum != null) {
+                if (checksum != migration.checksum()) {
+                    throw new IllegalStateException("Schema migration V" + migration.version()
+                            + " was changed after it was applied (checksum " + checksum + " -> " + migration.checksum() + ")");
+                }
+                continue;
+            }
+            long start = System.nanoTime();
+            try {
+                migration.step().apply(jdbc);
+            } catch (Exception e) {
+                throw new IllegalStateException("Schema migration V" + migration.version() + " failed: " + migration.description(), e);
+            }
+            record(jdbc, migration);
+            count++;
+            log.info("스키마 마이그레이션 적용: V{} {} ({}ms)", migration.version(), migration.description(),
+                    (System.nanoTime() - start) / 1_000_000);
+        }
+        return count;
+    }
+
+    private static void record(JdbcTemplate jdbc, Migration migration) {
+        jdbc.update("INSERT INTO " + HISTORY_TABLE + " (version, description, checksum, installed_at) VALUES (?, ?, ?, ?)",
+                migration.version(), migration.description(), migration.checksum(), Timestamp.from(Instant.now()));
+    }
+
+    private static boolean tableExists(Connection connection, String table) throws SQLException {
+        DatabaseMetaData meta = connection.getMetaData();
+        String name = meta.storesUpperCaseIdentifiers() ? table.toUpperCase(Locale.ROOT) : table;
+        try (ResultSet rs = meta.getTables(connection.getCatalog(), null, name, new String[]{"TABLE"})) {
+            return rs.next();
+        }
+    }
+
+    private static int checksum(Resource resource) throws IOException {
+        CRC32 crc = new CRC32();
+        try (InputStream in = resource.getInputStream()) {
+            crc.update(in.readAllBytes());
+        }
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,70 @@
+package com.trevari.project.schema;
+
+import com.trevari.project.domain.SearchText;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 검색 키 컬럼({@code search_text}, {@code *_key})이 비어 있는 도서를 채웁니다.
+ *
+ * <p>엔티티 저장과 일괄 가져오기는 저장할 때 키를 함께 쓰므로, 빈 행은 키가 생기기 전의 행(마이그레이션 V3에서 한 번 실행)이나
+ * SQL로 직접 넣은 행({@code data.sql}, {@code LOAD DATA})뿐입니다. 그래서 SQL 초기화({@code spring.sql.init.mode})가
+ * 켜진 프로필(기본, seed)에서는 {@code data.sql} 적재 직후에도 실행합니다. NFKC 정규화는 SQL로 할 수 없어 Java에서 계산합니다.
+ */
+@Slf4j
+@Component
+@DependsOnDatabaseInitialization
+public class SearchKeyBackfill implements InitializingBean {
+
+    static final int BATCH_SIZE = 1_000;
+
+    /** V2에서 추가한 컬럼을 기존 행에 채우는 마이그레이션 (로직을 바꾸면 새 버전으로 추가) */
+    public static final SchemaMigrator.Migration MIGRATION =
+            new SchemaMigrator.Migration(3, "backfill search keys", 1, SearchKeyBackfill::run);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean afterSqlInit;
+
+    public SearchKeyBackfill(JdbcTemplate jdbcTemplate, @Value("${spring.sql.init.mode:embedded}") String sqlInitMode) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.afterSqlInit = !"never".equalsIgnoreCase(sqlInitMode);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (afterSqlInit) {
+            int filled = run(jdbcTemplate);
+            if (filled > 0) {
+                log.info("검색 키 채움: {}건", filled);
+            }
+        }
+    }
+
+    /** ISBN 순 키셋으로 {@value #BATCH_SIZE}건씩 읽어 키를 계산하고 배치 UPDATE, 채운 건수 반환 */
+    public static int run(JdbcTemplate jdbc) {
+        int total = 0;
+        String last = "";
+        while (true) {
+            List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+            jdbc.query("SELECT isbn, title, subtitle, author, publisher FROM books WHERE isbn > ? AND search_text = ''"
+                    + " ORDER BY isbn LIMIT " + BATCH_SIZE, rs -> {
+                String isbn = rs.getString(1), title = rs.getString(2), author = rs.getString(4), publisher = rs.getString(5);
+                rows.add(new Object[]{SearchText.document(isbn, title, rs.getString(3), author, publisher),
+                        SearchText.key(title), SearchText.key(author), SearchText.key(publisher), isbn});
+            }, last);
+            if (rows.isEmpty()) {
+                return total;
+            }
+            jdbc.batchUpdate("UPDATE books SET search_text = ?, title_key = ?, author_key = ?, publisher_key = ? WHERE isbn = ?", rows);
+            total += rows.size();
+            last = (String) rows.get(rows.size() - 1)[4];
+        }
+    }
+}
@@ -1,44 +1,199 @@
 package com.trevari.project.search;
 
 import com.trevari.project.domain.Book;
-import jakarta.persistence.criteria.CriteriaBuilder;
-import jakarta.persistence.criteria.Predicate;
-import jakarta.persistence.criteria.Root;
+import com.trevari.project.domain.SearchText;
+import com.trevari.project.search.query.QueryNode;
+import jakarta.persistence.criteria.Expression;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
 
 public final class BookSpecifications {
 
     private BookSpecifications() {} // 순수 유틸 클래스: 인스턴스화 방지
 
-    private static final List<String> FIELDS =
-            List.of("isbn", "title", "subtitle", "author", "publisher");
+    // 한정자 없는 검색어 대상: 5개 필드를 정규화해 이어 붙인 컬럼 (SearchText#document)
+    private static final String SEARCH_TEXT = "searchText";
 
-    // 공통: 필드들 중 하나라도 like 매칭되면 true (NULL-safe, case-insensitive)
-    private static Predicate anyFieldLike(Root<Book> root, CriteriaBuilder cb, String like) {
-        List<Predicate> preds = new ArrayList<>(FIELDS.size());
-        for (String f : FIELDS) {
-            preds.add(cb.like(cb.lower(cb.coalesce(root.get(f).as(String.class), "")), like));
-        }
-        return cb.or(preds.toArray(new Predicate[0]));
-    }
+    // MySQL ngram 파서 토큰 크기(ngram_token_size)와 맞춤: 이보다 짧은 키워드는 FULLTEXT로 찾을 수 없음
+    private static final int NGRAM_TOKEN_SIZE = 2;
+
+    /**
+     * 조건 조립 방식.
+     * <ul>
+     *   <li>LIKE: 정규화 컬럼 {@code search_text LIKE '%kw%'} (기본) — 검색어도 같은 규칙으로 정규화되어 있어 {@code lower()}/{@code coalesce()} 불필요</li>
+     *   <li>FULLTEXT: MySQL FULLTEXT(ngram) 인덱스로 후보를 찾고 LIKE로 재검증 (MySQL 전용)</li>
+     * </ul>
+     */
+    public enum MatchMode { LIKE, FULLTEXT }
 
-    private static Specification<Book> contains(String kw) {
+    private static Specification<Book> contains(String kw, String attribute) {
         if (kw == null || kw.isBlank()) {
             // 항상 거짓: SIMPLE=0건, OR에서는 무시 효과, NOT에서 right가 빈 경우는 파서에서 400 처리됨
             return (root, q, cb) -> cb.disjunction();
         }
-        String like = "%" + kw.toLowerCase(java.util.Locale.ROOT) + "%";
-        return (root, q, cb) -> anyFieldLike(root, cb, like);
+        String like = "%" + SearchText.normalize(kw) + "%"; // 파서를 거친 검색어는 이미 정규화됨 (같은 인스턴스 반환)
+        return (root, q, cb) -> cb.like(root.get(attribute), like);
     }
 
     public static Specification<Book> forQuery(SearchQuery sq) {
-        return switch (sq.strategy()) {
-            case SIMPLE -> contains(sq.left());
-            case OR_OPERATION -> Specification.anyOf(contains(sq.left()), contains(sq.right()));
-            case NOT_OPERATION -> Specification.allOf(contains(sq.left()), Specification.not(contains(sq.right())));
+        return forQuery(sq, MatchMode.LIKE);
+    }
+
+    /** 실행 계획의 트리 순서대로 조건을 조립 (AND/OR 자식 순서 = WHERE 절 평가 순서) */
+    public static Specification<Book> forQuery(SearchQuery sq, MatchMode mode) {
+        QueryNode root = sq.plan().root();
+        if (mode == MatchMode.FULLTEXT) {
+            Specification<Book> fullText = fullTextOrNull(root);
+            if (fullText != null) {
+                return fullText;
+            }
+        }
+        return like(root);
+    }
+
+    private static Specification<Book> like(QueryNode node) {
+        if (node instanceof QueryNode.Term term) {
+            return term(term);
+        }
+        if (node instanceof QueryNode.Not not) {
+            return Specification.not(like(not.child()));
+        }
+        if (node instanceof QueryNode.And and) {
+            return Specification.allOf(like(and.children()));
+        }
+        return Specification.anyOf(like(((QueryNode.Or) node).children()));
+    }
+
+    private static List<Specification<Book>> like(List<QueryNode> nodes) {
+        List<Specification<Book>> specs = new ArrayList<>(nodes.size());
+        for (QueryNode node : nodes) {
+            specs.add(like(node));
+        }
+        return specs;
+    }
+
+    /**
+     * 검색어 하나의 조건.
+     * <ul>
+     *   <li>한정자 없음: {@code search_text LIKE '%x%'}</li>
+     *   <li>{@code isbn:}: ISBN-13 전체 값이면 PK 일치, 아니면 PK 앞부분 범위 ({@code isbn LIKE '978%'})</li>
+     *   <li>{@code title:x*} 등 앞부분 일치: 필드 키 컬럼 {@code title_key LIKE 'x%'} — 정규화된 값이라 collation과 무관하게
+     *       인덱스 범위 조회</li>
+     *   <li>{@code title:x} 등 포함: {@code title_key LIKE '%x%'}</li>
+     * </ul>
+     */
+    private static Specification<Book> term(QueryNode.Term term) {
+        QueryNode.Field field = term.field();
+        if (field == null) {
+            return contains(term.keyword(), SEARCH_TEXT);
+        }
+        if (field == QueryNode.Field.ISBN) {
+            return term.exactIsbn() ? isbnEquals(term.keyword()) : startsWith("isbn", term.keyword().toUpperCase(Locale.ROOT));
+        }
+        String key = field.column() + "Key";
+        return term.prefix() ? startsWith(key, SearchText.normalize(term.keyword())) : contains(term.keyword(), key);
+    }
+
+    private static Specification<Book> startsWith(String attribute, String kw) {
+        String like = kw + "%";
+        return (root, q, cb) -> cb.like(root.get(attribute), like);
+    }
+
+    // ---- FULLTEXT 모드 ----
+
+    /**
+     * FULLTEXT 인덱스로 처리 가능한 경우의 조건, 불가능하면 null (→ LIKE 경로).
+     *
+     * <p>긍정 검색어를 {@code MATCH ... AGAINST}로 인덱스에서 후보를 찾고,
+     * 같은 검색어의 LIKE 조건으로 재검증하므로 부분 문자열 결과는 LIKE 경로와 같습니다.
+     * <ul>
+     *   <li>검색어 하나: {@code isbn:}/앞부분 일치는 PK/컬럼 인덱스, FULLTEXT 대상이면 MATCH + LIKE
+     *       (한정자 없는 숫자 검색어는 ISBN-10이나 다른 필드의 숫자와도 부분 일치해야 하므로 LIKE 경로)</li>
+     *   <li>OR: 모든 검색어가 대상일 때만 하나의 MATCH로 묶음</li>
+     *   <li>AND: 계획상 가장 먼저 평가하는(가장 선택적인) 대상 검색어 하나로 후보를 찾고 나머지는 LIKE로 평가
+     *       (제외 검색어는 인덱스 이점이 없으므로 항상 LIKE)</li>
+     * </ul>
+     */
+    private static Specification<Book> fullTextOrNull(QueryNode root) {
+        if (root instanceof QueryNode.Term term) {
+            return indexedTerm(term);
+        }
+        if (root instanceof QueryNode.Or or) {
+            List<String> keywords = new ArrayList<>(or.children().size());
+            List<Specification<Book>> verify = new ArrayList<>(or.children().size());
+            for (QueryNode child : or.children()) {
+                if (!(child instanceof QueryNode.Term term) || term.field() == QueryNode.Field.ISBN
+                        || !fullTextEligible(term.keyword())) {
+                    return null;
+                }
+                keywords.add(term.keyword());
+                verify.add(term(term));
+            }
+            return matchAgainst(keywords.toArray(new String[0])).and(Specification.anyOf(verify));
+        }
+        if (root instanceof QueryNode.And and) {
+            List<QueryNode> children = and.children();
+            for (int i = 0; i < children.size(); i++) {
+                if (children.get(i) instanceof QueryNode.Term term) {
+                    Specification<Book> head = indexedTerm(term);
+                    if (head != null) {
+                        List<QueryNode> rest = new ArrayList<>(children);
+                        rest.remove(i);
+                        List<Specification<Book>> specs = like(rest);
+                        specs.add(0, head);
+                        return Specification.allOf(specs);
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 인덱스로 찾을 수 있는 검색어 하나, 없으면 null.
+     * {@code isbn:}/앞부분 일치는 그 조건 그대로(PK/컬럼 인덱스), FULLTEXT 대상이면 MATCH + 같은 검색어의 LIKE 조건으로 재검증
+     */
+    private static Specification<Book> indexedTerm(QueryNode.Term term) {
+        String kw = term.keyword();
+        if (term.indexed()) {
+            return term(term);
+        }
+        return fullTextEligible(kw) ? matchAgainst(kw).and(term(term)) : null;
+    }
+
+    /**
+     * FULLTEXT 후보 추출이 안전한 키워드: ngram 토큰 크기 이상이고 문자/숫자로만 구성되며,
+     * ISBN에는 나올 수 없는 문자('x' 이외의 글자)를 포함 — 따라서 FULLTEXT 후보에 없는 ISBN 부분에서만 일치하는 일이 없음.
+     */
+    static boolean fullTextEligible(String kw) {
+        if (kw == null || kw.length() < NGRAM_TOKEN_SIZE) return false;
+        boolean hasNonIsbnLetter = false;
+        for (int i = 0; i < kw.length(); i++) {
+            char c = kw.charAt(i);
+            if (!Character.isLetterOrDigit(c)) return false;
+            if (Character.isLetter(c) && Character.toLowerCase(c) != 'x') hasNonIsbnLetter = true;
+        }
+        return hasNonIsbnLetter;
+    }
+
+    private static Specification<Book> isbnEquals(String isbn) {
+        return (root, q, cb) -> cb.equal(root.get("isbn"), isbn.toUpperCase(Locale.ROOT));
+    }
+
+    /** 키워드들을 BOOLEAN MODE 구문 검색어로 묶음: 키워드 중 하나라도 구문으로 포함하면 후보 */
+    private static Specification<Book> matchAgainst(String... keywords) {
+        String against = Arrays.stream(keywords)
+                .map(kw -> "\"" + kw + "\"")
+                .collect(Collectors.joining(" "));
+        return (root, q, cb) -> {
+            Expression<Double> score = cb.function(FullTextFunctionContributor.FUNCTION_NAME, Double.class,
+                    root.get(SEARCH_TEXT), cb.literal(against));
+            return cb.greaterThan(score, 0.0);
         };
     }
 }
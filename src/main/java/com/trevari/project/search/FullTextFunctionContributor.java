@@ -0,0 +1,22 @@
+package com.trevari.project.search;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * MySQL FULLTEXT 검색 함수({@code books.search_text} 대상)를 Criteria API에서 쓸 수 있도록 Hibernate에 등록합니다.
+ * (META-INF/services로 로딩되며, 실제 사용은 MySQL에서만 — {@link BookSpecifications.MatchMode#FULLTEXT})
+ */
+public class FullTextFunctionContributor implements FunctionContributor {
+
+    public static final String FUNCTION_NAME = "books_fulltext";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        functionContributions.getFunctionRegistry().registerPattern(
+                FUNCTION_NAME,
+                "match(?1) against (?2 in boolean mode)",
+                functionContributions.getTypeConfiguration().getBasicTypeRegistry().resolve(StandardBasicTypes.DOUBLE));
+    }
+}
@@ -0,0 +1,42 @@
+package com.trevari.project.search;
+
+import com.trevari.project.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 키셋(커서) 페이징 위치: 직전 페이지 마지막 도서의 ISBN과 정렬 키.
+ *
+ * <p>SQL 엔진은 ISBN 오름차순으로 정렬하므로 ISBN 자체가 정렬 키이고,
+ * 인메모리 색인 엔진은 색인 내부 순번(docId)을 정렬 키로 함께 기록합니다.
+ * 클라이언트에는 내용을 알 수 없는 Base64URL 토큰으로만 노출합니다.
+ */
+public record SearchCursor(String isbn, long sortKey) {
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "|";
+
+    public static SearchCursor of(String isbn) {
+        return new SearchCursor(isbn, 0L);
+    }
+
+    public String encode() {
+        String raw = VERSION + SEPARATOR + sortKey + SEPARATOR + isbn;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** 토큰 해석: 형식이 잘못되면 400 */
+    public static SearchCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+            if (parts.length != 3 || !VERSION.equals(parts[0]) || parts[2].isEmpty()) {
+                throw new IllegalArgumentException(raw);
+            }
+            return new SearchCursor(parts[2], Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+}
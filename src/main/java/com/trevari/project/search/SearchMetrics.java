@@ -0,0 +1,74 @@
+package com.trevari.project.search;
+
+import com.trevari.project.aop.RequestTiming;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검색 파이프라인 구간별 지연 시간 ({@code search.phase}, 태그: phase, strategy).
+ *
+ * <p>타이머는 구간 × 전략 조합으로 생성 시 모두 등록해 두고 배열로 찾으므로,
+ * 요청 경로에서는 태그/빌더 객체를 만들지 않습니다 (기록 1회 = {@code nanoTime} 2회 + 타이머 갱신).
+ * 백분위/히스토그램 설정은 {@code management.metrics.distribution.*.search}로 지정합니다.
+ * 요청 스레드에 {@link RequestTiming}이 있으면 같은 값을 더해 {@code Server-Timing} 헤더/응답 메타데이터에도 남깁니다.
+ */
+@Component
+public class SearchMetrics {
+
+    /** 검색 요청이 거치는 구간 (파이프라인 순서) */
+    public enum Phase {
+        /** 검색어 문자열 → {@link SearchQuery} */
+        PARSE,
+        /** 인기/트렌드 검색어 집계 */
+        AGGREGATE,
+        /** 검색 결과 캐시 조회 (로컬 + Redis, 미스 시 엔진 실행 시간 제외) */
+        CACHE,
+        /** 한 페이지 분량 조회 (SQL 본문 쿼리 또는 색인 평가 + 페이지 조회) */
+        QUERY,
+        /** 전체 건수 COUNT 쿼리 */
+        COUNT,
+        /** 엔진 결과 → 응답 조립 */
+        MAP,
+        /** 응답 본문 직렬화 (컨트롤러 반환 ~ 본문 작성 완료) */
+        SERIALIZE;
+
+        private final String tag = name().toLowerCase(Locale.ROOT);
+
+        /** 지표 태그 / {@code Server-Timing} 이름 */
+        public String tag() {
+            return tag;
+        }
+    }
+
+    private final Timer[][] timers = new Timer[Phase.values().length][SearchStrategy.values().length];
+
+    public SearchMetrics(MeterRegistry meterRegistry) {
+        for (Phase phase : Phase.values()) {
+            for (SearchStrategy strategy : SearchStrategy.values()) {
+                timers[phase.ordinal()][strategy.ordinal()] = Timer.builder("search.phase")
+                        .description("검색 구간별 소요 시간")
+                        .tag("phase", phase.tag)
+                        .tag("strategy", strategy.name())
+                        .register(meterRegistry);
+            }
+        }
+    }
+
+    /** {@code startNanos}({@link System#nanoTime()})부터 지금까지를 구간 시간으로 기록 */
+    public void record(Phase phase, SearchStrategy strategy, long startNanos) {
+        recordNanos(phase, strategy, System.nanoTime() - startNanos);
+    }
+
+    /** 이미 잰 구간 시간 기록 */
+    public void recordNanos(Phase phase, SearchStrategy strategy, long nanos) {
+        timers[phase.ordinal()][strategy.ordinal()].record(nanos, TimeUnit.NANOSECONDS);
+        RequestTiming timing = RequestTiming.current();
+        if (timing != null) {
+            timing.add(phase, strategy, nanos);
+        }
+    }
+}
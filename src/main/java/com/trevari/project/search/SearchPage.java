@@ -0,0 +1,35 @@
+package com.trevari.project.search;
+
+/**
+ * 검색 페이지 요청.
+ *
+ * <p>{@code after}가 없으면 기존 오프셋 페이징({@code page}, 1 기반),
+ * 있으면 키셋 페이징으로 {@code after} 다음 도서부터 {@code size}건을 조회합니다.
+ * 키셋 모드에서 {@code page}는 응답에 그대로 돌려주는 참고값입니다.
+ * {@code total}은 전체 건수 계산 방식입니다.
+ */
+public record SearchPage(int page, int size, SearchCursor after, TotalMode total) {
+
+    public static SearchPage of(int page, int size, String cursor, String total) {
+        return new SearchPage(page, size,
+                cursor == null || cursor.isBlank() ? null : SearchCursor.decode(cursor),
+                TotalMode.from(total));
+    }
+
+    public static SearchPage offset(int page, int size) {
+        return new SearchPage(page, size, null, TotalMode.EXACT);
+    }
+
+    public SearchPage withTotal(TotalMode total) {
+        return new SearchPage(page, size, after, total);
+    }
+
+    public boolean isKeyset() {
+        return after != null;
+    }
+
+    /** 오프셋 모드의 건너뛸 행 수 */
+    public long offset() {
+        return (long) (page - 1) * size;
+    }
+}
@@ -1,4 +1,20 @@
 package com.trevari.project.search;
 
-public record SearchQuery(String query, String left, String right, SearchStrategy strategy) {
+import com.trevari.project.search.query.QueryPlan;
+
+/**
+ * 파싱된 검색 질의.
+ *
+ * @param query    정규화된 질의 문자열 (캐시 키, 검색어 집계에 사용)
+ * @param left     기존 2항 형태({@code a}, {@code a|b}, {@code a-b})의 왼쪽 검색어 (그 외 형태는 null)
+ * @param right    기존 2항 형태의 오른쪽 검색어 (그 외 형태는 null)
+ * @param strategy 실행 계획의 형태
+ * @param plan     엔진이 평가하는 실행 계획
+ */
+public record SearchQuery(String query, String left, String right, SearchStrategy strategy, QueryPlan plan) {
+
+    /** 기존 2항 형태로 직접 만드는 질의 (계획은 left/right로 구성) */
+    public SearchQuery(String query, String left, String right, SearchStrategy strategy) {
+        this(query, left, right, strategy, QueryPlan.legacy(left, right, strategy));
+    }
 }
@@ -1,79 +1,82 @@
 package com.trevari.project.search;
 
+import com.trevari.project.domain.SearchText;
 import com.trevari.project.exception.BadRequestException;
-
-import java.util.Locale;
-import java.util.regex.Pattern;
-
+import com.trevari.project.search.query.QueryNode;
+import com.trevari.project.search.query.QueryParser;
+import com.trevari.project.search.query.QueryPlan;
+import com.trevari.project.search.query.QueryPlanner;
+
+/**
+ * 검색어 문자열 → {@link SearchQuery}.
+ *
+ * <ul>
+ *   <li>{@link #simple}: 연산자를 해석하지 않고 전체를 검색어 하나로</li>
+ *   <li>{@link #parse}: 불리언 질의 ({@code |} OR, {@code &} AND, {@code -} 제외, 괄호, 큰따옴표, {@code title:} 등 필드 한정자) —
+ *       문법은 {@link QueryParser}, 실행 순서는 {@link QueryPlanner}</li>
+ * </ul>
+ * 연산자 사이의 공백 포함 문자열은 검색어 하나(구문)이므로 기존 {@code a|b}, {@code a - b c} 질의는 같은 결과를 냅니다.
+ */
 public final class SearchQueryParser {
 
     private SearchQueryParser() {}
 
-    // 공백-연산자-공백을 단일 기호로 정규화하기 위한 패턴 (재사용)
-    private static final Pattern WS_AROUND_PIPE  = Pattern.compile("\\s*\\|\\s*");
-    private static final Pattern WS_AROUND_MINUS = Pattern.compile("\\s*-\\s*");
+    /** 질의 문법에 쓰이는 문자: 하나도 없으면 파서를 거치지 않고 바로 SIMPLE */
+    private static final String SYNTAX = "|&-()\":";
 
     /** 단순 검색: 리터럴 그대로 SIMPLE로 */
     public static SearchQuery simple(String q) {
-        return parseInternal(q, false);
+        String normalized = normalize(q);
+        return new SearchQuery(normalized, normalized, null, SearchStrategy.SIMPLE, QueryPlanner.plan(new QueryNode.Term(normalized)));
     }
 
-    /** 연산자 허용: OR('|'), NOT('-'), 없으면 SIMPLE */
+    /** 연산자/필드 한정자 허용: 구문 트리를 만들어 실행 계획으로 컴파일 */
     public static SearchQuery parse(String q) {
-        return parseInternal(q, true);
-    }
-
-    /** 내부 단일 진입점: 항상 정규화 선행 + 분기 */
-    private static SearchQuery parseInternal(String q, boolean allowOperators) {
-        String normalized = normalize(q);              // 1) trim + toLowerCase
-        if (!allowOperators) {
-            // 연산자 해석 없이 그대로 SIMPLE
-            return new SearchQuery(normalized, normalized, null, SearchStrategy.SIMPLE);
+        String normalized = normalize(q);
+        if (!hasSyntax(normalized)) {
+            return new SearchQuery(normalized, normalized, null, SearchStrategy.SIMPLE, QueryPlanner.plan(new QueryNode.Term(normalized)));
         }
-
-        // 2) 연산자 좌우 공백 정규화
-        String ops = normalizeOperators(normalized);
-
-        // 3) 연산자 판별 및 검증
-        int pipe  = ops.indexOf('|');
-        int minus = ops.indexOf('-');
-
-        if (pipe >= 0 && minus >= 0) {
-            throw new BadRequestException("Use only one operator: '|' or '-' with up to 2 keywords");
+        QueryNode parsed = QueryParser.parse(normalized);
+        QueryPlan plan = QueryPlanner.plan(parsed);
+        String left = null, right = null;
+        if (parsed instanceof QueryNode.Term t && t.field() == null) {
+            left = t.keyword();
+        } else if (isPair(parsed, plan.strategy())) {
+            var children = parsed instanceof QueryNode.Or or ? or.children() : ((QueryNode.And) parsed).children();
+            left = ((QueryNode.Term) children.get(0)).keyword();
+            QueryNode second = children.get(1);
+            right = ((QueryNode.Term) (second instanceof QueryNode.Not not ? not.child() : second)).keyword();
         }
+        return new SearchQuery(parsed.render(), left, right, plan.strategy(), plan);
+    }
 
-        if (pipe >= 0) {
-            String[] parts = ops.split("\\|", -1);
-            if (parts.length != 2) throw new BadRequestException("Invalid OR query, use 'a|b'");
-            String left = parts[0].trim();
-            String right = parts[1].trim();
-            if (left.isBlank() || right.isBlank()) throw new BadRequestException("Invalid OR query, use 'a|b'");
-            return new SearchQuery(ops, left, right, SearchStrategy.OR_OPERATION);
+    /** 기존 2항 형태: 입력이 한정자 없는 {@code a|b} 또는 {@code a-b}이고 계획에서도 같은 형태로 남음 */
+    private static boolean isPair(QueryNode parsed, SearchStrategy strategy) {
+        if (parsed instanceof QueryNode.Or or) {
+            return strategy == SearchStrategy.OR_OPERATION && or.children().size() == 2
+                    && plain(or.children().get(0)) && plain(or.children().get(1));
         }
+        return parsed instanceof QueryNode.And and && strategy == SearchStrategy.NOT_OPERATION
+                && and.children().size() == 2 && plain(and.children().get(0))
+                && and.children().get(1) instanceof QueryNode.Not not && plain(not.child());
+    }
 
-        if (minus >= 0) {
-            String[] parts = ops.split("-", -1);
-            if (parts.length != 2) throw new BadRequestException("Invalid NOT query, use 'a-b'");
-            String left = parts[0].trim();
-            String right = parts[1].trim();
-            if (left.isBlank() || right.isBlank()) throw new BadRequestException("Invalid NOT query, use 'a-b'");
-            return new SearchQuery(ops, left, right, SearchStrategy.NOT_OPERATION);
-        }
+    private static boolean plain(QueryNode node) {
+        return node instanceof QueryNode.Term t && t.field() == null;
+    }
 
-        // 연산자 없음 → SIMPLE
-        return new SearchQuery(normalized, normalized, null, SearchStrategy.SIMPLE);
+    private static boolean hasSyntax(String q) {
+        for (int i = 0; i < q.length(); i++) {
+            if (SYNTAX.indexOf(q.charAt(i)) >= 0) return true;
+        }
+        return false;
     }
 
-    /** 입력 문자열 공통 정규화: trim → lower(Locale.ROOT) */
+    /** 입력 문자열 공통 정규화: 저장된 검색 컬럼과 같은 규칙 ({@link SearchText#normalize}: NFKC → lower → 공백 정리) */
     private static String normalize(String q) {
         if (q == null) throw new BadRequestException("search query must not be null");
-        q = q.trim();
-        if (q.isEmpty()) throw new BadRequestException("search query must not be blank");
-        return q.toLowerCase(Locale.ROOT);
-    }
-
-    /** 연산자 주변 공백 제거 "a | b" → "a|b", "a - b" → "a-b" */
-    private static String normalizeOperators(String s) {
-        return WS_AROUND_MINUS.matcher(WS_AROUND_PIPE.matcher(s).replaceAll("|")).replaceAll("-");
+        String normalized = SearchText.normalize(q);
+        if (normalized.isEmpty()) throw new BadRequestException("search query must not be blank");
+        return normalized;
     }
 }
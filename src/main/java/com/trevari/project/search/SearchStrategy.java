@@ -1,7 +1,19 @@
 package com.trevari.project.search;
 
+/**
+ * 실행 계획의 형태 (지표/캐시 키 태그). 직렬화된 캐시 값이 순서(ordinal)를 쓰므로 새 값은 끝에만 추가합니다.
+ */
 public enum SearchStrategy {
+    /** 검색어 하나: {@code a} */
     SIMPLE,
+    /** 검색어들의 OR: {@code a|b|c} */
     OR_OPERATION,
-    NOT_OPERATION
+    /** 검색어 하나에서 검색어들을 제외: {@code a-b-c} */
+    NOT_OPERATION,
+    /** 검색어 2개 이상의 AND (제외 검색어 포함 가능): {@code a&b-c} */
+    AND_OPERATION,
+    /** 괄호로 묶인 그룹이 있는 그 밖의 조합: {@code (a|b)-c} */
+    BOOLEAN,
+    /** 필드 한정 검색어 하나: {@code author:beck}, {@code title:spring*}, {@code isbn:9781617291609} */
+    FIELD
 }
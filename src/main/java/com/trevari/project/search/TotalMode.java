@@ -0,0 +1,32 @@
+package com.trevari.project.search;
+
+import com.trevari.project.exception.BadRequestException;
+
+import java.util.Locale;
+
+/**
+ * 검색 응답의 전체 건수({@code totalElements}) 계산 방식.
+ *
+ * <ul>
+ *   <li>{@code EXACT}(기본값): COUNT 쿼리로 정확한 건수</li>
+ *   <li>{@code ESTIMATE}: 캐시된 건수 등 저렴한 근사치 (정확하지 않을 수 있음)</li>
+ *   <li>{@code NONE}: 건수를 계산하지 않고 size+1건만 조회해 다음 페이지 존재 여부만 판단</li>
+ * </ul>
+ */
+public enum TotalMode {
+    EXACT,
+    ESTIMATE,
+    NONE;
+
+    /** 요청 파라미터 해석 (대소문자 무시, 알 수 없는 값은 400) */
+    public static TotalMode from(String value) {
+        if (value == null || value.isBlank()) {
+            return EXACT;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid total mode: " + value);
+        }
+    }
+}
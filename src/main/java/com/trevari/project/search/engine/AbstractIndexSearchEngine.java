@@ -0,0 +1,507 @@
+package com.trevari.project.search.engine;
+
+import com.trevari.project.api.dto.SearchDTOs;
+import com.trevari.project.cache.CatalogVersion;
+import com.trevari.project.domain.SearchText;
+import com.trevari.project.domain.CatalogChangedEvent;
+import com.trevari.project.repository.BookIndexRow;
+import com.trevari.project.repository.BookRepository;
+import com.trevari.project.search.SearchCursor;
+import com.trevari.project.search.SearchMetrics;
+import com.trevari.project.search.SearchPage;
+import com.trevari.project.search.SearchQuery;
+import com.trevari.project.search.index.KeywordMatcher;
+import com.trevari.project.search.index.PostingList;
+import com.trevari.project.search.query.QueryNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * 인메모리 색인 검색 엔진의 공통 뼈대.
+ *
+ * <p>문서 저장소(docId → ISBN, 정규화된 검색 대상 문자열)와 실행 계획({@code QueryPlan}) 평가를 담당하고,
+ * 하위 클래스는 "키워드를 포함할 수 있는 후보 docId"를 빠르게 좁히는 색인만 구현합니다.
+ * 후보는 항상 {@link KeywordMatcher}로 재검증하므로 결과는 {@code BookSpecifications}의 LIKE 검색과 같습니다.
+ *
+ * <ul>
+ *   <li>색인 구축: 애플리케이션 기동 완료 후 ISBN 순으로 정규화 문서({@code search_text}) 프로젝션을 청크 적재
+ *       (구축이 끝날 때까지 Specification 엔진으로 위임)</li>
+ *   <li>변경 반영: {@link CatalogChangedEvent} 수신 시 해당 문서만 삭제 표시(문자열은 해제) 후 새 docId로 재색인
+ *       (구축 중 이벤트는 모았다가 구축 직후 반영)</li>
+ *   <li>압축: 삭제 표시 문서가 전체의 {@value #COMPACT_DELETED_RATIO} 이상({@value #COMPACT_MIN_DELETED}건 이상)이면
+ *       백그라운드에서 살아 있는 문서만 ISBN 순 docId로 새 저장소/색인을 만들어 교체 (그동안 검색은 기존 저장소 사용)</li>
+ *   <li>DB 접근: 반환할 한 페이지의 ISBN만 DTO 프로젝션({@code findSearchRowsByIsbns})으로 조회</li>
+ *   <li>정렬: docId 오름차순 — 구축/압축 직후에는 ISBN 순, 그 뒤 수정된 도서는 압축 전까지 뒤쪽.
+ *       커서의 정렬 키는 마지막 문서의 docId</li>
+ *   <li>지표: 색인 평가 + 페이지 조회를 {@code query} 구간으로 기록 (건수는 색인 결과 크기라 {@code count} 구간 없음)</li>
+ * </ul>
+ *
+ * @param <I> 하위 클래스의 색인 자료구조 (압축 시 새로 만들어 교체하므로 저장소마다 하나)
+ */
+@Slf4j
+public abstract class AbstractIndexSearchEngine<I> implements SearchEngine {
+
+    private static final int LOAD_CHUNK_SIZE = 5_000;
+    private static final int INITIAL_CAPACITY = 1_024;
+    static final double COMPACT_DELETED_RATIO = 0.25;
+    static final int COMPACT_MIN_DELETED = 1_024;
+
+    protected final BookRepository bookRepository;
+    private final SearchMetrics metrics;
+    private final SpecificationSearchEngine fallback;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Documents docs; // 현재 저장소 (첫 구축 전에는 null, 교체는 쓰기 락)
+    private volatile boolean ready;
+
+    private final Object pendingLock = new Object();
+    private Set<String> pending; // 구축 중 도착한 변경 ISBN (구축 중에만 null이 아님, pendingLock)
+    private Set<String> compactChanged; // 압축 중 반영된 변경 ISBN (압축 중에만 null이 아님, pendingLock)
+    private long generation; // 구축마다 증가 — 구축과 겹친 압축 결과는 버림 (pendingLock)
+    private final AtomicBoolean compacting = new AtomicBoolean();
+
+    protected AbstractIndexSearchEngine(BookRepository bookRepository, CatalogVersion catalogVersion, SearchMetrics metrics) {
+        this.bookRepository = bookRepository;
+        this.metrics = metrics;
+        this.fallback = new SpecificationSearchEngine(bookRepository, catalogVersion, metrics);
+    }
+
+    // ---- 하위 클래스 확장 지점 (쓰기 락 / 읽기 락 안에서, 또는 공개 전 색인에 대해 호출됨) ----
+
+    /** 빈 색인 생성 */
+    protected abstract I newIndex();
+
+    /** docId 문서의 정규화된 문자열을 색인에 추가 (쓰기 락 보유 상태, 또는 압축 중 공개 전 색인) */
+    protected abstract void indexDocument(I index, int docId, String text);
+
+    /**
+     * 키워드를 포함할 수 있는 후보 docId(오름차순, 상위집합)를 반환 (읽기 락 보유 상태).
+     * 색인으로 좁힐 수 없으면 {@code null}을 반환하며, 이 경우 살아 있는 전체 문서를 검증합니다.
+     */
+    protected abstract int[] candidates(I index, KeywordMatcher matcher);
+
+    // ---- 검색 ----
+
+    @Override
+    public SearchResult search(SearchQuery query, SearchPage page) {
+        if (!ready) {
+            return fallback.search(query, page);
+        }
+
+        long start = System.nanoTime();
+        int[] hits;
+        List<String> pageIsbns = new ArrayList<>(page.size());
+        SearchCursor next = null;
+        lock.readLock().lock();
+        try {
+            Documents d = docs;
+            hits = evaluate(d, query.plan().root());
+            int from = page.isKeyset()
+                    ? startAfter(d, hits, page.after())
+                    : (int) Math.min(page.offset(), hits.length);
+            int to = Math.min(from + page.size(), hits.length);
+            for (int i = from; i < to; i++) {
+                pageIsbns.add(d.isbns[hits[i]]);
+            }
+            if (to < hits.length && to > from) {
+                next = new SearchCursor(d.isbns[hits[to - 1]], hits[to - 1]);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<SearchDTOs.Book> books = hydrate(pageIsbns);
+        metrics.record(SearchMetrics.Phase.QUERY, query.strategy(), start);
+        return SearchResult.exact(books, hits.length, next); // 색인 결과 건수는 항상 정확
+    }
+
+    /**
+     * 커서 다음 위치: 커서의 docId보다 큰 첫 결과 (이진 탐색).
+     * 정렬 키가 현재 색인과 맞지 않는 커서(재색인, 압축, SQL 엔진이 발급한 커서 등)는 ISBN으로 docId를 다시 찾습니다.
+     */
+    private int startAfter(Documents d, int[] hits, SearchCursor cursor) {
+        long key = cursor.sortKey();
+        if (key < 0 || key >= d.docCount || !cursor.isbn().equals(d.isbns[(int) key])) {
+            Integer docId = d.docIdByIsbn.get(cursor.isbn());
+            if (docId != null) key = docId;
+        }
+        int pos = Arrays.binarySearch(hits, (int) Math.min(key, Integer.MAX_VALUE));
+        return pos >= 0 ? pos + 1 : -pos - 1;
+    }
+
+    /**
+     * 계획 트리 평가. AND는 첫 긍정 자식(계획상 가장 선택적)만 색인으로 찾고,
+     * 나머지 조건(NOT 포함)은 그 결과 문서의 문자열로 검증합니다.
+     */
+    private int[] evaluate(Documents d, QueryNode node) {
+        if (node instanceof QueryNode.Term term) {
+            return matching(d, term);
+        }
+        if (node instanceof QueryNode.Or or) {
+            int[] docs = PostingList.empty();
+            for (QueryNode child : or.children()) {
+                docs = PostingList.union(docs, evaluate(d, child));
+            }
+            return docs;
+        }
+        if (node instanceof QueryNode.And and) {
+            List<QueryNode> rest = new ArrayList<>(and.children());
+            int lead = 0;
+            while (lead < rest.size() && rest.get(lead) instanceof QueryNode.Not) lead++;
+            if (lead == rest.size()) {
+                throw new IllegalArgumentException("AND needs a positive keyword: " + node.render());
+            }
+            int[] docs = evaluate(d, rest.remove(lead));
+            return rest.isEmpty() ? docs : filter(d, docs, predicate(new QueryNode.And(rest)));
+        }
+        throw new IllegalArgumentException("NOT needs a positive keyword: " + node.render());
+    }
+
+    /**
+     * 검색어에 맞는 문서 (빈 키워드는 항상 거짓 — BookSpecifications.contains와 동일).
+     * {@code isbn:} ISBN-13 전체 값은 ISBN → docId 맵으로 바로 찾고, 그 밖의 필드 한정 검색어는
+     * 같은 키워드의 색인 후보(필드 값도 문서 문자열의 일부이므로 상위집합)를 그 필드만 검증합니다.
+     * 색인으로 좁힐 수 없으면 삭제 표시되지 않은 문서만 훑습니다.
+     */
+    private int[] matching(Documents d, QueryNode.Term term) {
+        String keyword = term.keyword();
+        if (keyword == null || keyword.isBlank()) {
+            return PostingList.empty();
+        }
+        if (term.exactIsbn()) {
+            Integer docId = d.docIdByIsbn.get(keyword.toUpperCase(Locale.ROOT));
+            return docId == null ? PostingList.empty() : new int[]{docId};
+        }
+        KeywordMatcher matcher = KeywordMatcher.of(keyword);
+        Predicate<String> verify = matcher(term, matcher);
+        int[] candidates = candidates(d.index, matcher);
+
+        int n = 0;
+        int[] out;
+        if (candidates == null) {
+            out = new int[d.docCount - d.deletedCount];
+            for (int doc = d.deleted.nextClearBit(0); doc < d.docCount; doc = d.deleted.nextClearBit(doc + 1)) {
+                if (verify.test(d.texts[doc])) {
+                    out[n++] = doc;
+                }
+            }
+        } else {
+            out = new int[candidates.length];
+            for (int doc : candidates) {
+                if (!d.deleted.get(doc) && verify.test(d.texts[doc])) {
+                    out[n++] = doc;
+                }
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    /** 문서 문자열 검증으로 남길 문서만 추림 */
+    private int[] filter(Documents d, int[] docs, Predicate<String> predicate) {
+        int[] out = new int[docs.length];
+        int n = 0;
+        for (int doc : docs) {
+            if (predicate.test(d.texts[doc])) {
+                out[n++] = doc;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    /** 트리를 문서 문자열 판정 함수로 (검색어마다 {@link KeywordMatcher}는 한 번만 생성) */
+    private static Predicate<String> predicate(QueryNode node) {
+        if (node instanceof QueryNode.Term term) {
+            if (term.keyword() == null || term.keyword().isBlank()) {
+                return text -> false;
+            }
+            return matcher(term, KeywordMatcher.of(term.keyword()));
+        }
+        if (node instanceof QueryNode.Not not) {
+            return predicate(not.child()).negate();
+        }
+        boolean and = node instanceof QueryNode.And;
+        List<QueryNode> children = and ? ((QueryNode.And) node).children() : ((QueryNode.Or) node).children();
+        Predicate<String> result = predicate(children.get(0));
+        for (int i = 1; i < children.size(); i++) {
+            result = and ? result.and(predicate(children.get(i))) : result.or(predicate(children.get(i)));
+        }
+        return result;
+    }
+
+    /** 검색어 판정: 한정자 없으면 문서 전체, 있으면 문서({@link SearchText#document}) 중 그 필드만 ({@code isbn:}은 항상 앞부분 일치) */
+    private static Predicate<String> matcher(QueryNode.Term term, KeywordMatcher matcher) {
+        if (term.field() == null) {
+            return matcher::matches;
+        }
+        int field = switch (term.field()) {
+            case ISBN -> 0;
+            case TITLE -> 1;
+            case AUTHOR -> 3;
+            case PUBLISHER -> 4;
+        };
+        boolean prefix = term.prefix() || term.field() == QueryNode.Field.ISBN;
+        return text -> matcher.matchesField(text, field, prefix);
+    }
+
+    /** 한 페이지 분량만 DB에서 프로젝션으로 조회한 뒤 색인 결과 순서대로 정렬 */
+    private List<SearchDTOs.Book> hydrate(List<String> pageIsbns) {
+        if (pageIsbns.isEmpty()) {
+            return List.of();
+        }
+        Map<String, SearchDTOs.Book> byIsbn = bookRepository.findSearchRowsByIsbns(pageIsbns).stream()
+                .collect(Collectors.toMap(SearchDTOs.Book::isbn, Function.identity()));
+        return pageIsbns.stream()
+                .map(byIsbn::get)
+                .filter(b -> b != null) // 색인 반영 전에 삭제된 도서는 제외
+                .toList();
+    }
+
+    // ---- 색인 구축 / 갱신 ----
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * DB 전체를 ISBN 순으로 청크 적재해 색인을 새로 구축 (구축 중 검색은 Specification 엔진으로 위임).
+     *
+     * <p>청크는 프로젝션({@link BookIndexRow})으로 읽어 바로 색인하므로 엔티티를 모아 두지 않습니다.
+     * 구축 중 도착한 변경 이벤트의 ISBN은 {@link #pending}에 모았다가, 스캔이 끝난 뒤 다시 조회해 반영합니다
+     * (스캔이 이미 지나간 ISBN 구간에 커밋된 도서도 빠지지 않음).
+     */
+    public void rebuild() {
+        long start = System.nanoTime();
+        synchronized (pendingLock) {
+            ready = false;
+            pending = new HashSet<>();
+            generation++;
+        }
+        lock.writeLock().lock();
+        try {
+            docs = new Documents(INITIAL_CAPACITY);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        int loaded = 0;
+        String last = "";
+        List<BookIndexRow> chunk;
+        do {
+            chunk = bookRepository.findIndexRowsAfter(last, Limit.of(LOAD_CHUNK_SIZE));
+            apply(List.of(), chunk);
+            loaded += chunk.size();
+            if (!chunk.isEmpty()) last = chunk.get(chunk.size() - 1).isbn();
+        } while (chunk.size() == LOAD_CHUNK_SIZE);
+
+        int replayed = 0;
+        while (true) {
+            Set<String> changed;
+            synchronized (pendingLock) {
+                if (pending.isEmpty()) {
+                    pending = null;
+                    ready = true; // 이후 이벤트는 바로 반영
+                    break;
+                }
+                changed = pending;
+                pending = new HashSet<>();
+            }
+            apply(changed, bookRepository.findIndexRowsByIsbns(changed));
+            replayed += changed.size();
+        }
+        log.info("검색 색인 구축 완료: engine={}, docs={}, replayed={}, {}ms",
+                getClass().getSimpleName(), loaded, replayed, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /** 변경된 도서만 다시 조회해 색인에 반영 (커밋 이후), 삭제 표시가 쌓였으면 백그라운드 압축 시작 */
+    @Order(CatalogChangedEvent.APPLY_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        synchronized (pendingLock) {
+            if (pending != null) {
+                pending.addAll(event.isbns()); // 구축 중: 스캔이 끝난 뒤 반영
+                return;
+            }
+            if (!ready) {
+                return; // 구축 시작 전: 스캔이 커밋된 상태를 읽어감
+            }
+            if (compactChanged != null) {
+                compactChanged.addAll(event.isbns()); // 압축 중: 교체 직전에 새 저장소로 옮김
+            }
+        }
+        apply(event.isbns(), bookRepository.findIndexRowsByIsbns(event.isbns()));
+        if (needsCompaction() && compacting.compareAndSet(false, true)) {
+            Thread worker = new Thread(() -> {
+                try {
+                    compact();
+                } catch (RuntimeException e) {
+                    log.warn("검색 색인 압축 실패: engine={}", getClass().getSimpleName(), e);
+                } finally {
+                    compacting.set(false);
+                }
+            }, "search-index-compact");
+            worker.setDaemon(true);
+            worker.start();
+        }
+    }
+
+    /**
+     * 삭제 표시 문서를 뺀 새 저장소/색인을 ISBN 순 docId로 만들어 교체.
+     *
+     * <p>살아 있는 문서를 읽기 락으로 복사한 뒤 락 밖에서 새 색인을 만들므로 그동안 검색과 변경 반영은 기존 저장소로 계속됩니다.
+     * 압축 중 반영된 변경 ISBN은 교체 직전(쓰기 락) 기존 저장소의 현재 상태를 새 저장소로 옮기고,
+     * 그 사이 재구축이 시작됐으면 결과를 버립니다.
+     */
+    void compact() {
+        long start = System.nanoTime();
+        long startedGeneration;
+        synchronized (pendingLock) {
+            if (!ready) {
+                return;
+            }
+            startedGeneration = generation;
+            compactChanged = new HashSet<>();
+        }
+        try {
+            List<BookIndexRow> live;
+            int dropped;
+            lock.readLock().lock();
+            try {
+                Documents d = docs;
+                dropped = d.deletedCount;
+                live = new ArrayList<>(d.docCount - d.deletedCount);
+                for (int doc = d.deleted.nextClearBit(0); doc < d.docCount; doc = d.deleted.nextClearBit(doc + 1)) {
+                    live.add(new BookIndexRow(d.isbns[doc], d.texts[doc]));
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+            live.sort(Comparator.comparing(BookIndexRow::isbn));
+            Documents compacted = new Documents(Math.max(INITIAL_CAPACITY, live.size()));
+            live.forEach(row -> compacted.add(row.isbn(), row.searchText()));
+
+            lock.writeLock().lock();
+            try {
+                synchronized (pendingLock) {
+                    if (!ready || generation != startedGeneration) {
+                        return; // 재구축이 새 저장소를 만들고 있음
+                    }
+                    Documents current = docs;
+                    for (String isbn : compactChanged) {
+                        Integer docId = current.docIdByIsbn.get(isbn);
+                        if (docId == null) {
+                            compacted.remove(isbn);
+                        } else {
+                            compacted.add(isbn, current.texts[docId]);
+                        }
+                    }
+                    docs = compacted;
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("검색 색인 압축 완료: engine={}, docs={}, dropped={}, {}ms",
+                    getClass().getSimpleName(), live.size(), dropped, (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            synchronized (pendingLock) {
+                compactChanged = null;
+            }
+        }
+    }
+
+    /** 삭제 표시 문서 수 */
+    int deletedDocs() {
+        lock.readLock().lock();
+        try {
+            return docs == null ? 0 : docs.deletedCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean needsCompaction() {
+        lock.readLock().lock();
+        try {
+            return docs.deletedCount >= COMPACT_MIN_DELETED && docs.deletedCount >= docs.docCount * COMPACT_DELETED_RATIO;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** {@code removed}를 삭제 표시하고 {@code rows}를 (재)색인 */
+    private void apply(Collection<String> removed, List<BookIndexRow> rows) {
+        lock.writeLock().lock();
+        try {
+            Documents d = docs;
+            removed.forEach(d::remove);
+            rows.forEach(row -> d.add(row.isbn(), row.searchText()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 문서 저장소(docId → ISBN, 정규화된 문자열)와 그 색인. 공개 후에는 쓰기 락 안에서만 변경 */
+    private final class Documents {
+
+        final I index = newIndex();
+        final Map<String, Integer> docIdByIsbn = new HashMap<>();
+        final BitSet deleted = new BitSet();
+        String[] isbns;
+        String[] texts;
+        int docCount;
+        int deletedCount;
+
+        Documents(int capacity) {
+            isbns = new String[capacity];
+            texts = new String[capacity];
+        }
+
+        void add(String isbn, String text) {
+            remove(isbn);
+            int docId = docCount++;
+            if (docId == isbns.length) {
+                isbns = Arrays.copyOf(isbns, docId * 2);
+                texts = Arrays.copyOf(texts, docId * 2);
+            }
+            isbns[docId] = isbn;
+            texts[docId] = text;
+            docIdByIsbn.put(isbn, docId);
+            indexDocument(index, docId, text);
+        }
+
+        void remove(String isbn) {
+            Integer docId = docIdByIsbn.remove(isbn);
+            if (docId != null) {
+                // 포스팅은 압축 때까지 그대로 두고 검증 단계에서 제외, 문자열은 바로 해제
+                deleted.set(docId);
+                isbns[docId] = null;
+                texts[docId] = null;
+                deletedCount++;
+            }
+        }
+    }
+}
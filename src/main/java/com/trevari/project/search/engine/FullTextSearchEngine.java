@@ -0,0 +1,80 @@
+package com.trevari.project.search.engine;
+
+import com.trevari.project.cache.CatalogVersion;
+import com.trevari.project.repository.BookRepository;
+import com.trevari.project.search.BookSpecifications;
+import com.trevari.project.search.BookSpecifications.MatchMode;
+import com.trevari.project.search.SearchMetrics;
+import com.trevari.project.search.SearchPage;
+import com.trevari.project.search.SearchQuery;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.DatabaseMetaData;
+
+/**
+ * MySQL FULLTEXT(ngram 파서) 검색 엔진 ({@code search.engine=fulltext}).
+ *
+ * <p>{@link BookSpecifications#forQuery(SearchQuery, MatchMode)}의 FULLTEXT 모드로 조건을 조립합니다.
+ * FULLTEXT 인덱스({@code books.search_text})는 MySQL 전용 마이그레이션({@code db/migration/mysql/V4})이 만들고,
+ * 엔진은 기동 시 인덱스가 있는지만 확인합니다. MySQL이 아니거나(H2 테스트 등) 인덱스가 없으면 경고 후 기존 LIKE Specification으로 동작합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "search.engine", havingValue = "fulltext")
+public class FullTextSearchEngine implements SearchEngine {
+
+    static final String INDEX_NAME = "ft_books_search_text";
+
+    private final SpecificationPaging paging;
+    private final MatchMode mode;
+
+    public FullTextSearchEngine(BookRepository bookRepository, JdbcTemplate jdbcTemplate, CatalogVersion catalogVersion,
+                                SearchMetrics metrics) {
+        this.paging = new SpecificationPaging(bookRepository, catalogVersion, metrics);
+        if (!isMySql(jdbcTemplate)) {
+            log.warn("FULLTEXT 검색은 MySQL 전용입니다. LIKE Specification으로 대체합니다.");
+            this.mode = MatchMode.LIKE;
+        } else if (!hasFullTextIndex(jdbcTemplate)) {
+            log.warn("FULLTEXT 인덱스({})가 없습니다 (마이그레이션 V4 미적용). LIKE Specification으로 대체합니다.", INDEX_NAME);
+            this.mode = MatchMode.LIKE;
+        } else {
+            this.mode = MatchMode.FULLTEXT;
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SearchResult search(SearchQuery query, SearchPage page) {
+        return paging.execute(query, BookSpecifications.forQuery(query, mode), page);
+    }
+
+    MatchMode mode() {
+        return mode;
+    }
+
+    private static boolean isMySql(JdbcTemplate jdbcTemplate) {
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(
+                    jdbcTemplate.getDataSource(), DatabaseMetaData::getDatabaseProductName);
+            return "MySQL".equalsIgnoreCase(product);
+        } catch (MetaDataAccessException e) {
+            log.warn("DB 종류 확인 실패", e);
+            return false;
+        }
+    }
+
+    /** ngram 파서 FULLTEXT 인덱스가 있는지 (생성은 마이그레이션에서만) */
+    private static boolean hasFullTextIndex(JdbcTemplate jdbcTemplate) {
+        Integer count = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'books' AND index_name = ?
+                """, Integer.class, INDEX_NAME);
+        return count != null && count > 0;
+    }
+}
@@ -0,0 +1,162 @@
+package com.trevari.project.search.engine;
+
+import com.trevari.project.cache.CatalogVersion;
+import com.trevari.project.repository.BookRepository;
+import com.trevari.project.search.SearchMetrics;
+import com.trevari.project.search.index.KeywordMatcher;
+import com.trevari.project.search.index.PostingList;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * 단어(토큰) 역색인 검색 엔진 ({@code search.engine=index}).
+ *
+ * <p>문자/숫자 연속 구간을 토큰으로 보고 토큰 → 정렬된 docId 목록(PostingList)을 정렬된 사전으로 유지합니다.
+ * LIKE '%kw%' 의미를 유지하기 위해 키워드 토큰의 위치에 따라 사전을 찾습니다.
+ * <ul>
+ *   <li>앞뒤가 모두 키워드 안의 구분 문자로 막힌 토큰(가운데 단어): 사전 항목 일치</li>
+ *   <li>앞만 막힌 토큰(마지막 단어): 앞부분 일치 — {@link NavigableMap#subMap} 범위</li>
+ *   <li>뒤만 막힌 토큰(첫 단어): 뒷부분 일치 — 뒤집은 사전의 범위</li>
+ *   <li>키워드가 한 단어 안에 있을 수 있는 토큰(예: {@code ongo}): 사전 항목의 2/3-gram 색인으로 그 토큰을 포함하는 항목만 찾음.
+ *       1글자 토큰은 거의 모든 항목에 들어 있어 후보를 좁히지 않음</li>
+ * </ul>
+ * 토큰별 후보의 교집합을 문서 문자열로 최종 검증합니다. 부분 문자열 검색이 주된 용도라면 n-gram 엔진이 더 적합합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "search.engine", havingValue = "index")
+public class InvertedIndexSearchEngine extends AbstractIndexSearchEngine<InvertedIndexSearchEngine.Terms> {
+
+    private static final int GRAM = 3;
+
+    /** 토큰 사전 */
+    static final class Terms {
+        final NavigableMap<String, PostingList> terms = new TreeMap<>();
+        final NavigableMap<String, PostingList> reversedTerms = new TreeMap<>(); // 뒤집은 항목 → 같은 포스팅
+        final Map<String, List<String>> termsByGram = new HashMap<>();          // 항목의 2/3-gram → 항목들
+    }
+
+    public InvertedIndexSearchEngine(BookRepository bookRepository, CatalogVersion catalogVersion, SearchMetrics metrics) {
+        super(bookRepository, catalogVersion, metrics);
+    }
+
+    @Override
+    protected Terms newIndex() {
+        return new Terms();
+    }
+
+    @Override
+    protected void indexDocument(Terms index, int docId, String text) {
+        for (String token : tokenize(text)) {
+            PostingList list = index.terms.get(token);
+            if (list == null) {
+                list = new PostingList();
+                index.terms.put(token, list);
+                index.reversedTerms.put(reverse(token), list);
+                indexTerm(index, token);
+            }
+            list.add(docId);
+        }
+    }
+
+    @Override
+    protected int[] candidates(Terms index, KeywordMatcher matcher) {
+        int[] result = null;
+        for (String fragment : matcher.fragments()) {
+            int start = -1;
+            for (int i = 0; i <= fragment.length(); i++) {
+                boolean letter = i < fragment.length() && Character.isLetterOrDigit(fragment.charAt(i));
+                if (letter && start < 0) {
+                    start = i;
+                } else if (!letter && start >= 0) {
+                    // 조각 경계(키워드 끝, 와일드카드)에 닿은 쪽은 문서 토큰이 더 이어질 수 있음
+                    BitSet bits = lookup(index, fragment.substring(start, i), start > 0, i < fragment.length());
+                    start = -1;
+                    if (bits == null) {
+                        continue;
+                    }
+                    int[] docs = PostingList.toArray(bits);
+                    result = result == null ? docs : PostingList.intersect(result, docs);
+                    if (result.length == 0) {
+                        return result;
+                    }
+                }
+            }
+        }
+        return result; // 좁힐 수 있는 토큰이 없는 키워드(기호만, 1글자 등)는 null → 전체 검증
+    }
+
+    /** 토큰을 포함할 수 있는 문서 (startsTerm: 문서 토큰의 시작, endsTerm: 문서 토큰의 끝), 좁힐 수 없으면 null */
+    private static BitSet lookup(Terms index, String token, boolean startsTerm, boolean endsTerm) {
+        BitSet bits = new BitSet();
+        if (startsTerm && endsTerm) {
+            PostingList list = index.terms.get(token);
+            if (list != null) list.addTo(bits);
+        } else if (startsTerm) {
+            prefixRange(index.terms, token).values().forEach(list -> list.addTo(bits));
+        } else if (endsTerm) {
+            prefixRange(index.reversedTerms, reverse(token)).values().forEach(list -> list.addTo(bits));
+        } else {
+            if (token.length() < 2) {
+                return null;
+            }
+            List<String> smallest = null;
+            int n = Math.min(GRAM, token.length());
+            for (int i = 0; i + n <= token.length(); i++) {
+                List<String> withGram = index.termsByGram.get(token.substring(i, i + n));
+                if (withGram == null) {
+                    return bits; // 이 gram을 가진 항목이 없음 → 후보 없음
+                }
+                if (smallest == null || withGram.size() < smallest.size()) smallest = withGram;
+            }
+            for (String term : smallest) {
+                if (term.contains(token)) index.terms.get(term).addTo(bits);
+            }
+        }
+        return bits;
+    }
+
+    /** 새 사전 항목의 2-gram, 3-gram 등록 (2글자 항목은 2-gram만) */
+    private static void indexTerm(Terms index, String term) {
+        for (int n = 2; n <= GRAM; n++) {
+            for (int i = 0; i + n <= term.length(); i++) {
+                List<String> withGram = index.termsByGram.computeIfAbsent(term.substring(i, i + n), g -> new ArrayList<>(2));
+                if (withGram.isEmpty() || !withGram.get(withGram.size() - 1).equals(term)) {
+                    withGram.add(term); // 같은 gram이 한 항목에 여러 번 나와도 한 번만
+                }
+            }
+        }
+    }
+
+    private static SortedMap<String, PostingList> prefixRange(NavigableMap<String, PostingList> map, String prefix) {
+        return map.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+    }
+
+    private static String reverse(String s) {
+        return new StringBuilder(s).reverse().toString();
+    }
+
+    /** 문자/숫자 연속 구간 단위 토큰 분리 (입력은 이미 소문자) */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean letter = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (letter && start < 0) {
+                start = i;
+            } else if (!letter && start >= 0) {
+                tokens.add(text.substring(start, i));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,86 @@
+package com.trevari.project.search.engine;
+
+import com.trevari.project.cache.CatalogVersion;
+import com.trevari.project.repository.BookRepository;
+import com.trevari.project.search.SearchMetrics;
+import com.trevari.project.search.index.GramTable;
+import com.trevari.project.search.index.KeywordMatcher;
+import com.trevari.project.search.index.PostingList;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 문자 n-gram 색인 검색 엔진 ({@code search.engine=ngram}).
+ *
+ * <p>필드별 정규화 문자열의 모든 2-gram / 3-gram에 대해 정렬된 docId 목록을 유지합니다.
+ * 부분 문자열 검색({@code LIKE '%kw%'})을 단어 경계와 무관하게 색인으로 처리할 수 있습니다.
+ * <ul>
+ *   <li>3글자 이상 조각: 조각의 모든 trigram 포스팅 교집합 (짧은 목록부터)</li>
+ *   <li>2글자 조각(한글 두 글자 검색 등): bigram 포스팅</li>
+ *   <li>1글자 조각: 색인으로 좁히지 않고 메모리 내 문서 문자열을 검증</li>
+ * </ul>
+ * gram은 필드 구분 문자를 넘지 않으며, 후보는 항상 재검증하므로 결과는 LIKE 검색과 같습니다.
+ */
+@Component
+@ConditionalOnProperty(name = "search.engine", havingValue = "ngram")
+public class NgramIndexSearchEngine extends AbstractIndexSearchEngine<GramTable> {
+
+    public NgramIndexSearchEngine(BookRepository bookRepository, CatalogVersion catalogVersion, SearchMetrics metrics) {
+        super(bookRepository, catalogVersion, metrics);
+    }
+
+    @Override
+    protected GramTable newIndex() {
+        return new GramTable();
+    }
+
+    @Override
+    protected void indexDocument(GramTable grams, int docId, String text) {
+        for (int i = 0; i + 1 < text.length(); i++) {
+            char a = text.charAt(i), b = text.charAt(i + 1);
+            if (b == KeywordMatcher.FIELD_SEPARATOR) {
+                i++; // 다음 필드 시작으로 건너뜀
+                continue;
+            }
+            if (a == KeywordMatcher.FIELD_SEPARATOR) {
+                continue;
+            }
+            grams.getOrCreate(GramTable.bigram(a, b)).add(docId);
+            if (i + 2 < text.length() && text.charAt(i + 2) != KeywordMatcher.FIELD_SEPARATOR) {
+                grams.getOrCreate(GramTable.trigram(a, b, text.charAt(i + 2))).add(docId);
+            }
+        }
+    }
+
+    @Override
+    protected int[] candidates(GramTable grams, KeywordMatcher matcher) {
+        List<PostingList> lists = new ArrayList<>();
+        for (String fragment : matcher.fragments()) {
+            if (fragment.length() == 2) {
+                lists.add(grams.get(GramTable.bigram(fragment.charAt(0), fragment.charAt(1))));
+            }
+            for (int i = 0; i + 2 < fragment.length(); i++) {
+                lists.add(grams.get(GramTable.trigram(fragment.charAt(i), fragment.charAt(i + 1), fragment.charAt(i + 2))));
+            }
+        }
+        if (lists.isEmpty()) {
+            return null; // 1글자 조각만 있는 경우
+        }
+        if (lists.contains(null)) {
+            return PostingList.empty(); // 색인에 없는 gram → 일치 문서 없음
+        }
+
+        lists.sort(Comparator.comparingInt(PostingList::size));
+        int[] result = lists.get(0).toArray();
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            if (lists.get(i) != lists.get(i - 1)) { // 같은 gram 반복은 건너뜀
+                result = lists.get(i).retain(result);
+            }
+        }
+        return result;
+    }
+}
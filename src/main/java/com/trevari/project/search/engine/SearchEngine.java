@@ -0,0 +1,23 @@
+package com.trevari.project.search.engine;
+
+import com.trevari.project.search.SearchPage;
+import com.trevari.project.search.SearchQuery;
+
+/**
+ * 검색 실행 엔진 추상화.
+ *
+ * <p>파싱된 {@link SearchQuery}의 실행 계획을 평가해 요청한 한 페이지 분량의 도서를 반환합니다.
+ * 페이지는 오프셋(page/size) 또는 키셋(직전 페이지의 커서 이후 size건) 방식으로 요청할 수 있으며,
+ * 결과 순서는 엔진마다 고정된 정렬 키를 따르고 다음 페이지 커서를 함께 돌려줍니다.
+ * 사용할 구현체는 {@code search.engine} 설정값으로 선택합니다.
+ * <ul>
+ *   <li>{@code jpa}(기본값): {@link SpecificationSearchEngine} — JPA Specification(LIKE) 기반</li>
+ *   <li>{@code index}: {@link InvertedIndexSearchEngine} — 인메모리 단어 역색인 기반</li>
+ *   <li>{@code ngram}: {@link NgramIndexSearchEngine} — 인메모리 2/3-gram 색인 기반 (부분 문자열 검색에 최적)</li>
+ *   <li>{@code fulltext}: {@link FullTextSearchEngine} — MySQL FULLTEXT(ngram) 인덱스 + LIKE 재검증</li>
+ * </ul>
+ */
+public interface SearchEngine {
+
+    SearchResult search(SearchQuery query, SearchPage page);
+}
@@ -0,0 +1,25 @@
+package com.trevari.project.search.engine;
+
+import com.trevari.project.api.dto.SearchDTOs;
+import com.trevari.project.search.SearchCursor;
+
+import java.util.List;
+
+/**
+ * 검색 엔진 실행 결과: 한 페이지 분량의 도서와 페이징 정보.
+ *
+ * @param books         현재 페이지 도서 (엔진 정렬 순서, 응답 DTO로 바로 조회)
+ * @param totalElements 조건에 맞는 전체 도서 수 (계산하지 않았으면 null)
+ * @param totalExact    {@code totalElements}가 정확한 값인지 여부 (근사치/미계산이면 false)
+ * @param nextCursor    다음 페이지 커서 (마지막 페이지면 null)
+ */
+public record SearchResult(List<SearchDTOs.Book> books, Long totalElements, boolean totalExact, SearchCursor nextCursor) {
+
+    public static SearchResult exact(List<SearchDTOs.Book> books, long totalElements, SearchCursor nextCursor) {
+        return new SearchResult(books, totalElements, true, nextCursor);
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
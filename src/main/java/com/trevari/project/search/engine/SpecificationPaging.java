@@ -0,0 +1,115 @@
+package com.trevari.project.search.engine;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.trevari.project.api.dto.SearchDTOs;
+import com.trevari.project.cache.CatalogVersion;
+import com.trevari.project.domain.Book;
+import com.trevari.project.repository.BookRepository;
+import com.trevari.project.search.SearchCursor;
+import com.trevari.project.search.SearchMetrics;
+import com.trevari.project.search.SearchMetrics.Phase;
+import com.trevari.project.search.SearchPage;
+import com.trevari.project.search.SearchQuery;
+import com.trevari.project.search.TotalMode;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * SQL 기반 엔진 공통 페이징: ISBN(PK) 오름차순 정렬, 응답 DTO 프로젝션으로 size+1건 조회.
+ *
+ * <ul>
+ *   <li>오프셋 모드: {@code ORDER BY isbn LIMIT size+1 OFFSET (page-1)*size}</li>
+ *   <li>키셋 모드: {@code WHERE ... AND isbn > :cursor ORDER BY isbn LIMIT size+1} —
+ *       깊은 페이지에서도 앞 행을 건너뛰지 않고 PK 인덱스로 바로 시작 위치를 찾습니다.</li>
+ * </ul>
+ * 한 건 더 읽어 다음 페이지 여부를 판단하며, 행은 {@link BookRepository#findSearchRows}로
+ * 엔티티 없이 {@link SearchDTOs.Book}에 바로 담습니다.
+ *
+ * <p>전체 건수는 {@link TotalMode}에 따라 계산합니다.
+ * {@code EXACT}는 COUNT 쿼리, {@code NONE}은 계산하지 않고, {@code ESTIMATE}는 조건 COUNT를 실행하지 않습니다.
+ * <ul>
+ *   <li>같은 카탈로그 버전에서 마지막 페이지까지 읽어 정확한 건수를 본 질의는 그 값
+ *       (최대 {@value #ESTIMATE_CACHE_SIZE}개, {@link #ESTIMATE_TTL}, 키에 {@link CatalogVersion} 포함)</li>
+ *   <li>그 밖에는 실행 계획의 추정 선택도 × 전체 도서 수 (전체 도서 수는 카탈로그 버전이 바뀔 때만 다시 셈)</li>
+ *   <li>어느 쪽이든 지금까지 읽은 행 수(+ 다음 페이지가 있으면 1)보다 작게 답하지 않음</li>
+ * </ul>
+ * 오프셋 모드의 마지막 페이지는 COUNT 없이도 정확한 건수를 알 수 있으므로 그 값을 사용합니다.
+ * 본문 쿼리와 COUNT 쿼리 시간은 {@link SearchMetrics}에 각각 {@code query}, {@code count} 구간으로 기록합니다.
+ */
+final class SpecificationPaging {
+
+    private static final Sort ISBN_ASC = Sort.by("isbn");
+    private static final int ESTIMATE_CACHE_SIZE = 1_000;
+    private static final Duration ESTIMATE_TTL = Duration.ofMinutes(5);
+
+    private final BookRepository bookRepository;
+    private final CatalogVersion catalogVersion;
+    private final SearchMetrics metrics;
+    private final Cache<String, Long> estimates = Caffeine.newBuilder()
+            .maximumSize(ESTIMATE_CACHE_SIZE)
+            .expireAfterWrite(ESTIMATE_TTL)
+            .build();
+    private volatile RowCount rowCount; // 추정치의 모수 (카탈로그 버전별)
+
+    private record RowCount(long version, long rows) {}
+
+    SpecificationPaging(BookRepository bookRepository, CatalogVersion catalogVersion, SearchMetrics metrics) {
+        this.bookRepository = bookRepository;
+        this.catalogVersion = catalogVersion;
+        this.metrics = metrics;
+    }
+
+    SearchResult execute(SearchQuery query, Specification<Book> spec, SearchPage page) {
+        long version = catalogVersion.current(); // 조회 전에 읽어 쓰기와 겹친 건수는 다음 버전 키로 밀려나게 함
+        long start = System.nanoTime();
+        List<SearchDTOs.Book> rows = page.isKeyset()
+                ? bookRepository.findSearchRows(spec.and(isbnGreaterThan(page.after().isbn())), ISBN_ASC, 0, page.size() + 1)
+                : bookRepository.findSearchRows(spec, ISBN_ASC, page.offset(), page.size() + 1);
+        metrics.record(Phase.QUERY, query.strategy(), start);
+        boolean hasNext = rows.size() > page.size();
+        List<SearchDTOs.Book> books = hasNext ? rows.subList(0, page.size()) : rows;
+        SearchCursor next = hasNext ? SearchCursor.of(books.get(books.size() - 1).isbn()) : null;
+
+        if (page.total() == TotalMode.NONE) {
+            return new SearchResult(books, null, false, next);
+        }
+        String key = version + ":" + query.strategy() + ":" + query.query();
+        if (!page.isKeyset() && !hasNext && (!books.isEmpty() || page.page() == 1)) {
+            long total = page.offset() + books.size(); // 마지막 페이지: 정확한 건수
+            if (page.total() == TotalMode.ESTIMATE) estimates.put(key, total);
+            return SearchResult.exact(books, total, next);
+        }
+        if (page.total() == TotalMode.EXACT) {
+            return SearchResult.exact(books, count(query, spec), next);
+        }
+        long seen = (page.isKeyset() ? 0 : page.offset()) + books.size() + (hasNext ? 1 : 0);
+        Long observed = estimates.getIfPresent(key);
+        long estimate = observed != null ? observed : Math.round(query.plan().selectivity() * rows(version));
+        return new SearchResult(books, Math.max(seen, estimate), false, next);
+    }
+
+    /** 전체 도서 수 (카탈로그 버전이 같으면 다시 세지 않음) */
+    private long rows(long version) {
+        RowCount cached = rowCount;
+        if (cached == null || cached.version() != version) {
+            cached = new RowCount(version, bookRepository.count());
+            rowCount = cached;
+        }
+        return cached.rows();
+    }
+
+    private long count(SearchQuery query, Specification<Book> spec) {
+        long start = System.nanoTime();
+        long count = bookRepository.count(spec);
+        metrics.record(Phase.COUNT, query.strategy(), start);
+        return count;
+    }
+
+    private static Specification<Book> isbnGreaterThan(String isbn) {
+        return (root, query, cb) -> cb.greaterThan(root.get("isbn"), isbn);
+    }
+}
@@ -0,0 +1,32 @@
+package com.trevari.project.search.engine;
+
+import com.trevari.project.cache.CatalogVersion;
+import com.trevari.project.repository.BookRepository;
+import com.trevari.project.search.BookSpecifications;
+import com.trevari.project.search.SearchMetrics;
+import com.trevari.project.search.SearchPage;
+import com.trevari.project.search.SearchQuery;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * JPA Specification 기반 검색 엔진 (기본값).
+ * 요청마다 {@link BookSpecifications#forQuery(SearchQuery)}로 LIKE 조건을 조립해 DB에서 직접 조회합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "search.engine", havingValue = "jpa", matchIfMissing = true)
+public class SpecificationSearchEngine implements SearchEngine {
+
+    private final SpecificationPaging paging;
+
+    public SpecificationSearchEngine(BookRepository bookRepository, CatalogVersion catalogVersion, SearchMetrics metrics) {
+        this.paging = new SpecificationPaging(bookRepository, catalogVersion, metrics);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SearchResult search(SearchQuery query, SearchPage page) {
+        return paging.execute(query, BookSpecifications.forQuery(query), page);
+    }
+}
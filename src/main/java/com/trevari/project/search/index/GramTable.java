@@ -0,0 +1,73 @@
+package com.trevari.project.search.index;
+
+import java.util.Arrays;
+
+/**
+ * n-gram 키(long) → {@link PostingList} 오픈 어드레싱 해시 테이블.
+ *
+ * <p>문자 2~3개를 하나의 long으로 인코딩해 박싱 없이 보관합니다.
+ * (상위 비트에 gram 길이를 넣으므로 0은 빈 슬롯 표시로 사용)
+ */
+public final class GramTable {
+
+    private long[] keys = new long[1 << 12];
+    private PostingList[] values = new PostingList[1 << 12];
+    private int size;
+
+    /** 2글자 gram 키 */
+    public static long bigram(char a, char b) {
+        return (2L << 48) | ((long) a << 16) | b;
+    }
+
+    /** 3글자 gram 키 */
+    public static long trigram(char a, char b, char c) {
+        return (3L << 48) | ((long) a << 32) | ((long) b << 16) | c;
+    }
+
+    public PostingList get(long key) {
+        int mask = keys.length - 1;
+        for (int i = slot(key, mask); ; i = (i + 1) & mask) {
+            if (keys[i] == key) return values[i];
+            if (keys[i] == 0) return null;
+        }
+    }
+
+    public PostingList getOrCreate(long key) {
+        int mask = keys.length - 1;
+        int i = slot(key, mask);
+        for (; keys[i] != 0; i = (i + 1) & mask) {
+            if (keys[i] == key) return values[i];
+        }
+        PostingList list = new PostingList();
+        keys[i] = key;
+        values[i] = list;
+        if (++size * 2 > keys.length) {
+            resize();
+        }
+        return list;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        PostingList[] oldValues = values;
+        keys = new long[oldKeys.length * 2];
+        values = new PostingList[oldValues.length * 2];
+        int mask = keys.length - 1;
+        for (int j = 0; j < oldKeys.length; j++) {
+            if (oldKeys[j] == 0) continue;
+            int i = slot(oldKeys[j], mask);
+            while (keys[i] != 0) i = (i + 1) & mask;
+            keys[i] = oldKeys[j];
+            values[i] = oldValues[j];
+        }
+    }
+
+    private static int slot(long key, int mask) {
+        long h = key * 0x9E3779B97F4A7C15L; // Fibonacci hashing
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,105 @@
+package com.trevari.project.search.index;
+
+import com.trevari.project.domain.SearchText;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 인메모리 색인용 키워드 검증기: {@code search_text LIKE '%kw%'}와 같은 결과를 내도록 구현합니다.
+ *
+ * <p>LIKE 와일드카드({@code %}, {@code _})도 DB와 동일하게 해석합니다.
+ * (Hibernate는 {@code like ? escape ''}로 렌더링하므로 이스케이프 문자는 없음)
+ * 와일드카드가 없는 일반 키워드는 {@link String#contains}로, 있으면 정규식으로 검증합니다.
+ * 색인 문서는 DB의 {@code search_text}와 같은 문자열({@link SearchText#document})이므로 와일드카드는 DB와 마찬가지로
+ * 필드 경계를 넘어 일치할 수 있고({@code java%manning}), 리터럴 글자는 구분 문자와 일치하지 않습니다.
+ */
+public final class KeywordMatcher {
+
+    /** 색인 문서에서 필드 사이에 넣는 구분 문자 (정규화된 값에는 등장하지 않음) */
+    public static final char FIELD_SEPARATOR = SearchText.FIELD_SEPARATOR;
+
+    private static final KeywordMatcher NEVER = new KeywordMatcher(null, null, List.of());
+
+    private final String literal;   // 와일드카드가 없을 때의 리터럴 키워드
+    private final Pattern pattern;  // 와일드카드가 있을 때만 사용
+    private final List<String> fragments;
+
+    private KeywordMatcher(String literal, Pattern pattern, List<String> fragments) {
+        this.literal = literal;
+        this.pattern = pattern;
+        this.fragments = fragments;
+    }
+
+    public static KeywordMatcher of(String keyword) {
+        String kw = keyword.toLowerCase(Locale.ROOT);
+        if (kw.indexOf(FIELD_SEPARATOR) >= 0) {
+            return NEVER; // 필드 경계를 넘는 키워드는 LIKE에서도 일치할 수 없음
+        }
+        StringBuilder regex = new StringBuilder();
+        StringBuilder fragment = new StringBuilder();
+        List<String> fragments = new ArrayList<>();
+        boolean wildcard = false;
+
+        for (int i = 0; i < kw.length(); i++) {
+            char c = kw.charAt(i);
+            if (c == '%' || c == '_') {
+                wildcard = true;
+                flush(fragment, fragments, regex);
+                regex.append(c == '%' ? ".*" : ".");
+                continue;
+            }
+            fragment.append(c);
+        }
+        flush(fragment, fragments, regex);
+
+        if (!wildcard) {
+            return new KeywordMatcher(kw, null, fragments);
+        }
+        return new KeywordMatcher(null, Pattern.compile(regex.toString(), Pattern.DOTALL), List.copyOf(fragments));
+    }
+
+    private static void flush(StringBuilder fragment, List<String> fragments, StringBuilder regex) {
+        if (fragment.isEmpty()) return;
+        fragments.add(fragment.toString());
+        regex.append(Pattern.quote(fragment.toString()));
+        fragment.setLength(0);
+    }
+
+    /** 정규화된 문서 문자열({@link SearchText#document})이 키워드를 포함하는지 검증 */
+    public boolean matches(String text) {
+        if (literal != null) {
+            return text.contains(literal);
+        }
+        return pattern != null && pattern.matcher(text).find();
+    }
+
+    /**
+     * 색인 문서 문자열의 {@code field}번째 필드(0-base, 구분 문자 기준)만 검증 (필드 한정 검색어).
+     * {@code prefix}면 필드 앞부분 일치({@code LIKE 'kw%'}), 아니면 필드 안 포함.
+     */
+    public boolean matchesField(String text, int field, boolean prefix) {
+        int from = 0;
+        for (int i = 0; i < field; i++) {
+            from = text.indexOf(FIELD_SEPARATOR, from) + 1;
+            if (from == 0) return false;
+        }
+        int to = text.indexOf(FIELD_SEPARATOR, from);
+        if (to < 0) to = text.length();
+        if (literal != null) {
+            int at = prefix ? (text.startsWith(literal, from) ? from : -1) : text.indexOf(literal, from);
+            return at >= 0 && at + literal.length() <= to;
+        }
+        if (pattern == null) return false;
+        Matcher matcher = pattern.matcher(text).region(from, to);
+        return prefix ? matcher.lookingAt() : matcher.find();
+    }
+
+    /** 일치하는 문서라면 반드시 그대로 포함하고 있어야 하는 리터럴 조각들 (후보 추출용) */
+    public List<String> fragments() {
+        return fragments;
+    }
+}
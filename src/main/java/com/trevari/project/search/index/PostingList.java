@@ -0,0 +1,108 @@
+package com.trevari.project.search.index;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * 정렬된 문서 번호(docId) 목록.
+ *
+ * <p>박싱 없이 {@code int[]}에 docId를 오름차순으로 보관합니다.
+ * docId는 색인 순서대로 증가하므로 {@link #add(int)}는 항상 끝에 덧붙이기만 합니다.
+ */
+public final class PostingList {
+
+    private static final int[] EMPTY = new int[0];
+
+    private int[] docs = new int[4];
+    private int size;
+
+    /** docId 추가: 직전 값과 같으면(같은 문서 안의 중복 토큰) 무시 */
+    public void add(int docId) {
+        if (size > 0 && docs[size - 1] >= docId) {
+            return;
+        }
+        if (size == docs.length) {
+            docs = Arrays.copyOf(docs, size + (size >> 1));
+        }
+        docs[size++] = docId;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /** 합집합 계산용: 이 목록의 docId를 비트셋에 OR */
+    public void addTo(BitSet bits) {
+        for (int i = 0; i < size; i++) {
+            bits.set(docs[i]);
+        }
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOf(docs, size);
+    }
+
+    /**
+     * 정렬된 후보 배열과의 교집합.
+     * 후보가 적고 이 목록이 길 때를 위해 지수 탐색(galloping)으로 건너뜁니다.
+     */
+    public int[] retain(int[] candidates) {
+        int[] out = new int[Math.min(candidates.length, size)];
+        int n = 0, lo = 0;
+        for (int doc : candidates) {
+            int bound = 1;
+            while (lo + bound < size && docs[lo + bound] < doc) bound <<= 1;
+            int idx = Arrays.binarySearch(docs, lo, Math.min(lo + bound + 1, size), doc);
+            if (idx >= 0) {
+                out[n++] = doc;
+                lo = idx + 1;
+            } else {
+                lo = -idx - 1;
+            }
+            if (lo >= size) break;
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    // ---- 정렬된 int[] 집합 연산 ----
+
+    public static int[] empty() {
+        return EMPTY;
+    }
+
+    public static int[] toArray(BitSet bits) {
+        return bits.stream().toArray();
+    }
+
+    /** 교집합: 두 정렬 배열을 병합하며 공통 원소만 남김 */
+    public static int[] intersect(int[] a, int[] b) {
+        int[] out = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) i++;
+            else if (a[i] > b[j]) j++;
+            else {
+                out[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    /** 합집합: 두 정렬 배열을 병합 (중복 제거) */
+    public static int[] union(int[] a, int[] b) {
+        int[] out = new int[a.length + b.length];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length || j < b.length) {
+            if (j >= b.length || (i < a.length && a[i] < b[j])) out[n++] = a[i++];
+            else if (i >= a.length || b[j] < a[i]) out[n++] = b[j++];
+            else {
+                out[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+}
@@ -0,0 +1,206 @@
+package com.trevari.project.search.query;
+
+import com.trevari.project.exception.BadRequestException;
+import com.trevari.project.search.query.QueryNode.Field;
+import com.trevari.project.search.query.QueryNode.Term;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 질의 문자열 → 토큰 (검색어, {@code | & - ( )}).
+ *
+ * <p>연산자 사이의 글자는 공백을 포함해 모두 한 검색어입니다 ({@code learn javascript}는 구문 하나, 기존 동작과 동일).
+ * {@code |}와 {@code -}는 항상 연산자지만, 검색어에 흔히 들어가는 {@code &}와 괄호는 연산자로 읽힐 수 있는 자리에서만 연산자입니다.
+ * <ul>
+ *   <li>{@code &}: 양옆이 모두 검색어 글자(공백/연산자/따옴표가 아닌 글자)면 글자 그대로 ({@code at&t}), 아니면 AND ({@code a & b})</li>
+ *   <li>{@code (}: 피연산자가 올 자리(질의 맨 앞, 연산자 뒤)에 있고 짝이 되는 {@code )}가 있을 때만 그룹.
+ *       검색어 중간의 괄호({@code java (2nd)})와 짝 없는 괄호는 글자 그대로</li>
+ *   <li>{@code )}: 짝이 그룹 {@code (}일 때만 그룹 닫기</li>
+ * </ul>
+ * 검색어 앞뒤 공백은 무시하고, 큰따옴표 안은 연산자 문자와 앞뒤 공백까지 그대로 검색어에 넣습니다
+ * ({@code "spring-boot"}, {@code "c|c++"}). 따옴표 자체는 검색어에 넣을 수 없습니다.
+ *
+ * <p>검색어가 {@code title:}/{@code author:}/{@code publisher:}/{@code isbn:}로 시작하면 필드 한정자이고,
+ * 이때 끝의 따옴표 밖 {@code *}는 앞부분 일치 표시입니다 ({@code title:spring*}).
+ * 한정자 없는 검색어의 {@code *}와 따옴표로 시작하는 {@code "title:x"}는 글자 그대로입니다.
+ */
+final class QueryLexer {
+
+    static final String OPERATORS = "|&-()";
+    static final char TERM = 'T';
+
+    /** 이 토큰 뒤에는 피연산자가 옴 (여기서 시작하는 {@code (}는 그룹) */
+    private static final String OPERAND_FOLLOWS = "|&-(";
+
+    /**
+     * @param type     {@link #TERM} 또는 연산자 문자
+     * @param field    검색어의 필드 한정자 (없으면 null)
+     * @param prefix   한정자 검색어 끝의 {@code *} (앞부분 일치)
+     * @param position 원문 기준 0-base 위치
+     */
+    record Token(char type, String text, Field field, boolean prefix, int position) {}
+
+    private QueryLexer() {}
+
+    static List<Token> tokenize(String q) {
+        List<Token> tokens = new ArrayList<>(8);
+        int n = q.length();
+        int[] pairs = pairParens(q);                            // 괄호가 없으면 null
+        boolean[] groups = pairs == null ? null : new boolean[n]; // 그룹으로 읽은 '('의 위치
+        int i = 0;
+        while (i < n) {
+            char c = q.charAt(i);
+            if (c <= ' ') {
+                i++;
+                continue;
+            }
+            if (c == '(' && pairs[i] >= 0
+                    && (tokens.isEmpty() || OPERAND_FOLLOWS.indexOf(tokens.get(tokens.size() - 1).type()) >= 0)) {
+                groups[i] = true;
+            }
+            if (c != '(' && isOperator(q, i, pairs, groups) || c == '(' && groups[i]) {
+                tokens.add(new Token(c, null, null, false, i));
+                i++;
+                continue;
+            }
+
+            int position = i;
+            Field field = Field.at(q, i);
+            if (field != null) {
+                i += field.qualifier().length();
+                while (i < n && q.charAt(i) <= ' ') i++; // title: spring
+            }
+            int start = i;
+            StringBuilder quoted = null; // 따옴표가 나올 때만 사용 (없으면 원문 부분 문자열)
+            int end = i;                 // 원문 기준 마지막 공백 아닌 글자 다음 위치
+            int keep = 0;                // quoted 기준 뒤쪽 공백을 제외한 길이 (따옴표 안 공백은 유지)
+            boolean star = false;        // 마지막 공백 아닌 글자가 따옴표 밖의 '*'
+            while (i < n) {
+                c = q.charAt(i);
+                if (c == '"') {
+                    int close = q.indexOf('"', i + 1);
+                    if (close < 0) {
+                        throw new BadRequestException("Invalid search query: unterminated quote at position " + i);
+                    }
+                    if (quoted == null) {
+                        quoted = new StringBuilder(q.length()).append(q, start, i);
+                    }
+                    quoted.append(q, i + 1, close);
+                    keep = quoted.length();
+                    star = false;
+                    i = close + 1;
+                    end = i;
+                    continue;
+                }
+                if (isOperator(q, i, pairs, groups)) {
+                    break;
+                }
+                if (quoted != null) {
+                    quoted.append(c);
+                    if (c > ' ') {
+                        keep = quoted.length();
+                        star = c == '*';
+                    }
+                } else if (c > ' ') {
+                    end = i + 1;
+                    star = c == '*';
+                }
+                i++;
+            }
+            boolean prefix = field != null && star; // 한정자 없는 검색어의 '*'는 글자 그대로
+            String term;
+            if (quoted == null) {
+                term = q.substring(start, prefix ? end - 1 : end);
+            } else {
+                quoted.setLength(prefix ? keep - 1 : keep);
+                term = quoted.toString();
+            }
+            if (term.isBlank()) {
+                throw new BadRequestException("Invalid search query: blank keyword at position " + start);
+            }
+            tokens.add(new Token(TERM, prefix ? term.stripTrailing() : term, field, prefix, position));
+        }
+        return tokens;
+    }
+
+    /** {@code i}의 글자가 연산자인지 (검색어 중간의 '('는 항상 글자 그대로) */
+    private static boolean isOperator(String q, int i, int[] pairs, boolean[] groups) {
+        return switch (q.charAt(i)) {
+            case '|', '-' -> true;
+            case '&' -> !(isTermChar(q, i - 1) && isTermChar(q, i + 1));
+            case ')' -> pairs[i] >= 0 && groups[pairs[i]];
+            default -> false;
+        };
+    }
+
+    private static boolean isTermChar(String q, int i) {
+        if (i < 0 || i >= q.length()) {
+            return false;
+        }
+        char c = q.charAt(i);
+        return c > ' ' && c != '"' && OPERATORS.indexOf(c) < 0;
+    }
+
+    /** 따옴표 밖 괄호의 짝 위치 (짝이 없으면 -1, 괄호가 하나도 없으면 null) */
+    private static int[] pairParens(String q) {
+        int[] pairs = null;
+        int[] open = null;
+        int depth = 0;
+        for (int i = 0; i < q.length(); i++) {
+            char c = q.charAt(i);
+            if (c == '"') {
+                int close = q.indexOf('"', i + 1);
+                if (close < 0) break; // 닫히지 않은 따옴표는 토큰화에서 오류
+                i = close;
+            } else if (c == '(' || c == ')') {
+                if (pairs == null) {
+                    pairs = new int[q.length()];
+                    open = new int[q.length()];
+                    Arrays.fill(pairs, -1);
+                }
+                if (c == '(') {
+                    open[depth++] = i;
+                } else if (depth > 0) {
+                    int j = open[--depth];
+                    pairs[i] = j;
+                    pairs[j] = i;
+                }
+            }
+        }
+        return pairs;
+    }
+
+    /** 검색어를 다시 같은 토큰으로 읽히도록 출력 (연산자로 읽힐 글자/따옴표/앞뒤 공백/한정자처럼 읽히는 글자가 있으면 따옴표로 감쌈) */
+    static void appendTerm(StringBuilder sb, Term term) {
+        String keyword = term.keyword();
+        if (term.field() != null) {
+            sb.append(term.field().qualifier());
+        }
+        boolean quote = keyword.isEmpty() || keyword.charAt(0) <= ' ' || keyword.charAt(keyword.length() - 1) <= ' '
+                || Field.at(keyword, 0) != null || keyword.charAt(0) == '('
+                || term.field() != null && keyword.charAt(keyword.length() - 1) == '*';
+        int depth = 0; // 괄호 짝이 검색어 안에서 맞아야 앞뒤 질의와 섞이지 않음
+        for (int i = 0; i < keyword.length() && !quote; i++) {
+            char c = keyword.charAt(i);
+            if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                quote = --depth < 0;
+            } else {
+                quote = c == '"' || c == '|' || c == '-'
+                        || c == '&' && !(isTermChar(keyword, i - 1) && isTermChar(keyword, i + 1));
+            }
+        }
+        quote |= depth != 0;
+        if (quote) {
+            sb.append('"').append(keyword).append('"');
+        } else {
+            sb.append(keyword);
+        }
+        if (term.prefix()) {
+            sb.append('*');
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.trevari.project.search.query;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색 질의 구문 트리.
+ *
+ * <p>{@link QueryParser}가 만들고 {@link QueryPlanner}가 실행 순서를 정해 {@link QueryPlan}으로 감쌉니다.
+ * 엔진은 트리를 그대로 평가하며, {@link And}/{@link Or}의 자식 순서가 곧 평가 순서입니다.
+ */
+public sealed interface QueryNode permits QueryNode.Term, QueryNode.And, QueryNode.Or, QueryNode.Not {
+
+    /**
+     * 검색어 하나.
+     * <ul>
+     *   <li>한정자 없음({@code field == null}): 5개 필드 중 하나라도 {@code keyword}를 포함하면 참 ({@code LIKE '%keyword%'})</li>
+     *   <li>{@code title:}/{@code author:}/{@code publisher:}: 그 필드만 — {@code prefix}면 앞부분 일치({@code LIKE 'keyword%'})</li>
+     *   <li>{@code isbn:}: 항상 앞부분 일치 (ISBN-13 전체 값이면 PK 일치), {@code prefix}는 쓰지 않음</li>
+     * </ul>
+     */
+    record Term(String keyword, Field field, boolean prefix) implements QueryNode {
+
+        /** 한정자 없는 검색어 */
+        public Term(String keyword) {
+            this(keyword, null, false);
+        }
+
+        /** {@code isbn:} ISBN-13 전체 값: 앞부분 일치 대신 PK 일치 */
+        public boolean exactIsbn() {
+            return field == Field.ISBN && keyword.length() == 13;
+        }
+
+        /** 인덱스로 찾는 검색어: ISBN(PK) 또는 인덱스가 있는 필드의 앞부분 일치 */
+        public boolean indexed() {
+            return field != null && (field == Field.ISBN || prefix && field.indexed());
+        }
+    }
+
+    /** 검색어 필드 한정자 ({@code title:spring}) */
+    enum Field {
+        ISBN(true), TITLE(true), AUTHOR(true), PUBLISHER(false);
+
+        private static final Field[] VALUES = values();
+
+        private final String column = name().toLowerCase(Locale.ROOT);
+        private final String qualifier = column + ":";
+        private final boolean indexed;
+
+        Field(boolean indexed) {
+            this.indexed = indexed;
+        }
+
+        /** {@code Book} 속성 / 컬럼 이름 */
+        public String column() {
+            return column;
+        }
+
+        /** 질의 문법의 한정자 ({@code title:}) */
+        public String qualifier() {
+            return qualifier;
+        }
+
+        /** 컬럼 인덱스가 있어 앞부분 일치를 인덱스 범위 조회로 처리할 수 있는지 (ISBN은 PK) */
+        public boolean indexed() {
+            return indexed;
+        }
+
+        /** {@code q}의 {@code offset} 위치에서 시작하는 한정자 (소문자 입력 기준, 없으면 null) */
+        static Field at(String q, int offset) {
+            for (Field field : VALUES) {
+                if (q.startsWith(field.qualifier, offset)) {
+                    return field;
+                }
+            }
+            return null;
+        }
+    }
+
+    /** 모든 자식이 참 (2개 이상) */
+    record And(List<QueryNode> children) implements QueryNode {}
+
+    /** 자식 중 하나라도 참 (2개 이상) */
+    record Or(List<QueryNode> children) implements QueryNode {}
+
+    /** 자식이 거짓 ({@link And} 안에서만 등장: {@code a - b} = {@code a & not b}) */
+    record Not(QueryNode child) implements QueryNode {}
+
+    /** 다시 파싱하면 같은 계획이 되는 한 줄 표현 (연산자 주변 공백 없음, 괄호는 우선순위상 필요할 때만) */
+    default String render() {
+        StringBuilder sb = new StringBuilder(32);
+        render(this, sb, 0);
+        return sb.toString();
+    }
+
+    /** 결합 우선순위: | &lt; &amp;,- &lt; 부정 대상 */
+    private static int precedence(QueryNode node) {
+        return node instanceof Or ? 1 : node instanceof And ? 2 : 3;
+    }
+
+    private static void render(QueryNode node, StringBuilder sb, int parentPrecedence) {
+        if (node instanceof Term t) {
+            QueryLexer.appendTerm(sb, t);
+            return;
+        }
+        if (node instanceof Not n) {
+            sb.append('-');
+            render(n.child(), sb, 3);
+            return;
+        }
+        List<QueryNode> children = node instanceof And a ? a.children() : ((Or) node).children();
+        String operator = node instanceof And ? " & " : "|"; // 붙여 쓴 a&b는 글자 그대로 읽히므로 AND는 띄어 씀
+        int precedence = precedence(node);
+        boolean group = precedence < parentPrecedence;
+        if (group) sb.append('(');
+        for (int i = 0; i < children.size(); i++) {
+            QueryNode child = children.get(i);
+            if (child instanceof Not not) {
+                sb.append('-'); // And 안의 Not: a-b
+                render(not.child(), sb, 3);
+                continue;
+            }
+            if (i > 0) sb.append(operator);
+            render(child, sb, precedence);
+        }
+        if (group) sb.append(')');
+    }
+}
@@ -0,0 +1,158 @@
+package com.trevari.project.search.query;
+
+import com.trevari.project.exception.BadRequestException;
+import com.trevari.project.search.query.QueryLexer.Token;
+import com.trevari.project.search.query.QueryNode.And;
+import com.trevari.project.search.query.QueryNode.Field;
+import com.trevari.project.search.query.QueryNode.Not;
+import com.trevari.project.search.query.QueryNode.Or;
+import com.trevari.project.search.query.QueryNode.Term;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 불리언 검색 질의 파서 (재귀 하강).
+ *
+ * <pre>
+ * expression  := conjunction ('|' conjunction)*
+ * conjunction := operand (('&amp;' | '-') operand)*      a-b = a &amp; not b
+ * operand     := keyword | '(' expression ')'
+ * keyword     := [field ':'] text ['*']             field = title | author | publisher | isbn
+ * </pre>
+ * {@code &}와 {@code -}는 {@code |}보다 먼저 묶입니다 ({@code a-b|c} = {@code (a-b)|c}).
+ * {@code &}와 괄호가 연산자인 자리는 {@link QueryLexer}가 정합니다 ({@code at&t}, {@code java (2nd)}는 검색어 하나).
+ * 모든 연산자는 양쪽에 피연산자가 필요하므로 부정만 있는 질의({@code -b})는 만들 수 없습니다.
+ * 검색어는 최대 {@value #MAX_TERMS}개, 괄호 중첩은 최대 {@value #MAX_DEPTH}단계입니다.
+ */
+public final class QueryParser {
+
+    static final int MAX_TERMS = 16;
+    static final int MAX_DEPTH = 8;
+
+    private final List<Token> tokens;
+    private int pos;
+    private int terms;
+
+    private QueryParser(List<Token> tokens) {
+        this.tokens = tokens;
+    }
+
+    /** 정규화(소문자)된 질의 문자열 → 구문 트리 (자식 순서는 입력 순서 그대로) */
+    public static QueryNode parse(String q) {
+        List<Token> tokens = QueryLexer.tokenize(q);
+        if (tokens.isEmpty()) {
+            throw new BadRequestException("search query must not be blank");
+        }
+        QueryParser parser = new QueryParser(tokens);
+        QueryNode node = parser.expression(0);
+        if (parser.pos < tokens.size()) {
+            throw parser.unexpected(tokens.get(parser.pos));
+        }
+        return node;
+    }
+
+    private QueryNode expression(int depth) {
+        QueryNode first = conjunction(depth);
+        if (!peek('|')) {
+            return first;
+        }
+        List<QueryNode> operands = new ArrayList<>(4);
+        operands.add(first);
+        while (accept('|')) {
+            operands.add(conjunction(depth));
+        }
+        return new Or(Collections.unmodifiableList(operands));
+    }
+
+    private QueryNode conjunction(int depth) {
+        QueryNode first = operand(depth);
+        if (!peek('&') && !peek('-')) {
+            return first;
+        }
+        List<QueryNode> operands = new ArrayList<>(4);
+        operands.add(first);
+        while (true) {
+            if (accept('&')) {
+                operands.add(operand(depth));
+            } else if (accept('-')) {
+                operands.add(new Not(operand(depth)));
+            } else {
+                return new And(Collections.unmodifiableList(operands));
+            }
+        }
+    }
+
+    private QueryNode operand(int depth) {
+        if (pos >= tokens.size()) {
+            throw new BadRequestException("Invalid search query: missing keyword after '"
+                    + tokens.get(pos - 1).type() + "' at position " + tokens.get(pos - 1).position());
+        }
+        Token token = tokens.get(pos++);
+        if (token.type() == QueryLexer.TERM) {
+            if (++terms > MAX_TERMS) {
+                throw new BadRequestException("Invalid search query: too many keywords (max " + MAX_TERMS + ")");
+            }
+            return term(token);
+        }
+        if (token.type() == '(') {
+            if (depth >= MAX_DEPTH) {
+                throw new BadRequestException("Invalid search query: too deeply nested (max " + MAX_DEPTH + ")");
+            }
+            QueryNode inner = expression(depth + 1);
+            if (!accept(')')) {
+                throw pos < tokens.size() ? unexpected(tokens.get(pos))
+                        : new BadRequestException("Invalid search query: missing ')' for '(' at position " + token.position());
+            }
+            return inner;
+        }
+        throw unexpected(token);
+    }
+
+    /** 검색어 토큰 → {@link Term}: {@code isbn:}은 하이픈/공백을 빼고 숫자(+ 마지막 X)만 허용, {@code *}는 무시 (항상 앞부분 일치) */
+    private static Term term(Token token) {
+        if (token.field() != Field.ISBN) {
+            return new Term(token.text(), token.field(), token.prefix());
+        }
+        StringBuilder isbn = new StringBuilder(token.text().length());
+        for (int i = 0; i < token.text().length(); i++) {
+            char c = token.text().charAt(i);
+            if (c == '-' || c <= ' ') continue;
+            if (c < '0' || c > '9') {
+                if (c != 'x' || i != token.text().length() - 1) throw invalidIsbn(token);
+            }
+            isbn.append(c);
+        }
+        if (isbn.isEmpty() || isbn.length() > 13) {
+            throw invalidIsbn(token);
+        }
+        return new Term(isbn.toString(), Field.ISBN, false);
+    }
+
+    private static BadRequestException invalidIsbn(Token token) {
+        return new BadRequestException("Invalid search query: isbn: expects up to 13 digits at position " + token.position());
+    }
+
+    private boolean peek(char type) {
+        return pos < tokens.size() && tokens.get(pos).type() == type;
+    }
+
+    private boolean accept(char type) {
+        if (peek(type)) {
+            pos++;
+            return true;
+        }
+        return false;
+    }
+
+    private BadRequestException unexpected(Token token) {
+        if (token.type() == QueryLexer.TERM) {
+            return new BadRequestException("Invalid search query: unexpected keyword '" + token.text()
+                    + "' at position " + token.position() + " (combine with '&', '|' or '-')");
+        }
+        String hint = token.type() == '(' || token.type() == ')' ? "" : " (operators need keywords on both sides, e.g. 'a|b', 'a-b')";
+        return new BadRequestException("Invalid search query: unexpected '" + token.type()
+                + "' at position " + token.position() + hint);
+    }
+}
@@ -0,0 +1,37 @@
+package com.trevari.project.search.query;
+
+import com.trevari.project.search.SearchStrategy;
+import com.trevari.project.search.query.QueryNode.And;
+import com.trevari.project.search.query.QueryNode.Not;
+import com.trevari.project.search.query.QueryNode.Or;
+import com.trevari.project.search.query.QueryNode.Term;
+
+import java.util.List;
+
+/**
+ * 실행 계획: {@link QueryPlanner}가 정리/정렬한 트리와 그 형태, 추정치.
+ *
+ * @param root        평가할 트리 (자식 순서 = 평가 순서)
+ * @param strategy    트리 형태 ({@link SearchStrategy})
+ * @param selectivity 추정 선택도 (조건을 만족하는 행의 비율, 0~1)
+ * @param cost        행 하나를 판정하는 데 드는 추정 검색어 평가 횟수 (단락 평가 반영)
+ */
+public record QueryPlan(QueryNode root, SearchStrategy strategy, double selectivity, double cost) {
+
+    /** 기존 2항 질의 필드(left/right/strategy)로 만든 계획 */
+    public static QueryPlan legacy(String left, String right, SearchStrategy strategy) {
+        QueryNode root = switch (strategy) {
+            case SIMPLE -> new Term(left);
+            case OR_OPERATION -> new Or(List.of(new Term(left), new Term(right)));
+            case NOT_OPERATION -> new And(List.of(new Term(left), new Not(new Term(right))));
+            case AND_OPERATION -> new And(List.of(new Term(left), new Term(right)));
+            case BOOLEAN, FIELD -> throw new IllegalArgumentException(strategy + " query needs a parsed plan");
+        };
+        return QueryPlanner.plan(root);
+    }
+
+    /** EXPLAIN: 계획 한 줄 표현 + 노드별 추정치 트리 */
+    public List<String> explain() {
+        return QueryPlanner.explain(this);
+    }
+}
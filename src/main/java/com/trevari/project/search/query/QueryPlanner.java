@@ -0,0 +1,221 @@
+package com.trevari.project.search.query;
+
+import com.trevari.project.search.SearchStrategy;
+import com.trevari.project.search.query.QueryNode.And;
+import com.trevari.project.search.query.QueryNode.Field;
+import com.trevari.project.search.query.QueryNode.Not;
+import com.trevari.project.search.query.QueryNode.Or;
+import com.trevari.project.search.query.QueryNode.Term;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 구문 트리 → 실행 계획.
+ *
+ * <ol>
+ *   <li>평탄화: {@code (a&b)&c} → {@code a&b&c}, {@code (a|b)|c} → {@code a|b|c}</li>
+ *   <li>중복 제거: {@code a|a} → {@code a}, 흡수: {@code a&(a|b)} → {@code a}, {@code a|(a&b)} → {@code a}</li>
+ *   <li>정렬: AND는 긍정 조건을 {@code cost / (1 - selectivity)} 오름차순(잘 걸러내고 싼 조건 먼저), NOT은 항상 마지막.
+ *       OR은 {@code cost / selectivity} 오름차순(잘 맞고 싼 조건 먼저)</li>
+ * </ol>
+ * SQL 엔진은 이 순서대로 WHERE 조건을 만들어 행마다 단락 평가하고,
+ * 색인 엔진은 AND의 첫 긍정 조건만 색인으로 찾은 뒤 나머지(NOT 포함)는 그 후보 문서 문자열로 검증합니다.
+ *
+ * <p>선택도는 통계 없이 검색어 길이로 추정합니다: 와일드카드를 뺀 글자 수 L에 대해
+ * {@code max(}{@value #MIN_SELECTIVITY}{@code , }{@value #CHAR_SELECTIVITY}{@code ^L)} — 긴 검색어일수록 드뭅니다.
+ * 검색어 평가 1회(5개 필드 LIKE)의 비용을 1로 봅니다. 필드 한정 검색어는 {@value #FIELD_COST},
+ * 인덱스로 찾는 검색어({@code isbn:}, {@code title:}/{@code author:} 앞부분 일치)는 {@value #INDEXED_COST}라서
+ * AND에서 항상 먼저 평가되고, SQL/색인 엔진은 이를 후보 추출에 씁니다. ISBN 앞부분 일치는 숫자마다 선택도 1/10입니다.
+ */
+public final class QueryPlanner {
+
+    static final double CHAR_SELECTIVITY = 0.7;
+    static final double MIN_SELECTIVITY = 0.0001;
+    /** 한 필드만 보는 검색어 (5개 필드 LIKE 중 하나) */
+    static final double FIELD_COST = 0.2;
+    /** 인덱스로 찾는 검색어 (PK 일치, 컬럼 앞부분 일치): 행마다 판정하지 않고 인덱스 범위만 읽음 */
+    static final double INDEXED_COST = 0.01;
+
+    /** 긍정 조건 먼저, 그 안에서는 rank 오름차순 (NOT끼리도 rank 순) */
+    private static final Comparator<QueryNode> AND_ORDER =
+            Comparator.comparing((QueryNode c) -> c instanceof Not).thenComparingDouble(QueryPlanner::andRank);
+    private static final Comparator<QueryNode> OR_ORDER = Comparator.comparingDouble(QueryPlanner::orRank);
+
+    private QueryPlanner() {}
+
+    public static QueryPlan plan(QueryNode parsed) {
+        QueryNode root = optimize(parsed);
+        return new QueryPlan(root, strategyOf(root), selectivity(root), cost(root));
+    }
+
+    // ---- 재작성 ----
+
+    private static QueryNode optimize(QueryNode node) {
+        if (node instanceof Not not) {
+            return new Not(optimize(not.child()));
+        }
+        if (node instanceof And and) {
+            List<QueryNode> children = merge(and.children(), true);
+            if (children.size() == 1) {
+                return children.get(0);
+            }
+            children.sort(AND_ORDER);
+            return new And(Collections.unmodifiableList(children));
+        }
+        if (node instanceof Or or) {
+            List<QueryNode> children = merge(or.children(), false);
+            if (children.size() == 1) {
+                return children.get(0);
+            }
+            children.sort(OR_ORDER);
+            return new Or(Collections.unmodifiableList(children));
+        }
+        return node;
+    }
+
+    /** 자식 정리: 같은 연산자 평탄화 → 중복 제거 → 흡수 (입력 순서 유지) */
+    private static List<QueryNode> merge(List<QueryNode> children, boolean and) {
+        List<QueryNode> unique = new ArrayList<>(children.size()); // 자식은 최대 16개라 목록 검색으로 충분
+        for (QueryNode child : children) {
+            QueryNode optimized = optimize(child);
+            if (and && optimized instanceof And nested) {
+                nested.children().forEach(c -> addUnique(unique, c));
+            } else if (!and && optimized instanceof Or nested) {
+                nested.children().forEach(c -> addUnique(unique, c));
+            } else {
+                addUnique(unique, optimized);
+            }
+        }
+        List<QueryNode> result = new ArrayList<>(unique.size());
+        for (QueryNode child : unique) {
+            // a&(a|b): 형제 a가 참이면 (a|b)도 참 → 제거. a|(a&b): (a&b)가 참이면 a도 참 → 제거
+            List<QueryNode> inner = and && child instanceof Or o ? o.children()
+                    : !and && child instanceof And a ? a.children() : List.of();
+            if (Collections.disjoint(inner, unique)) {
+                result.add(child);
+            }
+        }
+        return result;
+    }
+
+    private static void addUnique(List<QueryNode> nodes, QueryNode node) {
+        if (!nodes.contains(node)) {
+            nodes.add(node);
+        }
+    }
+
+    private static double andRank(QueryNode node) {
+        return cost(node) / Math.max(1 - selectivity(node), MIN_SELECTIVITY);
+    }
+
+    private static double orRank(QueryNode node) {
+        return cost(node) / Math.max(selectivity(node), MIN_SELECTIVITY);
+    }
+
+    // ---- 형태 / 추정치 ----
+
+    private static SearchStrategy strategyOf(QueryNode root) {
+        if (root instanceof Term term) {
+            return term.field() == null ? SearchStrategy.SIMPLE : SearchStrategy.FIELD;
+        }
+        if (root instanceof Or or) {
+            return or.children().stream().allMatch(Term.class::isInstance) ? SearchStrategy.OR_OPERATION : SearchStrategy.BOOLEAN;
+        }
+        if (root instanceof And and) {
+            int positives = 0;
+            for (QueryNode child : and.children()) {
+                QueryNode term = child instanceof Not not ? not.child() : child;
+                if (!(term instanceof Term)) {
+                    return SearchStrategy.BOOLEAN;
+                }
+                if (!(child instanceof Not)) positives++;
+            }
+            return positives == 1 ? SearchStrategy.NOT_OPERATION : SearchStrategy.AND_OPERATION;
+        }
+        return SearchStrategy.BOOLEAN;
+    }
+
+    static double selectivity(QueryNode node) {
+        if (node instanceof Term term) {
+            return term.field() == Field.ISBN ? isbnSelectivity(term.keyword()) : termSelectivity(term.keyword());
+        }
+        if (node instanceof Not not) {
+            return 1 - selectivity(not.child());
+        }
+        if (node instanceof And and) {
+            double s = 1;
+            for (QueryNode child : and.children()) s *= selectivity(child);
+            return s;
+        }
+        double miss = 1;
+        for (QueryNode child : ((Or) node).children()) miss *= 1 - selectivity(child);
+        return 1 - miss;
+    }
+
+    /** 기대 평가 횟수: AND는 앞 조건이 참일 때만, OR은 앞 조건이 거짓일 때만 다음 조건을 평가 */
+    static double cost(QueryNode node) {
+        if (node instanceof Term term) {
+            return term.indexed() ? INDEXED_COST : term.field() != null ? FIELD_COST : 1;
+        }
+        if (node instanceof Not not) {
+            return cost(not.child());
+        }
+        boolean and = node instanceof And;
+        List<QueryNode> children = and ? ((And) node).children() : ((Or) node).children();
+        double cost = 0, reach = 1;
+        for (QueryNode child : children) {
+            cost += reach * cost(child);
+            double s = selectivity(child);
+            reach *= and ? s : 1 - s;
+        }
+        return cost;
+    }
+
+    static double termSelectivity(String keyword) {
+        int literal = 0;
+        if (keyword != null) {
+            for (int i = 0; i < keyword.length(); i++) {
+                char c = keyword.charAt(i);
+                if (c != '%' && c != '_') literal++;
+            }
+        }
+        return Math.max(MIN_SELECTIVITY, Math.pow(CHAR_SELECTIVITY, literal));
+    }
+
+    /** ISBN 앞부분 일치: 숫자 하나마다 1/10 (전체 값이면 한 건) */
+    static double isbnSelectivity(String isbn) {
+        return Math.max(MIN_SELECTIVITY, Math.pow(0.1, isbn.length()));
+    }
+
+    // ---- EXPLAIN ----
+
+    static List<String> explain(QueryPlan plan) {
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format(Locale.ROOT, "%s %s (selectivity=%.4f, cost=%.2f)",
+                plan.strategy(), plan.root().render(), plan.selectivity(), plan.cost()));
+        explain(plan.root(), 1, lines);
+        return lines;
+    }
+
+    private static void explain(QueryNode node, int depth, List<String> lines) {
+        String indent = "  ".repeat(depth);
+        if (node instanceof Term term) {
+            StringBuilder keyword = new StringBuilder();
+            QueryLexer.appendTerm(keyword, term);
+            lines.add(String.format(Locale.ROOT, "%sTERM %s (selectivity=%.4f%s)", indent, keyword, selectivity(node),
+                    term.indexed() ? ", index" : ""));
+            return;
+        }
+        String operator = node instanceof Not ? "NOT" : node instanceof And ? "AND" : "OR";
+        lines.add(String.format(Locale.ROOT, "%s%s (selectivity=%.4f, cost=%.2f)", indent, operator, selectivity(node), cost(node)));
+        List<QueryNode> children = node instanceof Not not ? List.of(not.child())
+                : node instanceof And and ? and.children() : ((Or) node).children();
+        for (QueryNode child : children) {
+            explain(child, depth + 1, lines);
+        }
+    }
+}
@@ -1,22 +1,84 @@
 package com.trevari.project.service;
 
+import com.trevari.project.api.dto.BookBatchDTOs;
 import com.trevari.project.api.dto.BookDetailDTO;
+import com.trevari.project.cache.BookDetailCache;
 import com.trevari.project.domain.Book;
+import com.trevari.project.exception.BadRequestException;
 import com.trevari.project.exception.NotFoundException;
 import com.trevari.project.repository.BookRepository;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 @AllArgsConstructor
 @Service
 public class BookService {
+    public static final int MAX_BATCH_SIZE = 500;
+    private static final int IN_CLAUSE_CHUNK_SIZE = 100; // IN 목록 길이 제한 (실행 계획/패킷 크기)
+
     private final BookRepository bookRepository;
+    private final BookDetailCache bookDetailCache;
 
-    @Transactional(readOnly = true)
+    // 캐시 적중/Bloom 필터 부재 판정 시에는 DB 조회 없음 (findById는 자체 트랜잭션)
     public BookDetailDTO getBookDetailDTO(String id) {
-        Book b = bookRepository.findById(id)
+        return bookDetailCache.get(id, this::load)
                 .orElseThrow(() -> new NotFoundException("Book not found: " + id));
+    }
+
+    /**
+     * 여러 도서 일괄 조회: 캐시 우선, 나머지는 {@code WHERE isbn IN (...)} 청크 조회.
+     * 결과는 요청 순서(중복 포함)대로 반환하며 없는 ISBN은 found=false로 표시합니다.
+     */
+    public BookBatchDTOs.Response getBookDetailDTOs(List<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return new BookBatchDTOs.Response(List.of(), 0, 0);
+        }
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw new BadRequestException("Too many ids: max " + MAX_BATCH_SIZE);
+        }
+        Set<String> unique = new LinkedHashSet<>();
+        for (String id : ids) {
+            if (id == null || id.isBlank()) {
+                throw new BadRequestException("Blank id");
+            }
+            unique.add(id.trim());
+        }
+
+        Map<String, Optional<BookDetailDTO>> byId = bookDetailCache.getAll(unique, this::loadAll);
+
+        List<BookBatchDTOs.Item> items = new ArrayList<>(ids.size());
+        int found = 0;
+        for (String id : ids) {
+            Optional<BookDetailDTO> book = byId.getOrDefault(id.trim(), Optional.empty());
+            items.add(new BookBatchDTOs.Item(id, book.isPresent(), book.orElse(null)));
+            if (book.isPresent()) found++;
+        }
+        return new BookBatchDTOs.Response(items, found, items.size() - found);
+    }
+
+    private Optional<BookDetailDTO> load(String id) {
+        return bookRepository.findById(id).map(BookService::toDetail);
+    }
+
+    private Map<String, BookDetailDTO> loadAll(Set<String> ids) {
+        Map<String, BookDetailDTO> loaded = new HashMap<>();
+        List<String> list = List.copyOf(ids);
+        for (int from = 0; from < list.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<String> chunk = list.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, list.size()));
+            bookRepository.findAllById(chunk).forEach(b -> loaded.put(b.getIsbn(), toDetail(b)));
+        }
+        return loaded;
+    }
+
+    private static BookDetailDTO toDetail(Book b) {
         return new BookDetailDTO(
                 b.getIsbn(), b.getTitle(), b.getSubtitle(), b.getImage(),
                 b.getAuthor(), b.getIsbn(), b.getPublisher(), b.getPublishedDate()
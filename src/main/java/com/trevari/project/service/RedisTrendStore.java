@@ -0,0 +1,80 @@
+package com.trevari.project.service;
+
+import com.trevari.project.api.dto.SearchKeyword;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis ZSET 기반 시간 버킷 저장소.
+ *
+ * <ul>
+ *   <li>쓰기: 버킷마다 ZINCRBY 후 EXPIRE, 상위 capacity개만 남기도록 ZREMRANGEBYRANK (한 파이프라인)</li>
+ *   <li>읽기: Lua 한 번으로 버킷들을 ZUNIONSTORE해 {@link #UNION_TTL} 동안 재사용하고 상위 k개만 반환</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisTrendStore implements TrendStore {
+
+    /** 같은 구간 조회가 몰려도 버킷 합치기는 이 시간에 한 번만 */
+    static final Duration UNION_TTL = Duration.ofSeconds(5);
+
+    /**
+     * KEYS = [합친 결과 키, 버킷...], ARGV = [k, 합친 결과 TTL(ms)].
+     * 합친 결과가 없을 때만 ZUNIONSTORE 후 짧게 보관하고, 상위 k개를 WITHSCORES로 반환
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> TOP = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+              redis.call('ZUNIONSTORE', KEYS[1], #KEYS - 1, unpack(KEYS, 2))
+              redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return redis.call('ZREVRANGE', KEYS[1], 0, tonumber(ARGV[1]) - 1, 'WITHSCORES')
+            """, List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    public void increment(List<Bucket> buckets, Map<String, Long> deltas, int capacity) {
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (Bucket bucket : buckets) {
+                    deltas.forEach((term, delta) -> ops.opsForZSet().incrementScore(bucket.key(), term, delta));
+                    ops.expire(bucket.key(), bucket.ttl());
+                    ops.opsForZSet().removeRange(bucket.key(), 0, -(capacity + 1L));
+                }
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public List<SearchKeyword> top(String unionKey, List<String> keys, int k) {
+        List<String> scriptKeys = new ArrayList<>(keys.size() + 1);
+        scriptKeys.add(unionKey);
+        scriptKeys.addAll(keys);
+        List<?> flat = redisTemplate.execute(TOP, scriptKeys, String.valueOf(k), String.valueOf(UNION_TTL.toMillis()));
+        if (flat == null) {
+            return List.of();
+        }
+        List<SearchKeyword> top = new ArrayList<>(flat.size() / 2);
+        for (int i = 0; i + 1 < flat.size(); i += 2) {
+            top.add(new SearchKeyword((String) flat.get(i), Math.round(Double.parseDouble((String) flat.get(i + 1))), 0L));
+        }
+        return top;
+    }
+}
@@ -0,0 +1,51 @@
+package com.trevari.project.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 인기 검색어 집계 설정 ({@code search.aggregate.*}).
+ *
+ * @param flushInterval 버퍼에 모인 증가분을 Redis로 보내는 주기
+ * @param batchSize     한 번의 Redis 호출로 보내는 최대 검색어 수 (버퍼가 이만큼 차면 주기 전에 조기 반영)
+ * @param maxPending    버퍼에 보관하는 최대 검색어 수 (초과 시 새 검색어의 증가분은 버림)
+ * @param topCapacity   인기 검색어 추적 카운터 수 (Redis ZSET 최대 크기, 오차 상한 = 전체 횟수 / topCapacity)
+ * @param snapshotRefresh TOP10 스냅샷 갱신 주기 (응답 Cache-Control max-age로도 사용)
+ * @param executor      조기 반영 작업 실행기
+ * @param breaker       집계용 Redis 호출 서킷 브레이커
+ */
+@ConfigurationProperties(prefix = "search.aggregate")
+public record SearchAggregateProperties(
+        @DefaultValue("500ms") Duration flushInterval,
+        @DefaultValue("1000") int batchSize,
+        @DefaultValue("100000") int maxPending,
+        @DefaultValue("1000") int topCapacity,
+        @DefaultValue("5s") Duration snapshotRefresh,
+        @DefaultValue Executor executor,
+        @DefaultValue Breaker breaker
+) {
+
+    /**
+     * @param threads        작업 스레드 수
+     * @param queueCapacity  대기 작업 한도 (초과 시 작업을 버림)
+     * @param virtualThreads 가상 스레드 사용 여부 (Java 21 미만이면 무시하고 스레드 풀 사용)
+     */
+    public record Executor(
+            @DefaultValue("2") int threads,
+            @DefaultValue("100") int queueCapacity,
+            @DefaultValue("false") boolean virtualThreads
+    ) {}
+
+    /**
+     * @param failureThreshold  서킷을 여는 연속 실패 수 (느린 호출 포함)
+     * @param openDuration      서킷이 열린 뒤 시험 호출까지 대기 시간
+     * @param slowCallThreshold 이보다 오래 걸린 호출은 실패로 취급
+     */
+    public record Breaker(
+            @DefaultValue("5") int failureThreshold,
+            @DefaultValue("10s") Duration openDuration,
+            @DefaultValue("500ms") Duration slowCallThreshold
+    ) {}
+}
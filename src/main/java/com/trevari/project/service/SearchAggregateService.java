@@ -1,66 +1,364 @@
 package com.trevari.project.service;
 
 import com.trevari.project.api.dto.SearchKeyword;
-import lombok.RequiredArgsConstructor;
+import com.trevari.project.config.CircuitBreaker;
+import com.trevari.project.config.SheddingExecutor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.redis.core.HashOperations;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ZSetOperations;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 
+/**
+ * 인기 검색어 집계 (write-behind).
+ *
+ * <p>검색 요청 스레드는 로컬 버퍼(검색어별 {@link LongAdder})에 증가분만 더하고,
+ * {@code search.aggregate.flush-interval} 주기 또는 버퍼가 {@code batch-size}만큼 찼을 때
+ * 모인 증가분을 Lua 스크립트 한 번으로 Redis에 반영합니다.
+ * 요청마다 스레드 전환과 Redis 왕복이 생기지 않으며, 같은 검색어가 반복될수록 명령 수가 줄어듭니다.
+ * 이미 있는 검색어는 {@code get} 한 번과 스트라이프된 카운터 증가뿐이라 잠금과 할당이 없고
+ * (새 검색어만 {@code computeIfAbsent}), 반영은 {@link LongAdder#sumThenReset}으로 꺼냅니다.
+ * 한 주기 동안 증가분이 없던 검색어 항목은 다음 반영에서 정리합니다.
+ *
+ * <p>검색어 종류가 무한히 늘지 않도록 인기 검색어는 {@link SpaceSaving} 방식으로 추적합니다.
+ * 버퍼는 반영 직전 {@code top-capacity}개 카운터의 요약으로 줄이고, Redis ZSET도 같은 규칙으로 병합해
+ * {@code top-capacity}개 이하로 유지합니다. 조회수는 과대 추정만 하며 검색어별 최대 오차를 함께 보관합니다.
+ *
+ * <ul>
+ *   <li>반영 실패 시 증가분을 버퍼로 되돌려 다음 주기에 재시도</li>
+ *   <li>Redis 호출은 서킷 브레이커({@code analyticsCircuitBreaker})를 거침. 열려 있는 동안에는 버퍼에만 누적하고
+ *       TOP10은 로컬 상태로 응답하며, 복구 후 첫 반영에서 누적분을 합침</li>
+ *   <li>버퍼가 {@code max-pending}개 검색어를 넘으면 새 검색어의 증가분은 버리고 지표로 남김</li>
+ *   <li>종료 시(웹 서버 종료 후, Redis 연결 종료 전) 남은 증가분을 반영</li>
+ *   <li>반영 성공 시 {@link SearchTermsFlushedEvent} 발행 (TOP10 스냅샷 갱신)</li>
+ *   <li>지표: {@code search.aggregate.flush}(반영 지연), {@code search.aggregate.flush.batch}(반영 검색어 수),
+ *       {@code search.aggregate.dropped}(버린 증가분), {@code search.aggregate.pending}(버퍼 검색어 수)</li>
+ * </ul>
+ */
 @Slf4j
-@RequiredArgsConstructor
 @Service
-public class SearchAggregateService {
+public class SearchAggregateService implements SmartLifecycle {
 
-    private final RedisTemplate<String, String> redisTemplate;
     private static final String SEARCH_QUERY_KEY = "search:query:popular";
+    private static final String ERROR_KEY = "search:query:popular:error"; // 검색어별 최대 과대 추정량
+    private static final String TOTAL_KEY = "search:query:popular:total"; // 전체 집계 횟수 (오차 상한 = total / capacity)
+
+    /**
+     * Space-Saving 가중치 병합: 이미 있는 검색어는 더하고, 자리가 없으면 최소 항목을 밀어내고
+     * 그 빈도를 이어받음(오차에 더함). 끝으로 용량을 넘는 항목(설정 축소 등)을 정리.
+     * KEYS = [ZSET, 오차 HASH, 전체 횟수], ARGV = [capacity, (검색어, 빈도, 오차)...]
+     */
+    private static final RedisScript<Long> MERGE = new DefaultRedisScript<>("""
+            local cap = tonumber(ARGV[1])
+            local added = 0
+            for i = 2, #ARGV, 3 do
+              local term, count, err = ARGV[i], tonumber(ARGV[i + 1]), tonumber(ARGV[i + 2])
+              added = added + count
+              if redis.call('ZSCORE', KEYS[1], term) then
+                redis.call('ZINCRBY', KEYS[1], count, term)
+                if err > 0 then redis.call('HINCRBY', KEYS[2], term, err) end
+              elseif redis.call('ZCARD', KEYS[1]) < cap then
+                redis.call('ZADD', KEYS[1], count, term)
+                if err > 0 then redis.call('HSET', KEYS[2], term, err) end
+              else
+                local min = redis.call('ZRANGE', KEYS[1], 0, 0, 'WITHSCORES')
+                local base = tonumber(min[2])
+                redis.call('ZREM', KEYS[1], min[1])
+                redis.call('HDEL', KEYS[2], min[1])
+                redis.call('ZADD', KEYS[1], base + count, term)
+                redis.call('HSET', KEYS[2], term, base + err)
+              end
+            end
+            local over = redis.call('ZCARD', KEYS[1]) - cap
+            if over > 0 then
+              local evicted = redis.call('ZRANGE', KEYS[1], 0, over - 1)
+              redis.call('ZREMRANGEBYRANK', KEYS[1], 0, over - 1)
+              for _, term in ipairs(evicted) do redis.call('HDEL', KEYS[2], term) end
+            end
+            redis.call('INCRBY', KEYS[3], added)
+            return added
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final SheddingExecutor flushExecutor;
+    private final CircuitBreaker breaker;
+    private final SearchAggregateProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final ConcurrentHashMap<String, LongAdder> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final SpaceSaving summary; // flush 중에만 사용 (synchronized)
+    private volatile List<SearchKeyword> lastTop = List.of(); // 마지막으로 Redis에서 읽은 상위 검색어
+    private volatile boolean running;
+
+    private final Timer flushTimer;
+    private final DistributionSummary batchSizes;
+    private final Counter dropped;
+
+    public SearchAggregateService(RedisTemplate<String, String> redisTemplate,
+                                  @Qualifier("searchAggregateExecutor") SheddingExecutor flushExecutor,
+                                  @Qualifier("analyticsCircuitBreaker") CircuitBreaker breaker,
+                                  SearchAggregateProperties properties,
+                                  ApplicationEventPublisher eventPublisher,
+                                  MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.flushExecutor = flushExecutor;
+        this.breaker = breaker;
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+        this.summary = new SpaceSaving(properties.topCapacity());
+        this.flushTimer = Timer.builder("search.aggregate.flush")
+                .description("검색어 증가분 Redis 반영 지연 시간")
+                .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("search.aggregate.flush.batch")
+                .description("한 번에 반영한 검색어 수")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("search.aggregate.dropped")
+                .description("버퍼 초과로 버린 검색어 증가분")
+                .register(meterRegistry);
+        Gauge.builder("search.aggregate.pending", this, SearchAggregateService::pendingTerms)
+                .description("Redis 반영 대기 중인 검색어 수")
+                .register(meterRegistry);
+    }
 
-    // 검색어를 집계하여 인기 검색어 순위에 반영 (비동기 처리)
-    @Async("searchAggregateExecutor")
-    public CompletableFuture<Void> aggregateTop10(String query) {
+    // 검색어를 집계하여 인기 검색어 순위에 반영 (버퍼에 더한 뒤 주기적으로 Redis 반영)
+    public void aggregateTop10(String query) {
         if (query == null || (query = query.trim()).isEmpty()) {
-            return CompletableFuture.completedFuture(null);
+            return;
+        }
+        add(query, 1L);
+        if (pending.size() >= properties.batchSize()) {
+            requestFlush();
         }
+    }
 
-        try {
-            ZSetOperations<String, String> zSetOps = redisTemplate.opsForZSet();
-            zSetOps.incrementScore(SEARCH_QUERY_KEY, query, 1.0);
+    /** 버퍼에 증가분 추가 (버퍼가 가득 찼으면 이미 있는 검색어만 반영) */
+    private void add(String query, long delta) {
+        LongAdder counter = pending.get(query);
+        if (counter == null) {
+            if (pending.size() >= properties.maxPending()) {
+                dropped.increment(delta);
+                return;
+            }
+            counter = pending.computeIfAbsent(query, q -> new LongAdder());
+        }
+        counter.add(delta);
+    }
 
-            log.debug("검색어 집계 완료: {} (스레드: {})", query, Thread.currentThread().getName());
-        } catch (Exception e) {
-            log.error("검색어 집계 실패: query={}", query, e);
+    /** 반영 대기 증가분이 있는 검색어 수 */
+    private long pendingTerms() {
+        return pending.values().stream().filter(c -> c.sum() > 0).count();
+    }
+
+    private boolean hasPending() {
+        for (LongAdder counter : pending.values()) {
+            if (counter.sum() > 0) return true;
         }
+        return false;
+    }
+
+    /**
+     * 버퍼가 batch-size에 도달하면 주기를 기다리지 않고 집계 스레드에서 반영.
+     * 이미 예약된 반영이 있으면 합치고, 실행기가 포화 상태면 다음 주기에 반영 (요청 스레드는 기다리지 않음)
+     */
+    private void requestFlush() {
+        if (!flushScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        boolean accepted = flushExecutor.tryExecute(() -> {
+            flushScheduled.set(false);
+            flush();
+        });
+        if (!accepted) {
+            flushScheduled.set(false);
+        }
+    }
 
-        return CompletableFuture.completedFuture(null);
+    /**
+     * 버퍼의 증가분을 Space-Saving 요약(top-capacity개)으로 줄인 뒤 batch-size 단위로 Redis에 병합.
+     * 서킷이 열려 있으면 Redis를 호출하지 않고 버퍼에 계속 누적하며, 복구 후 첫 반영에서 한꺼번에 합쳐짐
+     */
+    @Scheduled(fixedDelayString = "${search.aggregate.flush-interval:500ms}")
+    public synchronized void flush() {
+        if (!hasPending() || !breaker.tryAcquire()) {
+            return; // 보낼 것이 없으면 시험 호출 기회도 쓰지 않음
+        }
+        summary.clear();
+        for (Map.Entry<String, LongAdder> entry : pending.entrySet()) {
+            long delta = entry.getValue().sumThenReset(); // 꺼낸 뒤의 증가분은 같은 카운터에 다시 쌓임
+            if (delta == 0 && pending.remove(entry.getKey(), entry.getValue())) {
+                // 한 주기 동안 쓰이지 않은 항목 정리. 제거 직전에 카운터를 잡은 요청의 증가분은 여기서 회수
+                delta = entry.getValue().sumThenReset();
+            }
+            if (delta > 0) {
+                summary.offer(entry.getKey(), delta);
+            }
+        }
+        List<SpaceSaving.Counter> counters = summary.counters();
+        List<SpaceSaving.Counter> sent = new ArrayList<>(counters.size());
+        for (int from = 0; from < counters.size(); from += properties.batchSize()) {
+            List<SpaceSaving.Counter> batch = counters.subList(from, Math.min(from + properties.batchSize(), counters.size()));
+            if (!send(batch)) {
+                // 실패한 반영 이후의 배치는 보내지 않고 버퍼로 되돌림 (한 번의 flush에서 타임아웃을 반복하지 않도록).
+                // 요약의 빈도는 오차만큼 과대 추정이므로 보장된 하한(count - error)만 되돌려 재시도 시 부풀지 않게 함
+                for (SpaceSaving.Counter c : counters.subList(from, counters.size())) {
+                    long guaranteed = c.count() - c.error();
+                    if (guaranteed > 0) {
+                        add(c.item(), guaranteed);
+                    }
+                }
+                break;
+            }
+            sent.addAll(batch);
+        }
+        if (!sent.isEmpty()) {
+            eventPublisher.publishEvent(new SearchTermsFlushedEvent(sent));
+        }
     }
 
-    // 인기 검색어 TOP10 및 조회수 반환
+    /** @return 반영 성공 여부 (결과는 서킷 브레이커에 기록) */
+    private boolean send(List<SpaceSaving.Counter> batch) {
+        long start = System.nanoTime();
+        Object[] args = new Object[1 + batch.size() * 3];
+        args[0] = String.valueOf(properties.topCapacity());
+        int i = 1;
+        for (SpaceSaving.Counter c : batch) {
+            args[i++] = c.item();
+            args[i++] = String.valueOf(c.count());
+            args[i++] = String.valueOf(c.error());
+        }
+        try {
+            redisTemplate.execute(MERGE, List.of(SEARCH_QUERY_KEY, ERROR_KEY, TOTAL_KEY), args);
+            breaker.onSuccess(System.nanoTime() - start);
+            batchSizes.record(batch.size());
+            log.debug("검색어 집계 반영: {}건", batch.size());
+            return true;
+        } catch (Exception e) {
+            breaker.onFailure();
+            log.warn("검색어 집계 반영 실패, 다음 주기에 재시도: {}건 ({})", batch.size(), e.getMessage());
+            return false;
+        } finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 인기 검색어 TOP10 및 조회수 반환 (Redis를 쓸 수 없으면 로컬 상태 기준).
+     * 조회수는 상한 추정치이며 {@link SearchKeyword#maxError()}만큼 과대 추정일 수 있음 (실제 조회수 ≥ count - maxError)
+     */
     public List<SearchKeyword> getTop10Keywords() {
         try {
-            ZSetOperations<String, String> zSetOps = redisTemplate.opsForZSet();
-            Set<ZSetOperations.TypedTuple<String>> topWithScores = zSetOps.reverseRangeWithScores(SEARCH_QUERY_KEY, 0, 9);
+            return readTopKeywords(10);
+        } catch (Exception e) {
+            log.error("인기 검색어 조회 실패", e);
+            return List.of();
+        }
+    }
 
-            return Optional.ofNullable(topWithScores)
-                    .orElseGet(Set::of) // null이면 빈 Set 반환
-                    .stream()
-                    .map(t -> {
-                        String kw = t.getValue();
-                        Double score = t.getScore();
-                        long cnt = score == null ? 0L : Math.round(score);
-                        return new SearchKeyword(kw, cnt);
-                    })
-                    .toList();
+    /**
+     * 상위 {@code k}개 검색어. 서킷이 열려 있거나 Redis 조회에 실패하면 로컬 상태로 응답:
+     * 마지막으로 읽은 Redis 순위에 아직 반영하지 못한 버퍼 증가분을 더한 추정치
+     */
+    public List<SearchKeyword> readTopKeywords(int k) {
+        if (!breaker.tryAcquire()) {
+            return localTop(k);
+        }
+        long start = System.nanoTime();
+        try {
+            List<SearchKeyword> top = readRedisTop(k);
+            breaker.onSuccess(System.nanoTime() - start);
+            lastTop = top;
+            return top;
+        } catch (RuntimeException e) {
+            breaker.onFailure();
+            log.warn("인기 검색어 조회 실패, 로컬 상태로 응답: {}", e.getMessage());
+            return localTop(k);
+        }
+    }
 
+    /** 마지막 Redis 순위 + 반영 대기 중인 버퍼 증가분 */
+    List<SearchKeyword> localTop(int k) {
+        Map<String, long[]> merged = new HashMap<>(); // 검색어 → {count, maxError}
+        lastTop.forEach(kw -> merged.put(kw.keyword(), new long[]{kw.count(), kw.maxError()}));
+        pending.forEach((term, counter) -> {
+            long delta = counter.sum();
+            if (delta > 0) merged.computeIfAbsent(term, t -> new long[2])[0] += delta;
+        });
+        return merged.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, long[]> e) -> e.getValue()[0]).reversed()
+                        .thenComparing(Map.Entry::getKey))
+                .limit(k)
+                .map(e -> new SearchKeyword(e.getKey(), e.getValue()[0], e.getValue()[1]))
+                .toList();
+    }
 
-        } catch (Exception e) {
-            log.error("인기 검색어 조회 실패", e);
+    private List<SearchKeyword> readRedisTop(int k) {
+        ZSetOperations<String, String> zSetOps = redisTemplate.opsForZSet();
+        Set<ZSetOperations.TypedTuple<String>> topWithScores = zSetOps.reverseRangeWithScores(SEARCH_QUERY_KEY, 0, k - 1);
+        if (topWithScores == null || topWithScores.isEmpty()) {
             return List.of();
         }
+
+        List<String> keywords = topWithScores.stream().map(ZSetOperations.TypedTuple::getValue).toList();
+        HashOperations<String, String, String> hashOps = redisTemplate.opsForHash();
+        List<String> errors = Optional.ofNullable(hashOps.multiGet(ERROR_KEY, keywords)).orElseGet(List::of);
+
+        List<SearchKeyword> top = new ArrayList<>(keywords.size());
+        int idx = 0;
+        for (ZSetOperations.TypedTuple<String> t : topWithScores) {
+            Double score = t.getScore();
+            long cnt = score == null ? 0L : Math.round(score);
+            String error = idx < errors.size() ? errors.get(idx) : null;
+            top.add(new SearchKeyword(t.getValue(), cnt, error == null ? 0L : Long.parseLong(error)));
+            idx++;
+        }
+        return List.copyOf(top);
+    }
+
+    // ---- 종료 시 남은 증가분 반영 ----
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        flush();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /** 웹 서버(graceful shutdown)보다 늦게, Redis 연결 팩토리(phase 0)보다 먼저 종료 */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 2048;
     }
 }
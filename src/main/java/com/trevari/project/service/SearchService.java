@@ -1,44 +1,63 @@
 package com.trevari.project.service;
 
+import com.trevari.project.aop.RequestTiming;
 import com.trevari.project.api.dto.SearchDTOs;
-import com.trevari.project.domain.Book;
-import com.trevari.project.repository.BookRepository;
-import com.trevari.project.search.BookSpecifications;
+import com.trevari.project.cache.SearchResultCache;
+import com.trevari.project.search.SearchMetrics;
+import com.trevari.project.search.SearchPage;
 import com.trevari.project.search.SearchQuery;
+import com.trevari.project.search.engine.SearchEngine;
+import com.trevari.project.search.engine.SearchResult;
 import lombok.AllArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @AllArgsConstructor
 @Service
 public class SearchService {
-    private final BookRepository bookRepository;
+    private final SearchEngine searchEngine;
+    private final SearchResultCache searchResultCache;
+    private final SearchMetrics searchMetrics;
 
-    @Transactional(readOnly = true)
-    public SearchDTOs.Response getSearchDTO(SearchQuery searchQuery, Pageable pageable) {
-        Page<Book> pageData = bookRepository.findAll(BookSpecifications.forQuery(searchQuery), pageable);
-        var items = pageData.getContent().stream()
-            .map(b -> new SearchDTOs.Book(
-                b.getIsbn(), b.getTitle(), b.getSubtitle(), b.getImage(),
-                b.getAuthor(), b.getIsbn(), b.getPublishedDate()
-            ))
-            .toList();
+    // 캐시 적중 시 DB 트랜잭션/커넥션 없이 응답 (트랜잭션은 엔진 실행 구간에만 적용)
+    public SearchDTOs.Response getSearchDTO(SearchQuery searchQuery, SearchPage page) {
+        long start = System.nanoTime();
+        long[] loadNanos = {0}; // 미스 시 엔진 실행 시간 (캐시 조회 구간에서 제외)
+        SearchDTOs.Response response = searchResultCache.get(searchQuery, page, () -> {
+            long loadStart = System.nanoTime();
+            try {
+                return search(searchQuery, page);
+            } finally {
+                loadNanos[0] = System.nanoTime() - loadStart;
+            }
+        });
+        searchMetrics.recordNanos(SearchMetrics.Phase.CACHE, searchQuery.strategy(), System.nanoTime() - start - loadNanos[0]);
+        return response;
+    }
+
+    private SearchDTOs.Response search(SearchQuery searchQuery, SearchPage page) {
+        SearchResult result = searchEngine.search(searchQuery, page);
+        long start = System.nanoTime();
+        var items = result.books(); // 엔진이 DTO 프로젝션으로 바로 조회
 
+        Long total = result.totalElements();
         var pageInfo = new SearchDTOs.PageInfo(
-                pageable.getPageNumber() + 1,
-                pageable.getPageSize(),
-                pageData.getTotalPages(),
-                pageData.getTotalElements()
+                page.page(),
+                page.size(),
+                total == null ? null : (int) ((total + page.size() - 1) / page.size()),
+                total,
+                result.totalExact(),
+                result.hasNext(),
+                result.hasNext() ? result.nextCursor().encode() : null
         );
 
         var metadata = new SearchDTOs.Metadata(
-            0L, searchQuery.strategy()
+            0L, searchQuery.strategy(), false, RequestTiming.current(), null
         );
 
-        return new SearchDTOs.Response(
+        var response = new SearchDTOs.Response(
             searchQuery.query(), pageInfo, items, metadata
         );
+        searchMetrics.record(SearchMetrics.Phase.MAP, searchQuery.strategy(), start);
+        return response;
     }
 }
@@ -0,0 +1,37 @@
+package com.trevari.project.service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 검색어 집계 증가분이 Redis에 반영되었음을 알리는 이벤트.
+ *
+ * @param counters 이번에 반영된 검색어별 증가분 (Space-Saving 요약)
+ */
+public record SearchTermsFlushedEvent(List<SpaceSaving.Counter> counters) {
+
+    public SearchTermsFlushedEvent {
+        counters = List.copyOf(counters);
+    }
+
+    /**
+     * 검색어별로 보장된 증가분 ({@code count - error}, 0 이하는 제외).
+     * 요약의 빈도는 밀려난 검색어의 빈도를 오차로 떠안은 상한이므로, 다른 집계에 그대로 더하면 부풀려짐
+     */
+    public Map<String, Long> deltas() {
+        Map<String, Long> deltas = new LinkedHashMap<>();
+        for (SpaceSaving.Counter c : counters) {
+            long guaranteed = c.count() - c.error();
+            if (guaranteed > 0) {
+                deltas.put(c.item(), guaranteed);
+            }
+        }
+        return deltas;
+    }
+
+    /** 이번 반영으로 더해진 검색 횟수 */
+    public long flushed() {
+        return counters.stream().mapToLong(SpaceSaving.Counter::count).sum();
+    }
+}
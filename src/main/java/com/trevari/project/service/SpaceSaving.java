@@ -0,0 +1,126 @@
+package com.trevari.project.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Space-Saving 상위 빈도 항목(heavy hitter) 요약 (Metwally et al., 가중치 갱신).
+ *
+ * <p>최대 {@code capacity}개의 카운터만 유지하므로 입력 항목 종류가 아무리 많아도 메모리가 일정합니다.
+ * 감시 중이 아닌 항목이 들어오고 카운터가 가득 차 있으면 최소 카운터를 넘겨받아
+ * {@code count = min + weight}, {@code error = min}으로 시작합니다.
+ *
+ * <ul>
+ *   <li>추정치는 과대 추정만 함: {@code count - error <= 실제 빈도 <= count}</li>
+ *   <li>{@code error <= total / capacity} — 실제 빈도가 이보다 큰 항목은 반드시 요약에 남음</li>
+ * </ul>
+ * 스레드 안전하지 않습니다 (호출 측에서 동기화).
+ */
+public final class SpaceSaving {
+
+    /**
+     * @param count 추정 빈도 (상한)
+     * @param error 최대 과대 추정량
+     */
+    public record Counter(String item, long count, long error) {}
+
+    private static final class Slot {
+        final String item;
+        final long seq; // 같은 빈도 내 순서 고정용
+        long count;
+        long error;
+
+        Slot(String item, long seq, long count, long error) {
+            this.item = item;
+            this.seq = seq;
+            this.count = count;
+            this.error = error;
+        }
+    }
+
+    private static final Comparator<Slot> BY_COUNT =
+            Comparator.<Slot>comparingLong(s -> s.count).thenComparingLong(s -> s.seq);
+
+    private final int capacity;
+    private final Map<String, Slot> slots = new HashMap<>();
+    private final TreeSet<Slot> ordered = new TreeSet<>(BY_COUNT);
+    private long total;
+    private long seq;
+
+    public SpaceSaving(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    public void offer(String item, long weight) {
+        offer(item, weight, 0L);
+    }
+
+    /** {@code error}만큼 과대 추정일 수 있는 {@code weight}를 더함 (다른 요약을 합칠 때 사용) */
+    public void offer(String item, long weight, long error) {
+        total += weight;
+        Slot slot = slots.get(item);
+        if (slot != null) {
+            ordered.remove(slot);
+            slot.count += weight;
+            slot.error += error;
+            ordered.add(slot);
+            return;
+        }
+        long base = 0;
+        if (slots.size() == capacity) {
+            Slot min = ordered.pollFirst();
+            slots.remove(min.item);
+            base = min.count;
+        }
+        slot = new Slot(item, seq++, base + weight, base + error);
+        slots.put(item, slot);
+        ordered.add(slot);
+    }
+
+    /** 추정 빈도 내림차순 상위 {@code k}개 */
+    public List<Counter> top(int k) {
+        List<Counter> out = new ArrayList<>(Math.min(k, slots.size()));
+        Iterator<Slot> it = ordered.descendingIterator();
+        while (it.hasNext() && out.size() < k) {
+            Slot s = it.next();
+            out.add(new Counter(s.item, s.count, s.error));
+        }
+        return out;
+    }
+
+    /** 전체 카운터 (추정 빈도 내림차순) */
+    public List<Counter> counters() {
+        return top(slots.size());
+    }
+
+    /** 모든 카운터에 적용되는 과대 추정 상한 ({@code total / capacity}) */
+    public long errorBound() {
+        return total / capacity;
+    }
+
+    public int size() {
+        return slots.size();
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public long total() {
+        return total;
+    }
+
+    public void clear() {
+        slots.clear();
+        ordered.clear();
+        total = 0;
+    }
+}
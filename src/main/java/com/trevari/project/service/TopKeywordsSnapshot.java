@@ -0,0 +1,117 @@
+package com.trevari.project.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trevari.project.api.dto.SearchKeyword;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 인기 검색어 TOP10 스냅샷.
+ *
+ * <p>홈 화면에서 검색보다 훨씬 많이 조회되므로, 요청마다 Redis를 읽지 않고
+ * {@code search.aggregate.snapshot-refresh} 주기와 집계 반영({@link SearchTermsFlushedEvent}) 직후에만
+ * Redis를 읽어 JSON 본문과 ETag를 미리 만들어 둡니다. 요청은 이 불변 스냅샷을 그대로 돌려줍니다.
+ * Redis를 쓸 수 없으면 {@link SearchAggregateService#readTopKeywords}가 로컬 상태로 응답하고,
+ * 그마저 실패하면 마지막으로 성공한 스냅샷을 계속 제공합니다.
+ */
+@Slf4j
+@Service
+public class TopKeywordsSnapshot {
+
+    private static final int TOP_K = 10;
+
+    /**
+     * @param json        직렬화된 응답 본문
+     * @param etag        본문 해시 기반 강한 ETag (따옴표 포함)
+     * @param refreshedAt 마지막으로 Redis에서 읽은 시각
+     */
+    public record Snapshot(List<SearchKeyword> keywords, byte[] json, String etag, Instant refreshedAt) {}
+
+    private final SearchAggregateService searchAggregateService;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final Duration refreshInterval;
+    private final Counter refreshErrors;
+    private volatile Snapshot current;
+
+    @Autowired
+    public TopKeywordsSnapshot(SearchAggregateService searchAggregateService,
+                               ObjectMapper objectMapper,
+                               SearchAggregateProperties properties,
+                               MeterRegistry meterRegistry) {
+        this(searchAggregateService, objectMapper, properties, meterRegistry, Clock.systemUTC());
+    }
+
+    TopKeywordsSnapshot(SearchAggregateService searchAggregateService,
+                        ObjectMapper objectMapper,
+                        SearchAggregateProperties properties,
+                        MeterRegistry meterRegistry,
+                        Clock clock) {
+        this.searchAggregateService = searchAggregateService;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.refreshInterval = properties.snapshotRefresh();
+        this.current = build(List.of(), Instant.EPOCH);
+        this.refreshErrors = Counter.builder("search.top.snapshot.errors")
+                .description("TOP10 스냅샷 갱신 실패 수 (이전 스냅샷 유지)")
+                .register(meterRegistry);
+        Gauge.builder("search.top.snapshot.age", this, s -> Duration.between(s.current.refreshedAt(), clock.instant()).toMillis() / 1000.0)
+                .description("TOP10 스냅샷이 마지막으로 갱신된 뒤 지난 시간(초)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /** 현재 스냅샷 (요청 경로, Redis 접근 없음) */
+    public Snapshot current() {
+        return current;
+    }
+
+    /** 응답 캐시 유효 시간 (갱신 주기와 같음) */
+    public Duration maxAge() {
+        return refreshInterval;
+    }
+
+    @Scheduled(fixedDelayString = "${search.aggregate.snapshot-refresh:5s}")
+    public void refresh() {
+        List<SearchKeyword> keywords;
+        try {
+            keywords = searchAggregateService.readTopKeywords(TOP_K);
+        } catch (Exception e) {
+            refreshErrors.increment();
+            log.warn("인기 검색어 스냅샷 갱신 실패, 이전 스냅샷 유지 ({}초 전): {}",
+                    Duration.between(current.refreshedAt(), clock.instant()).toSeconds(), e.getMessage());
+            return;
+        }
+        Snapshot previous = current;
+        current = keywords.equals(previous.keywords())
+                ? new Snapshot(previous.keywords(), previous.json(), previous.etag(), clock.instant()) // 본문/ETag 유지
+                : build(keywords, clock.instant());
+    }
+
+    @EventListener
+    public void onFlushed(SearchTermsFlushedEvent event) {
+        refresh();
+    }
+
+    private Snapshot build(List<SearchKeyword> keywords, Instant refreshedAt) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(keywords);
+            return new Snapshot(keywords, json, "\"" + DigestUtils.md5DigestAsHex(json) + "\"", refreshedAt);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("인기 검색어 직렬화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.trevari.project.service;
+
+import com.trevari.project.api.dto.SearchKeyword;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시간 버킷별 검색어 빈도 저장소 (운영: {@link RedisTrendStore}).
+ */
+public interface TrendStore {
+
+    /** 버킷 키와 보존 기간 */
+    record Bucket(String key, Duration ttl) {}
+
+    /** 모든 버킷에 검색어별 증가분을 더하고, 각 버킷을 상위 {@code capacity}개로 유지 */
+    void increment(List<Bucket> buckets, Map<String, Long> deltas, int capacity);
+
+    /**
+     * 버킷들을 합친 빈도 상위 {@code k}개 (내림차순).
+     *
+     * @param unionKey 합친 결과를 잠시 재사용할 때 쓰는 키 (같은 구간·같은 현재 버킷이면 같은 키)
+     */
+    List<SearchKeyword> top(String unionKey, List<String> keys, int k);
+}
@@ -0,0 +1,85 @@
+package com.trevari.project.service;
+
+import com.trevari.project.exception.BadRequestException;
+import org.springframework.boot.convert.DurationStyle;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 트렌드 검색어 조회 구간 ({@code window=15m|1h|24h|7d} 등).
+ *
+ * <p>구간 길이에 따라 가장 거친 단위의 버킷을 골라 읽을 키 수를 제한합니다 (분 ≤ 120개, 시 ≤ 48개, 일 ≤ 30개).
+ * 버킷 경계에 맞춰 현재 버킷(진행 중)부터 과거로 {@code buckets}개를 읽으므로,
+ * 결과는 최대 한 버킷 길이만큼 구간보다 짧을 수 있습니다.
+ */
+public record TrendWindow(Resolution resolution, int buckets) {
+
+    static final Duration MAX = Duration.ofDays(30);
+
+    /** 버킷 단위와 보존 기간 (해당 단위로 읽는 가장 긴 구간 + 한 버킷) */
+    public enum Resolution {
+        MINUTE("m", Duration.ofMinutes(1), Duration.ofHours(2)),
+        HOUR("h", Duration.ofHours(1), Duration.ofDays(2)),
+        DAY("d", Duration.ofDays(1), MAX);
+
+        private final String code;
+        private final Duration length;
+        private final Duration maxWindow;
+
+        Resolution(String code, Duration length, Duration maxWindow) {
+            this.code = code;
+            this.length = length;
+            this.maxWindow = maxWindow;
+        }
+
+        public Duration length() {
+            return length;
+        }
+
+        public Duration ttl() {
+            return maxWindow.plus(length);
+        }
+
+        /** {@code at}이 속한 버킷 번호 (epoch 기준) */
+        public long bucketOf(Instant at) {
+            return Math.floorDiv(at.getEpochSecond(), length.toSeconds());
+        }
+
+        public String key(String prefix, long bucket) {
+            return prefix + code + ":" + bucket;
+        }
+    }
+
+    /** 요청 파라미터 해석 (1분 ~ 30일, 형식이 잘못되면 400) */
+    public static TrendWindow parse(String value) {
+        Duration window;
+        try {
+            window = DurationStyle.SIMPLE.parse(value.trim());
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Invalid window: " + value);
+        }
+        if (window.compareTo(Duration.ofMinutes(1)) < 0 || window.compareTo(MAX) > 0) {
+            throw new BadRequestException("Window must be between 1m and 30d: " + value);
+        }
+        for (Resolution r : Resolution.values()) {
+            if (window.compareTo(r.maxWindow) <= 0) {
+                long buckets = (window.toSeconds() + r.length.toSeconds() - 1) / r.length.toSeconds(); // 올림
+                return new TrendWindow(r, (int) buckets);
+            }
+        }
+        throw new IllegalStateException("unreachable");
+    }
+
+    /** {@code now}가 속한 버킷부터 과거 방향으로 읽을 키 목록 */
+    public List<String> keys(String prefix, Instant now) {
+        long current = resolution.bucketOf(now);
+        List<String> keys = new ArrayList<>(buckets);
+        for (int i = 0; i < buckets; i++) {
+            keys.add(resolution.key(prefix, current - i));
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,106 @@
+package com.trevari.project.service;
+
+import com.trevari.project.api.dto.SearchKeyword;
+import com.trevari.project.config.CircuitBreaker;
+import com.trevari.project.exception.BadRequestException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 구간별 트렌드 검색어 (최근 1시간, 1일 등).
+ *
+ * <p>집계 반영({@link SearchTermsFlushedEvent})마다 보장된 증가분을 분/시/일 버킷 각각에 직접 더합니다
+ * (쓰기 시 세 단위에 나눠 쓰며, 분 버킷을 시/일 버킷으로 합치는 별도 rollup 작업은 없음). 조회 시에는 구간에 맞는
+ * 한 단위의 버킷만 합치므로 읽는 키 수는 버킷 수({@link TrendWindow})에 비례하고, 원본 검색 이벤트는 보관하지 않습니다.
+ * 버킷은 단위별 보존 기간이 지나면 만료되고, 각 버킷은 상위 {@code top-capacity}개 검색어만 유지합니다.
+ * Redis 호출은 집계와 같은 서킷 브레이커를 거치며, 열려 있으면 빈 목록을 반환합니다.
+ */
+@Slf4j
+@Service
+public class TrendingKeywordsService {
+
+    static final String KEY_PREFIX = "search:trend:";
+    static final String UNION_PREFIX = KEY_PREFIX + "union:";
+    static final int MAX_K = 100;
+
+    private final TrendStore trendStore;
+    private final CircuitBreaker breaker;
+    private final SearchAggregateProperties properties;
+    private final Clock clock;
+
+    @Autowired
+    public TrendingKeywordsService(TrendStore trendStore,
+                                   @Qualifier("analyticsCircuitBreaker") CircuitBreaker breaker,
+                                   SearchAggregateProperties properties) {
+        this(trendStore, breaker, properties, Clock.systemUTC());
+    }
+
+    TrendingKeywordsService(TrendStore trendStore, CircuitBreaker breaker, SearchAggregateProperties properties, Clock clock) {
+        this.trendStore = trendStore;
+        this.breaker = breaker;
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    /** 반영된 증가분을 현재 시각의 분/시/일 버킷에 더함 (실패해도 전체 집계에는 영향 없음) */
+    @EventListener
+    public void onFlushed(SearchTermsFlushedEvent event) {
+        Map<String, Long> deltas = event.deltas();
+        if (deltas.isEmpty()) {
+            return;
+        }
+        Instant now = clock.instant();
+        List<TrendStore.Bucket> buckets = new ArrayList<>();
+        for (TrendWindow.Resolution r : TrendWindow.Resolution.values()) {
+            buckets.add(new TrendStore.Bucket(r.key(KEY_PREFIX, r.bucketOf(now)), r.ttl()));
+        }
+        if (!breaker.tryAcquire()) {
+            return; // 트렌드는 최선 노력 (전체 순위는 SearchAggregateService 버퍼가 보존)
+        }
+        long start = System.nanoTime();
+        try {
+            trendStore.increment(buckets, deltas, properties.topCapacity());
+            breaker.onSuccess(System.nanoTime() - start);
+        } catch (Exception e) {
+            breaker.onFailure();
+            log.warn("트렌드 검색어 버킷 반영 실패: {}건 ({})", deltas.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 구간 내 상위 {@code k}개 검색어.
+     *
+     * @param window 조회 구간 (예: 15m, 1h, 24h, 7d)
+     * @param k      1 ~ {@value #MAX_K}
+     */
+    public List<SearchKeyword> top(String window, int k) {
+        if (k < 1 || k > MAX_K) {
+            throw new BadRequestException("k must be between 1 and " + MAX_K + ": " + k);
+        }
+        TrendWindow parsed = TrendWindow.parse(window);
+        Instant now = clock.instant();
+        String unionKey = UNION_PREFIX + parsed.resolution().key("", parsed.resolution().bucketOf(now)) + ":" + parsed.buckets();
+        if (!breaker.tryAcquire()) {
+            return List.of();
+        }
+        long start = System.nanoTime();
+        try {
+            List<SearchKeyword> top = trendStore.top(unionKey, parsed.keys(KEY_PREFIX, now), k);
+            breaker.onSuccess(System.nanoTime() - start);
+            return top;
+        } catch (Exception e) {
+            breaker.onFailure();
+            log.warn("트렌드 검색어 조회 실패: window={} ({})", window, e.getMessage());
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,11 @@
+-- 도서 테이블 (ddl-auto로 만들던 스키마와 같음: 이미 있는 DB는 이 버전을 기준선으로 기록하고 건너뜀)
+CREATE TABLE books (
+    isbn           VARCHAR(20)  NOT NULL,
+    title          VARCHAR(255) NOT NULL,
+    subtitle       VARCHAR(255),
+    author         VARCHAR(255) NOT NULL,
+    publisher      VARCHAR(255),
+    published_date DATE,
+    image          VARCHAR(512),
+    PRIMARY KEY (isbn)
+);
@@ -0,0 +1,11 @@
+-- 검색용 정규화 컬럼 (SearchText): 기존 행은 V3(Java)에서 채움
+-- search_text: isbn/title/subtitle/author/publisher를 정규화해 U+001F로 연결 (한정자 없는 검색어)
+-- *_key: 필드 한정 검색어 (title:, author:, publisher:)
+ALTER TABLE books ADD COLUMN search_text VARCHAR(2048) DEFAULT '' NOT NULL;
+ALTER TABLE books ADD COLUMN title_key VARCHAR(512) DEFAULT '' NOT NULL;
+ALTER TABLE books ADD COLUMN author_key VARCHAR(512) DEFAULT '' NOT NULL;
+ALTER TABLE books ADD COLUMN publisher_key VARCHAR(512) DEFAULT '' NOT NULL;
+
+-- 앞부분 일치(title:spr*, author:beck*)용: 정규화된 값이라 대소문자/전각 구분 없이 인덱스 범위 조회
+CREATE INDEX idx_books_title_key ON books (title_key);
+CREATE INDEX idx_books_author_key ON books (author_key);
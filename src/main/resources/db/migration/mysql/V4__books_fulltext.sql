@@ -0,0 +1,15 @@
+-- search.engine=fulltext용 ngram FULLTEXT 인덱스 (MySQL 전용, 배포 시 한 번 — 큰 테이블은 인덱스 생성 동안 시간이 걸림)
+-- 이전 버전은 엔진 기동 시 인덱스를 직접 만들었으므로, 이미 있으면 건너뛰고 옛 4개 컬럼 인덱스(ft_books_text)는 제거
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+               WHERE table_schema = DATABASE() AND table_name = 'books' AND index_name = 'ft_books_search_text') = 0,
+              'ALTER TABLE books ADD FULLTEXT INDEX ft_books_search_text (search_text) WITH PARSER ngram', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+               WHERE table_schema = DATABASE() AND table_name = 'books' AND index_name = 'ft_books_text') > 0,
+              'ALTER TABLE books DROP INDEX ft_books_text', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
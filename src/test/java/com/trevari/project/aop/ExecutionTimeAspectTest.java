@@ -2,52 +2,99 @@ package com.trevari.project.aop;
 
 import com.trevari.project.api.dto.SearchDTOs;
 import com.trevari.project.search.SearchStrategy;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mockito;
-import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.ResponseEntity;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 
-@ExtendWith(MockitoExtension.class)
 class ExecutionTimeAspectTest {
 
-    @InjectMocks
-    ExecutionTimeAspect aspect;
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    ExecutionTimeAspect aspect = new ExecutionTimeAspect(meterRegistry);
 
-    @Test
-    @DisplayName("단순 ResponseEntity 래핑: executionTime 삽입 검증")
-    void wrapsResponseEntity_andInjectsExecutionTime() throws Throwable {
-        // given: 기존 응답(메타 executionTime=0)
-        var meta = new SearchDTOs.Metadata(0L, SearchStrategy.SIMPLE);
+    @MeasureTime("/api/test")
+    void endpoint() {
+    }
+
+    /** {@link #endpoint()}를 가리키는 조인 포인트 */
+    static ProceedingJoinPoint joinPoint() throws NoSuchMethodException {
+        MethodSignature signature = Mockito.mock(MethodSignature.class);
+        Mockito.when(signature.getMethod()).thenReturn(ExecutionTimeAspectTest.class.getDeclaredMethod("endpoint"));
+        ProceedingJoinPoint pjp = Mockito.mock(ProceedingJoinPoint.class);
+        Mockito.when(pjp.getSignature()).thenReturn(signature);
+        return pjp;
+    }
+
+    static ResponseEntity<SearchDTOs.Response> response(SearchStrategy strategy, boolean cached) {
+        // 서비스처럼 현재 요청의 타이밍 컨텍스트를 참조 (proceed 안에서 만들면 aspect가 연 컨텍스트)
+        var meta = new SearchDTOs.Metadata(0L, strategy, cached, RequestTiming.current(), null);
         var body = new SearchDTOs.Response("mongodb",
-                new SearchDTOs.PageInfo(1,20,0,0),
+                new SearchDTOs.PageInfo(1,20,0,0L,true,false,null),
                 List.of(), meta);
-        var original = ResponseEntity.ok(body);
+        return ResponseEntity.ok(body);
+    }
 
-        // and: pjp.proceed()가 그 응답을 돌려줌
-        ProceedingJoinPoint pjp = Mockito.mock(ProceedingJoinPoint.class);
+    @Test
+    @DisplayName("응답을 다시 만들지 않고 executionTime은 요청 타이밍에서 읽음")
+    void returnsSameResponse_withExecutionTimeFromRequestTiming() throws Throwable {
+        // given: pjp.proceed()가 타이밍 컨텍스트를 참조하는 응답(메타 executionTime=0)을 돌려줌
+        ProceedingJoinPoint pjp = joinPoint();
+        Object[] original = new Object[1];
         Mockito.when(pjp.proceed()).thenAnswer(invocation -> {
+            original[0] = response(SearchStrategy.SIMPLE, false);
             Thread.sleep(2); // 2ms 보장
-            return original;
+            return original[0];
         });
 
         // when
         Object ret = aspect.around(pjp);
 
         // then
-        assertNotNull(ret);
-        assertInstanceOf(ResponseEntity.class, ret, "returned object should be a ResponseEntity");
-        ResponseEntity<?> re = (ResponseEntity<?>) ret;
-        var changed = (SearchDTOs.Response) re.getBody();
-        assertNotNull(changed);
-        assertEquals(SearchStrategy.SIMPLE, changed.searchMetadata().strategy());
-        assertNotEquals(0L, changed.searchMetadata().executionTime()); // 실행 시간이 초기값과 달라졌음을 검증
+        assertSame(original[0], ret);
+        var body = (SearchDTOs.Response) ((ResponseEntity<?>) ret).getBody();
+        assertNotNull(body);
+        assertEquals(SearchStrategy.SIMPLE, body.searchMetadata().strategy());
+        long ms = body.searchMetadata().executionTime();
+        assertTrue(ms >= 2, "executionTime=" + ms);
+        assertTrue(body.searchMetadata().executionTimeMicros() >= 2_000);
+        // 컨트롤러 반환 시점에 고정됨
+        Thread.sleep(5);
+        assertEquals(ms, body.searchMetadata().executionTime());
+        // aspect가 연 컨텍스트는 반환 후 해제
+        assertNull(RequestTiming.current());
+    }
+
+    @Test
+    @DisplayName("search.request 타이머: endpoint/strategy/cached 태그별로 기록")
+    void recordsTimerTaggedByEndpointStrategyAndCached() throws Throwable {
+        ProceedingJoinPoint pjp = joinPoint();
+        Mockito.when(pjp.proceed()).thenReturn(
+                response(SearchStrategy.OR_OPERATION, false),
+                response(SearchStrategy.OR_OPERATION, true),
+                response(SearchStrategy.OR_OPERATION, true));
+
+        for (int i = 0; i < 3; i++) {
+            aspect.around(pjp);
+        }
+
+        assertEquals(1, timer("OR_OPERATION", "false").count());
+        assertEquals(2, timer("OR_OPERATION", "true").count());
+        assertEquals(0, timer("SIMPLE", "false").count());
+        assertTrue(timer("OR_OPERATION", "true").totalTime(TimeUnit.NANOSECONDS) > 0);
+    }
+
+    private Timer timer(String strategy, String cached) {
+        return meterRegistry.get("search.request")
+                .tags("endpoint", "/api/test", "strategy", strategy, "cached", cached)
+                .timer();
     }
 }
@@ -0,0 +1,85 @@
+package com.trevari.project.aop;
+
+import com.trevari.project.api.dto.SearchDTOs;
+import com.trevari.project.search.SearchMetrics;
+import com.trevari.project.search.SearchStrategy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ServerTimingFilterTest {
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    SearchMetrics searchMetrics = new SearchMetrics(meterRegistry);
+    MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new TestController(searchMetrics))
+                .addFilters(new ServerTimingFilter(searchMetrics))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Server-Timing 헤더: 기록된 구간 + serialize + total (ms)")
+    void writesServerTimingHeader() throws Exception {
+        String header = mockMvc.perform(get("/search"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(ServerTimingFilter.HEADER))
+                .andExpect(jsonPath("$.searchMetadata.executionTimeMicros").value(greaterThanOrEqualTo(1_500)))
+                .andExpect(jsonPath("$.searchMetadata.phases").doesNotExist())
+                .andExpect(jsonPath("$.searchMetadata.timing").doesNotExist())
+                .andReturn().getResponse().getHeader(ServerTimingFilter.HEADER);
+
+        assertThat(header).matches("query;dur=1\\.500, serialize;dur=\\d+\\.\\d{3}, total;dur=\\d+\\.\\d{3}");
+        assertThat(meterRegistry.get("search.phase").tags("phase", "serialize", "strategy", "SIMPLE").timer().count())
+                .isEqualTo(1);
+        assertThat(RequestTiming.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("timing=true: 응답 메타데이터에 구간 표(µs) 포함")
+    void exposesPhasesWhenRequested() throws Exception {
+        mockMvc.perform(get("/search").param(ServerTimingFilter.TIMING_PARAM, "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.searchMetadata.phases.query").value(1_500))
+                .andExpect(jsonPath("$.searchMetadata.phases.total").value(greaterThanOrEqualTo(1_500)))
+                .andExpect(jsonPath("$.searchMetadata.phases.serialize").doesNotExist());
+    }
+
+    @RestController
+    static class TestController {
+        private final SearchMetrics searchMetrics;
+
+        TestController(SearchMetrics searchMetrics) {
+            this.searchMetrics = searchMetrics;
+        }
+
+        @GetMapping("/search")
+        ResponseEntity<SearchDTOs.Response> search() throws InterruptedException {
+            // 엔진이 1.5ms 걸린 것처럼 기록하고 (실제로도 2ms 대기), aspect 대신 반환 시점을 직접 표시
+            Thread.sleep(2);
+            searchMetrics.recordNanos(SearchMetrics.Phase.QUERY, SearchStrategy.SIMPLE, 1_500_000);
+            RequestTiming timing = RequestTiming.current();
+            timing.handlerDone();
+            return ResponseEntity.ok(new SearchDTOs.Response("q",
+                    new SearchDTOs.PageInfo(1, 20, 0, 0L, true, false, null), List.of(),
+                    new SearchDTOs.Metadata(0L, SearchStrategy.SIMPLE, false, timing, null)));
+        }
+    }
+}
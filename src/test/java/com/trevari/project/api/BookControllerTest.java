@@ -1,34 +1,54 @@
 package com.trevari.project.api;
 
+import com.trevari.project.api.dto.BookBatchDTOs;
 import com.trevari.project.api.dto.BookDetailDTO;
 import com.trevari.project.api.dto.SearchDTOs;
 import com.trevari.project.api.dto.SearchKeyword;
+import com.trevari.project.exception.GlobalExceptionHandler;
+import com.trevari.project.search.SearchCursor;
+import com.trevari.project.search.SearchMetrics;
+import com.trevari.project.search.SearchPage;
 import com.trevari.project.search.SearchQuery;
 import com.trevari.project.search.SearchStrategy;
+import com.trevari.project.search.TotalMode;
 import com.trevari.project.service.BookService;
 import com.trevari.project.service.SearchAggregateService;
 import com.trevari.project.service.SearchService;
+import com.trevari.project.service.TopKeywordsSnapshot;
+import com.trevari.project.service.TrendingKeywordsService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -46,12 +66,23 @@ class BookControllerTest {
     @Mock
     private SearchAggregateService searchAggregateService;
 
+    @Mock
+    private TopKeywordsSnapshot topKeywordsSnapshot;
+
+    @Mock
+    private TrendingKeywordsService trendingKeywordsService;
+
+    @Spy
+    private SearchMetrics searchMetrics = new SearchMetrics(new SimpleMeterRegistry());
+
     @InjectMocks
     private BookController bookController;
 
     @BeforeEach
     void setUp() {
-        mockMvc = MockMvcBuilders.standaloneSetup(bookController).build();
+        mockMvc = MockMvcBuilders.standaloneSetup(bookController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
     }
 
     @Test
@@ -76,6 +107,35 @@ class BookControllerTest {
             .andExpect(jsonPath("$.publisher").value("출판사"));
     }
 
+    @Test
+    @DisplayName("GET /api/books:batch: 쉼표 구분 ID 목록을 요청 순서대로 조회")
+    void get_books_batch_returns_items_in_request_order() throws Exception {
+        BookDetailDTO book = new BookDetailDTO("9786247377209", "테스트 도서", "", "", "저자", "9786247377209", "출판사",
+                java.time.LocalDate.now());
+        var resp = new BookBatchDTOs.Response(List.of(
+                new BookBatchDTOs.Item("missing", false, null),
+                new BookBatchDTOs.Item("9786247377209", true, book)), 1, 1);
+        Mockito.when(bookService.getBookDetailDTOs(List.of("missing", "9786247377209"))).thenReturn(resp);
+
+        mockMvc.perform(get("/api/books:batch").param("ids", "missing,9786247377209").accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items[0].id").value("missing"))
+            .andExpect(jsonPath("$.items[0].found").value(false))
+            .andExpect(jsonPath("$.items[1].book.title").value("테스트 도서"))
+            .andExpect(jsonPath("$.notFound").value(1));
+    }
+
+    @Test
+    @DisplayName("POST /api/books:batch: 본문의 ID 목록으로 조회")
+    void post_books_batch_reads_ids_from_body() throws Exception {
+        Mockito.when(bookService.getBookDetailDTOs(List.of("a", "b")))
+                .thenReturn(new BookBatchDTOs.Response(List.of(), 0, 2));
+
+        mockMvc.perform(post("/api/books:batch").contentType(MediaType.APPLICATION_JSON).content("{\"ids\":[\"a\",\"b\"]}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.notFound").value(2));
+    }
+
     @Test
     @DisplayName("GET /api/books: SIMPLE 모드로 페이지 결과 반환")
     void browse_simple_keyword_returns_page() throws Exception {
@@ -90,11 +150,11 @@ class BookControllerTest {
             java.time.LocalDate.now()
         );
 
-        SearchDTOs.PageInfo pageInfo = new SearchDTOs.PageInfo(1, 20, 1, 1L);
-        SearchDTOs.Metadata metadata = new SearchDTOs.Metadata(5L, SearchStrategy.SIMPLE);
+        SearchDTOs.PageInfo pageInfo = new SearchDTOs.PageInfo(1, 20, 1, 1L, true, false, null);
+        SearchDTOs.Metadata metadata = new SearchDTOs.Metadata(5L, SearchStrategy.SIMPLE, false);
         SearchDTOs.Response resp = new SearchDTOs.Response("keyword", pageInfo, Collections.singletonList(book), metadata);
 
-    Mockito.when(searchService.getSearchDTO(Mockito.<SearchQuery>any(), Mockito.<Pageable>any())).thenReturn(resp);
+    Mockito.when(searchService.getSearchDTO(Mockito.<SearchQuery>any(), Mockito.<SearchPage>any())).thenReturn(resp);
 
         mockMvc.perform(get("/api/books").param("keyword", "keyword").param("page", "1").param("size", "20")
                 .accept(MediaType.APPLICATION_JSON))
@@ -126,11 +186,11 @@ class BookControllerTest {
             java.time.LocalDate.now()
         );
 
-        SearchDTOs.PageInfo pageInfo2 = new SearchDTOs.PageInfo(1, 10, 1, 1L);
-        SearchDTOs.Metadata metadata2 = new SearchDTOs.Metadata(7L, SearchStrategy.OR_OPERATION);
+        SearchDTOs.PageInfo pageInfo2 = new SearchDTOs.PageInfo(1, 10, 1, 1L, true, false, null);
+        SearchDTOs.Metadata metadata2 = new SearchDTOs.Metadata(7L, SearchStrategy.OR_OPERATION, false);
         SearchDTOs.Response resp = new SearchDTOs.Response("term-other", pageInfo2, Collections.singletonList(book), metadata2);
 
-        Mockito.when(searchService.getSearchDTO(Mockito.<SearchQuery>any(), Mockito.<Pageable>any())).thenReturn(resp);
+        Mockito.when(searchService.getSearchDTO(Mockito.<SearchQuery>any(), Mockito.<SearchPage>any())).thenReturn(resp);
         performSearch("term-Other")
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.searchQuery").value("term-other"))
@@ -150,30 +210,119 @@ class BookControllerTest {
                 java.time.LocalDate.now()
         );
 
-        SearchDTOs.PageInfo pageInfo2 = new SearchDTOs.PageInfo(1, 10, 1, 1L);
-        SearchDTOs.Metadata metadata2 = new SearchDTOs.Metadata(7L, SearchStrategy.OR_OPERATION);
+        SearchDTOs.PageInfo pageInfo2 = new SearchDTOs.PageInfo(1, 10, 1, 1L, true, false, null);
+        SearchDTOs.Metadata metadata2 = new SearchDTOs.Metadata(7L, SearchStrategy.OR_OPERATION, false);
         SearchDTOs.Response resp = new SearchDTOs.Response("term-other", pageInfo2, Collections.singletonList(book), metadata2);
 
-        Mockito.when(searchService.getSearchDTO(Mockito.<SearchQuery>any(), Mockito.<Pageable>any())).thenReturn(resp);
+        Mockito.when(searchService.getSearchDTO(Mockito.<SearchQuery>any(), Mockito.<SearchPage>any())).thenReturn(resp);
         performSearch("term-Other").andExpect(status().isOk());
         verify(searchAggregateService, times(1)).aggregateTop10(eq("term-other"));
     }
 
     @Test
-    @DisplayName("GET /api/analytics/search/top10: 인기 검색어 TOP10 조회")
-    void get_top10_keywords_returns_list() throws Exception {
-        var kw1 = new SearchKeyword("spring boot", 10L);
-        var kw2 = new SearchKeyword("tdd", 7L);
+    @DisplayName("GET /api/search/books: explain=true면 실행 계획을 메타데이터에 포함, 없으면 생략")
+    void search_with_explain_includes_plan() throws Exception {
+        SearchDTOs.PageInfo pageInfo = new SearchDTOs.PageInfo(1, 10, 0, 0L, true, false, null);
+        SearchDTOs.Metadata metadata = new SearchDTOs.Metadata(1L, SearchStrategy.BOOLEAN, false);
+        SearchDTOs.Response resp = new SearchDTOs.Response("(java|kotlin)-android", pageInfo, List.of(), metadata);
+        Mockito.when(searchService.getSearchDTO(Mockito.<SearchQuery>any(), Mockito.<SearchPage>any())).thenReturn(resp);
+
+        mockMvc.perform(get("/api/search/books").param("q", "(Java | Kotlin) - Android").param("explain", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.searchMetadata.explain[0]").value(startsWith("BOOLEAN (java|kotlin)-android")))
+                .andExpect(jsonPath("$.searchMetadata.explain[1]").value(startsWith("  AND")));
+        mockMvc.perform(get("/api/search/books").param("q", "(Java | Kotlin) - Android"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.searchMetadata.explain").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("GET /api/search/books: cursor 파라미터를 키셋 페이지 요청으로 전달")
+    void search_with_cursor_passes_keyset_page() throws Exception {
+        SearchDTOs.PageInfo pageInfo = new SearchDTOs.PageInfo(1, 10, 1, 1L, true, false, null);
+        SearchDTOs.Metadata metadata = new SearchDTOs.Metadata(1L, SearchStrategy.SIMPLE, false);
+        SearchDTOs.Response resp = new SearchDTOs.Response("java", pageInfo, List.of(), metadata);
+        Mockito.when(searchService.getSearchDTO(Mockito.<SearchQuery>any(), Mockito.<SearchPage>any())).thenReturn(resp);
 
-        List<SearchKeyword> list = List.of(kw1, kw2);
+        String cursor = SearchCursor.of("9781617291609").encode();
+        mockMvc.perform(get("/api/search/books").param("q", "java").param("size", "10").param("cursor", cursor))
+                .andExpect(status().isOk());
 
-        Mockito.when(searchAggregateService.getTop10Keywords()).thenReturn(list);
+        ArgumentCaptor<SearchPage> captor = ArgumentCaptor.forClass(SearchPage.class);
+        verify(searchService).getSearchDTO(any(), captor.capture());
+        assertThat(captor.getValue().isKeyset()).isTrue();
+        assertThat(captor.getValue().after().isbn()).isEqualTo("9781617291609");
+        assertThat(captor.getValue().size()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("GET /api/search/books: 잘못된 cursor는 400, 집계하지 않음")
+    void search_with_invalid_cursor_returns_bad_request() throws Exception {
+        mockMvc.perform(get("/api/search/books").param("q", "java").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+        verify(searchAggregateService, never()).aggregateTop10(any());
+    }
+
+    @Test
+    @DisplayName("GET /api/books: total 파라미터 해석, 알 수 없는 값은 400")
+    void browse_parses_total_mode() throws Exception {
+        SearchDTOs.PageInfo pageInfo = new SearchDTOs.PageInfo(1, 20, null, null, false, true, "c");
+        SearchDTOs.Metadata metadata = new SearchDTOs.Metadata(1L, SearchStrategy.SIMPLE, false);
+        SearchDTOs.Response resp = new SearchDTOs.Response("java", pageInfo, List.of(), metadata);
+        Mockito.when(searchService.getSearchDTO(Mockito.<SearchQuery>any(), Mockito.<SearchPage>any())).thenReturn(resp);
+
+        mockMvc.perform(get("/api/books").param("keyword", "java").param("total", "none"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pageInfo.totalExact").value(false))
+                .andExpect(jsonPath("$.pageInfo.hasNext").value(true));
+        ArgumentCaptor<SearchPage> captor = ArgumentCaptor.forClass(SearchPage.class);
+        verify(searchService).getSearchDTO(any(), captor.capture());
+        assertThat(captor.getValue().total()).isEqualTo(TotalMode.NONE);
+
+        mockMvc.perform(get("/api/books").param("keyword", "java").param("total", "maybe"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /api/analytics/search/top10: 인기 검색어 TOP10 스냅샷 조회, ETag/Cache-Control 포함")
+    void get_top10_keywords_returns_list() throws Exception {
+        byte[] json = """
+            [{"keyword":"spring boot","count":10,"maxError":0},{"keyword":"tdd","count":7,"maxError":2}]
+            """.strip().getBytes(StandardCharsets.UTF_8);
+        var snapshot = new TopKeywordsSnapshot.Snapshot(List.of(), json, "\"abc\"", Instant.now());
+
+        Mockito.when(topKeywordsSnapshot.current()).thenReturn(snapshot);
+        Mockito.when(topKeywordsSnapshot.maxAge()).thenReturn(Duration.ofSeconds(5));
 
         mockMvc.perform(get("/api/analytics/search/top10").accept(MediaType.APPLICATION_JSON))
             .andExpect(status().isOk())
+            .andExpect(header().string("ETag", "\"abc\""))
+            .andExpect(header().string("Cache-Control", "max-age=5, public"))
             .andExpect(jsonPath("$[0].keyword").value("spring boot"))
             .andExpect(jsonPath("$[0].count").value(10))
             .andExpect(jsonPath("$[1].keyword").value("tdd"))
-            .andExpect(jsonPath("$[1].count").value(7));
+            .andExpect(jsonPath("$[1].count").value(7))
+            .andExpect(jsonPath("$[1].maxError").value(2));
+
+        mockMvc.perform(get("/api/analytics/search/top10").header("If-None-Match", "\"abc\""))
+            .andExpect(status().isNotModified())
+            .andExpect(content().bytes(new byte[0]));
+
+        verify(searchAggregateService, never()).getTop10Keywords();
+    }
+
+    @Test
+    @DisplayName("GET /api/analytics/search/top?window=1h&k=5: 구간별 트렌드 검색어 조회 (기본 window=1h, k=10)")
+    void get_trending_keywords() throws Exception {
+        Mockito.when(trendingKeywordsService.top("24h", 5)).thenReturn(List.of(new SearchKeyword("spring", 4L, 0L)));
+
+        mockMvc.perform(get("/api/analytics/search/top").param("window", "24h").param("k", "5"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].keyword").value("spring"))
+            .andExpect(jsonPath("$[0].count").value(4));
+
+        mockMvc.perform(get("/api/analytics/search/top"))
+            .andExpect(status().isOk());
+        verify(trendingKeywordsService).top("1h", 10);
     }
 }
@@ -0,0 +1,29 @@
+package com.trevari.project.api;
+
+import com.trevari.project.catalog.CatalogImportService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class CatalogAdminControllerTest {
+
+    private final ApplicationContextRunner runner = new ApplicationContextRunner()
+            .withBean(CatalogImportService.class, () -> mock(CatalogImportService.class))
+            .withUserConfiguration(CatalogAdminController.class);
+
+    @Test
+    @DisplayName("관리자 가져오기 API는 기본으로 등록하지 않음 (인증 없는 쓰기 API)")
+    void not_registered_by_default() {
+        runner.run(context -> assertThat(context).doesNotHaveBean(CatalogAdminController.class));
+    }
+
+    @Test
+    @DisplayName("catalog.import.admin-enabled=true일 때만 등록")
+    void registered_when_enabled() {
+        runner.withPropertyValues("catalog.import.admin-enabled=true")
+                .run(context -> assertThat(context).hasSingleBean(CatalogAdminController.class));
+    }
+}
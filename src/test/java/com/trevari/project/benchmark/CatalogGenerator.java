@@ -0,0 +1,282 @@
+package com.trevari.project.benchmark;
+
+import com.trevari.project.domain.SearchText;
+import com.trevari.project.search.SearchStrategy;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+/**
+ * 결정적(seed 고정) 합성 도서 카탈로그 / 검색어 생성기.
+ *
+ * <p>같은 seed와 건수면 항상 같은 행과 같은 검색어 목록을 만듭니다.
+ * <ul>
+ *   <li>제목/부제: 한국어 60%, 영어 40%. 단어는 Zipf 분포로 뽑아 소수 단어가 많은 도서에 등장</li>
+ *   <li>저자: 건수/15명 풀에서 Zipf 분포 (다작 저자), 출판사: 300곳 풀에서 Zipf 분포</li>
+ *   <li>ISBN: 978 접두어 + 순번을 뒤섞은 9자리 + 검사 숫자 (유효한 ISBN-13, 삽입 순서와 정렬 순서가 다름)</li>
+ *   <li>검색어: 제목과 같은 단어 분포(인기 단어일수록 자주 검색)로 SIMPLE 60% / OR 15% / NOT 10% / AND 5% / BOOLEAN 5% / FIELD 5%</li>
+ * </ul>
+ * H2/MySQL에는 {@link #load(JdbcTemplate, int)}(JDBC 배치 INSERT, 검색 키 컬럼 포함)로, 파일로는 {@link #writeCsv(Path, int)}로 내보냅니다.
+ *
+ * <pre>
+ * # CSV 생성 (건수, seed, 경로) → MySQL: LOAD DATA LOCAL INFILE ... FIELDS TERMINATED BY ',' OPTIONALLY ENCLOSED BY '"' IGNORE 1 LINES
+ * #   (검색 키 컬럼은 비어 있으므로 적재 후 seed 프로필로 한 번 기동해 채움 — SearchKeyBackfill)
+ * java -cp build/classes/java/test:... com.trevari.project.benchmark.CatalogGenerator 1000000 42 build/catalog-1m.csv
+ * </pre>
+ */
+final class CatalogGenerator {
+
+    static final String INSERT_SQL = "insert into books (isbn, title, subtitle, author, publisher, published_date, image,"
+            + " search_text, title_key, author_key, publisher_key) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    static final String CSV_HEADER = "isbn,title,subtitle,author,publisher,published_date,image";
+
+    private static final int BATCH_SIZE = 5_000;
+    private static final int PUBLISHERS = 300;
+    private static final LocalDate FIRST_PUBLISHED = LocalDate.of(1990, 1, 1);
+    private static final int PUBLISHED_DAYS = 35 * 365;
+
+    /** 순번 → ISBN 본문 9자리 뒤섞기 (3^18은 10^9와 서로소이므로 일대일) */
+    private static final long ISBN_MULTIPLIER = 387_420_489L;
+    private static final long ISBN_SPACE = 1_000_000_000L;
+
+    private static final String[] KO_WORDS = {
+            "자바", "스프링", "데이터", "알고리즘", "프로그래밍", "개발", "설계", "클라우드", "보안", "네트워크",
+            "인공지능", "머신러닝", "딥러닝", "파이썬", "웹", "서버", "데이터베이스", "운영체제", "테스트", "리팩터링",
+            "역사", "소설", "여행", "요리", "경제", "심리학", "철학", "과학", "우주", "디자인",
+            "마케팅", "투자", "건강", "음악", "미술", "사랑", "시간", "도시", "바다", "나무",
+            "고양이", "아이", "엄마", "학교", "회사", "리더십", "습관", "글쓰기", "독서", "수학",
+            "물리", "화학", "생물", "환경", "기후", "정치", "사회", "문화", "언어", "영화",
+            "사진", "건축", "정원", "커피", "와인", "달리기", "명상", "행복", "성장", "기억"
+    };
+    private static final String[] EN_WORDS = {
+            "java", "spring", "data", "algorithms", "programming", "design", "patterns", "cloud", "security", "network",
+            "kotlin", "python", "web", "server", "database", "systems", "testing", "refactoring", "microservices", "kubernetes",
+            "history", "novel", "travel", "cooking", "economics", "psychology", "philosophy", "science", "space", "art",
+            "marketing", "investing", "health", "music", "love", "time", "city", "ocean", "forest", "mind",
+            "leadership", "habits", "writing", "reading", "mathematics", "physics", "chemistry", "biology", "climate", "politics",
+            "culture", "language", "film", "photography", "architecture", "garden", "coffee", "running", "happiness", "memory"
+    };
+    private static final String[] KO_SURNAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임", "한", "오", "서", "신", "권"};
+    private static final String[] KO_SYLLABLES = {"민", "서", "지", "현", "준", "수", "영", "하", "은", "우", "재", "윤", "도", "연", "진", "호"};
+    private static final String[] EN_FIRST = {"James", "Mary", "John", "Linda", "Robert", "Susan", "Michael", "Karen", "David", "Emma",
+            "Daniel", "Olivia", "Martin", "Grace", "Kent", "Joshua", "Rebecca", "Craig", "Brian", "Alice"};
+    private static final String[] EN_LAST = {"Smith", "Johnson", "Brown", "Taylor", "Miller", "Wilson", "Moore", "Anderson", "Clark", "Walls",
+            "Fowler", "Martin", "Bloch", "Evans", "Knuth", "Beck", "Hunt", "Thomas", "Norvig", "Kernighan"};
+    private static final String[] PUBLISHER_SUFFIXES = {"출판사", "북스", "미디어", "Press", "Publishing", "Books"};
+
+    private final long seed;
+
+    CatalogGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    record Row(String isbn, String title, String subtitle, String author, String publisher,
+               LocalDate publishedDate, String image) {}
+
+    record Query(String q, SearchStrategy strategy) {}
+
+    /** {@code count}건을 순서대로 생성해 {@code sink}로 전달 */
+    void generate(int count, Consumer<Row> sink) {
+        SplittableRandom random = new SplittableRandom(seed);
+        Zipf koWords = new Zipf(KO_WORDS.length, 1.0);
+        Zipf enWords = new Zipf(EN_WORDS.length, 1.0);
+        Zipf authors = new Zipf(Math.max(100, count / 15), 0.8);
+        Zipf publishers = new Zipf(PUBLISHERS, 1.1);
+
+        for (int i = 0; i < count; i++) {
+            boolean korean = random.nextInt(10) < 6;
+            String title = korean ? koreanTitle(random, koWords) : englishTitle(random, enWords);
+            String subtitle = random.nextInt(10) < 3 ? null
+                    : korean ? pick(KO_WORDS, koWords, random) + "를 위한 " + pick(KO_WORDS, koWords, random) + " 실전 가이드"
+                    : "A practical guide to " + pick(EN_WORDS, enWords, random) + " and " + pick(EN_WORDS, enWords, random);
+            String isbn = isbn13(i);
+            sink.accept(new Row(
+                    isbn,
+                    title,
+                    subtitle,
+                    author(authors.sample(random)),
+                    publisher(publishers.sample(random)),
+                    FIRST_PUBLISHED.plusDays(random.nextInt(PUBLISHED_DAYS)),
+                    "https://image.example.com/covers/" + isbn + ".jpg"));
+        }
+    }
+
+    /** JDBC 배치 INSERT로 적재 (엔티티/영속성 컨텍스트를 거치지 않음), 적재한 건수 반환 */
+    int load(JdbcTemplate jdbc, int count) {
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        int[] loaded = {0};
+        generate(count, row -> {
+            batch.add(new Object[]{row.isbn(), row.title(), row.subtitle(), row.author(), row.publisher(),
+                    row.publishedDate(), row.image(),
+                    SearchText.document(row.isbn(), row.title(), row.subtitle(), row.author(), row.publisher()),
+                    SearchText.key(row.title()), SearchText.key(row.author()), SearchText.key(row.publisher())});
+            if (batch.size() == BATCH_SIZE) {
+                jdbc.batchUpdate(INSERT_SQL, batch);
+                loaded[0] += batch.size();
+                batch.clear();
+            }
+        });
+        if (!batch.isEmpty()) {
+            jdbc.batchUpdate(INSERT_SQL, batch);
+            loaded[0] += batch.size();
+        }
+        return loaded[0];
+    }
+
+    /** RFC 4180 CSV(헤더 포함, UTF-8)로 내보내기 */
+    void writeCsv(Path path, int count) throws IOException {
+        try (BufferedWriter w = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            w.write(CSV_HEADER);
+            w.newLine();
+            IOException[] error = {null};
+            generate(count, row -> {
+                if (error[0] != null) return;
+                try {
+                    w.write(String.join(",", csv(row.isbn()), csv(row.title()), csv(row.subtitle()), csv(row.author()),
+                            csv(row.publisher()), row.publishedDate().toString(), csv(row.image())));
+                    w.newLine();
+                } catch (IOException e) {
+                    error[0] = e;
+                }
+            });
+            if (error[0] != null) throw error[0];
+        }
+    }
+
+    /** 카탈로그와 같은 단어 분포로 검색어 {@code n}개 생성 (SIMPLE 60% / OR 15% / NOT 10% / AND 5% / BOOLEAN 5% / FIELD 5%) */
+    List<Query> queries(int n) {
+        SplittableRandom random = new SplittableRandom(seed ^ 0x5DEECE66DL);
+        Zipf koWords = new Zipf(KO_WORDS.length, 1.0);
+        Zipf enWords = new Zipf(EN_WORDS.length, 1.0);
+        List<Query> queries = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            boolean korean = random.nextInt(10) < 6;
+            String[] words = korean ? KO_WORDS : EN_WORDS;
+            Zipf zipf = korean ? koWords : enWords;
+            String left = pick(words, zipf, random);
+            String right = pick(words, zipf, random);
+            int kind = random.nextInt(20);
+            if (kind < 12 || left.equals(right)) {
+                queries.add(new Query(left, SearchStrategy.SIMPLE));
+            } else if (kind < 15) {
+                queries.add(new Query(left + "|" + right, SearchStrategy.OR_OPERATION));
+            } else if (kind < 17) {
+                queries.add(new Query(left + "-" + right, SearchStrategy.NOT_OPERATION));
+            } else if (kind < 18) {
+                queries.add(new Query(left + " & " + right, SearchStrategy.AND_OPERATION));
+            } else if (kind < 19) {
+                queries.add(new Query("(" + left + "|" + right + ")-" + pick(words, zipf, random), SearchStrategy.BOOLEAN));
+            } else {
+                queries.add(new Query("title:" + left + "*", SearchStrategy.FIELD));
+            }
+        }
+        return queries;
+    }
+
+    private static String koreanTitle(SplittableRandom random, Zipf words) {
+        String a = pick(KO_WORDS, words, random), b = pick(KO_WORDS, words, random);
+        return switch (random.nextInt(5)) {
+            case 0 -> "처음 배우는 " + a;
+            case 1 -> a + "의 " + b;
+            case 2 -> a + "와 " + b + " 이야기";
+            case 3 -> "실전 " + a + " " + b;
+            default -> a + " " + b + " " + pick(KO_WORDS, words, random);
+        };
+    }
+
+    private static String englishTitle(SplittableRandom random, Zipf words) {
+        String a = capitalize(pick(EN_WORDS, words, random)), b = capitalize(pick(EN_WORDS, words, random));
+        return switch (random.nextInt(5)) {
+            case 0 -> a + " in Action";
+            case 1 -> "Mastering " + a;
+            case 2 -> "The Art of " + a + " and " + b;
+            case 3 -> "Effective " + a;
+            default -> a + " " + b + " Handbook";
+        };
+    }
+
+    /** 저자 순위 → 이름 (순위가 같으면 항상 같은 이름) */
+    private static String author(int rank) {
+        if (rank % 5 < 3) {
+            return KO_SURNAMES[rank % KO_SURNAMES.length]
+                    + KO_SYLLABLES[(rank / KO_SURNAMES.length) % KO_SYLLABLES.length]
+                    + KO_SYLLABLES[(rank / (KO_SURNAMES.length * KO_SYLLABLES.length)) % KO_SYLLABLES.length]
+                    + (rank >= KO_SURNAMES.length * KO_SYLLABLES.length * KO_SYLLABLES.length ? " " + rank : "");
+        }
+        String name = EN_FIRST[rank % EN_FIRST.length] + " " + EN_LAST[(rank / EN_FIRST.length) % EN_LAST.length];
+        return rank >= EN_FIRST.length * EN_LAST.length ? name + " " + rank : name;
+    }
+
+    private static String publisher(int rank) {
+        String suffix = PUBLISHER_SUFFIXES[rank % PUBLISHER_SUFFIXES.length];
+        String base = rank % PUBLISHER_SUFFIXES.length < 3
+                ? KO_WORDS[rank % KO_WORDS.length]
+                : capitalize(EN_WORDS[rank % EN_WORDS.length]);
+        return base + " " + suffix + (rank >= KO_WORDS.length ? " " + rank : "");
+    }
+
+    /** 순번 i의 ISBN-13 */
+    static String isbn13(long i) {
+        String body = "978" + String.format("%09d", (i * ISBN_MULTIPLIER) % ISBN_SPACE);
+        int sum = 0;
+        for (int k = 0; k < 12; k++) {
+            sum += (body.charAt(k) - '0') * (k % 2 == 0 ? 1 : 3);
+        }
+        return body + (10 - sum % 10) % 10;
+    }
+
+    private static String pick(String[] words, Zipf zipf, SplittableRandom random) {
+        return words[zipf.sample(random)];
+    }
+
+    private static String capitalize(String s) {
+        return Character.toUpperCase(s.charAt(0)) + s.substring(1);
+    }
+
+    private static String csv(String value) {
+        if (value == null) return "";
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) return value;
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    /** 순위 0..n-1을 P(k) ∝ 1/(k+1)^s로 뽑는 샘플러 (누적 분포 이진 탐색) */
+    static final class Zipf {
+        private final double[] cdf;
+
+        Zipf(int n, double s) {
+            cdf = new double[n];
+            double sum = 0;
+            for (int k = 0; k < n; k++) {
+                sum += 1.0 / Math.pow(k + 1, s);
+                cdf[k] = sum;
+            }
+            for (int k = 0; k < n; k++) {
+                cdf[k] /= sum;
+            }
+        }
+
+        int sample(SplittableRandom random) {
+            int pos = Arrays.binarySearch(cdf, random.nextDouble());
+            return Math.min(pos >= 0 ? pos : -pos - 1, cdf.length - 1);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 42L;
+        Path path = Path.of(args.length > 2 ? args[2] : "build/catalog-" + count + ".csv");
+        long start = System.nanoTime();
+        new CatalogGenerator(seed).writeCsv(path, count);
+        System.out.printf("%d books (seed %d) → %s, %dms%n", count, seed, path, (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -0,0 +1,74 @@
+package com.trevari.project.benchmark;
+
+import com.trevari.project.search.SearchStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CatalogGeneratorTest {
+
+    private static List<CatalogGenerator.Row> rows(long seed, int count) {
+        List<CatalogGenerator.Row> rows = new ArrayList<>();
+        new CatalogGenerator(seed).generate(count, rows::add);
+        return rows;
+    }
+
+    @Test
+    @DisplayName("같은 seed면 같은 카탈로그와 검색어, 다른 seed면 다른 카탈로그")
+    void deterministic_by_seed() {
+        assertThat(rows(42, 1_000)).isEqualTo(rows(42, 1_000));
+        assertThat(rows(42, 1_000)).isNotEqualTo(rows(7, 1_000));
+        assertThat(new CatalogGenerator(42).queries(500)).isEqualTo(new CatalogGenerator(42).queries(500));
+    }
+
+    @Test
+    @DisplayName("ISBN은 유효한 ISBN-13이고 중복 없음")
+    void isbns_are_unique_and_valid() {
+        List<CatalogGenerator.Row> rows = rows(42, 20_000);
+        assertThat(new HashSet<>(rows.stream().map(CatalogGenerator.Row::isbn).toList())).hasSize(rows.size());
+        for (CatalogGenerator.Row row : rows.subList(0, 100)) {
+            String isbn = row.isbn();
+            assertThat(isbn).hasSize(13).startsWith("978");
+            int sum = 0;
+            for (int i = 0; i < 13; i++) sum += (isbn.charAt(i) - '0') * (i % 2 == 0 ? 1 : 3);
+            assertThat(sum % 10).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("검색어는 인기 단어에 몰리고(Zipf) 모든 계획 형태가 섞임")
+    void query_mix_is_skewed() {
+        List<CatalogGenerator.Query> queries = new CatalogGenerator(42).queries(10_000);
+        Map<String, Long> simple = queries.stream()
+                .filter(q -> q.strategy() == SearchStrategy.SIMPLE)
+                .collect(Collectors.groupingBy(CatalogGenerator.Query::q, Collectors.counting()));
+        assertThat(simple.getOrDefault("자바", 0L)).isGreaterThan(10 * simple.getOrDefault("기억", 1L));
+        assertThat(queries.stream().collect(Collectors.groupingBy(CatalogGenerator.Query::strategy, Collectors.counting())))
+                .containsKeys(SearchStrategy.values());
+    }
+
+    @Test
+    @DisplayName("CSV: 헤더 + 건수만큼의 행, 쉼표가 든 값은 따옴표로 감쌈")
+    void writes_csv(@TempDir Path dir) throws Exception {
+        Path csv = dir.resolve("catalog.csv");
+        new CatalogGenerator(42).writeCsv(csv, 500);
+
+        List<String> lines = Files.readAllLines(csv);
+        assertThat(lines).hasSize(501);
+        assertThat(lines.get(0)).isEqualTo(CatalogGenerator.CSV_HEADER);
+        Map<String, CatalogGenerator.Row> byIsbn = rows(42, 500).stream()
+                .collect(Collectors.toMap(CatalogGenerator.Row::isbn, Function.identity()));
+        assertThat(lines.get(1)).startsWith(byIsbn.get(lines.get(1).substring(0, 13)).isbn() + ",");
+    }
+}
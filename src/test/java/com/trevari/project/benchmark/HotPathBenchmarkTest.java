@@ -0,0 +1,194 @@
+package com.trevari.project.benchmark;
+
+import com.trevari.project.aop.ExecutionTimeAspect;
+import com.trevari.project.aop.MeasureTime;
+import com.trevari.project.api.dto.SearchDTOs;
+import com.trevari.project.cache.CatalogVersion;
+import com.trevari.project.cache.SearchCacheProperties;
+import com.trevari.project.cache.SearchResultCache;
+import com.trevari.project.domain.Book;
+import com.trevari.project.search.BookSpecifications;
+import com.trevari.project.search.SearchCursor;
+import com.trevari.project.search.SearchMetrics;
+import com.trevari.project.search.SearchPage;
+import com.trevari.project.search.SearchQuery;
+import com.trevari.project.search.SearchQueryParser;
+import com.trevari.project.search.engine.SearchResult;
+import com.trevari.project.service.SearchService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요청 처리 핫패스 마이크로 벤치마크: 파서, Specification 조건 조립, 응답 조립, 실행 시간 측정 AOP.
+ *
+ * <p>기본 {@code test} 태스크에서는 제외되며 {@code gradle benchmark --tests '*HotPathBenchmarkTest'}로 실행합니다.
+ * 결과는 {@code build/benchmark-results/hot-path.properties}에 기록되고,
+ * {@code src/test/resources/benchmark/hot-path-baseline.properties}(기준값)와 비교해 출력합니다.
+ * 시간은 장비마다 다르므로 비교만 하고, 요청당 할당량(B/op)이 기준값보다 크게 늘면 실패합니다.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@ActiveProfiles("test")
+class HotPathBenchmarkTest {
+
+    private static final int PAGE_SIZE = 20;
+
+    /** 할당량 회귀 허용 범위: 기준값의 1.5배 + 64B (JIT 탈출 분석 결과 차이 흡수) */
+    private static final double ALLOC_TOLERANCE = 1.5;
+    private static final double ALLOC_SLACK_BYTES = 64;
+
+    @Autowired
+    EntityManager entityManager;
+
+    private final MicroBenchmark bench = new MicroBenchmark("hot-path");
+
+    @Test
+    @DisplayName("파서 / 조건 조립 / 응답 조립 / AOP 오버헤드 측정 및 기준값 대비 할당량 회귀 검사")
+    void hot_path() throws Exception {
+        parser();
+        specifications();
+        service();
+        aspect();
+
+        Properties baseline = bench.report();
+        SoftAssertions softly = new SoftAssertions();
+        for (MicroBenchmark.Result r : bench.results()) {
+            String bytes = baseline.getProperty(r.name() + ".bytes");
+            if (bytes != null) {
+                softly.assertThat(r.bytesPerOp())
+                        .as("%s B/op (baseline %s)", r.name(), bytes)
+                        .isLessThanOrEqualTo(Double.parseDouble(bytes) * ALLOC_TOLERANCE + ALLOC_SLACK_BYTES);
+            }
+        }
+        softly.assertAll();
+    }
+
+    private void parser() {
+        bench.run("parser.simple", () -> SearchQueryParser.simple("  Spring Boot in Action "));
+        bench.run("parser.parse.simple", () -> SearchQueryParser.parse("  Spring Boot in Action "));
+        bench.run("parser.parse.or", () -> SearchQueryParser.parse("spring | kotlin"));
+        bench.run("parser.parse.not", () -> SearchQueryParser.parse("spring - legacy"));
+    }
+
+    /** Specification 생성 + CriteriaBuilder 조건 트리 조립 (SQL 렌더링/실행 제외) */
+    private void specifications() {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Book> cq = cb.createQuery(Book.class);
+        Root<Book> root = cq.from(Book.class);
+
+        for (String q : List.of("spring", "spring|kotlin", "spring-legacy")) {
+            SearchQuery sq = SearchQueryParser.parse(q);
+            String name = "spec." + sq.strategy().name().toLowerCase().replace("_operation", "");
+            bench.run(name, () -> {
+                Specification<Book> spec = BookSpecifications.forQuery(sq);
+                return spec.toPredicate(root, cq, cb);
+            });
+        }
+    }
+
+    /** 엔진이 돌려준 한 페이지(DTO 프로젝션 행)로 응답 조립: 캐시 우회 / 로컬 캐시 적중 */
+    private void service() {
+        List<SearchDTOs.Book> rows = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            String isbn = String.format("978%010d", i);
+            rows.add(new SearchDTOs.Book(isbn, "Benchmark Book " + i, "Subtitle " + i,
+                    "https://example.com/img/" + i + ".png", "Author " + i, isbn, LocalDate.of(2020, 1, 1)));
+        }
+        SearchResult result = SearchResult.exact(rows, 1_000, new SearchCursor(rows.get(PAGE_SIZE - 1).isbn(), PAGE_SIZE));
+        SearchQuery query = SearchQueryParser.parse("spring|kotlin");
+        SearchPage page = SearchPage.offset(1, PAGE_SIZE);
+
+        var properties = new SearchCacheProperties(new SearchCacheProperties.Local(100, Duration.ofMinutes(5)),
+                new SearchCacheProperties.Redis(false, Duration.ofMinutes(5), Duration.ofSeconds(3), Duration.ofMillis(200),
+                    Duration.ofSeconds(1), new SearchCacheProperties.Breaker(5, Duration.ofSeconds(10), Duration.ofMillis(100))));
+        var bypass = new SearchResultCache(new CatalogVersion(), properties, new SimpleMeterRegistry()) {
+            @Override
+            public SearchDTOs.Response get(SearchQuery q, SearchPage p, Supplier<SearchDTOs.Response> loader) {
+                return loader.get();
+            }
+        };
+        var metrics = new SearchMetrics(new SimpleMeterRegistry());
+        var uncached = new SearchService((q, p) -> result, bypass, metrics);
+        var cached = new SearchService((q, p) -> result,
+                new SearchResultCache(new CatalogVersion(), properties, new SimpleMeterRegistry()), metrics);
+
+        assertThat(uncached.getSearchDTO(query, page).books()).hasSize(PAGE_SIZE);
+        bench.run("service.assemble", () -> uncached.getSearchDTO(query, page));
+        bench.run("service.cacheHit", () -> cached.getSearchDTO(query, page));
+    }
+
+    /**
+     * {@link ExecutionTimeAspect} 비용: 프록시 없음 / 아무것도 하지 않는 어드바이스 / 실제 어드바이스(타이밍 컨텍스트 + 타이머, 응답 재조립 없음).
+     * 세 번째와 두 번째의 차이가 타이밍 컨텍스트 + 타이머 기록 비용입니다.
+     */
+    private void aspect() {
+        var response = new SearchDTOs.Response("spring", new SearchDTOs.PageInfo(1, PAGE_SIZE, 50, 1_000L, true, true, "c"),
+                List.of(), new SearchDTOs.Metadata(0L, SearchQueryParser.parse("spring").strategy(), false));
+        Endpoint target = new SearchEndpoint(response);
+        Endpoint passThrough = proxy(target, new PassThroughAspect());
+        Endpoint measured = proxy(target, new ExecutionTimeAspect(new SimpleMeterRegistry()));
+
+        assertThat(measured.search().getBody()).isSameAs(response);
+        bench.run("aspect.none", target::search);
+        bench.run("aspect.passThrough", passThrough::search);
+        bench.run("aspect.executionTime", measured::search);
+    }
+
+    private static Endpoint proxy(Endpoint target, Object aspect) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(aspect);
+        return factory.getProxy();
+    }
+
+    interface Endpoint {
+        ResponseEntity<SearchDTOs.Response> search();
+    }
+
+    static class SearchEndpoint implements Endpoint {
+        private final SearchDTOs.Response response;
+
+        SearchEndpoint(SearchDTOs.Response response) {
+            this.response = response;
+        }
+
+        @MeasureTime
+        @Override
+        public ResponseEntity<SearchDTOs.Response> search() {
+            return ResponseEntity.ok(response);
+        }
+    }
+
+    /** 프록시/어드바이스 호출 자체의 비용만 재기 위한 빈 어드바이스 */
+    @Aspect
+    public static class PassThroughAspect {
+        @Around("@annotation(com.trevari.project.aop.MeasureTime)")
+        public Object around(ProceedingJoinPoint pjp) throws Throwable {
+            return pjp.proceed();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.trevari.project.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.function.Supplier;
+
+/**
+ * 단일 스레드 마이크로 벤치마크 실행기 (JMH 대용).
+ *
+ * <p>각 벤치마크는 {@link #WARMUP_NANOS} 동안 예열한 뒤 예열 처리량으로 라운드당 반복 수를 정하고,
+ * {@link #ROUNDS}번 측정합니다. 결과는 JMH의 {@code -prof gc}와 같은 항목으로 보고합니다.
+ * <ul>
+ *   <li>{@code ns/op}: 라운드 평균 (+- 라운드 간 최대 편차)</li>
+ *   <li>{@code B/op}: 스레드 할당 바이트 (HotSpot {@code ThreadMXBean}) / 반복 수</li>
+ *   <li>{@code MB/s}: 할당률, {@code gc}: 측정 구간의 GC 횟수와 누적 시간</li>
+ * </ul>
+ * 반환값은 정적 필드에 기록해 JIT가 연산을 제거하지 못하게 합니다.
+ */
+final class MicroBenchmark {
+
+    static final long WARMUP_NANOS = 2_000_000_000L;
+    static final int ROUNDS = 5;
+
+    private static Object sink;
+
+    private final String suite;
+    private final List<Result> results = new ArrayList<>();
+
+    MicroBenchmark(String suite) {
+        this.suite = suite;
+    }
+
+    record Result(String name, double nanosPerOp, double errorNanos, double bytesPerOp,
+                  double allocMbPerSec, long gcCount, long gcMillis) {}
+
+    Result run(String name, Supplier<?> op) {
+        long ops = 0;
+        long warmupStart = System.nanoTime();
+        while (System.nanoTime() - warmupStart < WARMUP_NANOS) {
+            sink = op.get();
+            ops++;
+        }
+        long opsPerRound = Math.max(1, ops / ROUNDS);
+
+        var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long gcCountBefore = gcCount(), gcMillisBefore = gcMillis();
+        long bytesBefore = threads.getThreadAllocatedBytes(threadId);
+        double[] rounds = new double[ROUNDS];
+        long totalNanos = 0;
+        for (int r = 0; r < ROUNDS; r++) {
+            long start = System.nanoTime();
+            for (long i = 0; i < opsPerRound; i++) {
+                sink = op.get();
+            }
+            long elapsed = System.nanoTime() - start;
+            totalNanos += elapsed;
+            rounds[r] = (double) elapsed / opsPerRound;
+        }
+        long bytes = threads.getThreadAllocatedBytes(threadId) - bytesBefore;
+
+        double mean = (double) totalNanos / (opsPerRound * ROUNDS);
+        double error = 0;
+        for (double round : rounds) {
+            error = Math.max(error, Math.abs(round - mean));
+        }
+        Result result = new Result(name, mean, error, (double) bytes / (opsPerRound * ROUNDS),
+                bytes / 1_048_576.0 / (totalNanos / 1e9), gcCount() - gcCountBefore, gcMillis() - gcMillisBefore);
+        results.add(result);
+        return result;
+    }
+
+    List<Result> results() {
+        return results;
+    }
+
+    /**
+     * 결과를 출력하고 {@code build/benchmark-results/<suite>.properties}에 기록합니다.
+     * 클래스패스의 {@code /benchmark/<suite>-baseline.properties}가 있으면 기준값 대비 변화율을 함께 출력합니다.
+     */
+    Properties report() throws IOException {
+        Properties baseline = new Properties();
+        try (InputStream in = MicroBenchmark.class.getResourceAsStream("/benchmark/" + suite + "-baseline.properties")) {
+            if (in != null) baseline.load(in);
+        }
+
+        System.out.printf("%n[benchmark] %s (%s %s, warmup %ds, %d rounds)%n", suite,
+                System.getProperty("java.vm.name"), System.getProperty("java.version"),
+                WARMUP_NANOS / 1_000_000_000, ROUNDS);
+        System.out.printf("  %-28s %12s %10s %10s %9s %4s %6s %18s%n",
+                "benchmark", "ns/op", "+- ns", "B/op", "MB/s", "gc", "gc ms", "vs baseline");
+        StringBuilder current = new StringBuilder()
+                .append("# ").append(suite).append(" on ").append(System.getProperty("java.vm.name"))
+                .append(' ').append(System.getProperty("java.version")).append('\n');
+        for (Result r : results) {
+            System.out.printf(Locale.ROOT, "  %-28s %12.1f %10.1f %10.0f %9.1f %4d %6d %18s%n",
+                    r.name(), r.nanosPerOp(), r.errorNanos(), r.bytesPerOp(), r.allocMbPerSec(),
+                    r.gcCount(), r.gcMillis(), delta(r, baseline));
+            current.append(String.format(Locale.ROOT, "%s.ns=%.1f%n%s.bytes=%.0f%n",
+                    r.name(), r.nanosPerOp(), r.name(), r.bytesPerOp()));
+        }
+
+        Path out = Path.of("build", "benchmark-results", suite + ".properties");
+        Files.createDirectories(out.getParent());
+        Files.writeString(out, current);
+        System.out.println("  -> " + out.toAbsolutePath());
+        return baseline;
+    }
+
+    /** 기준값 대비 시간/할당 변화율 (기준값이 없으면 "-") */
+    private static String delta(Result r, Properties baseline) {
+        String ns = baseline.getProperty(r.name() + ".ns");
+        String bytes = baseline.getProperty(r.name() + ".bytes");
+        if (ns == null || bytes == null) {
+            return "-";
+        }
+        double b = Double.parseDouble(bytes);
+        return String.format(Locale.ROOT, "%+.0f%% t, %s",
+                (r.nanosPerOp() / Double.parseDouble(ns) - 1) * 100,
+                b == 0 ? (r.bytesPerOp() < 1 ? "=" : "+" + Math.round(r.bytesPerOp()) + "B")
+                        : String.format(Locale.ROOT, "%+.0f%% B", (r.bytesPerOp() / b - 1) * 100));
+    }
+
+    private static long gcCount() {
+        long n = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            n += Math.max(0, gc.getCollectionCount());
+        }
+        return n;
+    }
+
+    private static long gcMillis() {
+        long n = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            n += Math.max(0, gc.getCollectionTime());
+        }
+        return n;
+    }
+}
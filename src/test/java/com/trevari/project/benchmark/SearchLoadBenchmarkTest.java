@@ -0,0 +1,211 @@
+package com.trevari.project.benchmark;
+
+import com.trevari.project.search.SearchStrategy;
+import com.trevari.project.search.engine.AbstractIndexSearchEngine;
+import com.trevari.project.search.engine.SearchEngine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.util.ClassUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * 합성 카탈로그 기반 종단 간 부하 벤치마크 (닫힌 루프).
+ *
+ * <p>{@link CatalogGenerator}로 만든 카탈로그를 적재한 뒤, 작업 스레드마다 응답을 받는 즉시 다음 검색을 보내는
+ * 방식으로 실제 컨트롤러({@code GET /api/search/books}, MockMvc → DispatcherServlet)에 검색어 묶음을 재생하고
+ * 검색 전략별 처리량과 지연 시간 백분위를 출력합니다. 외부 서비스 없이 H2(메모리)로 실행됩니다.
+ *
+ * <pre>
+ * gradle benchmark --tests '*SearchLoadBenchmarkTest' -Dcatalog.size=1000000 -Dload.threads=16 -Dload.duration=60s
+ * gradle benchmark --tests '*SearchLoadBenchmarkTest' -Dsearch.engine=ngram
+ * </pre>
+ * 검색 결과 캐시는 기본적으로 끄고 측정합니다 ({@code -Dload.cache-size=10000}으로 켤 수 있음).
+ */
+@Tag("benchmark")
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "search.cache.local.max-size=${load.cache-size:0}",
+        "search.cache.local.ttl=${load.cache-ttl:1ns}",
+        "spring.data.redis.host=${REDIS_HOST:localhost}", // Redis가 없으면 집계는 서킷 브레이커로 건너뜀
+        "spring.data.redis.port=${REDIS_PORT:6379}",
+        "logging.level.org.hibernate.SQL=warn",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=warn",
+        "logging.level.com.trevari.project.service=error" // Redis 없이 실행: 집계 반영 실패 로그 생략
+})
+class SearchLoadBenchmarkTest {
+
+    private static final int CATALOG_SIZE = Integer.getInteger("catalog.size", 100_000);
+    private static final long SEED = Long.getLong("catalog.seed", 42L);
+    private static final int THREADS = Integer.getInteger("load.threads", 8);
+    private static final int QUERIES = Integer.getInteger("load.queries", 10_000);
+    private static final Duration WARMUP = DurationStyle.detectAndParse(System.getProperty("load.warmup", "10s"));
+    private static final Duration DURATION = DurationStyle.detectAndParse(System.getProperty("load.duration", "30s"));
+    private static final String TOTAL = System.getProperty("load.total", "exact");
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    SearchEngine searchEngine;
+
+    @Test
+    @DisplayName("합성 카탈로그에 검색어 묶음을 닫힌 루프로 재생하고 전략별 처리량/지연 시간 백분위 출력")
+    void closed_loop_search_load() throws Exception {
+        CatalogGenerator generator = new CatalogGenerator(SEED);
+        long loadStart = System.nanoTime();
+        int loaded = generator.load(jdbcTemplate, CATALOG_SIZE);
+        long loadMillis = (System.nanoTime() - loadStart) / 1_000_000;
+        if (searchEngine instanceof AbstractIndexSearchEngine<?> index) {
+            index.rebuild(); // 기동 시 빈 DB로 구축된 색인을 적재 후 다시 구축
+        }
+        List<CatalogGenerator.Query> queries = generator.queries(QUERIES);
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicBoolean measuring = new AtomicBoolean(false);
+        CountDownLatch started = new CountDownLatch(THREADS);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        List<Future<Recorder>> workers = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int offset = t * (QUERIES / THREADS); // 스레드마다 다른 위치부터 재생
+            workers.add(pool.submit(() -> {
+                Recorder recorder = new Recorder();
+                started.countDown();
+                for (int i = offset; running.get(); i++) {
+                    CatalogGenerator.Query query = queries.get(i % queries.size());
+                    long start = System.nanoTime();
+                    int status = mockMvc.perform(get("/api/search/books")
+                                    .param("q", query.q())
+                                    .param("size", "20")
+                                    .param("total", TOTAL))
+                            .andReturn().getResponse().getStatus();
+                    long elapsed = System.nanoTime() - start;
+                    if (measuring.get()) {
+                        recorder.record(query.strategy(), elapsed, status == 200);
+                    }
+                }
+                return recorder;
+            }));
+        }
+        started.await();
+        Thread.sleep(WARMUP.toMillis());
+        measuring.set(true);
+        long measureStart = System.nanoTime();
+        Thread.sleep(DURATION.toMillis());
+        measuring.set(false);
+        double seconds = (System.nanoTime() - measureStart) / 1e9;
+        running.set(false);
+
+        Recorder total = new Recorder();
+        for (Future<Recorder> worker : workers) {
+            total.merge(worker.get());
+        }
+        pool.shutdown();
+
+        System.out.printf("%n[benchmark] search load: %,d books (seed %d, loaded in %,dms), engine=%s, %d threads, "
+                        + "warmup %ds, measured %.1fs, total=%s%n",
+                loaded, SEED, loadMillis, ClassUtils.getUserClass(searchEngine).getSimpleName(), THREADS,
+                WARMUP.toSeconds(), seconds, TOTAL);
+        System.out.printf("  %-14s %9s %9s %9s %9s %9s %9s %9s %7s%n",
+                "strategy", "requests", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "errors");
+        for (SearchStrategy strategy : SearchStrategy.values()) {
+            total.print(strategy.name(), total.latencies(strategy), total.errors(strategy), seconds);
+        }
+        total.print("ALL", total.latencies(null), total.errors(null), seconds);
+
+        assertThat(total.latencies(null)).isNotEmpty();
+        assertThat(total.errors(null)).isZero();
+    }
+
+    /** 작업 스레드별 지연 시간 기록 (경합 없이 기록 후 종료 시 합침) */
+    private static final class Recorder {
+        private final Map<SearchStrategy, long[]> latencies = new EnumMap<>(SearchStrategy.class);
+        private final Map<SearchStrategy, Integer> counts = new EnumMap<>(SearchStrategy.class);
+        private final Map<SearchStrategy, Integer> errors = new EnumMap<>(SearchStrategy.class);
+
+        void record(SearchStrategy strategy, long nanos, boolean ok) {
+            int n = counts.getOrDefault(strategy, 0);
+            long[] values = latencies.computeIfAbsent(strategy, s -> new long[1024]);
+            if (n == values.length) {
+                values = Arrays.copyOf(values, n * 2);
+                latencies.put(strategy, values);
+            }
+            values[n] = nanos;
+            counts.put(strategy, n + 1);
+            if (!ok) errors.merge(strategy, 1, Integer::sum);
+        }
+
+        void merge(Recorder other) {
+            other.counts.forEach((strategy, n) -> {
+                long[] values = other.latencies.get(strategy);
+                for (int i = 0; i < n; i++) {
+                    record(strategy, values[i], true);
+                }
+            });
+            other.errors.forEach((strategy, n) -> errors.merge(strategy, n, Integer::sum));
+        }
+
+        /** 전략별(또는 null이면 전체) 정렬된 지연 시간 */
+        long[] latencies(SearchStrategy strategy) {
+            long[] all = new long[0];
+            for (SearchStrategy s : SearchStrategy.values()) {
+                if (strategy != null && s != strategy) continue;
+                int n = counts.getOrDefault(s, 0);
+                long[] merged = Arrays.copyOf(all, all.length + n);
+                if (n > 0) System.arraycopy(latencies.get(s), 0, merged, all.length, n);
+                all = merged;
+            }
+            Arrays.sort(all);
+            return all;
+        }
+
+        int errors(SearchStrategy strategy) {
+            if (strategy != null) return errors.getOrDefault(strategy, 0);
+            return errors.values().stream().mapToInt(Integer::intValue).sum();
+        }
+
+        void print(String name, long[] sorted, int errorCount, double seconds) {
+            if (sorted.length == 0) {
+                System.out.printf("  %-14s %9d%n", name, 0);
+                return;
+            }
+            System.out.printf(Locale.ROOT, "  %-14s %9d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f %7d%n",
+                    name, sorted.length, sorted.length / seconds,
+                    percentile(sorted, 50), percentile(sorted, 90), percentile(sorted, 99), percentile(sorted, 99.9),
+                    sorted[sorted.length - 1] / 1e6, errorCount);
+        }
+
+        private static double percentile(long[] sorted, double p) {
+            int index = (int) Math.ceil(p / 100 * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.trevari.project.benchmark;
+
+import com.trevari.project.api.dto.SearchDTOs;
+import com.trevari.project.domain.Book;
+import com.trevari.project.repository.BookRepository;
+import com.trevari.project.search.BookSpecifications;
+import com.trevari.project.search.SearchQueryParser;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 검색 읽기 경로 비교: 엔티티 조회 후 DTO 복사 vs DTO 프로젝션 (page size 100).
+ *
+ * <p>기본 {@code test} 태스크에서는 제외되며 {@code gradle benchmark}로 실행합니다.
+ * 반복마다 영속성 컨텍스트를 비운 상태에서 한 페이지를 조회하고,
+ * 스레드 할당 바이트(HotSpot {@code ThreadMXBean})와 경과 시간의 반복 평균을 출력합니다.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "logging.level.org.hibernate.SQL=warn",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=warn"
+})
+class SearchReadPathBenchmarkTest {
+
+    private static final int BOOKS = 5_000;
+    private static final int PAGE_SIZE = 100;
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 1_000;
+
+    @Autowired
+    BookRepository bookRepository;
+
+    @Autowired
+    EntityManager entityManager;
+
+    private final Specification<Book> spec = BookSpecifications.forQuery(SearchQueryParser.simple("book"));
+    private final Sort sort = Sort.by("isbn");
+
+    @BeforeEach
+    void setUp() {
+        List<Book> books = new ArrayList<>(BOOKS);
+        for (int i = 0; i < BOOKS; i++) {
+            books.add(Book.builder()
+                    .isbn(String.format("978%010d", i))
+                    .title("Benchmark Book " + i)
+                    .subtitle("Subtitle for book number " + i)
+                    .author("Author " + (i % 97))
+                    .publisher("Publisher " + (i % 13) + " with a reasonably long imprint name")
+                    .publishedDate(LocalDate.of(2000, 1, 1).plusDays(i))
+                    .image("https://example.com/img/" + i + ".png")
+                    .build());
+        }
+        bookRepository.saveAll(books);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("page size 100: 엔티티+복사 vs DTO 프로젝션 할당량/지연 시간")
+    void compare_entity_and_projection_read_paths() {
+        Supplier<List<SearchDTOs.Book>> entityPath = () -> bookRepository
+                .findBy(spec, q -> q.sortBy(sort).limit(PAGE_SIZE).all()).stream() // COUNT 없이 행 조회만 비교
+                .map(b -> new SearchDTOs.Book(b.getIsbn(), b.getTitle(), b.getSubtitle(), b.getImage(),
+                        b.getAuthor(), b.getIsbn(), b.getPublishedDate()))
+                .toList();
+        Supplier<List<SearchDTOs.Book>> projectionPath = () -> bookRepository
+                .findSearchRows(spec, sort, 0, PAGE_SIZE);
+
+        assertThat(projectionPath.get()).isEqualTo(entityPath.get());
+
+        Result entity = measure(entityPath);
+        Result projection = measure(projectionPath);
+
+        System.out.printf("%n[benchmark] search read path, page size %d, %d books, %d iterations%n",
+                PAGE_SIZE, BOOKS, ITERATIONS);
+        System.out.printf("  entity + copy : %8.1f us/op, %10d B/op%n", entity.micros(), entity.bytes());
+        System.out.printf("  projection    : %8.1f us/op, %10d B/op%n", projection.micros(), projection.bytes());
+        System.out.printf("  ratio         : %8.2fx time, %8.2fx alloc%n",
+                entity.micros() / projection.micros(), (double) entity.bytes() / projection.bytes());
+    }
+
+    private record Result(double micros, long bytes) {}
+
+    private Result measure(Supplier<List<SearchDTOs.Book>> path) {
+        for (int i = 0; i < WARMUP; i++) {
+            run(path);
+        }
+        var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long bytesBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            run(path);
+        }
+        long elapsed = System.nanoTime() - start;
+        long bytes = threads.getThreadAllocatedBytes(threadId) - bytesBefore;
+        return new Result(elapsed / 1_000.0 / ITERATIONS, bytes / ITERATIONS);
+    }
+
+    private void run(Supplier<List<SearchDTOs.Book>> path) {
+        assertThat(path.get()).hasSize(PAGE_SIZE);
+        entityManager.clear(); // 요청마다 새 영속성 컨텍스트인 실제 상황과 맞춤
+    }
+}
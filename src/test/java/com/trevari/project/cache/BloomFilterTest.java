@@ -0,0 +1,32 @@
+package com.trevari.project.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 값은 항상 포함, 추가하지 않은 값의 오탐률은 목표치 근처")
+    void no_false_negatives_and_bounded_false_positives() {
+        int n = 20_000;
+        BloomFilter filter = new BloomFilter(n, 0.01);
+        for (int i = 0; i < n; i++) {
+            filter.put(isbn(i));
+        }
+        for (int i = 0; i < n; i++) {
+            assertThat(filter.mightContain(isbn(i))).isTrue();
+        }
+
+        int falsePositives = 0;
+        for (int i = n; i < n * 2; i++) {
+            if (filter.mightContain(isbn(i))) falsePositives++;
+        }
+        assertThat(falsePositives / (double) n).isLessThan(0.02);
+    }
+
+    private static String isbn(int i) {
+        return String.format("978%010d", i * 7919L);
+    }
+}
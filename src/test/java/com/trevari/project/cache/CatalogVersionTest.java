@@ -0,0 +1,48 @@
+package com.trevari.project.cache;
+
+import com.trevari.project.domain.CatalogChangedEvent;
+import com.trevari.project.search.engine.AbstractIndexSearchEngine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.event.TransactionalApplicationListenerMethodAdapter;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CatalogVersionTest {
+
+    @Test
+    @DisplayName("공유 epoch는 감소하지 않고, 로컬 변경과 합산됨")
+    void current_combines_local_and_epoch() {
+        CatalogVersion version = new CatalogVersion();
+
+        version.advanceEpoch(5);
+        version.advanceEpoch(3);
+        version.onCatalogChanged(new CatalogChangedEvent(List.of("9780000000001")));
+
+        assertThat(version.epoch()).isEqualTo(5);
+        assertThat(version.current()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("커밋 후 색인/상세 캐시 반영이 끝난 다음에 카탈로그 버전과 공유 epoch가 증가")
+    void version_listeners_run_after_apply_listeners() throws NoSuchMethodException {
+        int engine = order(AbstractIndexSearchEngine.class);
+        int detailCache = order(BookDetailCache.class);
+        int version = order(CatalogVersion.class);
+        int redisEpoch = order(RedisSearchCache.class);
+
+        assertThat(Math.max(engine, detailCache)).isLessThan(Math.min(version, redisEpoch));
+    }
+
+    /** Spring이 커밋 후 구독자를 정렬할 때 쓰는 순서 */
+    private static int order(Class<?> listenerClass) throws NoSuchMethodException {
+        Method method = listenerClass.getMethod("onCatalogChanged", CatalogChangedEvent.class);
+        assertThat(method.isAnnotationPresent(TransactionalEventListener.class)).isTrue();
+        return new TransactionalApplicationListenerMethodAdapter(listenerClass.getSimpleName(), listenerClass, method)
+                .getOrder();
+    }
+}
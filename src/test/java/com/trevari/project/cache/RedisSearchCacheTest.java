@@ -0,0 +1,94 @@
+package com.trevari.project.cache;
+
+import com.trevari.project.api.dto.SearchDTOs;
+import com.trevari.project.config.CircuitBreaker;
+import com.trevari.project.search.SearchStrategy;
+import com.trevari.project.search.TotalMode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RedisSearchCacheTest {
+
+    private static final SearchCacheKey KEY = new SearchCacheKey(0L, "java", SearchStrategy.SIMPLE, 1, 20, null, TotalMode.EXACT);
+    private static final SearchDTOs.Response RESPONSE = new SearchDTOs.Response("java", null, List.of(),
+            new SearchDTOs.Metadata(0L, SearchStrategy.SIMPLE, false));
+
+    @Mock private RedisTemplate<String, byte[]> redisTemplate;
+    @Mock private ValueOperations<String, byte[]> valueOps;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CircuitBreaker breaker;
+    private RedisSearchCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        breaker = new CircuitBreaker("test.cache", 2, Duration.ofSeconds(10), Duration.ofSeconds(5), meterRegistry);
+        var properties = new SearchCacheProperties(new SearchCacheProperties.Local(100, Duration.ofMinutes(1)),
+                new SearchCacheProperties.Redis(true, Duration.ofMinutes(5), Duration.ofSeconds(3), Duration.ofMillis(100),
+                        Duration.ofSeconds(1), new SearchCacheProperties.Breaker(2, Duration.ofSeconds(10), Duration.ofSeconds(5))));
+        cache = new RedisSearchCache(redisTemplate, new CatalogVersion(), properties, meterRegistry, breaker);
+    }
+
+    @Test
+    @DisplayName("서킷 열림: Redis를 호출하지 않고 바로 직접 조회")
+    void get_skipsRedisWhileCircuitOpen() {
+        breaker.onFailure();
+        breaker.onFailure();
+
+        assertThat(cache.get(KEY, () -> RESPONSE)).isEqualTo(RESPONSE);
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("Redis 오류가 이어지면 서킷이 열리고 이후 요청은 Redis를 건너뜀")
+    void get_opensCircuitOnRedisErrors() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOps);
+        when(valueOps.get(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+        when(valueOps.setIfAbsent(anyString(), any(), any(Duration.class))).thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThat(cache.get(KEY, () -> RESPONSE)).isEqualTo(RESPONSE);
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(meterRegistry.get("search.cache.redis").tag("result", "error").counter().count()).isEqualTo(2.0);
+
+        assertThat(cache.get(KEY, () -> RESPONSE)).isEqualTo(RESPONSE);
+        verify(valueOps, times(1)).get(anyString()); // 두 번째 요청은 Redis를 건너뜀
+    }
+
+    @Test
+    @DisplayName("다른 노드가 락을 잡고 있으면 락 TTL이 아니라 max-wait까지만 기다린 뒤 직접 조회")
+    void get_capsWaitAtMaxWait() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOps);
+        when(valueOps.get(anyString())).thenReturn(null);
+        when(valueOps.setIfAbsent(anyString(), any(), any(Duration.class))).thenReturn(false);
+        when(redisTemplate.hasKey(anyString())).thenReturn(true);
+
+        long start = System.nanoTime();
+        SearchDTOs.Response response = cache.get(KEY, () -> RESPONSE);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(response).isEqualTo(RESPONSE);
+        assertThat(elapsedMs).isLessThan(1_000); // lock-ttl(3s)보다 훨씬 짧게
+    }
+}
@@ -0,0 +1,55 @@
+package com.trevari.project.cache;
+
+import com.trevari.project.api.dto.SearchDTOs;
+import com.trevari.project.search.SearchStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchResponseCodecTest {
+
+    @Test
+    @DisplayName("인코딩 후 디코딩하면 같은 응답 (null 필드, 한글, 음수 epoch day 포함)")
+    void round_trip() {
+        var response = new SearchDTOs.Response("자바|spring",
+                new SearchDTOs.PageInfo(2, 20, 5, 93L, true, true, "djF8MHw5Nzg"),
+                List.of(
+                        new SearchDTOs.Book("9791162241234", "자바 ORM 표준 JPA 프로그래밍", null, "",
+                                "김영한", "9791162241234", LocalDate.of(2015, 7, 28)),
+                        new SearchDTOs.Book("other-id", "Old Book", "sub", null, "Anon", "9780000000001",
+                                LocalDate.of(1901, 1, 1)),
+                        new SearchDTOs.Book("9780000000002", "No Date", null, null, "Anon", "9780000000002", null)
+                ),
+                new SearchDTOs.Metadata(0L, SearchStrategy.OR_OPERATION, false));
+
+        assertThat(SearchResponseCodec.decode(SearchResponseCodec.encode(response))).isEqualTo(response);
+    }
+
+    @Test
+    @DisplayName("건수 미계산(total=none) 응답도 그대로 복원")
+    void round_trip_without_total() {
+        var response = new SearchDTOs.Response("tdd",
+                new SearchDTOs.PageInfo(1, 10, null, null, false, false, null),
+                List.of(), new SearchDTOs.Metadata(0L, SearchStrategy.SIMPLE, false));
+
+        assertThat(SearchResponseCodec.decode(SearchResponseCodec.encode(response))).isEqualTo(response);
+    }
+
+    @Test
+    @DisplayName("형식 버전이 다르거나 손상된 값은 null (캐시 미스)")
+    void rejects_unknown_or_corrupt_data() {
+        assertThat(SearchResponseCodec.decode(null)).isNull();
+        assertThat(SearchResponseCodec.decode("{\"json\":1}".getBytes(StandardCharsets.UTF_8))).isNull();
+
+        var response = new SearchDTOs.Response("tdd",
+                new SearchDTOs.PageInfo(1, 10, 1, 1L, true, false, null),
+                List.of(), new SearchDTOs.Metadata(0L, SearchStrategy.SIMPLE, false));
+        byte[] encoded = SearchResponseCodec.encode(response);
+        assertThat(SearchResponseCodec.decode(java.util.Arrays.copyOf(encoded, encoded.length - 3))).isNull();
+    }
+}
@@ -0,0 +1,80 @@
+package com.trevari.project.cache;
+
+import com.trevari.project.api.dto.SearchDTOs;
+import com.trevari.project.domain.CatalogChangedEvent;
+import com.trevari.project.search.SearchPage;
+import com.trevari.project.search.SearchQuery;
+import com.trevari.project.search.SearchQueryParser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchResultCacheTest {
+
+    private final CatalogVersion catalogVersion = new CatalogVersion();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicInteger loads = new AtomicInteger();
+    private SearchResultCache cache;
+
+    static final SearchCacheProperties.Redis DISABLED_REDIS =
+            new SearchCacheProperties.Redis(false, Duration.ofMinutes(5), Duration.ofSeconds(3), Duration.ofMillis(200),
+                    Duration.ofSeconds(1), new SearchCacheProperties.Breaker(5, Duration.ofSeconds(10), Duration.ofMillis(100)));
+
+    @BeforeEach
+    void setUp() {
+        cache = new SearchResultCache(catalogVersion,
+                new SearchCacheProperties(new SearchCacheProperties.Local(100, Duration.ofMinutes(1)), DISABLED_REDIS), registry);
+    }
+
+    @Test
+    @DisplayName("재요청은 캐시 적중, cached=true로 표시되고 적중/미스 지표가 기록됨")
+    void hit_is_marked_cached_and_counted() {
+        SearchQuery q = SearchQueryParser.parse("java");
+
+        assertThat(get(q, SearchPage.offset(1, 20)).searchMetadata().cached()).isFalse();
+        assertThat(get(q, SearchPage.offset(1, 20)).searchMetadata().cached()).isTrue();
+        assertThat(loads).hasValue(1);
+
+        assertThat(registry.get("cache.gets").tag("cache", "search.result").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+        assertThat(registry.get("cache.gets").tag("cache", "search.result").tag("result", "miss")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("카탈로그 변경 후에는 이전 버전 항목을 사용하지 않음")
+    void catalog_change_invalidates_entries() {
+        SearchQuery q = SearchQueryParser.parse("java");
+        get(q, SearchPage.offset(1, 20));
+
+        catalogVersion.onCatalogChanged(new CatalogChangedEvent(List.of("9780000000001")));
+
+        assertThat(get(q, SearchPage.offset(1, 20)).searchMetadata().cached()).isFalse();
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("질의, 전략, 페이지, 크기가 다르면 별도 항목")
+    void key_includes_query_and_page() {
+        get(SearchQueryParser.parse("java"), SearchPage.offset(1, 20));
+        get(SearchQueryParser.parse("java"), SearchPage.offset(2, 20));
+        get(SearchQueryParser.parse("java"), SearchPage.offset(1, 10));
+        get(SearchQueryParser.parse("java|kotlin"), SearchPage.offset(1, 20));
+        assertThat(loads).hasValue(4);
+    }
+
+    private SearchDTOs.Response get(SearchQuery q, SearchPage page) {
+        return cache.get(q, page, () -> {
+            loads.incrementAndGet();
+            return new SearchDTOs.Response(q.query(), null, List.of(),
+                    new SearchDTOs.Metadata(0L, q.strategy(), false));
+        });
+    }
+}
@@ -0,0 +1,68 @@
+package com.trevari.project.catalog;
+
+import com.trevari.project.domain.CatalogChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogChangeRelayTest {
+
+    @Mock private RedisTemplate<String, String> redisTemplate;
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    private CatalogChangeRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new CatalogChangeRelay(redisTemplate, eventPublisher, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("이 노드의 변경은 채널로 보내고, 자기 메시지는 다시 반영하지 않음")
+    void sends_local_changes_and_ignores_own_messages() {
+        relay.onCatalogChanged(new CatalogChangedEvent(List.of("9780000000001", "9780000000002")));
+
+        ArgumentCaptor<String> body = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(CatalogChangeRelay.CHANNEL), body.capture());
+        assertThat(body.getValue()).endsWith("\n9780000000001,9780000000002");
+
+        relay.onMessage(message(body.getValue()), null);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("다른 노드의 변경은 remote 이벤트로 발행하고, remote 이벤트는 다시 보내지 않음")
+    void republishes_remote_changes_without_echo() {
+        relay.onMessage(message("other-node\n9780000000001,9780000000002"), null);
+
+        verify(eventPublisher).publishEvent(new CatalogChangedEvent(List.of("9780000000001", "9780000000002"), true));
+
+        relay.onCatalogChanged(new CatalogChangedEvent(List.of("9780000000001"), true));
+        verify(redisTemplate, never()).convertAndSend(anyString(), any());
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(CatalogChangeRelay.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
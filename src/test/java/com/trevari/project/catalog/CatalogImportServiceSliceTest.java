@@ -0,0 +1,140 @@
+package com.trevari.project.catalog;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trevari.project.api.dto.CatalogImportDTOs;
+import com.trevari.project.domain.Book;
+import com.trevari.project.domain.CatalogChangedEvent;
+import com.trevari.project.exception.BadRequestException;
+import com.trevari.project.repository.BookRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 가져오기는 작업 스레드에서 청크마다 커밋
+class CatalogImportServiceSliceTest {
+
+    @Autowired
+    BookRepository bookRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path dir;
+
+    private final List<Object> events = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        bookRepository.deleteAllInBatch();
+    }
+
+    private CatalogImportService service(BookUpsertWriter writer, int batchSize, int parallelism) {
+        var properties = new CatalogImportProperties(dir, dir.resolve(".checkpoints"), batchSize, parallelism,
+                null, null, true, false);
+        return new CatalogImportService(writer, transactionManager, events::add, new ObjectMapper(), properties,
+                new SimpleMeterRegistry());
+    }
+
+    private Path csv(String name, int count) throws IOException {
+        StringBuilder sb = new StringBuilder("isbn,title,author,publisher,published_date\n");
+        for (int i = 1; i <= count; i++) {
+            sb.append(String.format("97800000%05d,Book %d,Author %d,Publisher,2020-01-01%n", i, i, i));
+        }
+        return Files.writeString(dir.resolve(name), sb);
+    }
+
+    @Test
+    @DisplayName("청크 병렬 upsert: 새 도서 추가, 기존 도서 갱신, 오류 레코드 제외, 청크마다 변경 이벤트 발행")
+    void imports_and_upserts_with_change_events() throws IOException {
+        bookRepository.saveAndFlush(Book.builder().isbn("9780000000001").title("Old title").author("Old author").build());
+        Path file = csv("books.csv", 25);
+        Files.writeString(file, "9780000099999,,Missing title,,\n", StandardOpenOption.APPEND);
+
+        CatalogImportDTOs.Status status = service(new BookUpsertWriter(jdbcTemplate), 4, 3).run(file, null, true);
+
+        assertThat(status.state()).isEqualTo(CatalogImportDTOs.State.COMPLETED);
+        assertThat(status.read()).isEqualTo(26);
+        assertThat(status.imported()).isEqualTo(25);
+        assertThat(status.rejected()).isEqualTo(1);
+        assertThat(status.checkpoint()).isEqualTo(26);
+        assertThat(bookRepository.count()).isEqualTo(25);
+        Book updated = bookRepository.findById("9780000000001").orElseThrow();
+        assertThat(updated.getTitle()).isEqualTo("Book 1");
+        assertThat(updated.getPublishedDate()).isEqualTo(LocalDate.of(2020, 1, 1));
+
+        assertThat(events).hasSize(7).allMatch(e -> e instanceof CatalogChangedEvent);
+        assertThat(events.stream().flatMap(e -> ((CatalogChangedEvent) e).isbns().stream()))
+                .hasSize(25).doesNotHaveDuplicates();
+        assertThat(dir.resolve(".checkpoints")).isEmptyDirectory(); // 완료 후 재개 지점 삭제
+    }
+
+    @Test
+    @DisplayName("쓰기 실패 시 연속으로 반영된 지점을 기록하고, 다시 실행하면 그 뒤부터 이어서 가져옴")
+    void resumes_from_checkpoint_after_failure() throws IOException {
+        Path file = csv("resume.csv", 10);
+        var failing = new BookUpsertWriter(jdbcTemplate) {
+            @Override
+            public void upsert(List<CatalogRecord> records) {
+                if (records.stream().anyMatch(r -> r.isbn().equals("9780000000007"))) {
+                    throw new IllegalStateException("disk full");
+                }
+                super.upsert(records);
+            }
+        };
+
+        CatalogImportDTOs.Status failed = service(failing, 2, 1).run(file, "csv", true);
+        assertThat(failed.state()).isEqualTo(CatalogImportDTOs.State.FAILED);
+        assertThat(failed.error()).isEqualTo("disk full");
+        assertThat(failed.checkpoint()).isEqualTo(6);
+        assertThat(bookRepository.count()).isEqualTo(6);
+
+        events.clear();
+        CatalogImportDTOs.Status resumed = service(new BookUpsertWriter(jdbcTemplate), 2, 1).run(file, "csv", true);
+        assertThat(resumed.state()).isEqualTo(CatalogImportDTOs.State.COMPLETED);
+        assertThat(resumed.skipped()).isEqualTo(6);
+        assertThat(resumed.read()).isEqualTo(4);
+        assertThat(resumed.imported()).isEqualTo(4);
+        assertThat(bookRepository.count()).isEqualTo(10);
+        assertThat(events).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("관리자 API 경로는 기준 디렉터리 안의 존재하는 파일만 허용")
+    void start_rejects_paths_outside_base_dir() throws IOException {
+        var service = service(new BookUpsertWriter(jdbcTemplate), 10, 1);
+
+        assertThatThrownBy(() -> service.start("../etc/passwd", null, true)).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> service.start("missing.csv", null, true)).isInstanceOf(BadRequestException.class);
+        Files.writeString(dir.resolve("books.txt"), "isbn\n");
+        assertThatThrownBy(() -> service.start("books.txt", null, true))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("format");
+        assertThat(service.status()).isEmpty();
+    }
+}
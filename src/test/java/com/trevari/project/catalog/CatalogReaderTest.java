@@ -0,0 +1,90 @@
+package com.trevari.project.catalog;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trevari.project.exception.BadRequestException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CatalogReaderTest {
+
+    private static List<CatalogReader.Entry> readAll(CatalogReader reader) throws IOException {
+        List<CatalogReader.Entry> entries = new ArrayList<>();
+        try (reader) {
+            CatalogReader.Entry entry;
+            while ((entry = reader.next()) != null) {
+                entries.add(entry);
+            }
+        }
+        return entries;
+    }
+
+    @Test
+    @DisplayName("CSV: 헤더 순서 자유, 따옴표 안의 쉼표/따옴표/줄바꿈, CRLF, BOM, 빈 줄 처리")
+    void csv_parses_rfc4180() throws IOException {
+        String csv = "\uFEFFtitle,isbn,author,published_date,extra\r\n"
+                + "\"MongoDB in Action, 2nd Edition\",978-1-61729-160-9,Kyle Banker,2016-03-01,x\r\n"
+                + "\r\n"
+                + "\"The \"\"Good\"\" Parts\",9780596517748,\"Douglas\nCrockford\",,\n"
+                + "자바 ORM 표준 JPA 프로그래밍,9791162241234,김영한\n";
+
+        List<CatalogReader.Entry> entries = readAll(new CsvCatalogReader(new StringReader(csv)));
+
+        assertThat(entries).extracting(CatalogReader.Entry::number).containsExactly(1L, 2L, 3L);
+        assertThat(entries.get(0).record()).isEqualTo(new CatalogRecord("9781617291609", "MongoDB in Action, 2nd Edition",
+                null, "Kyle Banker", null, LocalDate.of(2016, 3, 1), null));
+        assertThat(entries.get(1).record().title()).isEqualTo("The \"Good\" Parts");
+        assertThat(entries.get(1).record().author()).isEqualTo("Douglas\nCrockford");
+        assertThat(entries.get(2).record().author()).isEqualTo("김영한");
+    }
+
+    @Test
+    @DisplayName("CSV: 검증 오류 레코드는 번호와 사유로 반환하고 다음 레코드는 계속 읽음")
+    void csv_reports_invalid_records() throws IOException {
+        String csv = "isbn,title,author,published_date\n"
+                + "9780000000001,,Someone,\n"
+                + "9780000000002,Title,Someone,2020-13-01\n"
+                + "9780000000003,Title,Someone,2020-01-01\n"
+                + "9780000000004,\"unterminated,Someone\n";
+
+        List<CatalogReader.Entry> entries = readAll(new CsvCatalogReader(new StringReader(csv)));
+
+        assertThat(entries).extracting(CatalogReader.Entry::error).containsExactly(
+                "title is required", "invalid published_date: 2020-13-01", null, "unterminated quoted field");
+        assertThat(entries.get(2).record().isbn()).isEqualTo("9780000000003");
+    }
+
+    @Test
+    @DisplayName("CSV: 필수 컬럼이 헤더에 없으면 400")
+    void csv_requires_header_columns() {
+        assertThatThrownBy(() -> new CsvCatalogReader(new StringReader("isbn,title\n1,2\n")))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("author");
+    }
+
+    @Test
+    @DisplayName("JSONL: 줄마다 객체 하나, publishedDate/published_date 모두 허용, 잘못된 줄은 오류로 반환")
+    void jsonl_parses_lines() throws IOException {
+        String jsonl = "{\"isbn\":\"9781617291609\",\"title\":\"MongoDB in Action\",\"author\":\"Kyle Banker\",\"publishedDate\":\"2016-03-01\"}\n"
+                + "\n"
+                + "{\"isbn\":\"9780596517748\",\"title\":\"JavaScript\"\n"
+                + "[1,2]\n"
+                + "{\"isbn\":\"9791162241234\",\"title\":\"자바 ORM\",\"author\":\"김영한\",\"published_date\":null,\"publisher\":\"에이콘\"}\n";
+
+        List<CatalogReader.Entry> entries = readAll(new JsonLinesCatalogReader(new StringReader(jsonl), new ObjectMapper()));
+
+        assertThat(entries).extracting(CatalogReader.Entry::number).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(entries.get(0).record().publishedDate()).isEqualTo(LocalDate.of(2016, 3, 1));
+        assertThat(entries.get(1).error()).startsWith("invalid JSON");
+        assertThat(entries.get(2).error()).isEqualTo("JSON object expected");
+        assertThat(entries.get(3).record()).isEqualTo(new CatalogRecord("9791162241234", "자바 ORM", null, "김영한", "에이콘", null, null));
+    }
+}
@@ -0,0 +1,93 @@
+package com.trevari.project.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private SimpleMeterRegistry meterRegistry;
+    private CircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        breaker = new CircuitBreaker("redis", 3, Duration.ofSeconds(10), Duration.ofMillis(500), meterRegistry, now::get);
+    }
+
+    private void fail(int times) {
+        for (int i = 0; i < times; i++) {
+            assertThat(breaker.tryAcquire()).isTrue();
+            breaker.onFailure();
+        }
+    }
+
+    @Test
+    @DisplayName("연속 실패가 기준에 도달하면 열리고, 열린 동안에는 즉시 거절")
+    void opens_after_consecutive_failures_and_fails_fast() {
+        fail(2);
+        breaker.onSuccess(0); // 성공하면 연속 실패 수 초기화
+        fail(2);
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        fail(1);
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+        assertThat(meterRegistry.get("circuit.calls").tag("result", "rejected").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("circuit.state").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("대기 시간이 지나면 시험 호출 하나만 허용, 성공하면 닫히고 실패하면 다시 열림")
+    void half_open_allows_single_probe() {
+        fail(3);
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isFalse(); // 시험 호출 중에는 거절
+        breaker.onFailure();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onSuccess(Duration.ofMillis(10).toNanos());
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    @DisplayName("동시 호출: 한 호출의 실패로 열린 뒤 도착한 다른 호출의 늦은 성공은 서킷을 닫지 않음")
+    void late_success_does_not_close_open_circuit() {
+        fail(2);
+        assertThat(breaker.tryAcquire()).isTrue(); // 호출 A
+        assertThat(breaker.tryAcquire()).isTrue(); // 호출 B (동시에 시작)
+
+        breaker.onFailure(); // A 실패 → 열림
+        breaker.onSuccess(Duration.ofMillis(10).toNanos()); // B의 늦은 성공
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertThat(breaker.tryAcquire()).isTrue(); // 대기 시간이 지나야 시험 호출
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+    }
+
+    @Test
+    @DisplayName("느린 호출은 실패로 취급")
+    void slow_calls_count_as_failures() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(breaker.tryAcquire()).isTrue();
+            breaker.onSuccess(Duration.ofSeconds(2).toNanos());
+        }
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+}
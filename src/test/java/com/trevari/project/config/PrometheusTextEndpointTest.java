@@ -0,0 +1,45 @@
+package com.trevari.project.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrometheusTextEndpointTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PrometheusTextEndpoint endpoint = new PrometheusTextEndpoint(meterRegistry);
+
+    @Test
+    @DisplayName("Counter/Gauge/Timer를 Prometheus 텍스트 형식으로 변환 (이름 규칙, 라벨 이스케이프, 백분위)")
+    void renders_meters_in_text_format() {
+        Counter.builder("search.cache.redis").tag("result", "hit").register(meterRegistry).increment(3);
+        Gauge.builder("search.aggregate.pending", () -> 7).register(meterRegistry);
+        Timer timer = Timer.builder("search.request")
+                .tag("endpoint", "/api/search/books").tag("strategy", "SIMPLE").tag("q", "a\"b")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        timer.record(Duration.ofMillis(10));
+        timer.record(Duration.ofMillis(30));
+
+        String text = endpoint.scrape();
+
+        assertThat(text).contains(
+                "# TYPE search_cache_redis_total counter\n",
+                "search_cache_redis_total{result=\"hit\"} 3.0\n",
+                "# TYPE search_aggregate_pending gauge\n",
+                "search_aggregate_pending 7.0\n",
+                "# TYPE search_request_seconds summary\n",
+                "search_request_seconds_count{endpoint=\"/api/search/books\",q=\"a\\\"b\",strategy=\"SIMPLE\"} 2.0\n",
+                "search_request_seconds_sum{endpoint=\"/api/search/books\",q=\"a\\\"b\",strategy=\"SIMPLE\"} 0.04\n",
+                "search_request_seconds{endpoint=\"/api/search/books\",q=\"a\\\"b\",strategy=\"SIMPLE\",quantile=\"0.99\"} ",
+                "# TYPE search_request_seconds_max gauge\n");
+        assertThat(text.lines().filter(l -> l.startsWith("# TYPE search_request_seconds "))).hasSize(1);
+    }
+}
@@ -0,0 +1,34 @@
+package com.trevari.project.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchTextTest {
+
+    @Test
+    @DisplayName("NFKC + 소문자 + 공백 정리: 전각/호환 문자와 공백/제어 문자 차이를 없앰")
+    void normalizes_width_case_and_spacing() {
+        assertThat(SearchText.normalize("Ｊａｖａ　ＳＣＲＩＰＴ")).isEqualTo("java script");
+        assertThat(SearchText.normalize("  ﬁle\t\n  SYSTEM  ")).isEqualTo("file system");
+        assertThat(SearchText.normalize("스프링  부트")).isEqualTo("스프링 부트");
+        assertThat(SearchText.normalize(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이미 정규화된 문자열은 같은 인스턴스 (검색어 재정규화 비용 없음)")
+    void returns_same_instance_when_already_normalized() {
+        String normalized = "test-driven development";
+        assertThat(SearchText.normalize(normalized)).isSameAs(normalized);
+    }
+
+    @Test
+    @DisplayName("문서: 필드를 구분 문자로 연결하고 null은 빈 필드, 컬럼 길이로 자름")
+    void document_joins_fields_and_truncates() {
+        assertThat(SearchText.document("9780321146533", "TDD", null, "Kent Beck", "Addison-Wesley"))
+                .isEqualTo("9780321146533\u001Ftdd\u001F\u001Fkent beck\u001Faddison-wesley");
+        assertThat(SearchText.document("1", "a".repeat(3000), null, "b", null)).hasSize(SearchText.DOCUMENT_LENGTH);
+        assertThat(SearchText.truncate("ab😀", 3)).isEqualTo("ab"); // 서로게이트 쌍은 나누지 않음
+    }
+}
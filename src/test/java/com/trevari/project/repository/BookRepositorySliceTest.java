@@ -4,15 +4,20 @@ import com.trevari.project.domain.Book;
 import com.trevari.project.search.BookSpecifications;
 import com.trevari.project.search.SearchQuery;
 import com.trevari.project.search.SearchStrategy;
+import org.hibernate.engine.spi.SessionImplementor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -24,6 +29,9 @@ class BookRepositorySliceTest {
     @Autowired
     BookRepository bookRepository;
 
+    @Autowired
+    TestEntityManager testEntityManager;
+
     @BeforeEach
     void setUp() {
         // 1) MongoDB
@@ -123,4 +131,29 @@ class BookRepositorySliceTest {
         var page = bookRepository.findAll(BookSpecifications.forQuery(sq), PageRequest.of(0, 20));
         assertEquals(0, page.getTotalElements());
     }
+
+    @Test
+    @DisplayName("ISBN 키셋 청크: 기준 ISBN 이후를 정렬해 limit 건만 반환")
+    void find_isbns_after_returns_sorted_chunk() {
+        var first = bookRepository.findIsbnsAfter("", Limit.of(2));
+        assertEquals(List.of("9780321146533", "9780596806750"), first);
+        assertEquals(List.of("9781617291609"), bookRepository.findIsbnsAfter(first.get(1), Limit.of(2)));
+    }
+
+    @Test
+    @DisplayName("검색 프로젝션: DTO로 바로 조회, 영속성 컨텍스트에 엔티티 등록 없음")
+    void find_search_rows_returns_dtos_without_managed_entities() {
+        var em = testEntityManager.getEntityManager();
+        em.flush();
+        em.clear();
+
+        var sq = new SearchQuery("test", "test", null, SearchStrategy.SIMPLE);
+        var rows = bookRepository.findSearchRows(BookSpecifications.forQuery(sq), Sort.by("isbn"), 0, 1);
+
+        assertEquals(1, rows.size());
+        assertEquals("9780321146533", rows.get(0).isbn());
+        assertEquals("9780321146533", rows.get(0).id());
+        assertEquals(LocalDate.parse("2002-11-08"), rows.get(0).published());
+        assertEquals(0, em.unwrap(SessionImplementor.class).getPersistenceContextInternal().getNumberOfManagedEntities());
+    }
 }
@@ -0,0 +1,106 @@
+package com.trevari.project.schema;
+
+import com.trevari.project.domain.SearchText;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SchemaMigratorTest {
+
+    DriverManagerDataSource dataSource;
+    JdbcTemplate jdbc;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbc = new JdbcTemplate(dataSource);
+    }
+
+    @Test
+    @DisplayName("빈 DB: V1~V3 순서대로 적용, 다시 실행하면 이력만 확인")
+    void applies_pending_versions_once() throws Exception {
+        SchemaMigrator migrator = new SchemaMigrator(dataSource, migrations());
+
+        assertThat(migrator.migrate()).isEqualTo(3);
+        assertThat(jdbc.queryForList("SELECT version FROM schema_history ORDER BY version", Integer.class))
+                .containsExactly(1, 2, 3);
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM information_schema.indexes"
+                + " WHERE table_name = 'BOOKS' AND index_name IN ('IDX_BOOKS_TITLE_KEY', 'IDX_BOOKS_AUTHOR_KEY')", Integer.class))
+                .isEqualTo(2);
+        assertThat(migrator.migrate()).isZero();
+    }
+
+    @Test
+    @DisplayName("ddl-auto로 만든 기존 DB: V1을 기준선으로 기록하고 V2부터 적용, 기존 행의 검색 키를 채움")
+    void baselines_existing_schema_and_backfills_keys() throws Exception {
+        jdbc.execute("CREATE TABLE books (isbn VARCHAR(20) NOT NULL PRIMARY KEY, title VARCHAR(255) NOT NULL,"
+                + " subtitle VARCHAR(255), author VARCHAR(255) NOT NULL, publisher VARCHAR(255), published_date DATE, image VARCHAR(512))");
+        jdbc.update("INSERT INTO books (isbn, title, author, publisher) VALUES (?, ?, ?, ?)",
+                "9780321146533", "Test-Driven Development: By Example", "Kent  Beck", "Ａｄｄｉｓｏｎ-Wesley");
+
+        assertThat(new SchemaMigrator(dataSource, migrations()).migrate()).isEqualTo(2);
+
+        Map<String, Object> row = jdbc.queryForMap("SELECT search_text, title_key, author_key, publisher_key FROM books");
+        assertThat(row.get("SEARCH_TEXT")).isEqualTo(SearchText.document("9780321146533",
+                "Test-Driven Development: By Example", null, "Kent  Beck", "Ａｄｄｉｓｏｎ-Wesley"));
+        assertThat(row.get("TITLE_KEY")).isEqualTo("test-driven development: by example");
+        assertThat(row.get("AUTHOR_KEY")).isEqualTo("kent beck");
+        assertThat(row.get("PUBLISHER_KEY")).isEqualTo("addison-wesley");
+    }
+
+    @Test
+    @DisplayName("DB 전용 마이그레이션: 다른 DB에서는 적용/기록하지 않음 (MySQL FULLTEXT 인덱스 V4)")
+    void skips_migrations_for_other_databases() throws Exception {
+        List<SchemaMigrator.Migration> migrations = migrations();
+        assertThat(migrations).filteredOn(m -> m.version() == 4).singleElement()
+                .extracting(SchemaMigrator.Migration::database).isEqualTo("MySQL");
+        migrations.add(new SchemaMigrator.Migration(5, "h2 only", 0, "H2",
+                j -> j.execute("CREATE INDEX idx_books_publisher_key ON books (publisher_key)")));
+
+        assertThat(new SchemaMigrator(dataSource, migrations).migrate()).isEqualTo(4);
+        assertThat(jdbc.queryForList("SELECT version FROM schema_history ORDER BY version", Integer.class))
+                .containsExactly(1, 2, 3, 5);
+    }
+
+    @Test
+    @DisplayName("적용된 버전의 내용(체크섬)이 바뀌면 기동 실패")
+    void rejects_changed_migration() throws Exception {
+        new SchemaMigrator(dataSource, migrations()).migrate();
+
+        List<SchemaMigrator.Migration> changed = new ArrayList<>(migrations());
+        SchemaMigrator.Migration v2 = changed.get(1);
+        changed.set(1, new SchemaMigrator.Migration(v2.version(), v2.description(), v2.checksum() + 1, v2.step()));
+
+        assertThatThrownBy(() -> new SchemaMigrator(dataSource, changed).migrate())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("V2 was changed");
+    }
+
+    @Test
+    @DisplayName("같은 버전이 둘이면 생성 시점에 실패")
+    void rejects_duplicate_versions() throws Exception {
+        List<SchemaMigrator.Migration> duplicated = new ArrayList<>(migrations());
+        duplicated.add(new SchemaMigrator.Migration(3, "again", 0, j -> {}));
+
+        assertThatThrownBy(() -> new SchemaMigrator(dataSource, duplicated))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("V3");
+    }
+
+    private static List<SchemaMigrator.Migration> migrations() throws Exception {
+        List<SchemaMigrator.Migration> migrations = new ArrayList<>(SchemaMigrator.scripts(new PathMatchingResourcePatternResolver()));
+        migrations.add(SearchKeyBackfill.MIGRATION);
+        return migrations;
+    }
+}
@@ -0,0 +1,24 @@
+package com.trevari.project.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BookSpecificationsTest {
+
+    @Test
+    @DisplayName("FULLTEXT 대상 키워드: 2글자 이상, 문자/숫자만, ISBN에 없는 글자 포함")
+    void full_text_eligibility() {
+        assertTrue(BookSpecifications.fullTextEligible("mongodb"));
+        assertTrue(BookSpecifications.fullTextEligible("자바"));
+        assertTrue(BookSpecifications.fullTextEligible("es6"));
+
+        assertFalse(BookSpecifications.fullTextEligible("a"));            // ngram 토큰보다 짧음
+        assertFalse(BookSpecifications.fullTextEligible("1609"));         // ISBN 조각일 수 있음 → LIKE
+        assertFalse(BookSpecifications.fullTextEligible("12x"));          // ISBN-10 체크 문자 포함 가능
+        assertFalse(BookSpecifications.fullTextEligible("learn java"));   // 공백 포함 구문
+        assertFalse(BookSpecifications.fullTextEligible("o'reilly"));     // 기호 포함
+    }
+}
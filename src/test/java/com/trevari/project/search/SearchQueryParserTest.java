@@ -1,6 +1,7 @@
 package com.trevari.project.search;
 
 import com.trevari.project.exception.BadRequestException;
+import com.trevari.project.search.query.QueryNode;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -56,26 +57,105 @@ class SearchQueryParserTest {
     }
 
     @Test
-    @DisplayName("잘못된 OR 쿼리 형식은 BadRequestException 발생")
-    void parse_malformed_or_queries_throw() {
+    @DisplayName("피연산자가 빠진 연산자는 BadRequestException 발생")
+    void parse_missing_operands_throw() {
         assertThrows(BadRequestException.class, () -> SearchQueryParser.parse("a|"));
         assertThrows(BadRequestException.class, () -> SearchQueryParser.parse("|b"));
-        assertThrows(BadRequestException.class, () -> SearchQueryParser.parse("a|b|c"));
+        assertThrows(BadRequestException.class, () -> SearchQueryParser.parse("a-"));
+        assertThrows(BadRequestException.class, () -> SearchQueryParser.parse("-b"));
+        assertThrows(BadRequestException.class, () -> SearchQueryParser.parse("a||b"));
+        assertThrows(BadRequestException.class, () -> SearchQueryParser.parse("a&-b"));
     }
 
     @Test
-    @DisplayName("잘못된 NOT 쿼리 형식은 BadRequestException 발생")
-    void parse_malformed_not_queries_throw() {
-        assertThrows(BadRequestException.class, () -> SearchQueryParser.parse("a-"));
-        assertThrows(BadRequestException.class, () -> SearchQueryParser.parse("-b"));
-        assertThrows(BadRequestException.class, () -> SearchQueryParser.parse("a-b-c"));
+    @DisplayName("괄호/따옴표 오류, 검색어 수/중첩 한도 초과는 BadRequestException 발생")
+    void parse_malformed_groups_throw() {
+        assertThrows(BadRequestException.class, () -> SearchQueryParser.parse("()"));
+        assertThrows(BadRequestException.class, () -> SearchQueryParser.parse("(a|b)(c)"));
+        assertThrows(BadRequestException.class, () -> SearchQueryParser.parse("(a|b) c"));
+        assertThrows(BadRequestException.class, () -> SearchQueryParser.parse("\"spring"));
+        assertThrows(BadRequestException.class, () -> SearchQueryParser.parse("a|\"  \""));
+        assertThrows(BadRequestException.class, () -> SearchQueryParser.parse("a|b|c|d|e|f|g|h|i|j|k|l|m|n|o|p|q"));
+        assertThrows(BadRequestException.class, () -> SearchQueryParser.parse("((((((((((a))))))))))"));
+    }
+
+    @Test
+    @DisplayName("여러 검색어 OR/제외: 'a|b|c', 'a-b-c'")
+    void parse_multi_term_operations() {
+        SearchQuery or = SearchQueryParser.parse("a|b|c");
+        assertEquals("a|b|c", or.query());
+        assertEquals(SearchStrategy.OR_OPERATION, or.strategy());
+        assertNull(or.left());
+
+        SearchQuery not = SearchQueryParser.parse("a-b-c");
+        assertEquals("a-b-c", not.query());
+        assertEquals(SearchStrategy.NOT_OPERATION, not.strategy());
+    }
+
+    @Test
+    @DisplayName("혼합 연산자: &와 -가 |보다 먼저 묶임, 괄호는 BOOLEAN")
+    void parse_mixed_operators() {
+        SearchQuery q1 = SearchQueryParser.parse("a b - c | d");
+        assertEquals("a b-c|d", q1.query());
+        assertEquals(SearchStrategy.BOOLEAN, q1.strategy());
+
+        SearchQuery q2 = SearchQueryParser.parse("Spring & Boot - legacy");
+        assertEquals("spring & boot-legacy", q2.query());
+        assertEquals(SearchStrategy.AND_OPERATION, q2.strategy());
+
+        SearchQuery q3 = SearchQueryParser.parse("(java | kotlin) - android");
+        assertEquals("(java|kotlin)-android", q3.query());
+        assertEquals(SearchStrategy.BOOLEAN, q3.strategy());
     }
 
     @Test
-    @DisplayName("혼합 연산자 사용 시 예외를 던짐")
-    void parse_mixed_operators_throw() {
-        assertThrows(BadRequestException.class, () -> SearchQueryParser.parse("a|b-c"));
-        assertThrows(BadRequestException.class, () -> SearchQueryParser.parse("a-b|c"));
+    @DisplayName("&와 괄호는 연산자로 읽힐 자리에서만 연산자: 'at&t', 'java (2nd)', 짝 없는 괄호는 글자 그대로")
+    void parse_literal_ampersand_and_parens() {
+        SearchQuery att = SearchQueryParser.parse("AT&T");
+        assertEquals(SearchStrategy.SIMPLE, att.strategy());
+        assertEquals("at&t", att.left());
+        assertEquals("at&t", att.query());
+
+        SearchQuery edition = SearchQueryParser.parse("java (2nd)");
+        assertEquals(SearchStrategy.SIMPLE, edition.strategy());
+        assertEquals("java (2nd)", edition.left());
+        assertEquals("java (2nd)", edition.query());
+
+        SearchQuery or = SearchQueryParser.parse("at&t | java (2nd)");
+        assertEquals(SearchStrategy.OR_OPERATION, or.strategy());
+        assertEquals("at&t", or.left());
+        assertEquals("java (2nd)", or.right());
+
+        SearchQuery unbalanced = SearchQueryParser.parse("(a|b");
+        assertEquals(SearchStrategy.OR_OPERATION, unbalanced.strategy());
+        assertEquals("(a", unbalanced.left());
+        assertEquals("\"(a\"|b", unbalanced.query()); // 다시 읽어도 같은 검색어가 되도록 따옴표
+
+        assertEquals(new QueryNode.Term("b)"), ((QueryNode.Or) SearchQueryParser.parse("a|b)").plan().root()).children().get(1));
+        assertEquals(SearchStrategy.AND_OPERATION, SearchQueryParser.parse("spring & boot").strategy());
+        assertEquals(SearchStrategy.BOOLEAN, SearchQueryParser.parse("(java|kotlin) & (spring)").strategy());
+    }
+
+    @Test
+    @DisplayName("큰따옴표: 연산자 문자와 앞뒤 공백을 검색어에 그대로 포함")
+    void parse_quoted_phrases() {
+        SearchQuery q1 = SearchQueryParser.parse("\"Spring-Boot\"");
+        assertEquals(SearchStrategy.SIMPLE, q1.strategy());
+        assertEquals("spring-boot", q1.left());
+        assertEquals("\"spring-boot\"", q1.query());
+
+        SearchQuery q2 = SearchQueryParser.parse("\"c|c++\" | \" go \"");
+        assertEquals(SearchStrategy.OR_OPERATION, q2.strategy());
+        assertEquals("c|c++", q2.left());
+        assertEquals(" go ", q2.right());
+    }
+
+    @Test
+    @DisplayName("중복 검색어는 계획에서 제거되고 형태도 그에 맞춤")
+    void parse_dedupes_terms() {
+        SearchQuery q = SearchQueryParser.parse("java | JAVA");
+        assertEquals(SearchStrategy.SIMPLE, q.strategy());
+        assertEquals("java|java", q.query()); // 입력 그대로 (집계/캐시 키)
     }
 
     @Test
@@ -92,4 +172,41 @@ class SearchQueryParserTest {
         assertEquals("learn javascript", q2.right());
         assertEquals(SearchStrategy.NOT_OPERATION, q2.strategy());
     }
+
+    @Test
+    @DisplayName("필드 한정자: title:/author:/publisher:/isbn:, 끝의 *는 앞부분 일치")
+    void parse_field_qualifiers() {
+        SearchQuery q1 = SearchQueryParser.parse("Author: Kyle Banker");
+        assertEquals(SearchStrategy.FIELD, q1.strategy());
+        assertEquals("author:kyle banker", q1.query());
+        assertNull(q1.left());
+        assertEquals(new QueryNode.Term("kyle banker", QueryNode.Field.AUTHOR, false), q1.plan().root());
+
+        SearchQuery q2 = SearchQueryParser.parse("title:mongo* | tdd");
+        assertEquals(SearchStrategy.OR_OPERATION, q2.strategy());
+        assertNull(q2.left());
+        assertTrue(((QueryNode.Or) q2.plan().root()).children().contains(new QueryNode.Term("mongo", QueryNode.Field.TITLE, true)));
+
+        // 한정자 없는 *, 따옴표로 시작하는 한정자, 알 수 없는 이름은 글자 그대로
+        assertEquals(new QueryNode.Term("c*"), SearchQueryParser.parse("c*").plan().root());
+        assertEquals(new QueryNode.Term("title:x"), SearchQueryParser.parse("\"title:x\"").plan().root());
+        assertEquals(SearchStrategy.SIMPLE, SearchQueryParser.parse("re:zero").strategy());
+    }
+
+    @Test
+    @DisplayName("isbn: 하이픈/공백 제거 후 숫자만, 13자리면 PK 일치")
+    void parse_isbn_qualifier() {
+        QueryNode.Term exact = (QueryNode.Term) SearchQueryParser.parse("isbn:\"978-1-61729-160-9\"").plan().root();
+        assertEquals("9781617291609", exact.keyword());
+        assertTrue(exact.exactIsbn());
+        assertTrue(exact.indexed());
+
+        QueryNode.Term prefix = (QueryNode.Term) SearchQueryParser.parse("isbn:161729160X*").plan().root();
+        assertEquals("161729160x", prefix.keyword());
+        assertFalse(prefix.exactIsbn());
+
+        BadRequestException e = assertThrows(BadRequestException.class, () -> SearchQueryParser.parse("a|isbn:abc"));
+        assertTrue(e.getMessage().contains("isbn: expects up to 13 digits at position 2"));
+        assertThrows(BadRequestException.class, () -> SearchQueryParser.parse("title: |a"));
+    }
 }
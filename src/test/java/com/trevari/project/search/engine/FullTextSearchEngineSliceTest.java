@@ -0,0 +1,70 @@
+package com.trevari.project.search.engine;
+
+import com.trevari.project.api.dto.SearchDTOs;
+import com.trevari.project.cache.CatalogVersion;
+import com.trevari.project.domain.Book;
+import com.trevari.project.repository.BookRepository;
+import com.trevari.project.search.BookSpecifications;
+import com.trevari.project.search.SearchMetrics;
+import com.trevari.project.search.BookSpecifications.MatchMode;
+import com.trevari.project.search.SearchPage;
+import com.trevari.project.search.SearchQuery;
+import com.trevari.project.search.SearchQueryParser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class FullTextSearchEngineSliceTest {
+
+    @Autowired
+    BookRepository bookRepository;
+
+    SearchMetrics metrics = new SearchMetrics(new SimpleMeterRegistry());
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("H2에서는 FULLTEXT 대신 기존 LIKE Specification으로 동작")
+    void degrades_to_like_specification_on_h2() {
+        bookRepository.save(Book.builder()
+                .isbn("9781617291609")
+                .title("MongoDB in Action, 2nd Edition")
+                .author("Kyle Banker")
+                .build());
+
+        var engine = new FullTextSearchEngine(bookRepository, jdbcTemplate, new CatalogVersion(), metrics);
+
+        assertThat(engine.mode()).isEqualTo(MatchMode.LIKE);
+        var result = engine.search(SearchQueryParser.parse("ongo"), SearchPage.offset(1, 20));
+        assertThat(result.books()).extracting(SearchDTOs.Book::isbn).containsExactly("9781617291609");
+    }
+
+    @Test
+    @DisplayName("FULLTEXT 모드: 한정자 없는 숫자 검색어는 PK 일치가 아니라 LIKE와 같은 부분 일치")
+    void unqualified_digits_match_like_path() {
+        bookRepository.save(Book.builder()
+                .isbn("9781617291609")
+                .title("MongoDB in Action, 2nd Edition")
+                .author("Kyle Banker")
+                .build());
+
+        for (String q : List.of("1617291609", "9781617291609", "978161729")) { // ISBN-10, ISBN-13, 조각
+            SearchQuery sq = SearchQueryParser.parse(q);
+            assertThat(bookRepository.findAll(BookSpecifications.forQuery(sq, MatchMode.FULLTEXT)))
+                    .as("query=%s", q)
+                    .containsExactlyElementsOf(bookRepository.findAll(BookSpecifications.forQuery(sq, MatchMode.LIKE)))
+                    .hasSize(1);
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.trevari.project.search.engine;
+
+import com.trevari.project.api.dto.SearchDTOs;
+import com.trevari.project.cache.CatalogVersion;
+import com.trevari.project.domain.Book;
+import com.trevari.project.domain.CatalogChangedEvent;
+import com.trevari.project.repository.BookRepository;
+import com.trevari.project.search.SearchMetrics;
+import com.trevari.project.search.BookSpecifications;
+import com.trevari.project.search.SearchCursor;
+import com.trevari.project.search.SearchPage;
+import com.trevari.project.search.SearchQuery;
+import com.trevari.project.search.SearchQueryParser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class IndexSearchEngineSliceTest {
+
+    @Autowired
+    BookRepository bookRepository;
+
+    SearchMetrics metrics = new SearchMetrics(new SimpleMeterRegistry());
+
+    // LIKE 검색과 결과가 같아야 하는 질의들 (부분 문자열, ISBN 조각, 공백 포함, 와일드카드, 한글, 불리언 조합)
+    private static final List<String> QUERIES = List.of(
+            "mongodb", "ongo", "1609", "test", "javascript", "tdd", "patterns",
+            "learn javascript", "action, 2nd", "o'reilly", "a_tion", "100%", "100\\%", "%%",
+            "자바", "스프링 부트", "바", "부트와", "ex", "ple", "n-b", "test|javascript", "test-javascript", "kent|없는단어", "e-b",
+            "test & javascript", "e-test-자바", "a|자바|kent", "(test|mongodb)-javascript", "\"n-b\"|patterns",
+            "e & (a|자바)-(kent|100%)", "learn javascript-quickly|o'reilly & test", "at&t|java (2nd)",
+            "author:beck", "title:java*", "title:te%*", "title:ex*", "publisher:o'reilly", "isbn:9781617291609",
+            "isbn:97803", "isbn:978", "title:test*-javascript", "author:kyle*|자바 & publisher:\"packt\"",
+            "ＭｏｎｇｏＤＢ", "learn \t  JAVASCRIPT", "test%beck", "a_tion%manning", "title:ｔｅｓｔ*",
+            "db in act", "ngodb", "ript test pat", "st-dr", "mongodb in", "n actio", "부 프로", "q", "ck\u001fke"
+    );
+
+    @BeforeEach
+    void setUp() {
+        save("9781617291609", "MongoDB in Action, 2nd Edition", "Covers MongoDB version 3.0", "Kyle Banker", "Manning");
+        save("9780596806750", "JavaScript Test Patterns", "Build better applications with coding and design patterns", "Stoyan Stefanov", "O'Reilly Media");
+        save("9780321146533", "Test-Driven Development: By Example", null, "Kent Beck", "Addison-Wesley");
+        save("9791162241234", "자바 ORM 표준 JPA 프로그래밍", "스프링 부트와 함께", "김영한", null);
+        save("9781234567897", "Learn JavaScript Quickly", "100% practical", "Nina Hopper", "Packt");
+    }
+
+    @Test
+    @DisplayName("역색인 엔진: Specification(LIKE) 검색과 동일한 결과")
+    void inverted_index_matches_specification_results() {
+        assertParity(new InvertedIndexSearchEngine(bookRepository, new CatalogVersion(), metrics));
+    }
+
+    @Test
+    @DisplayName("n-gram 엔진: Specification(LIKE) 검색과 동일한 결과")
+    void ngram_index_matches_specification_results() {
+        assertParity(new NgramIndexSearchEngine(bookRepository, new CatalogVersion(), metrics));
+    }
+
+    @Test
+    @DisplayName("역색인 엔진: 카탈로그 변경 이벤트로 추가/삭제가 반영됨")
+    void inverted_index_applies_catalog_changes() {
+        var engine = new InvertedIndexSearchEngine(bookRepository, new CatalogVersion(), metrics);
+        engine.rebuild();
+
+        save("9780000000001", "Kotlin Coroutines", null, "Marcin Moskala", null);
+        bookRepository.deleteById("9781617291609");
+        engine.onCatalogChanged(new CatalogChangedEvent(List.of("9780000000001", "9781617291609")));
+
+        assertThat(isbns(engine, "coroutine")).containsExactly("9780000000001");
+        assertThat(isbns(engine, "mongodb")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("역색인 엔진: 구축 중 도착한 변경 이벤트는 스캔이 끝난 뒤 반영 (이미 지나간 ISBN 구간 포함)")
+    void applies_changes_committed_during_rebuild() {
+        var engine = new InvertedIndexSearchEngine(bookRepository, new CatalogVersion(), metrics) {
+            boolean changed;
+
+            @Override
+            protected void indexDocument(Terms index, int docId, String text) {
+                super.indexDocument(index, docId, text);
+                if (!changed) { // 첫 청크 색인 중: 스캔이 지나간 구간에 도서 추가 + 삭제
+                    changed = true;
+                    save("9780000000001", "Kotlin Coroutines", null, "Marcin Moskala", null);
+                    bookRepository.deleteById("9780321146533");
+                    onCatalogChanged(new CatalogChangedEvent(List.of("9780000000001", "9780321146533")));
+                }
+            }
+        };
+        engine.rebuild();
+
+        assertThat(isbns(engine, "coroutine")).containsExactly("9780000000001");
+        assertThat(isbns(engine, "kent beck")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("n-gram 엔진: 수정된 도서는 뒤로 밀리고, 압축하면 삭제 표시가 사라지고 ISBN 순서로 돌아옴")
+    void compaction_drops_deleted_docs_and_restores_isbn_order() {
+        var engine = new NgramIndexSearchEngine(bookRepository, new CatalogVersion(), metrics);
+        engine.rebuild();
+        List<String> isbnOrder = isbns(engine, "e");
+        assertThat(isbnOrder).isSorted().hasSizeGreaterThan(2);
+
+        String first = isbnOrder.get(0);
+        save(first, "Test Driven Refactoring", null, "Kent Beck", null);
+        bookRepository.deleteById("9781617291609");
+        engine.onCatalogChanged(new CatalogChangedEvent(List.of(first, "9781617291609")));
+
+        List<String> live = isbnOrder.stream().filter(isbn -> !isbn.equals("9781617291609")).toList();
+        assertThat(isbns(engine, "e")).endsWith(first).containsExactlyInAnyOrderElementsOf(live);
+        assertThat(engine.deletedDocs()).isEqualTo(2);
+
+        engine.compact();
+
+        assertThat(engine.deletedDocs()).isZero();
+        assertThat(isbns(engine, "e")).containsExactlyElementsOf(live);
+        assertThat(isbns(engine, "refactoring")).containsExactly(first);
+        assertThat(isbns(engine, "mongodb")).isEmpty();
+        assertThat(isbns(engine, "q")).containsExactly("9781234567897"); // 1글자: 살아 있는 문서만 훑음
+    }
+
+    private void assertParity(AbstractIndexSearchEngine<?> engine) {
+        engine.rebuild();
+        for (String q : QUERIES) {
+            SearchQuery sq = SearchQueryParser.parse(q);
+            List<String> expected = bookRepository.findAll(BookSpecifications.forQuery(sq)).stream()
+                    .map(Book::getIsbn).toList();
+            assertThat(isbns(engine, q)).as("query=%s", q).containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("필드 한정: 그 필드만 검사, 앞부분 일치는 대소문자 무시, isbn:은 PK 앞부분 일치")
+    void field_qualifiers_restrict_to_one_column() {
+        var engine = new SpecificationSearchEngine(bookRepository, new CatalogVersion(), metrics);
+
+        assertThat(isbns(engine, "test")).hasSize(2);
+        assertThat(isbns(engine, "title:test*")).containsExactly("9780321146533");
+        assertThat(isbns(engine, "author:beck")).containsExactly("9780321146533");
+        assertThat(isbns(engine, "publisher:beck")).isEmpty();
+        assertThat(isbns(engine, "isbn:9781617291609")).containsExactly("9781617291609");
+        assertThat(isbns(engine, "isbn:1609")).isEmpty(); // 포함이 아니라 앞부분 일치
+    }
+
+    @Test
+    @DisplayName("정규화 컬럼: 전각/대소문자/공백 차이를 무시하고, 와일드카드는 필드 경계를 넘어 일치")
+    void normalized_columns_ignore_width_case_and_spacing() {
+        save("9780000000002", "Ｓｐｒｉｎｇ　Ｂｏｏｔ  in\tAction", null, "Craig  Walls", "Manning");
+        var engine = new SpecificationSearchEngine(bookRepository, new CatalogVersion(), metrics);
+
+        assertThat(isbns(engine, "spring boot in action")).containsExactly("9780000000002");
+        assertThat(isbns(engine, "ＭＯＮＧＯＤＢ")).containsExactly("9781617291609");
+        assertThat(isbns(engine, "author:craig w*")).containsExactly("9780000000002");
+        assertThat(isbns(engine, "title:ｓｐｒｉｎｇ*")).containsExactly("9780000000002");
+        assertThat(isbns(engine, "test%beck")).containsExactly("9780321146533"); // 제목 → 저자
+    }
+
+    @Test
+    @DisplayName("키셋 페이징: 커서를 따라가면 오프셋 전체 결과를 중복/누락 없이 순서대로 조회")
+    void keyset_pages_cover_offset_results() {
+        var inverted = new InvertedIndexSearchEngine(bookRepository, new CatalogVersion(), metrics);
+        inverted.rebuild();
+        for (SearchEngine engine : List.of(new SpecificationSearchEngine(bookRepository, new CatalogVersion(), metrics), inverted)) {
+            for (String q : List.of("a", "e|자바", "e-test")) {
+                assertThat(walk(engine, q, 2)).as("%s query=%s", engine.getClass().getSimpleName(), q)
+                        .containsExactlyElementsOf(isbns(engine, q));
+            }
+        }
+    }
+
+    private List<String> walk(SearchEngine engine, String q, int size) {
+        List<String> out = new ArrayList<>();
+        SearchCursor cursor = null;
+        do {
+            // 커서는 토큰 왕복 후 사용 (클라이언트와 동일한 경로)
+            SearchPage page = cursor == null ? SearchPage.offset(1, size) : SearchPage.of(1, size, cursor.encode(), "none");
+            SearchResult result = engine.search(SearchQueryParser.parse(q), page);
+            assertThat(result.books()).hasSizeLessThanOrEqualTo(size);
+            result.books().forEach(b -> out.add(b.isbn()));
+            cursor = result.nextCursor();
+        } while (cursor != null);
+        return out;
+    }
+
+    private List<String> isbns(SearchEngine engine, String q) {
+        return engine.search(SearchQueryParser.parse(q), SearchPage.offset(1, 100)).books().stream()
+                .map(SearchDTOs.Book::isbn).toList();
+    }
+
+    private void save(String isbn, String title, String subtitle, String author, String publisher) {
+        bookRepository.save(Book.builder()
+                .isbn(isbn)
+                .title(title)
+                .subtitle(subtitle)
+                .author(author)
+                .publisher(publisher)
+                .publishedDate(LocalDate.parse("2020-01-01"))
+                .build());
+    }
+}
@@ -0,0 +1,113 @@
+package com.trevari.project.search.engine;
+
+import com.trevari.project.api.dto.SearchDTOs;
+import com.trevari.project.cache.CatalogVersion;
+import com.trevari.project.domain.CatalogChangedEvent;
+import com.trevari.project.domain.Book;
+import com.trevari.project.repository.BookRepository;
+import com.trevari.project.search.SearchMetrics;
+import com.trevari.project.search.SearchPage;
+import com.trevari.project.search.SearchQueryParser;
+import com.trevari.project.search.TotalMode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class SpecificationSearchEngineSliceTest {
+
+    @Autowired
+    BookRepository bookRepository;
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    SearchMetrics metrics = new SearchMetrics(meterRegistry);
+    CatalogVersion catalogVersion = new CatalogVersion();
+
+    SpecificationSearchEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 5; i++) {
+            save("978000000000" + i, "Spring Book " + i);
+        }
+        engine = new SpecificationSearchEngine(bookRepository, catalogVersion, metrics);
+    }
+
+    @Test
+    @DisplayName("total=none: 건수 없이 다음 페이지 여부만 반환")
+    void none_returns_has_next_without_total() {
+        var first = engine.search(SearchQueryParser.parse("spring"), new SearchPage(1, 2, null, TotalMode.NONE));
+        assertThat(first.books()).hasSize(2);
+        assertThat(first.totalElements()).isNull();
+        assertThat(first.totalExact()).isFalse();
+        assertThat(first.hasNext()).isTrue();
+
+        var last = engine.search(SearchQueryParser.parse("spring"), new SearchPage(3, 2, null, TotalMode.NONE));
+        assertThat(last.books()).extracting(SearchDTOs.Book::isbn).containsExactly("9780000000004");
+        assertThat(last.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("total=estimate: 처음 보는 질의는 조건 COUNT 없이 계획 선택도 × 전체 도서 수 (읽은 행 수 이상)")
+    void estimate_uses_planner_selectivity_without_count() {
+        for (int i = 0; i < 15; i++) {
+            save("97900000000" + String.format("%02d", i), "Other Book " + i);
+        }
+        var query = SearchQueryParser.parse("book");
+        var estimate = engine.search(query, new SearchPage(1, 2, null, TotalMode.ESTIMATE));
+
+        assertThat(estimate.totalExact()).isFalse();
+        assertThat(estimate.totalElements()).isEqualTo(Math.max(3L, Math.round(query.plan().selectivity() * 20)));
+        assertThat(meterRegistry.get("search.phase").tag("phase", "count").timers())
+                .allSatisfy(timer -> assertThat(timer.count()).isZero());
+
+        var exact = engine.search(query, new SearchPage(1, 2, null, TotalMode.EXACT));
+        assertThat(exact.totalElements()).isEqualTo(20L);
+        assertThat(exact.totalExact()).isTrue();
+    }
+
+    @Test
+    @DisplayName("total=estimate: 마지막 페이지에서 본 정확한 건수를 재사용하고, 카탈로그 버전이 바뀌면 버림")
+    void estimate_reuses_observed_total_until_catalog_changes() {
+        var query = SearchQueryParser.parse("spring");
+        engine.search(query, new SearchPage(3, 2, null, TotalMode.ESTIMATE)); // 마지막 페이지: 5건
+
+        var cached = engine.search(query, new SearchPage(1, 2, null, TotalMode.ESTIMATE));
+        assertThat(cached.totalElements()).isEqualTo(5L);
+        assertThat(cached.totalExact()).isFalse();
+
+        save("9780000000005", "Spring Book 5");
+        catalogVersion.onCatalogChanged(new CatalogChangedEvent(List.of("9780000000005")));
+
+        var fresh = engine.search(query, new SearchPage(1, 2, null, TotalMode.ESTIMATE));
+        assertThat(fresh.totalElements()).isEqualTo(Math.max(3L, Math.round(query.plan().selectivity() * 6)));
+    }
+
+    @Test
+    @DisplayName("total=estimate: 마지막 페이지는 COUNT 없이 정확한 건수")
+    void estimate_on_last_page_is_exact() {
+        var result = engine.search(SearchQueryParser.parse("spring"), new SearchPage(1, 10, null, TotalMode.ESTIMATE));
+        assertThat(result.totalElements()).isEqualTo(5L);
+        assertThat(result.totalExact()).isTrue();
+        assertThat(result.hasNext()).isFalse();
+    }
+
+    private void save(String isbn, String title) {
+        bookRepository.save(Book.builder()
+                .isbn(isbn)
+                .title(title)
+                .author("Author")
+                .publishedDate(LocalDate.parse("2020-01-01"))
+                .build());
+    }
+}
@@ -0,0 +1,52 @@
+package com.trevari.project.search.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostingListTest {
+
+    @Test
+    @DisplayName("교집합/합집합/retain: TreeSet 기반 기대값과 일치")
+    void set_operations_match_reference() {
+        Random random = new Random(42);
+        for (int round = 0; round < 200; round++) {
+            TreeSet<Integer> a = randomSet(random, random.nextInt(50));
+            TreeSet<Integer> b = randomSet(random, random.nextInt(2_000));
+            PostingList list = new PostingList();
+            b.forEach(list::add);
+
+            TreeSet<Integer> and = new TreeSet<>(a);
+            and.retainAll(b);
+            TreeSet<Integer> or = new TreeSet<>(a);
+            or.addAll(b);
+
+            assertThat(PostingList.intersect(toArray(a), toArray(b))).containsExactly(toArray(and));
+            assertThat(list.retain(toArray(a))).containsExactly(toArray(and));
+            assertThat(PostingList.union(toArray(a), toArray(b))).containsExactly(toArray(or));
+        }
+    }
+
+    @Test
+    @DisplayName("add: 같은 문서의 중복 docId는 한 번만 기록")
+    void add_ignores_duplicate_doc_ids() {
+        PostingList list = new PostingList();
+        IntStream.of(1, 1, 2, 2, 2, 7).forEach(list::add);
+        assertThat(list.toArray()).containsExactly(1, 2, 7);
+    }
+
+    private static TreeSet<Integer> randomSet(Random random, int size) {
+        TreeSet<Integer> set = new TreeSet<>();
+        while (set.size() < size) set.add(random.nextInt(5_000));
+        return set;
+    }
+
+    private static int[] toArray(TreeSet<Integer> set) {
+        return set.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
@@ -0,0 +1,102 @@
+package com.trevari.project.search.query;
+
+import com.trevari.project.search.SearchStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+class QueryPlannerTest {
+
+    private static QueryPlan plan(String q) {
+        return QueryPlanner.plan(QueryParser.parse(q));
+    }
+
+    @Test
+    @DisplayName("AND: 선택도 높은(긴) 검색어 먼저, NOT은 항상 마지막")
+    void orders_conjunction_by_selectivity_and_pushes_nots_last() {
+        QueryPlan plan = plan("go-legacy & javascript & spring");
+
+        assertThat(plan.root().render()).isEqualTo("javascript & spring & go-legacy");
+        assertThat(plan.strategy()).isEqualTo(SearchStrategy.AND_OPERATION);
+    }
+
+    @Test
+    @DisplayName("OR: 잘 맞는(짧은) 검색어 먼저")
+    void orders_disjunction_by_match_probability() {
+        assertThat(plan("javascript|go|spring").root().render()).isEqualTo("go|spring|javascript");
+    }
+
+    @Test
+    @DisplayName("평탄화, 중복 제거, 흡수")
+    void flattens_dedupes_and_absorbs() {
+        assertThat(plan("(a & b) & (c & a)").root().render()).isEqualTo("a & b & c");
+        assertThat(plan("kotlin|(java|kotlin)").root().render()).isEqualTo("java|kotlin");
+        assertThat(plan("spring & (spring|boot)").root()).isEqualTo(new QueryNode.Term("spring"));
+        assertThat(plan("spring|(spring & boot)").root()).isEqualTo(new QueryNode.Term("spring"));
+        assertThat(plan("a-b-b").root().render()).isEqualTo("a-b");
+    }
+
+    @Test
+    @DisplayName("계획 형태: 검색어 하나 / OR / 제외 / AND / 그룹")
+    void classifies_plan_shape() {
+        assertThat(plan("spring boot").strategy()).isEqualTo(SearchStrategy.SIMPLE);
+        assertThat(plan("a|b|c").strategy()).isEqualTo(SearchStrategy.OR_OPERATION);
+        assertThat(plan("a-b-c").strategy()).isEqualTo(SearchStrategy.NOT_OPERATION);
+        assertThat(plan("a & b-c").strategy()).isEqualTo(SearchStrategy.AND_OPERATION);
+        assertThat(plan("(a|b)-c").strategy()).isEqualTo(SearchStrategy.BOOLEAN);
+        assertThat(plan("a-(b|c)").strategy()).isEqualTo(SearchStrategy.BOOLEAN);
+    }
+
+    @Test
+    @DisplayName("한 줄 표현은 다시 파싱하면 같은 계획")
+    void render_round_trips() {
+        for (String q : List.of("a b-c|d", "(java|kotlin)-\"spring-boot\"", "a-(b-c)", "\" go \"|(x & (y|z))",
+                "title:spring* & author:\"kent beck\"", "\"title:x\"|publisher:\"a*\"|isbn:978")) {
+            QueryPlan plan = plan(q);
+            assertThat(plan(plan.root().render()).root()).as(q).isEqualTo(plan.root());
+        }
+    }
+
+    @Test
+    @DisplayName("추정치: AND는 곱, OR은 합집합, NOT은 여집합 / 비용은 단락 평가 반영")
+    void estimates_selectivity_and_cost() {
+        double java = QueryPlanner.termSelectivity("java");
+        double kotlin = QueryPlanner.termSelectivity("kotlin");
+        assertThat(java).isEqualTo(Math.pow(QueryPlanner.CHAR_SELECTIVITY, 4));
+        assertThat(QueryPlanner.termSelectivity("%%")).isEqualTo(1.0);
+
+        QueryPlan and = plan("java & kotlin");
+        assertThat(and.selectivity()).isCloseTo(java * kotlin, offset(1e-12));
+        assertThat(and.cost()).isCloseTo(1 + kotlin, offset(1e-12)); // kotlin 먼저
+
+        QueryPlan not = plan("java-kotlin");
+        assertThat(not.selectivity()).isCloseTo(java * (1 - kotlin), offset(1e-12));
+    }
+
+    @Test
+    @DisplayName("EXPLAIN: 형태/한 줄 표현/추정치 + 노드별 트리")
+    void explains_plan_tree() {
+        List<String> lines = plan("(java|kotlin)-android").explain();
+
+        assertThat(lines.get(0)).startsWith("BOOLEAN (java|kotlin)-android (selectivity=");
+        assertThat(lines.subList(1, lines.size())).extracting(line -> line.replaceAll(" \\(.*", ""))
+                .containsExactly("  AND", "    OR", "      TERM java", "      TERM kotlin", "    NOT", "      TERM android");
+    }
+
+    @Test
+    @DisplayName("필드 한정: 인덱스로 찾는 검색어가 AND의 맨 앞, 단독이면 FIELD")
+    void puts_indexed_field_terms_first() {
+        QueryPlan plan = plan("javascript & author:beck & title:test*");
+        assertThat(plan.root().render()).isEqualTo("title:test* & author:beck & javascript");
+        assertThat(plan.strategy()).isEqualTo(SearchStrategy.AND_OPERATION);
+
+        assertThat(plan("isbn:9781617291609").strategy()).isEqualTo(SearchStrategy.FIELD);
+        assertThat(plan("isbn:9781617291609").selectivity()).isEqualTo(QueryPlanner.MIN_SELECTIVITY);
+        assertThat(plan("publisher:manning*").explain().get(1)).doesNotContain("index");
+        assertThat(plan("author:beck*").explain().get(1)).isEqualTo("  TERM author:beck* (selectivity=0.2401, index)");
+    }
+}
@@ -1,27 +1,52 @@
 package com.trevari.project.service;
 
 import com.trevari.project.api.dto.BookDetailDTO;
+import com.trevari.project.cache.BookCacheProperties;
+import com.trevari.project.cache.BookDetailCache;
+import com.trevari.project.cache.CatalogVersion;
 import com.trevari.project.domain.Book;
+import com.trevari.project.domain.CatalogChangedEvent;
+import com.trevari.project.exception.BadRequestException;
 import com.trevari.project.exception.NotFoundException;
 import com.trevari.project.repository.BookRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class BookServiceTest {
 
     @Mock private BookRepository bookRepository;
-    @InjectMocks private BookService bookService;
+    private final CatalogVersion catalogVersion = new CatalogVersion();
+    private BookDetailCache bookDetailCache;
+    private BookService bookService;
+
+    @BeforeEach
+    void setUp() {
+        bookDetailCache = new BookDetailCache(bookRepository, catalogVersion,
+                new BookCacheProperties(100, Duration.ofMinutes(10), Duration.ofSeconds(30), 0.01, Duration.ofMinutes(1)),
+                new SimpleMeterRegistry());
+        bookService = new BookService(bookRepository, bookDetailCache);
+    }
 
     @Test
     @DisplayName("getBookDetailDTO() - 존재하는 도서면 DTO 반환")
@@ -48,4 +73,128 @@ class BookServiceTest {
         assertThatThrownBy(() -> bookService.getBookDetailDTO("missing"))
                 .isInstanceOf(NotFoundException.class);
     }
+
+    @Test
+    @DisplayName("getBookDetailDTO() - 재조회는 캐시에서 응답, 없는 도서도 짧게 캐시(negative)")
+    void getBookDetailDTO_cachesHitsAndMisses() {
+        var book = Book.builder().isbn("9781617291609").title("MongoDB in Action").author("Kyle Banker").build();
+        when(bookRepository.findById("9781617291609")).thenReturn(Optional.of(book));
+        when(bookRepository.findById("missing")).thenReturn(Optional.empty());
+
+        bookService.getBookDetailDTO("9781617291609");
+        bookService.getBookDetailDTO("9781617291609");
+        assertThatThrownBy(() -> bookService.getBookDetailDTO("missing")).isInstanceOf(NotFoundException.class);
+        assertThatThrownBy(() -> bookService.getBookDetailDTO("missing")).isInstanceOf(NotFoundException.class);
+
+        verify(bookRepository, times(1)).findById("9781617291609");
+        verify(bookRepository, times(1)).findById("missing");
+    }
+
+    @Test
+    @DisplayName("getBookDetailDTO() - Bloom 필터에 없는 ISBN은 DB 조회 없이 NotFoundException")
+    void getBookDetailDTO_bloomFilterRejectsUnknownIsbn() {
+        when(bookRepository.count()).thenReturn(1L);
+        when(bookRepository.findIsbnsAfter(any(), any())).thenReturn(List.of("9781617291609"));
+        bookDetailCache.rebuildFilter();
+
+        assertThatThrownBy(() -> bookService.getBookDetailDTO("9999999999999")).isInstanceOf(NotFoundException.class);
+        verify(bookRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("getBookDetailDTO() - 필터 구축 이후 다른 노드가 쓰면(공유 epoch 증가) 부재 캐시/DB로 확인하고, 주기 점검 때 필터 재구축")
+    void getBookDetailDTO_bloomFilterHealsAfterRemoteWrites() {
+        when(bookRepository.count()).thenReturn(1L);
+        when(bookRepository.findIsbnsAfter(any(), any())).thenReturn(List.of("9781617291609"));
+        bookDetailCache.rebuildFilter();
+        bookDetailCache.refreshFilter(); // epoch 그대로: 재구축 안 함
+
+        // 다른 노드(CLI 가져오기 등)가 새 도서를 커밋하고 공유 epoch를 올림
+        var book = Book.builder().isbn("9780000000001").title("Imported").author("Author").build();
+        when(bookRepository.findById("9780000000001")).thenReturn(Optional.of(book));
+        when(bookRepository.findById("9999999999999")).thenReturn(Optional.empty());
+        catalogVersion.advanceEpoch(1);
+
+        assertThat(bookService.getBookDetailDTO("9780000000001").title()).isEqualTo("Imported");
+        assertThatThrownBy(() -> bookService.getBookDetailDTO("9999999999999")).isInstanceOf(NotFoundException.class);
+        assertThatThrownBy(() -> bookService.getBookDetailDTO("9999999999999")).isInstanceOf(NotFoundException.class);
+        verify(bookRepository, times(1)).findById("9999999999999"); // 부재 캐시
+
+        when(bookRepository.count()).thenReturn(2L);
+        when(bookRepository.findIsbnsAfter(any(), any())).thenReturn(List.of("9780000000001", "9781617291609"));
+        bookDetailCache.refreshFilter();
+        verify(bookRepository, times(2)).findIsbnsAfter(any(), any());
+
+        bookDetailCache.invalidateAll();
+        assertThatThrownBy(() -> bookService.getBookDetailDTO("9999999999998")).isInstanceOf(NotFoundException.class);
+        verify(bookRepository, never()).findById("9999999999998"); // 새 필터가 다시 거절
+        assertThat(bookService.getBookDetailDTO("9780000000001").title()).isEqualTo("Imported");
+    }
+
+    @Test
+    @DisplayName("getBookDetailDTO() - 카탈로그 변경 시 해당 ISBN 캐시 제거, 새 ISBN은 필터에 추가")
+    void getBookDetailDTO_invalidatesOnCatalogChange() {
+        when(bookRepository.count()).thenReturn(0L);
+        when(bookRepository.findIsbnsAfter(any(), any())).thenReturn(List.of());
+        bookDetailCache.rebuildFilter();
+        assertThatThrownBy(() -> bookService.getBookDetailDTO("9780000000001")).isInstanceOf(NotFoundException.class);
+
+        var book = Book.builder().isbn("9780000000001").title("New Book").author("Author").build();
+        when(bookRepository.findById("9780000000001")).thenReturn(Optional.of(book));
+        bookDetailCache.onCatalogChanged(new CatalogChangedEvent(List.of("9780000000001")));
+
+        assertThat(bookService.getBookDetailDTO("9780000000001").title()).isEqualTo("New Book");
+    }
+
+    @Test
+    @DisplayName("getBookDetailDTO() - Bloom 필터 구축 중 추가된 ISBN도 새 필터에 포함")
+    void getBookDetailDTO_keepsIsbnsChangedDuringFilterBuild() {
+        when(bookRepository.count()).thenReturn(1L);
+        when(bookRepository.findIsbnsAfter(any(), any())).thenAnswer(invocation -> {
+            // 키셋 스캔이 이미 지나간 구간에 새 도서가 커밋된 상황
+            bookDetailCache.onCatalogChanged(new CatalogChangedEvent(List.of("9780000000001")));
+            return List.of("9781617291609");
+        });
+        bookDetailCache.rebuildFilter();
+
+        var book = Book.builder().isbn("9780000000001").title("New Book").author("Author").build();
+        when(bookRepository.findById("9780000000001")).thenReturn(Optional.of(book));
+
+        assertThat(bookService.getBookDetailDTO("9780000000001").title()).isEqualTo("New Book");
+    }
+
+    @Test
+    @DisplayName("getBookDetailDTOs() - 요청 순서대로 반환, 없는 ISBN은 found=false, 캐시된 도서는 재조회 안 함")
+    void getBookDetailDTOs_preservesOrderAndMarksMissing() {
+        var a = Book.builder().isbn("9780000000001").title("A").author("x").build();
+        var b = Book.builder().isbn("9780000000002").title("B").author("y").build();
+        when(bookRepository.findById("9780000000002")).thenReturn(Optional.of(b));
+        bookService.getBookDetailDTO("9780000000002"); // 캐시 적재
+        when(bookRepository.findAllById(any())).thenReturn(List.of(a));
+
+        var response = bookService.getBookDetailDTOs(List.of("9780000000002", "missing", "9780000000001", "9780000000002"));
+
+        assertThat(response.items()).extracting(i -> i.id())
+                .containsExactly("9780000000002", "missing", "9780000000001", "9780000000002");
+        assertThat(response.items()).extracting(i -> i.found()).containsExactly(true, false, true, true);
+        assertThat(response.items().get(1).book()).isNull();
+        assertThat(response.found()).isEqualTo(3);
+        assertThat(response.notFound()).isEqualTo(1);
+        verify(bookRepository).findAllById(argThat(chunk ->
+                Set.copyOf((java.util.Collection<String>) chunk).equals(Set.of("missing", "9780000000001"))));
+    }
+
+    @Test
+    @DisplayName("getBookDetailDTOs() - IN 조회는 100개 단위로 나눔, 500개 초과는 BadRequestException")
+    void getBookDetailDTOs_chunksInClauseAndLimitsSize() {
+        when(bookRepository.findAllById(any())).thenReturn(List.of());
+        List<String> ids = IntStream.range(0, 250).mapToObj(i -> "isbn-" + i).toList();
+
+        var response = bookService.getBookDetailDTOs(ids);
+
+        assertThat(response.notFound()).isEqualTo(250);
+        verify(bookRepository, times(3)).findAllById(any());
+        List<String> tooMany = IntStream.range(0, BookService.MAX_BATCH_SIZE + 1).mapToObj(i -> "isbn-" + i).toList();
+        assertThatThrownBy(() -> bookService.getBookDetailDTOs(tooMany)).isInstanceOf(BadRequestException.class);
+    }
 }
@@ -0,0 +1,75 @@
+package com.trevari.project.service;
+
+import com.trevari.project.api.dto.SearchKeyword;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 테스트용 {@link TrendStore}: Redis ZSET + TTL 동작(ZINCRBY, EXPIRE, ZREMRANGEBYRANK, ZUNION)을 메모리에서 흉내냄.
+ */
+class InMemoryTrendStore implements TrendStore {
+
+    private record Zset(Map<String, Long> scores, Instant expiresAt) {}
+
+    private final Map<String, Zset> keys = new HashMap<>();
+    private final Clock clock;
+    final List<List<String>> reads = new ArrayList<>();
+
+    InMemoryTrendStore(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public synchronized void increment(List<Bucket> buckets, Map<String, Long> deltas, int capacity) {
+        for (Bucket bucket : buckets) {
+            Map<String, Long> scores = live(bucket.key());
+            deltas.forEach((term, delta) -> scores.merge(term, delta, Long::sum));
+            keys.put(bucket.key(), new Zset(scores, clock.instant().plus(bucket.ttl())));
+            if (scores.size() > capacity) {
+                sorted(scores).subList(capacity, scores.size()).forEach(e -> scores.remove(e.getKey()));
+            }
+        }
+    }
+
+    @Override
+    public synchronized List<SearchKeyword> top(String unionKey, List<String> bucketKeys, int k) {
+        reads.add(List.copyOf(bucketKeys));
+        Map<String, Long> union = new HashMap<>();
+        bucketKeys.forEach(key -> live(key).forEach((term, n) -> union.merge(term, n, Long::sum)));
+        return sorted(union).stream()
+                .limit(k)
+                .map(e -> new SearchKeyword(e.getKey(), e.getValue(), 0L))
+                .toList();
+    }
+
+    synchronized int liveKeyCount() {
+        keys.keySet().removeIf(key -> expired(keys.get(key)));
+        return keys.size();
+    }
+
+    private Map<String, Long> live(String key) {
+        Zset zset = keys.get(key);
+        if (zset == null || expired(zset)) {
+            keys.remove(key);
+            return new HashMap<>();
+        }
+        return zset.scores();
+    }
+
+    private boolean expired(Zset zset) {
+        return !clock.instant().isBefore(zset.expiresAt());
+    }
+
+    private static List<Map.Entry<String, Long>> sorted(Map<String, Long> scores) {
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .toList();
+    }
+}
@@ -1,6 +1,10 @@
 package com.trevari.project.service;
 
 import com.trevari.project.api.dto.SearchKeyword;
+import com.trevari.project.config.CircuitBreaker;
+import com.trevari.project.config.SheddingExecutor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -8,6 +12,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.SpringBootConfiguration;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
 import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
 import org.springframework.context.annotation.Bean;
@@ -23,18 +28,16 @@ import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.utility.DockerImageName;
 
-import java.util.ArrayList;
+import java.time.Duration;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executor;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-@DataRedisTest
+@DataRedisTest(properties = "search.aggregate.top-capacity=3")
 @Testcontainers
-@Import({SearchAggregateService.class, SearchAggregateServiceSliceTest.AsyncTestConfig.class})
+@Import({SearchAggregateService.class, RedisTrendStore.class, SearchAggregateServiceSliceTest.AsyncTestConfig.class})
 class SearchAggregateServiceSliceTest {
 
     @Autowired
@@ -43,6 +46,9 @@ class SearchAggregateServiceSliceTest {
     @Autowired
     SearchAggregateService searchAggregateService;
 
+    @Autowired
+    RedisTrendStore redisTrendStore;
+
     // Testcontainers Redis (테스트 전용)
     @Container
     @ServiceConnection
@@ -68,16 +74,15 @@ class SearchAggregateServiceSliceTest {
         counts.put("mongo-java", 5);
         counts.put("tdd-javascript", 3);
 
-        // When: Map을 이용해 반복적으로 비동기 집계 호출
-        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        // When: Map을 이용해 반복적으로 집계 호출 후 버퍼 반영
         for (Map.Entry<String, Integer> e : counts.entrySet()) {
             String k = e.getKey();
             int times = e.getValue();
             for (int i = 0; i < times; i++) {
-                futures.add(searchAggregateService.aggregateTop10(k));
+                searchAggregateService.aggregateTop10(k);
             }
         }
-        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        searchAggregateService.flush();
 
         // Then: TOP 결과 확인 (내림차순으로 정렬되어야 함)
         List<SearchKeyword> top = searchAggregateService.getTop10Keywords();
@@ -97,19 +102,70 @@ class SearchAggregateServiceSliceTest {
         }
     }
 
+    @Test
+    @DisplayName("Space-Saving 병합: 고유 검색어가 많아도 ZSET은 top-capacity 이하로 유지되고 인기 검색어는 남음")
+    void popular_zset_is_trimmed_to_capacity() {
+        for (int i = 0; i < 50; i++) {
+            searchAggregateService.aggregateTop10("mongo");
+        }
+        searchAggregateService.flush();
+        for (int i = 0; i < 20; i++) {
+            searchAggregateService.aggregateTop10("bot-" + i);
+            searchAggregateService.flush(); // 노드/주기마다 따로 병합되는 상황
+        }
+
+        assertThat(redisTemplate.opsForZSet().zCard("search:query:popular")).isLessThanOrEqualTo(3L);
+        assertThat(redisTemplate.opsForHash().size("search:query:popular:error")).isLessThanOrEqualTo(3L);
+
+        List<SearchKeyword> top = searchAggregateService.getTop10Keywords();
+        assertThat(top.get(0)).isEqualTo(new SearchKeyword("mongo", 50L, 0L));
+        for (SearchKeyword k : top.subList(1, top.size())) {
+            assertThat(k.maxError()).isLessThanOrEqualTo(70L / 3); // 오차 상한 = 전체 횟수 / capacity
+        }
+    }
+
+    @Test
+    @DisplayName("트렌드 버킷: ZINCRBY/EXPIRE/상위 유지 후 ZUNIONSTORE로 합쳐 상위 k개 조회")
+    void trend_buckets_are_merged_with_union() {
+        var ttl = Duration.ofMinutes(5);
+        redisTrendStore.increment(List.of(new TrendStore.Bucket("search:trend:m:1", ttl)),
+                Map.of("spring", 3L, "java", 1L), 3);
+        redisTrendStore.increment(List.of(new TrendStore.Bucket("search:trend:m:2", ttl)),
+                Map.of("java", 5L), 3);
+
+        List<SearchKeyword> top = redisTrendStore.top("search:trend:union:m:2:2",
+                List.of("search:trend:m:2", "search:trend:m:1", "search:trend:m:0"), 2);
+
+        assertThat(top).containsExactly(new SearchKeyword("java", 6L, 0L), new SearchKeyword("spring", 3L, 0L));
+        assertThat(redisTemplate.getExpire("search:trend:m:1")).isPositive();
+        assertThat(redisTemplate.getExpire("search:trend:union:m:2:2")).isPositive();
+    }
+
     @SpringBootConfiguration
     @EnableAutoConfiguration(exclude = RedisRepositoriesAutoConfiguration.class)
     @EnableAsync
+    @EnableConfigurationProperties(SearchAggregateProperties.class)
     static class AsyncTestConfig {
+        @Bean
+        public MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+
         @Bean(name = "searchAggregateExecutor")
-        public Executor searchAggregateExecutor() {
+        public SheddingExecutor searchAggregateExecutor(MeterRegistry meterRegistry) {
             ThreadPoolTaskExecutor exec = new ThreadPoolTaskExecutor();
             exec.setCorePoolSize(2);
-            exec.setMaxPoolSize(4);
+            exec.setMaxPoolSize(2);
             exec.setQueueCapacity(50);
             exec.setThreadNamePrefix("test-search-agg-");
             exec.initialize();
-            return exec;
+            return new SheddingExecutor("test.search.aggregate.executor", exec, 50, meterRegistry);
+        }
+
+        @Bean(name = "analyticsCircuitBreaker")
+        public CircuitBreaker analyticsCircuitBreaker(MeterRegistry meterRegistry) {
+            return new CircuitBreaker("test.analytics.redis", 5, Duration.ofSeconds(10), Duration.ofSeconds(5), meterRegistry);
         }
     }
 }
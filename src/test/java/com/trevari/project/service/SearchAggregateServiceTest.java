@@ -0,0 +1,293 @@
+package com.trevari.project.service;
+
+import com.trevari.project.api.dto.SearchKeyword;
+import com.trevari.project.config.CircuitBreaker;
+import com.trevari.project.config.SheddingExecutor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SearchAggregateServiceTest {
+
+    @Mock private RedisTemplate<String, String> redisTemplate;
+    @Mock private ZSetOperations<String, String> zSetOps;
+    @Mock private HashOperations<String, Object, Object> hashOps;
+
+    private final List<Runnable> submitted = new ArrayList<>();
+    private final List<Object> events = new ArrayList<>();
+    private final Map<String, Long> merged = new LinkedHashMap<>(); // Redis에 병합 요청된 검색어별 빈도
+    private SimpleMeterRegistry meterRegistry;
+    private CircuitBreaker breaker;
+    private SearchAggregateService service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        breaker = new CircuitBreaker("test.redis", 2, Duration.ofMillis(200), Duration.ofSeconds(5), meterRegistry);
+        var executor = new SheddingExecutor("test.executor", submitted::add, 1, meterRegistry);
+        service = new SearchAggregateService(redisTemplate, executor, breaker,
+                new SearchAggregateProperties(Duration.ofMillis(500), 2, 3, 100, Duration.ofSeconds(5),
+                        new SearchAggregateProperties.Executor(1, 0, false),
+                        new SearchAggregateProperties.Breaker(5, Duration.ofSeconds(10), Duration.ofSeconds(5))),
+                events::add, meterRegistry);
+    }
+
+    /** 병합 스크립트 인자(capacity, (검색어, 빈도, 오차)...)를 기록 */
+    private final Answer<Long> recordMerge = inv -> {
+        Object[] args = (Object[]) inv.getRawArguments()[2];
+        for (int i = 1; i < args.length; i += 3) {
+            merged.merge((String) args[i], Long.parseLong((String) args[i + 1]), Long::sum);
+        }
+        return 0L;
+    };
+
+    @SuppressWarnings("unchecked")
+    private void stubMerge() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenAnswer(recordMerge);
+    }
+
+    @Test
+    @DisplayName("aggregateTop10() - 요청마다 Redis를 호출하지 않고 flush 시 검색어별 합계로 반영")
+    @SuppressWarnings("unchecked")
+    void aggregate_buffersAndFlushesSummedDeltas() {
+        stubMerge();
+
+        service.aggregateTop10("spring");
+        service.aggregateTop10(" spring ");
+        service.aggregateTop10("spring");
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+
+        service.flush();
+
+        assertThat(merged).containsExactly(Map.entry("spring", 3L));
+        assertThat(events).containsExactly(new SearchTermsFlushedEvent(List.of(new SpaceSaving.Counter("spring", 3L, 0L))));
+        assertThat(meterRegistry.get("search.aggregate.flush.batch").summary().totalAmount()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("search.aggregate.pending").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("aggregateTop10() - 동시 증가와 반영이 겹쳐도 증가분을 잃지 않고, 쓰이지 않은 항목은 정리")
+    void aggregate_keepsEveryIncrementUnderConcurrentFlush() throws Exception {
+        stubMerge();
+        int threads = 4, perThread = 5_000;
+        var pool = Executors.newFixedThreadPool(threads);
+        var done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            pool.execute(() -> {
+                for (int i = 0; i < perThread; i++) service.aggregateTop10(i % 2 == 0 ? "java" : "spring");
+                done.countDown();
+            });
+        }
+        while (done.getCount() > 0) {
+            service.flush();
+        }
+        pool.shutdown();
+        service.flush();
+        service.flush(); // 증가분이 없던 항목 정리
+
+        assertThat(merged.get("java") + merged.get("spring")).isEqualTo((long) threads * perThread);
+        assertThat(meterRegistry.get("search.aggregate.pending").gauge().value()).isZero();
+        service.aggregateTop10("kotlin"); // 정리 후에도 새 항목으로 다시 쌓임
+        service.flush();
+        assertThat(merged).containsEntry("kotlin", 1L);
+    }
+
+    @Test
+    @DisplayName("aggregateTop10() - 버퍼가 batch-size에 도달하면 조기 반영을 한 번만 예약")
+    void aggregate_requestsEarlyFlushOnceWhenBatchFull() {
+        service.aggregateTop10("a");
+        assertThat(submitted).isEmpty();
+
+        service.aggregateTop10("b");
+        service.aggregateTop10("b");
+        assertThat(submitted).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("aggregateTop10() - 실행기가 포화 상태여도 요청은 실패하지 않고, 반영은 다음 기회에 다시 예약")
+    void aggregate_neverFailsWhenExecutorSaturated() {
+        var saturated = new SheddingExecutor("saturated.executor", task -> {}, 0, meterRegistry);
+        var shedding = new SearchAggregateService(redisTemplate, saturated, breaker,
+                new SearchAggregateProperties(Duration.ofMillis(500), 1, 10, 100, Duration.ofSeconds(5),
+                        new SearchAggregateProperties.Executor(1, 0, false),
+                        new SearchAggregateProperties.Breaker(5, Duration.ofSeconds(10), Duration.ofSeconds(5))),
+                events::add, meterRegistry);
+
+        shedding.aggregateTop10("a");
+        shedding.aggregateTop10("b");
+
+        assertThat(meterRegistry.get("saturated.executor.rejected").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("flush() - Redis 실패 시 증가분을 버퍼로 되돌려 다음 flush에 반영")
+    @SuppressWarnings("unchecked")
+    void flush_requeuesDeltasOnFailure() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new RedisConnectionFailureException("down"))
+                .thenAnswer(recordMerge);
+
+        service.aggregateTop10("java");
+        service.aggregateTop10("java");
+        service.flush();
+        assertThat(events).isEmpty(); // 실패한 반영은 알리지 않음
+        service.aggregateTop10("java");
+        service.flush();
+
+        assertThat(merged).containsExactly(Map.entry("java", 3L));
+    }
+
+    @Test
+    @DisplayName("flush() - Redis 실패 시 요약 오차는 빼고 보장된 증가분만 되돌림")
+    @SuppressWarnings("unchecked")
+    void flush_requeuesOnlyGuaranteedDeltasOnFailure() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new RedisConnectionFailureException("down"))
+                .thenAnswer(recordMerge);
+        var small = new SearchAggregateService(redisTemplate, new SheddingExecutor("small.executor", submitted::add, 1, meterRegistry), breaker,
+                new SearchAggregateProperties(Duration.ofMillis(500), 1000, 10_000, 2, Duration.ofSeconds(5),
+                        new SearchAggregateProperties.Executor(1, 0, false),
+                        new SearchAggregateProperties.Breaker(5, Duration.ofSeconds(10), Duration.ofSeconds(5))),
+                events::add, meterRegistry);
+
+        for (int i = 0; i < 3; i++) small.aggregateTop10("a");
+        small.aggregateTop10("b");
+        small.aggregateTop10("c"); // top-capacity 2 → 하나는 밀려나고 대신 남은 항목에 오차가 붙음
+        small.flush();
+        small.flush();
+
+        assertThat(merged).containsEntry("a", 3L);
+        assertThat(merged.getOrDefault("b", 0L)).isLessThanOrEqualTo(1L);
+        assertThat(merged.getOrDefault("c", 0L)).isLessThanOrEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("aggregateTop10() - max-pending 초과 시 새 검색어 증가분은 버리고 기존 검색어는 계속 누적")
+    void aggregate_dropsNewTermsWhenBufferFull() {
+        stubMerge();
+
+        service.aggregateTop10("a");
+        service.aggregateTop10("b");
+        service.aggregateTop10("c");
+        service.aggregateTop10("d"); // 버림
+        service.aggregateTop10("a");
+        service.flush();
+
+        assertThat(meterRegistry.get("search.aggregate.dropped").counter().count()).isEqualTo(1.0);
+        assertThat(merged).containsEntry("a", 2L).doesNotContainKey("d");
+    }
+
+    @Test
+    @DisplayName("flush() - 버퍼를 top-capacity개 Space-Saving 요약으로 줄여 보내고, 빈도 높은 검색어는 남김")
+    void flush_sendsAtMostTopCapacityCounters() {
+        stubMerge();
+        var small = new SearchAggregateService(redisTemplate, new SheddingExecutor("small.executor", submitted::add, 1, meterRegistry), breaker,
+                new SearchAggregateProperties(Duration.ofMillis(500), 1000, 10_000, 10, Duration.ofSeconds(5),
+                        new SearchAggregateProperties.Executor(1, 0, false),
+                        new SearchAggregateProperties.Breaker(5, Duration.ofSeconds(10), Duration.ofSeconds(5))),
+                events::add, meterRegistry);
+
+        for (int i = 0; i < 50; i++) small.aggregateTop10("popular");
+        for (int i = 0; i < 500; i++) small.aggregateTop10("bot-" + i);
+        small.flush();
+
+        assertThat(merged).hasSizeLessThanOrEqualTo(10).containsKey("popular");
+        assertThat(merged.values().stream().mapToLong(Long::longValue).sum()).isEqualTo(550L); // 전체 횟수는 보존
+    }
+
+    @Test
+    @DisplayName("getTop10Keywords() - 검색어별 최대 오차를 함께 반환")
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void getTop10Keywords_reportsErrorBounds() {
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOps);
+        when(redisTemplate.opsForHash()).thenReturn((HashOperations) hashOps);
+        var tuples = new LinkedHashSet<ZSetOperations.TypedTuple<String>>();
+        tuples.add(new DefaultTypedTuple<>("spring", 12.0));
+        tuples.add(new DefaultTypedTuple<>("java", 9.0));
+        when(zSetOps.reverseRangeWithScores("search:query:popular", 0, 9)).thenReturn(tuples);
+        when(hashOps.multiGet(eq("search:query:popular:error"), any())).thenReturn(Arrays.asList(null, "4"));
+
+        assertThat(service.getTop10Keywords()).containsExactly(
+                new SearchKeyword("spring", 12L, 0L),
+                new SearchKeyword("java", 9L, 4L));
+    }
+
+    @Test
+    @DisplayName("stop() - 종료 시 남은 증가분을 반영")
+    void stop_flushesPendingDeltas() {
+        stubMerge();
+        service.start();
+
+        service.aggregateTop10("kotlin");
+        service.stop();
+
+        assertThat(merged).containsExactly(Map.entry("kotlin", 1L));
+        assertThat(service.isRunning()).isFalse();
+    }
+
+    @Test
+    @DisplayName("서킷 열림: Redis 호출 없이 버퍼에 누적하고 TOP10은 로컬 상태로 응답, 복구 후 누적분을 한 번에 반영")
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void open_circuit_accumulates_locally_and_reconciles() throws Exception {
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOps);
+        when(redisTemplate.opsForHash()).thenReturn((HashOperations) hashOps);
+        var tuples = new LinkedHashSet<ZSetOperations.TypedTuple<String>>();
+        tuples.add(new DefaultTypedTuple<>("spring", 10.0));
+        when(zSetOps.reverseRangeWithScores("search:query:popular", 0, 9)).thenReturn(tuples);
+        when(hashOps.multiGet(eq("search:query:popular:error"), any())).thenReturn(Arrays.asList((Object) null));
+        assertThat(service.readTopKeywords(10)).containsExactly(new SearchKeyword("spring", 10L, 0L));
+
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new RedisConnectionFailureException("down"))
+                .thenThrow(new RedisConnectionFailureException("down"))
+                .thenAnswer(recordMerge);
+        service.aggregateTop10("java");
+        service.flush();
+        service.flush(); // 연속 2회 실패 → 서킷 열림
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        for (int i = 0; i < 12; i++) service.aggregateTop10("java");
+        service.flush(); // 열린 동안에는 호출하지 않음
+        verify(redisTemplate, times(2)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+        assertThat(service.readTopKeywords(10)).containsExactly(
+                new SearchKeyword("java", 13L, 0L),
+                new SearchKeyword("spring", 10L, 0L));
+        verify(zSetOps, times(1)).reverseRangeWithScores("search:query:popular", 0, 9);
+
+        Thread.sleep(250); // open-duration 경과 → 시험 호출
+        service.flush();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(merged).containsExactly(Map.entry("java", 13L));
+    }
+}
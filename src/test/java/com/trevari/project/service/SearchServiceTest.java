@@ -1,69 +1,130 @@
 package com.trevari.project.service;
 
 import com.trevari.project.api.dto.SearchDTOs;
+import com.trevari.project.cache.CatalogVersion;
+import com.trevari.project.cache.SearchCacheProperties;
+import com.trevari.project.cache.SearchResultCache;
 import com.trevari.project.domain.Book;
 import com.trevari.project.repository.BookRepository;
+import com.trevari.project.search.SearchMetrics;
+import com.trevari.project.search.SearchPage;
 import com.trevari.project.search.SearchQuery;
 import com.trevari.project.search.SearchStrategy;
+import com.trevari.project.search.engine.SpecificationSearchEngine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
-import java.util.Collections;
+import java.time.Duration;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class SearchServiceTest {
 
     @Mock private BookRepository bookRepository;
-    @Mock private SearchAggregateService searchAggregateService;
-    @InjectMocks private SearchService searchService;
-
-    @Captor ArgumentCaptor<Pageable> pageableCaptor;
+    private SearchService searchService;
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    static final SearchCacheProperties.Redis DISABLED_REDIS =
+            new SearchCacheProperties.Redis(false, Duration.ofMinutes(5), Duration.ofSeconds(3), Duration.ofMillis(200),
+                    Duration.ofSeconds(1), new SearchCacheProperties.Breaker(5, Duration.ofSeconds(10), Duration.ofMillis(100)));
+
+    @Captor ArgumentCaptor<Sort> sortCaptor;
+
+    @BeforeEach
+    void setUp() {
+        var cache = new SearchResultCache(new CatalogVersion(),
+                new SearchCacheProperties(new SearchCacheProperties.Local(100, Duration.ofSeconds(30)), DISABLED_REDIS),
+                new SimpleMeterRegistry());
+        var metrics = new SearchMetrics(meterRegistry);
+        searchService = new SearchService(new SpecificationSearchEngine(bookRepository, new CatalogVersion(), metrics), cache, metrics);
+    }
 
     @Test
     @DisplayName("getSearchDTO() - Repository를 올바른 인자로 1회 호출하고, DTO 응답 생성")
     void getSearchResponse_callsRepositoryOnce_andBuildsDTO() {
         // given
         var query = new SearchQuery("ti", "ti", null, SearchStrategy.SIMPLE);
-        var pageable = PageRequest.of(0, 10);
 
-        var book = Book.builder()
-                .isbn("9874151387415")
-                .title("kw_title")
-                .author("author")
-                .build();
-        Page<Book> expected = new PageImpl<>(Collections.singletonList(book), pageable, 1);
+        var book = new SearchDTOs.Book("9874151387415", "kw_title", null, null, "author", "9874151387415", null);
 
-        when(bookRepository.findAll(ArgumentMatchers.<Specification<Book>>any(), any(Pageable.class)))
-                .thenReturn(expected);
+        when(bookRepository.findSearchRows(ArgumentMatchers.<Specification<Book>>any(), any(Sort.class), anyLong(), anyInt()))
+                .thenReturn(List.of(book));
 
         // when
-        SearchDTOs.Response response = searchService.getSearchDTO(query, pageable);
+        SearchDTOs.Response response = searchService.getSearchDTO(query, SearchPage.offset(1, 10));
 
         // then: DTO 변환 확인
         assertThat(response).isNotNull();
-        assertThat(response.books()).hasSize(1);
+        assertThat(response.books()).containsExactly(book);
         assertThat(response.searchQuery()).isEqualTo(query.query());
         assertThat(response.searchMetadata().strategy()).isEqualTo(query.strategy());
+        assertThat(response.pageInfo().nextCursor()).isNull(); // 마지막 페이지
+        assertThat(response.pageInfo().totalElements()).isEqualTo(1L); // 마지막 페이지라 COUNT 생략
+        assertThat(response.searchMetadata().cached()).isFalse();
 
         verify(bookRepository, Mockito.times(1))
-                .findAll(ArgumentMatchers.<Specification<Book>>any(), pageableCaptor.capture());
+                .findSearchRows(ArgumentMatchers.<Specification<Book>>any(), sortCaptor.capture(), eq(0L), eq(11));
         verifyNoMoreInteractions(bookRepository);
 
-        Pageable used = pageableCaptor.getValue();
-        assertThat(used.getPageNumber()).isEqualTo(0);
-        assertThat(used.getPageSize()).isEqualTo(10);
+        assertThat(sortCaptor.getValue().getOrderFor("isbn")).isNotNull(); // 커서와 같은 ISBN 정렬
+    }
+
+    @Test
+    @DisplayName("getSearchDTO() - 다음 페이지가 있으면 size+1번째 행은 버리고 COUNT로 전체 건수 계산")
+    void getSearchResponse_countsWhenMorePagesExist() {
+        var query = new SearchQuery("ti", "ti", null, SearchStrategy.SIMPLE);
+        var rows = List.of(
+                new SearchDTOs.Book("1", "a", null, null, "x", "1", null),
+                new SearchDTOs.Book("2", "b", null, null, "x", "2", null),
+                new SearchDTOs.Book("3", "c", null, null, "x", "3", null));
+        when(bookRepository.findSearchRows(ArgumentMatchers.<Specification<Book>>any(), any(Sort.class), anyLong(), anyInt()))
+                .thenReturn(rows);
+        when(bookRepository.count(ArgumentMatchers.<Specification<Book>>any())).thenReturn(7L);
+
+        SearchDTOs.Response response = searchService.getSearchDTO(query, SearchPage.offset(2, 2));
+
+        assertThat(response.books()).extracting(SearchDTOs.Book::isbn).containsExactly("1", "2");
+        assertThat(response.pageInfo().hasNext()).isTrue();
+        assertThat(response.pageInfo().totalElements()).isEqualTo(7L);
+        assertThat(response.pageInfo().totalPages()).isEqualTo(4);
+        verify(bookRepository).findSearchRows(ArgumentMatchers.<Specification<Book>>any(), any(Sort.class), eq(2L), eq(3));
+
+        // 구간 지표: 본문 쿼리 / COUNT / 응답 조립 각 1회
+        for (String phase : List.of("query", "count", "map")) {
+            assertThat(meterRegistry.get("search.phase").tag("phase", phase).tag("strategy", "SIMPLE").timer().count())
+                    .as(phase).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("getSearchDTO() - 같은 질의/페이지 재요청은 캐시에서 응답 (Repository 재호출 없음)")
+    void getSearchResponse_servesRepeatFromCache() {
+        var query = new SearchQuery("ti", "ti", null, SearchStrategy.SIMPLE);
+        when(bookRepository.findSearchRows(ArgumentMatchers.<Specification<Book>>any(), any(Sort.class), anyLong(), anyInt()))
+                .thenReturn(List.of());
+
+        var first = searchService.getSearchDTO(query, SearchPage.offset(1, 10));
+        var second = searchService.getSearchDTO(query, SearchPage.offset(1, 10));
+        searchService.getSearchDTO(query, SearchPage.offset(2, 10)); // 다른 페이지는 별도 항목
+
+        assertThat(first.searchMetadata().cached()).isFalse();
+        assertThat(second.searchMetadata().cached()).isTrue();
+        verify(bookRepository, times(2))
+                .findSearchRows(ArgumentMatchers.<Specification<Book>>any(), any(Sort.class), anyLong(), anyInt());
     }
 
     @Test
@@ -71,17 +132,16 @@ class SearchServiceTest {
     void getSearchResponse_returnsEmptyList() {
         // given
         var query = new SearchQuery("ti", "ti", null, SearchStrategy.SIMPLE);
-        var pageable = PageRequest.of(0, 10);
-        when(bookRepository.findAll(ArgumentMatchers.<Specification<Book>>any(), any(Pageable.class)))
-                .thenReturn(Page.empty(pageable));
+        when(bookRepository.findSearchRows(ArgumentMatchers.<Specification<Book>>any(), any(Sort.class), anyLong(), anyInt()))
+                .thenReturn(List.of());
 
         // when
-        SearchDTOs.Response response = searchService.getSearchDTO(query, pageable);
+        SearchDTOs.Response response = searchService.getSearchDTO(query, SearchPage.offset(1, 10));
 
         // then
         assertThat(response).isNotNull();
         assertThat(response.books()).isEmpty();
-        verify(bookRepository).findAll(ArgumentMatchers.<Specification<Book>>any(), any(Pageable.class));
+        verify(bookRepository).findSearchRows(ArgumentMatchers.<Specification<Book>>any(), any(Sort.class), anyLong(), anyInt());
         verifyNoMoreInteractions(bookRepository);
     }
 }
@@ -0,0 +1,96 @@
+package com.trevari.project.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpaceSavingTest {
+
+    @Test
+    @DisplayName("고유 검색어 수백만 개가 들어와도 카운터 수와 힙 사용량이 일정")
+    void memory_stays_flat_under_millions_of_unique_terms() {
+        int capacity = 1_000;
+        SpaceSaving summary = new SpaceSaving(capacity);
+        var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        // 준비: 카운터를 가득 채운 뒤의 힙 사용량을 기준으로 삼음
+        for (int i = 0; i < capacity; i++) {
+            summary.offer("warmup-" + i, 1);
+        }
+        long baseline = usedHeapAfterGc();
+
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 2_000_000; i++) {
+            summary.offer("unique-" + i, 1);
+            if (i % 1_000_000 == 0) {
+                assertThat(summary.size()).isEqualTo(capacity);
+            }
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        long retainedGrowth = usedHeapAfterGc() - baseline;
+
+        assertThat(summary.size()).isEqualTo(capacity);
+        assertThat(summary.total()).isEqualTo(2_001_000L);
+        // 처리 중 할당은 수백 MB지만 남는 것은 카운터 수에 비례하는 양뿐
+        assertThat(allocated).isGreaterThan(100L * 1024 * 1024);
+        assertThat(retainedGrowth).isLessThan(16L * 1024 * 1024);
+    }
+
+    @Test
+    @DisplayName("빈도가 total/capacity보다 큰 검색어는 반드시 남고, 추정치는 [count - error, count] 범위에 실제 빈도를 포함")
+    void heavy_hitters_are_kept_within_error_bounds() {
+        int capacity = 100;
+        SpaceSaving summary = new SpaceSaving(capacity);
+        Map<String, Long> truth = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 200_000; i++) {
+            String term = random.nextInt(10) < 3
+                    ? "hot-" + random.nextInt(5)          // 30%는 인기 검색어 5개
+                    : "tail-" + random.nextInt(1_000_000); // 나머지는 거의 고유
+            summary.offer(term, 1);
+            truth.merge(term, 1L, Long::sum);
+        }
+
+        long bound = summary.errorBound();
+        assertThat(bound).isEqualTo(200_000L / capacity);
+
+        List<SpaceSaving.Counter> top = summary.top(5);
+        assertThat(top).extracting(SpaceSaving.Counter::item)
+                .containsExactlyInAnyOrder("hot-0", "hot-1", "hot-2", "hot-3", "hot-4");
+        for (SpaceSaving.Counter c : summary.counters()) {
+            long actual = truth.getOrDefault(c.item(), 0L);
+            assertThat(c.error()).isLessThanOrEqualTo(bound);
+            assertThat(actual).isBetween(c.count() - c.error(), c.count());
+        }
+    }
+
+    @Test
+    @DisplayName("가중치/오차를 가진 요약끼리 합쳐도 오차가 누적되어 보고됨")
+    void weighted_offer_carries_error() {
+        SpaceSaving summary = new SpaceSaving(2);
+        summary.offer("a", 5);
+        summary.offer("b", 3);
+        summary.offer("c", 2, 1); // 최소 항목 b(3)를 밀어냄 → count 5, error 4
+
+        assertThat(summary.top(2)).containsExactlyInAnyOrder(
+                new SpaceSaving.Counter("a", 5, 0),
+                new SpaceSaving.Counter("c", 5, 4));
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime rt = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return rt.totalMemory() - rt.freeMemory();
+    }
+}
@@ -0,0 +1,83 @@
+package com.trevari.project.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trevari.project.api.dto.SearchKeyword;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TopKeywordsSnapshotTest {
+
+    @Mock private SearchAggregateService searchAggregateService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TopKeywordsSnapshot snapshots;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        snapshots = new TopKeywordsSnapshot(searchAggregateService, new ObjectMapper(),
+                new SearchAggregateProperties(Duration.ofMillis(500), 1000, 100_000, 1000, Duration.ofSeconds(5),
+                        new SearchAggregateProperties.Executor(2, 100, false),
+                        new SearchAggregateProperties.Breaker(5, Duration.ofSeconds(10), Duration.ofSeconds(5))),
+                meterRegistry, Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("refresh() 전에는 빈 목록 스냅샷")
+    void initial_snapshot_is_empty_list() {
+        assertThat(new String(snapshots.current().json(), StandardCharsets.UTF_8)).isEqualTo("[]");
+        assertThat(snapshots.current().etag()).startsWith("\"").endsWith("\"");
+    }
+
+    @Test
+    @DisplayName("refresh() - Redis에서 읽은 TOP10을 JSON 본문과 ETag로 미리 만들어 둠, 내용이 같으면 ETag 유지")
+    void refresh_builds_serialized_snapshot_and_keeps_etag_for_same_content() {
+        var top = List.of(new SearchKeyword("spring", 12L, 0L));
+        when(searchAggregateService.readTopKeywords(10)).thenReturn(top);
+
+        snapshots.refresh();
+        var first = snapshots.current();
+        snapshots.onFlushed(new SearchTermsFlushedEvent(List.of(new SpaceSaving.Counter("spring", 1L, 0L))));
+
+        assertThat(first.keywords()).isEqualTo(top);
+        assertThat(new String(first.json(), StandardCharsets.UTF_8))
+                .isEqualTo("[{\"keyword\":\"spring\",\"count\":12,\"maxError\":0}]");
+        assertThat(snapshots.current().etag()).isEqualTo(first.etag());
+        verify(searchAggregateService, times(2)).readTopKeywords(10);
+    }
+
+    @Test
+    @DisplayName("refresh() - Redis 오류 시 마지막 스냅샷을 계속 제공")
+    void refresh_keeps_last_good_snapshot_when_redis_fails() {
+        var top = List.of(new SearchKeyword("java", 3L, 0L));
+        when(searchAggregateService.readTopKeywords(10))
+                .thenReturn(top)
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        snapshots.refresh();
+        var good = snapshots.current();
+        snapshots.refresh();
+
+        assertThat(snapshots.current()).isSameAs(good);
+        assertThat(meterRegistry.get("search.top.snapshot.errors").counter().count()).isEqualTo(1.0);
+    }
+}
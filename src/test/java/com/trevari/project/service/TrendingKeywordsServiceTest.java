@@ -0,0 +1,141 @@
+package com.trevari.project.service;
+
+import com.trevari.project.api.dto.SearchKeyword;
+import com.trevari.project.config.CircuitBreaker;
+import com.trevari.project.exception.BadRequestException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TrendingKeywordsServiceTest {
+
+    /** 테스트에서 시각을 옮길 수 있는 Clock */
+    static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration d) {
+            now = now.plus(d);
+        }
+
+        @Override public ZoneId getZone() { return ZoneOffset.UTC; }
+        @Override public Clock withZone(ZoneId zone) { return this; }
+        @Override public Instant instant() { return now; }
+    }
+
+    private MutableClock clock;
+    private InMemoryTrendStore store;
+    private TrendingKeywordsService service;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-03-10T12:00:30Z"));
+        store = new InMemoryTrendStore(clock);
+        service = new TrendingKeywordsService(store,
+                new CircuitBreaker("test.redis", 5, Duration.ofSeconds(10), Duration.ofSeconds(5), new SimpleMeterRegistry()),
+                new SearchAggregateProperties(Duration.ofMillis(500), 1000, 100_000, 3, Duration.ofSeconds(5),
+                        new SearchAggregateProperties.Executor(2, 100, false),
+                        new SearchAggregateProperties.Breaker(5, Duration.ofSeconds(10), Duration.ofSeconds(5))),
+                clock);
+    }
+
+    private void flushed(String term, long count) {
+        service.onFlushed(new SearchTermsFlushedEvent(List.of(new SpaceSaving.Counter(term, count, 0L))));
+    }
+
+    @Test
+    @DisplayName("window=1h: 최근 60개 분 버킷만 합치고, 그 이전 검색은 제외")
+    void one_hour_window_reads_minute_buckets() {
+        flushed("old", 100);
+        clock.advance(Duration.ofMinutes(90));
+        flushed("spring", 3);
+        clock.advance(Duration.ofMinutes(30));
+        flushed("spring", 2);
+        flushed("java", 4);
+
+        assertThat(service.top("1h", 10)).containsExactly(
+                new SearchKeyword("spring", 5L, 0L),
+                new SearchKeyword("java", 4L, 0L));
+        assertThat(store.reads.get(0)).hasSize(60).allMatch(key -> key.startsWith("search:trend:m:"));
+    }
+
+    @Test
+    @DisplayName("window=24h / 7d: 시/일 버킷으로 합쳐 읽는 키 수가 버킷 수로 제한됨")
+    void longer_windows_read_rolled_up_buckets() {
+        flushed("spring", 3);
+        clock.advance(Duration.ofHours(5));
+        flushed("java", 2);
+        clock.advance(Duration.ofDays(3));
+        flushed("kotlin", 1);
+
+        assertThat(service.top("24h", 10)).containsExactly(new SearchKeyword("kotlin", 1L, 0L));
+        assertThat(service.top("7d", 10)).containsExactly(
+                new SearchKeyword("spring", 3L, 0L),
+                new SearchKeyword("java", 2L, 0L),
+                new SearchKeyword("kotlin", 1L, 0L));
+        assertThat(store.reads.get(0)).hasSize(24).allMatch(key -> key.startsWith("search:trend:h:"));
+        assertThat(store.reads.get(1)).hasSize(7).allMatch(key -> key.startsWith("search:trend:d:"));
+    }
+
+    @Test
+    @DisplayName("버킷은 단위별 보존 기간이 지나면 만료되고, 각 버킷은 top-capacity개만 유지")
+    void buckets_expire_and_are_trimmed() {
+        for (int i = 0; i < 10; i++) {
+            flushed("term-" + i, i + 1);
+        }
+        assertThat(service.top("1m", 10)).extracting(SearchKeyword::keyword)
+                .containsExactly("term-9", "term-8", "term-7");
+        assertThat(store.liveKeyCount()).isEqualTo(3); // 분/시/일 버킷 하나씩
+
+        clock.advance(Duration.ofDays(31).plusMinutes(1));
+        assertThat(store.liveKeyCount()).isZero();
+        assertThat(service.top("30d", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Space-Saving 오차는 버킷에 더하지 않고 보장된 증가분(count - error)만 반영")
+    void buckets_receive_guaranteed_deltas_only() {
+        service.onFlushed(new SearchTermsFlushedEvent(List.of(
+                new SpaceSaving.Counter("spring", 5L, 0L),
+                new SpaceSaving.Counter("bot", 4L, 3L),
+                new SpaceSaving.Counter("noise", 2L, 2L))));
+
+        assertThat(service.top("1h", 10))
+                .extracting(SearchKeyword::keyword, SearchKeyword::count)
+                .containsExactly(tuple("spring", 5L), tuple("bot", 1L));
+    }
+
+    @Test
+    @DisplayName("잘못된 window / k는 400")
+    void invalid_window_or_k_is_bad_request() {
+        assertThatThrownBy(() -> service.top("yesterday", 10)).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> service.top("30s", 10)).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> service.top("31d", 10)).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> service.top("1h", 0)).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> service.top("1h", 101)).isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    @DisplayName("TrendWindow.parse: 구간 길이에 따라 분(≤2h)/시(≤2d)/일 버킷, 올림")
+    void window_resolution_selection() {
+        assertThat(TrendWindow.parse("15m")).isEqualTo(new TrendWindow(TrendWindow.Resolution.MINUTE, 15));
+        assertThat(TrendWindow.parse("2h")).isEqualTo(new TrendWindow(TrendWindow.Resolution.MINUTE, 120));
+        assertThat(TrendWindow.parse("90000s")).isEqualTo(new TrendWindow(TrendWindow.Resolution.HOUR, 25));
+        assertThat(TrendWindow.parse("7d")).isEqualTo(new TrendWindow(TrendWindow.Resolution.DAY, 7));
+    }
+}